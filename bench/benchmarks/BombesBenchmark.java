@@ -0,0 +1,57 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import modele.MatchContext;
+import modele.armes.Bomb;
+import modele.components.*;
+import modele.util.*;
+
+/**
+ * Mesure {@link WeaponManager#checkBombs()} avec de nombreuses bombes posées.
+ * Les minuteries sont assez longues pour qu'aucune bombe n'explose pendant la mesure :
+ * on mesure le coût du décompte à chaque tour.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BombesBenchmark {
+
+    @Param({"100", "1000"})
+    public int nbBombes;
+
+    private WeaponManager weaponManager;
+
+    @Setup(Level.Trial)
+    public void creer() {
+        int taille = (int) Math.ceil(Math.sqrt(nbBombes)) * 4;
+        MatchContext context = Parties.creer(taille, taille, 2);
+        weaponManager = context.getWeaponManager();
+        PlayerManager playerManager = context.getPlayerManager();
+        Grid grid = context.getGrid();
+        Player poseur = playerManager.getPlayers().get(0);
+
+        // Le poseur se déplace de case libre en case libre et pose une bombe à sa droite.
+        int posees = 0;
+        for (int i = 0; i < grid.getNbLines() && posees < nbBombes; i++) {
+            for (int j = 0; j + 1 < grid.getNbColonnes() && posees < nbBombes; j++) {
+                if (grid.emptyCell(i, j) && grid.emptyCell(i, j + 1)
+                        && playerManager.deplacerPlayer(poseur, i, j)) {
+                    Bomb bomb = new Bomb(context.getWeaponIds().suivant(), "Bench", 1, 1,
+                            Integer.MAX_VALUE, false, poseur.getID());
+                    if (weaponManager.placeBomb(poseur, bomb, "d")) {
+                        posees++;
+                    }
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void checkBombs() {
+        weaponManager.checkBombs();
+    }
+}
@@ -0,0 +1,51 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import modele.MatchContext;
+import modele.armes.Bomb;
+import modele.components.*;
+import modele.strategy.weaponStrategy.FormeExplosion;
+import modele.util.*;
+
+/**
+ * Mesure l'explosion d'une bombe ({@code ExplosionBehavior}) selon la forme et le rayon de sa zone,
+ * sur une grille très peuplée : le coût doit suivre le nombre de lignes de la zone et de joueurs touchés,
+ * pas sa surface.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExplosionBenchmark {
+
+    @Param({"carre", "losange", "croix"})
+    public String forme;
+
+    @Param({"1", "8", "64"})
+    public int rayon;
+
+    private PlayerManager playerManager;
+    private Grid grid;
+    private Bomb bomb;
+    private int line;
+    private int col;
+
+    @Setup(Level.Trial)
+    public void creer() {
+        MatchContext context = Parties.creer(200, 200, 1024);
+        playerManager = context.getPlayerManager();
+        grid = context.getGrid();
+        bomb = new Bomb(context.getWeaponIds().suivant(), "Bench", 0, rayon, 1, false, 0, FormeExplosion.depuis(forme));
+        line = grid.getNbLines() / 2;
+        col = grid.getNbColonnes() / 2;
+    }
+
+    @Benchmark
+    public int explosion() {
+        bomb.ajouterMunitions(1);
+        return bomb.use(line, col, "", grid, playerManager);
+    }
+}
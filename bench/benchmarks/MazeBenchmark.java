@@ -0,0 +1,70 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import config.MatchConfig;
+import modele.components.Grid;
+import modele.generation.Arene;
+import modele.generation.LabyrintheEnFlux;
+import modele.generation.MazeGenerator;
+import modele.generation.MursEnMemoire;
+import modele.generation.TypeGenerateur;
+
+/**
+ * Mesure la génération d'une arène par chaque générateur ({@link MazeGenerator#generer}) à plusieurs tailles,
+ * puis la construction d'une grille à partir d'une arène déjà générée (ce que coûte une partie dont l'arène
+ * est dans le cache), en stockage tableau et en stockage compact, avec une graine fixe.
+ * {@link #enFlux()} mesure la génération ligne par ligne des très grandes arènes ({@link LabyrintheEnFlux})
+ * dans un bitset en mémoire.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MazeBenchmark {
+
+    @Param({"20", "100", "500"})
+    public int taille;
+
+    @Param({"classique", "arbre", "eller", "cavernes"})
+    public String generateur;
+
+    @Param({"false", "true"})
+    public boolean compact;
+
+    private MatchConfig config;
+    private MazeGenerator generator;
+    private Arene arene;
+
+    @Setup(Level.Trial)
+    public void creer() {
+        config = new MatchConfig();
+        config.setNbLignes(taille);
+        config.setNbColonnes(taille * 2);
+        config.setStockageCompact(compact);
+        config.setGenerateur(generateur);
+        generator = TypeGenerateur.depuis(generateur).creer();
+        arene = generator.generer(config, new SplittableRandom(Parties.GRAINE));
+    }
+
+    @Benchmark
+    public Arene generer() {
+        return generator.generer(config, new SplittableRandom(Parties.GRAINE));
+    }
+
+    @Benchmark
+    public Grid depuisCache() {
+        return new Grid(config, arene);
+    }
+
+    @Benchmark
+    public MursEnMemoire enFlux() throws IOException {
+        MursEnMemoire murs = new MursEnMemoire(config.getNbLignes(), config.getNbColonnes());
+        LabyrintheEnFlux.generer(config, new SplittableRandom(Parties.GRAINE), murs);
+        return murs;
+    }
+}
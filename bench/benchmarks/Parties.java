@@ -0,0 +1,40 @@
+package benchmarks;
+
+import config.MatchConfig;
+import modele.MatchContext;
+import modele.journal.Journal;
+
+/**
+ * Outils communs aux benchmarks : construction de parties reproductibles et sans journal,
+ * pour que les messages du modèle ne faussent pas les mesures.
+ */
+final class Parties {
+
+    /**
+     * Graine fixe : toutes les itérations mesurent la même arène.
+     */
+    static final long GRAINE = 42L;
+
+    private Parties() {
+    }
+
+    /**
+     * Crée une partie sans affichage ni journal.
+     *
+     * @param nbLignes Le nombre de lignes de la grille.
+     * @param nbColonnes Le nombre de colonnes de la grille.
+     * @param nbJoueurs Le nombre de joueurs.
+     * @return Le contexte de la partie.
+     */
+    static MatchContext creer(int nbLignes, int nbColonnes, int nbJoueurs) {
+        MatchConfig config = new MatchConfig();
+        config.setNbLignes(nbLignes);
+        config.setNbColonnes(nbColonnes);
+        config.setNbJoueurs(nbJoueurs);
+        config.setJournal(Journal.AUCUN);
+        config.setTailleChambre(Math.min(config.getTailleChambre(), Math.min(nbLignes, nbColonnes) / 2 - 1));
+        MatchContext context = new MatchContext(config, GRAINE);
+        context.getGame().setAffichage(false);
+        return context;
+    }
+}
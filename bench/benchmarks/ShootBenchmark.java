@@ -0,0 +1,62 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import modele.MatchContext;
+import modele.armes.*;
+import modele.components.*;
+import modele.util.*;
+
+/**
+ * Mesure les tirs : {@link WeaponManager#shoot} avec une arme à tir directionnel
+ * ({@code DirectionalShootBehavior}) et l'explosion d'une bombe ({@code ExplosionBehavior}).
+ * Les munitions sont rechargées à chaque appel pour que l'arme tire réellement.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShootBenchmark {
+
+    @Param({"40", "200"})
+    public int taille;
+
+    @Param({"h", "b", "g", "d"})
+    public String direction;
+
+    @Param({"8", "256"})
+    public int nbJoueurs;
+
+    private WeaponManager weaponManager;
+    private PlayerManager playerManager;
+    private Grid grid;
+    private Player tireur;
+    private Gun gun;
+    private Bomb bomb;
+
+    @Setup(Level.Trial)
+    public void creer() {
+        MatchContext context = Parties.creer(taille, taille, nbJoueurs);
+        weaponManager = context.getWeaponManager();
+        playerManager = context.getPlayerManager();
+        grid = context.getGrid();
+        tireur = playerManager.getPlayers().get(0);
+        gun = new Gun(context.getWeaponIds().suivant(), "Bench", 0, taille, 1);
+        bomb = new Bomb(context.getWeaponIds().suivant(), "Bench", 1, 1, 1, false, tireur.getID());
+    }
+
+    @Benchmark
+    public boolean tirDirectionnel() {
+        gun.ajouterMunitions(1);
+        return weaponManager.shoot(tireur, direction, gun);
+    }
+
+    @Benchmark
+    public int explosion() {
+        Case c = playerManager.getPlayerLocation(tireur);
+        bomb.ajouterMunitions(1);
+        return bomb.use(c.getLine(), c.getCol(), "", grid, playerManager);
+    }
+}
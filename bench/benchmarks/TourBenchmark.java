@@ -0,0 +1,75 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import modele.Game;
+import modele.components.Player;
+
+/**
+ * Mesure un tour de jeu complet ({@link Game#advanceTurn()}) sans affichage :
+ * choix de l'action, déplacement ou tir, retrait des morts et décompte des bombes.
+ * {@link #decider()} isole la décision de la stratégie. Ni l'un ni l'autre ne doit rien allouer
+ * (voir {@code -prof gc}) : une partie terminée est ramenée à son instantané de départ,
+ * dans les mêmes objets, au lieu d'être recréée.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TourBenchmark {
+
+    @Param({"20", "100"})
+    public int taille;
+
+    @Param({"4", "16"})
+    public int nbJoueurs;
+
+    private Game game;
+
+    /**
+     * État de la partie après son premier tour.
+     */
+    private byte[] depart;
+
+    /**
+     * Joueur dont {@link #decider()} mesure la décision.
+     */
+    private Player joueur;
+
+    @Setup(Level.Trial)
+    public void nouvellePartie() {
+        game = Parties.creer(taille, taille * 2, nbJoueurs).getGame();
+        // Un premier tour désigne le joueur courant ; la navigation, créée à la demande, l'est dès maintenant.
+        game.getNavigation();
+        game.advanceTurn();
+        joueur = game.getPlayerManager().getCurrentPlayer();
+        depart = game.sauvegarder();
+    }
+
+    /**
+     * Chaque itération repart du même état, sans recréer la partie : {@code -prof gc} compte aussi
+     * les allocations des méthodes {@code @Setup} d'itération.
+     */
+    @Setup(Level.Iteration)
+    public void recommencer() {
+        game.restaurer(depart);
+    }
+
+    @Benchmark
+    public int advanceTurn() {
+        // Une partie terminée ne joue plus : on la ramène au départ, ce qui reste rare sur une itération.
+        if (game.estTerminee()) {
+            game.restaurer(depart);
+        }
+        game.advanceTurn();
+        return game.getTour();
+    }
+
+    @Benchmark
+    public int decider() {
+        // La décision ne modifie pas la partie : le même joueur décide à chaque appel, sur le même état.
+        return joueur.decider(game);
+    }
+}
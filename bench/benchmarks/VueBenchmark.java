@@ -0,0 +1,60 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import modele.MatchContext;
+import modele.components.*;
+
+/**
+ * Mesure la vue d'un joueur par {@link ProxyGrid} : la copie de la grille personnalisée
+ * ({@link ProxyGrid#getCurrentGrid()}), sa lecture case par case sans copie, avec ou sans
+ * brouillard de guerre, et sa représentation texte ({@link ProxyGrid#AfficheGrid()}).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VueBenchmark {
+
+    @Param({"20", "100"})
+    public int taille;
+
+    @Param({"0", "6"})
+    public int porteeVision;
+
+    private ProxyGrid proxy;
+
+    @Setup(Level.Trial)
+    public void creer() {
+        MatchContext context = Parties.creer(taille, taille * 2, 4);
+        context.getConfig().setPorteeVision(porteeVision);
+        proxy = new ProxyGrid(context.getGrid(), context.getPlayerManager());
+        proxy.setPlayer(context.getPlayerManager().getPlayers().get(0));
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public Case[][] getCurrentGrid() {
+        return proxy.getCurrentGrid();
+    }
+
+    @Benchmark
+    public int lecture() {
+        int visibles = 0;
+        for (int i = 0; i < proxy.getNbLines(); i++) {
+            for (int j = 0; j < proxy.getNbColonnes(); j++) {
+                if (!proxy.isWall(i, j) && proxy.estVisible(i, j) && proxy.getVal(i, j) == null) {
+                    visibles++;
+                }
+            }
+        }
+        return visibles;
+    }
+
+    @Benchmark
+    public String afficheGrid() {
+        return proxy.AfficheGrid();
+    }
+}
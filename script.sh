@@ -2,7 +2,7 @@
 
 # Étape 1 : Compilation des fichiers source
 echo "Compilation des fichiers source..."
-javac -d build/ src/config/*.java src/modele/*.java src/modele/*/*.java src/modele/*/*/*.java src/vue/*.java src/controller/*.java src/Main.java src/MainVue.java 
+javac -d build/ src/config/*.java src/modele/*.java src/modele/*/*.java src/modele/*/*/*.java src/vue/*.java src/controller/*.java src/Main.java src/MainVue.java src/MainSimulation.java src/MainTournoi.java 
 
 
 # Vérification de la compilation
@@ -11,7 +11,9 @@ if [ $? -eq 0 ]; then
     echo "Choisissez une option :"
     echo "1. Jouer en terminal"
     echo "2. Jouer avec l'interface graphique"
-    read -p "Entrez votre choix (1, 2 ou 3) : " choix
+    echo "3. Simuler une partie sans affichage"
+    echo "4. Lancer un tournoi entre stratégies"
+    read -p "Entrez votre choix (1, 2, 3 ou 4) : " choix
 
     case $choix in
         1)
@@ -22,8 +24,17 @@ if [ $? -eq 0 ]; then
             echo "Lancement du jeu en mode graphique..."
             java -cp build/ MainVue
             ;;
+        3)
+            echo "Lancement d'une simulation sans affichage..."
+            java -cp build/ MainSimulation
+            ;;
+        4)
+            read -p "Nombre de parties : " nbParties
+            echo "Lancement du tournoi..."
+            java -cp build/ MainTournoi "$nbParties"
+            ;;
         *)
-            echo "Choix invalide. Veuillez relancer le script et entrer 1, 2 ou 3."
+            echo "Choix invalide. Veuillez relancer le script et entrer 1, 2, 3 ou 4."
             exit 1
             ;;
     esac
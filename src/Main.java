@@ -1,4 +1,8 @@
+import java.io.IOException;
+import config.MatchConfig;
 import modele.*;
+import modele.replay.EnregistreurPartie;
+import vue.TerminalRenderer;
 /**
  *
  * @author qach
@@ -6,9 +10,20 @@ import modele.*;
 public class Main {
 
 
-    public static void main(String[] args){
+    public static void main(String[] args) throws IOException {
+        MatchContext context = new MatchContext(MatchConfig.fromArgs(args));
+        System.out.println("Graine de la partie : " + context.getSeed() + " (rejouer avec graine=" + context.getSeed() + ")");
+        MatchContext.setDefault(context);
         Game g = Game.getInstance();
+        Boolean terminal = context.getConfig().getTerminal();
+        if (terminal == null ? System.console() != null : terminal) {
+            g.setAffichageTerminal(new TerminalRenderer(g, System.out)::afficher);
+        }
+        EnregistreurPartie enregistreur = EnregistreurPartie.demarrer(g);
         g.commencer();
+        if (enregistreur != null) {
+            enregistreur.fermer();
+        }
 
     }
     
@@ -0,0 +1,33 @@
+import java.io.IOException;
+import java.nio.file.Paths;
+import modele.Game;
+import modele.replay.Enregistrement;
+import modele.replay.Rejoueur;
+
+/**
+ * Rejoue une partie enregistrée (option {@code enregistrement=fichier} des autres modes)
+ * jusqu'à un tour donné, et affiche la partie à ce tour.
+ * Usage : java MainReplay fichier [tour]
+ */
+public class MainReplay {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage : java MainReplay fichier [tour]");
+            return;
+        }
+        Enregistrement enregistrement = Enregistrement.lire(Paths.get(args[0]));
+        int tour = args.length > 1 ? Integer.parseInt(args[1]) : enregistrement.getNbTours();
+        System.out.println("Graine de la partie : " + enregistrement.getSeed() + ", " + enregistrement.getNbTours() + " tours enregistrés");
+
+        Rejoueur rejoueur = new Rejoueur(enregistrement);
+        long debut = System.nanoTime();
+        rejoueur.allerAuTour(tour);
+        long duree = System.nanoTime() - debut;
+
+        Game game = rejoueur.getGame();
+        System.out.println("Tour " + game.getTour() + " atteint en " + (duree / 1_000_000) + " ms");
+        System.out.print(game.getCurrentGameRepresentation());
+        System.out.print(game.getPlayerManager());
+    }
+}
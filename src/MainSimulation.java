@@ -0,0 +1,18 @@
+import java.io.IOException;
+import config.*;
+import modele.simulation.*;
+
+/**
+ * Lance une partie entre joueurs artificiels sans affichage
+ * et imprime uniquement son résultat.
+ * Usage : java MainSimulation [cle=valeur ...] (voir {@link MatchConfig})
+ */
+public class MainSimulation {
+
+    public static void main(String[] args) throws IOException {
+        MatchConfig config = MatchConfig.fromArgs(args);
+        Simulation simulation = new Simulation(config, Constants.MAX_TOURS_SIMULATION);
+        SimulationResult resultat = simulation.executer();
+        System.out.println(resultat);
+    }
+}
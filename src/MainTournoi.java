@@ -0,0 +1,80 @@
+import java.io.*;
+import java.util.*;
+import config.MatchConfig;
+import modele.simulation.*;
+import modele.strategy.playerStrategy.MonteCarlo;
+
+/**
+ * Lance un tournoi entre stratégies de joueurs artificiels, sans affichage,
+ * et imprime les statistiques agrégées au fil des parties.
+ * Usage : java MainTournoi [nbParties] [strategie1,strategie2,...] [cle=valeur ...] (voir {@link MatchConfig})
+ */
+public class MainTournoi {
+
+    private static final String USAGE = "Usage : java MainTournoi [nbParties] [strategie1,strategie2,...] [cle=valeur ...]";
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        MatchConfig config;
+        try {
+            config = MatchConfig.fromArgs(args);
+        } catch (IllegalArgumentException e) {
+            refuser(e.getMessage());
+            return;
+        }
+        List<String> positionnels = new ArrayList<>();
+        for (String arg : args) {
+            if (!MatchConfig.estOption(arg)) {
+                positionnels.add(arg);
+            }
+        }
+        if (positionnels.size() > 2) {
+            refuser("Arguments en trop : " + positionnels.subList(2, positionnels.size())
+                    + " (les stratégies sont séparées par des virgules).");
+            return;
+        }
+        int nbParties;
+        try {
+            nbParties = positionnels.size() > 0 ? Integer.parseInt(positionnels.get(0)) : 1000;
+        } catch (NumberFormatException e) {
+            refuser("Nombre de parties invalide : " + positionnels.get(0));
+            return;
+        }
+        if (nbParties < 1) {
+            refuser("Le tournoi doit compter au moins une partie.");
+            return;
+        }
+        List<String> noms = positionnels.size() > 1
+                ? Arrays.asList(positionnels.get(1).split(","))
+                : List.of("aggressive", "defensive", "offensive", "random");
+        if (noms.size() < 2) {
+            refuser("Un tournoi oppose au moins deux stratégies : " + noms);
+            return;
+        }
+
+        Tournament tournoi;
+        try {
+            tournoi = new Tournament(config, Tournament.roster(noms));
+        } catch (IllegalArgumentException e) {
+            refuser(e.getMessage());
+            return;
+        }
+        long debut = System.nanoTime();
+        long graine = config.getGraine() != null ? config.getGraine() : System.nanoTime();
+        TournamentStats stats = tournoi.executer(nbParties, graine, Math.max(1, nbParties / 10),
+                s -> System.out.println(s));
+        double secondes = (System.nanoTime() - debut) / 1e9;
+        System.out.printf(Locale.ROOT, "%d parties en %.2f s (%.1f parties/s)%n", stats.getNbParties(), secondes, stats.getNbParties() / secondes);
+        if (MonteCarlo.getMesuresGlobales().getNbDecisions() > 0) {
+            System.out.println("Monte-Carlo : " + MonteCarlo.getMesuresGlobales());
+        }
+    }
+
+    /**
+     * Signale des arguments invalides avec l'usage, et termine le programme en erreur.
+     */
+    private static void refuser(String raison) {
+        System.err.println(raison);
+        System.err.println(USAGE);
+        System.exit(1);
+    }
+}
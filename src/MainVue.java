@@ -1,11 +1,25 @@
+import java.io.IOException;
+import javax.swing.SwingUtilities;
+import config.MatchConfig;
 import modele.Game;
+import modele.MatchContext;
+import modele.replay.EnregistreurPartie;
 import vue.GameWindow;
 
+/**
+ * Lance une partie dans une fenêtre. Les tours sont joués depuis la fenêtre,
+ * un par un ou en lecture automatique ; la console n'est pas utilisée.
+ * Usage : java MainVue [cle=valeur ...] (voir {@link MatchConfig})
+ */
 public class MainVue {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         // Exemple d'initialisation pour démarrer le jeu
+        MatchContext context = new MatchContext(MatchConfig.fromArgs(args));
+        System.out.println("Graine de la partie : " + context.getSeed() + " (rejouer avec graine=" + context.getSeed() + ")");
+        MatchContext.setDefault(context);
         Game g = Game.getInstance();
-        GameWindow w = new GameWindow(g);
-        g.commencer();
+        g.setAffichage(false); // La grille est affichée par la fenêtre, pas dans la console
+        EnregistreurPartie.demarrer(g); // Fermé à l'arrêt de l'application
+        SwingUtilities.invokeLater(() -> new GameWindow(g));
     }
 }
@@ -11,6 +11,9 @@ public class Constants {
     /** Nombre de colonnes dans la grille du jeu. */
     public static final int NB_COLS = 40;
 
+    /** Nombre de cases à partir duquel la grille utilise le stockage compact (murs en bitset, cases créées à la demande). */
+    public static final int SEUIL_GRILLE_COMPACTE = 250_000;
+
     /** Nombre initial de joueurs dans le jeu. */
     public static int NB_JOUEURS = 5;
 
@@ -29,6 +32,9 @@ public class Constants {
     /** Taille d'une chambre dans la grille. */
     public static final int ROOM_SIZE = 5;
 
+    /** Générateur d'arène ({@code classique}, {@code arbre}, {@code eller} ou {@code cavernes}). */
+    public static final String MAZE_GENERATOR = "classique";
+
     /** Énergie initiale de chaque joueur. */
     public static final int INITIAL_ENERGY = 100;
 
@@ -47,6 +53,27 @@ public class Constants {
     /** Temps avant l'explosion d'une bombe (en tours). */
     public static final int BOMB_TIMER = 3;
 
+    /** Rayon de l'explosion d'une bombe (en cases). */
+    public static final int BLAST_RADIUS = 1;
+
+    /** Forme de l'explosion d'une bombe ({@code carre}, {@code losange} ou {@code croix}). */
+    public static final String BLAST_SHAPE = "carre";
+
+    /** Portée de la ligne de vue des joueurs (brouillard de guerre), 0 pour une grille entièrement visible. */
+    public static final int VISION_RANGE = 0;
+
+    /** Nombre maximal de tentatives accordées à un joueur pour effectuer une action valide pendant un tour. */
+    public static final int MAX_TENTATIVES = 20;
+
+    /** Nombre maximal de tours d'une simulation sans affichage avant de déclarer la partie nulle. */
+    public static final int MAX_TOURS_SIMULATION = 10000;
+
+    /** Nombre d'arènes entre lesquelles les parties d'un tournoi tirent la leur, sauf option {@code arenes}. */
+    public static final int ARENES_TOURNOI = 32;
+
+    /** Niveau par défaut du journal des parties ("debug", "info", "alerte" ou "erreur"). */
+    public static final String LOG_LEVEL = "info";
+
     /** Constante pour représenter le déplacement vers le haut. */
     public static final String HAUT = "h";
 
@@ -62,14 +89,26 @@ public class Constants {
     /** Ensemble des directions possibles dans le jeu. */
     public static final Set<String> DIRECTIONS = new HashSet<>(Set.of("h", "g", "b", "d"));
 
+    /** Directions dans un ordre fixe, pour un tirage reproductible. */
+    private static final String[] ORDRE_DIRECTIONS = {HAUT, BAS, GAUCHE, DROITE};
+
     /**
      * Retourne une direction aléatoire parmi les directions possibles.
      * @return Une chaîne de caractères représentant une direction aléatoire ("h", "g", "b", ou "d").
+     * @deprecated Tirage non reproductible ; utiliser {@link #getRandomDirection(SplittableRandom)}
+     * avec le générateur du joueur ou de la partie.
      */
+    @Deprecated
     public static String getRandomDirection() {
-        // Convertit le Set en tableau pour un accès indexé.
-        String[] directionArray = DIRECTIONS.toArray(new String[0]);
-        Random random = new Random();
-        return directionArray[random.nextInt(directionArray.length)];
+        return ORDRE_DIRECTIONS[java.util.concurrent.ThreadLocalRandom.current().nextInt(ORDRE_DIRECTIONS.length)];
+    }
+
+    /**
+     * Retourne une direction aléatoire tirée avec le générateur donné.
+     * @param rand Le générateur aléatoire (celui du joueur ou de la partie).
+     * @return Une chaîne de caractères représentant une direction aléatoire ("h", "g", "b", ou "d").
+     */
+    public static String getRandomDirection(SplittableRandom rand) {
+        return ORDRE_DIRECTIONS[rand.nextInt(ORDRE_DIRECTIONS.length)];
     }
 }
@@ -0,0 +1,791 @@
+package config;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Configuration d'une partie, modifiable à l'exécution.
+ * Regroupe les dimensions de l'arène, les densités de murs et de bonus, les chambres,
+ * le nombre de joueurs, la minuterie et l'explosion des bombes. Les valeurs par défaut sont celles de {@link Constants}.
+ * Une configuration peut être chargée depuis un fichier de propriétés ou depuis la ligne de commande
+ * (arguments de la forme {@code cle=valeur} ou {@code --cle=valeur}, {@code config=fichier.properties}).
+ */
+public class MatchConfig {
+
+    /** Clé du nombre de lignes de la grille. */
+    public static final String NB_LIGNES = "nb.lignes";
+
+    /** Clé du nombre de colonnes de la grille. */
+    public static final String NB_COLONNES = "nb.colonnes";
+
+    /** Clé de la densité des murs aléatoires. */
+    public static final String DENSITE_MURS = "densite.murs";
+
+    /** Clé de la densité des pastilles d'énergie. */
+    public static final String DENSITE_SOINS = "densite.soins";
+
+    /** Clé de la densité des pastilles de munitions. */
+    public static final String DENSITE_MUNITIONS = "densite.munitions";
+
+    /** Clé du nombre de chambres. */
+    public static final String NB_CHAMBRES = "nb.chambres";
+
+    /** Clé de la taille des chambres. */
+    public static final String TAILLE_CHAMBRE = "taille.chambre";
+
+    /** Clé du générateur d'arène ({@code classique}, {@code arbre}, {@code eller} ou {@code cavernes}). */
+    public static final String GENERATEUR = "generateur";
+
+    /** Clé du nombre de joueurs. */
+    public static final String NB_JOUEURS = "nb.joueurs";
+
+    /** Clé de la minuterie des bombes (en tours). */
+    public static final String MINUTERIE_BOMBE = "minuterie.bombe";
+
+    /** Clé du rayon de l'explosion des bombes (en cases). */
+    public static final String RAYON_EXPLOSION = "rayon.explosion";
+
+    /** Clé de la forme de l'explosion des bombes ({@code carre}, {@code losange} ou {@code croix}). */
+    public static final String FORME_EXPLOSION = "forme.explosion";
+
+    /** Clé de la portée de la ligne de vue (0 : pas de brouillard de guerre). */
+    public static final String PORTEE_VISION = "portee.vision";
+
+    /** Clé de la graine du générateur aléatoire ({@code aleatoire} pour une graine tirée au hasard). */
+    public static final String GRAINE = "graine";
+
+    /** Clé du stockage compact de la grille ({@code true}, {@code false} ou {@code auto}). */
+    public static final String STOCKAGE_COMPACT = "stockage.compact";
+
+    /** Clé de la sortie du journal ({@code aucun}, {@code console}, {@code asynchrone} ou {@code auto}). */
+    public static final String JOURNAL = "journal";
+
+    /** Clé du niveau du journal ({@code debug}, {@code info}, {@code alerte} ou {@code erreur}). */
+    public static final String NIVEAU_JOURNAL = "journal.niveau";
+
+    /** Clé de l'affichage différentiel dans le terminal en mode console ({@code true}, {@code false} ou {@code auto}). */
+    public static final String TERMINAL = "terminal";
+
+    /** Clé du fichier dans lequel enregistrer la partie pour la rejouer (absente : pas d'enregistrement). */
+    public static final String ENREGISTREMENT = "enregistrement";
+
+    /** Clé du répertoire du cache disque des arènes générées (absente : cache en mémoire seulement). */
+    public static final String CACHE_ARENES = "cache.arenes";
+
+    /** Clé du nombre d'arènes entre lesquelles les parties tirent la leur (0 : une arène par graine, ou {@code auto}). */
+    public static final String ARENES = "arenes";
+
+    /** Clé de la graine dont dérivent les arènes de l'ensemble ({@code auto} : 0, ou la graine du tournoi). */
+    public static final String GRAINE_ARENES = "graine.arenes";
+
+    /** Argument de ligne de commande désignant un fichier de propriétés à charger. */
+    public static final String FICHIER = "config";
+
+    /** Ensemble des clés reconnues. */
+    private static final Set<String> CLES = Set.of(NB_LIGNES, NB_COLONNES, DENSITE_MURS, DENSITE_SOINS,
+            DENSITE_MUNITIONS, NB_CHAMBRES, TAILLE_CHAMBRE, GENERATEUR, NB_JOUEURS, MINUTERIE_BOMBE, RAYON_EXPLOSION, FORME_EXPLOSION, PORTEE_VISION, GRAINE, STOCKAGE_COMPACT,
+            JOURNAL, NIVEAU_JOURNAL, TERMINAL, ENREGISTREMENT, CACHE_ARENES, ARENES, GRAINE_ARENES);
+
+    /** Sorties de journal reconnues. */
+    private static final Set<String> SORTIES_JOURNAL = Set.of("aucun", "console", "asynchrone");
+
+    /** Formes d'explosion reconnues. */
+    private static final Set<String> FORMES_EXPLOSION = Set.of("carre", "losange", "croix");
+
+    /** Générateurs d'arène reconnus. */
+    private static final Set<String> GENERATEURS = Set.of("classique", "arbre", "eller", "cavernes");
+
+    /** Niveaux de journal reconnus. */
+    private static final Set<String> NIVEAUX_JOURNAL = Set.of("debug", "info", "alerte", "erreur");
+
+    private int nbLignes;
+    private int nbColonnes;
+    private double densiteMurs;
+    private double densiteSoins;
+    private double densiteMunitions;
+    private int nbChambres;
+    private int tailleChambre;
+    private String generateur;
+    private int nbJoueurs;
+    private int minuterieBombe;
+    private int rayonExplosion;
+    private String formeExplosion;
+    private int porteeVision;
+
+    /**
+     * Graine imposée pour rejouer une partie à l'identique, ou {@code null} pour une graine aléatoire.
+     */
+    private Long graine;
+
+    /**
+     * Stockage compact imposé, ou {@code null} pour le choisir selon la taille de la grille.
+     */
+    private Boolean stockageCompact;
+
+    /**
+     * Sortie imposée du journal, ou {@code null} pour laisser le mode de lancement la choisir.
+     */
+    private String journal;
+
+    /**
+     * Niveau le moins grave écrit dans le journal.
+     */
+    private String niveauJournal;
+
+    /**
+     * Affichage différentiel imposé en mode console, ou {@code null} pour l'utiliser si la sortie est un terminal.
+     */
+    private Boolean terminal;
+
+    /**
+     * Fichier d'enregistrement de la partie, ou {@code null}.
+     */
+    private String enregistrement;
+
+    /**
+     * Répertoire du cache disque des arènes, ou {@code null}.
+     */
+    private String cacheArenes;
+
+    /**
+     * Nombre d'arènes imposé (0 : une arène par graine), ou {@code null} pour laisser le mode de lancement le choisir.
+     */
+    private Integer arenes;
+
+    /**
+     * Graine imposée de l'ensemble d'arènes, ou {@code null} pour laisser le mode de lancement la choisir.
+     */
+    private Long graineArenes;
+
+    /**
+     * Crée une configuration avec les valeurs par défaut de {@link Constants}.
+     */
+    public MatchConfig() {
+        this.nbLignes = Constants.NB_LIGNES;
+        this.nbColonnes = Constants.NB_COLS;
+        this.densiteMurs = Constants.WALL_DENSITY;
+        this.densiteSoins = Constants.HEALTH_DENSITY;
+        this.densiteMunitions = Constants.AMMO_DENSITY;
+        this.nbChambres = Constants.NB_ROOMS;
+        this.tailleChambre = Constants.ROOM_SIZE;
+        this.generateur = Constants.MAZE_GENERATOR;
+        this.nbJoueurs = Constants.NB_JOUEURS;
+        this.minuterieBombe = Constants.BOMB_TIMER;
+        this.rayonExplosion = Constants.BLAST_RADIUS;
+        this.formeExplosion = Constants.BLAST_SHAPE;
+        this.porteeVision = Constants.VISION_RANGE;
+        this.graine = null;
+        this.stockageCompact = null;
+        this.journal = null;
+        this.niveauJournal = Constants.LOG_LEVEL;
+        this.terminal = null;
+        this.enregistrement = null;
+        this.cacheArenes = null;
+        this.arenes = null;
+        this.graineArenes = null;
+    }
+
+    /**
+     * Crée une copie d'une configuration.
+     *
+     * @param autre La configuration à copier.
+     */
+    public MatchConfig(MatchConfig autre) {
+        this.nbLignes = autre.nbLignes;
+        this.nbColonnes = autre.nbColonnes;
+        this.densiteMurs = autre.densiteMurs;
+        this.densiteSoins = autre.densiteSoins;
+        this.densiteMunitions = autre.densiteMunitions;
+        this.nbChambres = autre.nbChambres;
+        this.tailleChambre = autre.tailleChambre;
+        this.generateur = autre.generateur;
+        this.nbJoueurs = autre.nbJoueurs;
+        this.minuterieBombe = autre.minuterieBombe;
+        this.rayonExplosion = autre.rayonExplosion;
+        this.formeExplosion = autre.formeExplosion;
+        this.porteeVision = autre.porteeVision;
+        this.graine = autre.graine;
+        this.stockageCompact = autre.stockageCompact;
+        this.journal = autre.journal;
+        this.niveauJournal = autre.niveauJournal;
+        this.terminal = autre.terminal;
+        this.enregistrement = autre.enregistrement;
+        this.cacheArenes = autre.cacheArenes;
+        this.arenes = autre.arenes;
+        this.graineArenes = autre.graineArenes;
+    }
+
+    /**
+     * Charge une configuration depuis un fichier de propriétés.
+     * Les clés absentes gardent leur valeur par défaut.
+     *
+     * @param fichier Le chemin du fichier.
+     * @return La configuration chargée.
+     * @throws IOException si le fichier ne peut pas être lu.
+     * @throws IllegalArgumentException si une clé est inconnue ou une valeur invalide.
+     */
+    public static MatchConfig load(Path fichier) throws IOException {
+        MatchConfig config = new MatchConfig();
+        config.appliquer(lire(fichier));
+        return config;
+    }
+
+    /**
+     * Lit un fichier de propriétés.
+     *
+     * @param fichier Le chemin du fichier.
+     * @return Les propriétés lues.
+     * @throws IOException si le fichier ne peut pas être lu.
+     */
+    private static Properties lire(Path fichier) throws IOException {
+        Properties props = new Properties();
+        try (Reader reader = Files.newBufferedReader(fichier)) {
+            props.load(reader);
+        }
+        return props;
+    }
+
+    /**
+     * Construit une configuration depuis les arguments de la ligne de commande.
+     * Seuls les arguments de la forme {@code cle=valeur} (éventuellement préfixés de {@code --}) sont lus,
+     * les autres sont laissés à l'appelant. {@code config=fichier} charge d'abord un fichier de propriétés,
+     * que les autres arguments complètent ou remplacent.
+     *
+     * @param args Les arguments de la ligne de commande.
+     * @return La configuration correspondante.
+     * @throws IOException si le fichier de configuration ne peut pas être lu.
+     * @throws IllegalArgumentException si une clé est inconnue ou une valeur invalide.
+     */
+    public static MatchConfig fromArgs(String[] args) throws IOException {
+        Properties props = new Properties();
+        Properties options = new Properties();
+        for (String arg : args) {
+            if (!estOption(arg)) {
+                continue;
+            }
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            int egal = option.indexOf('=');
+            String cle = option.substring(0, egal).trim();
+            String valeur = option.substring(egal + 1).trim();
+            if (cle.equals(FICHIER)) {
+                props.putAll(lire(Paths.get(valeur)));
+            } else {
+                options.setProperty(cle, valeur);
+            }
+        }
+        props.putAll(options);
+        MatchConfig config = new MatchConfig();
+        config.appliquer(props);
+        return config;
+    }
+
+    /**
+     * Indique si un argument de la ligne de commande est une option de configuration.
+     *
+     * @param arg L'argument.
+     * @return {@code true} si l'argument est de la forme {@code cle=valeur}.
+     */
+    public static boolean estOption(String arg) {
+        return arg.indexOf('=') > 0;
+    }
+
+    /**
+     * Applique des propriétés à cette configuration puis la valide.
+     *
+     * @param props Les propriétés à appliquer.
+     * @throws IllegalArgumentException si une clé est inconnue ou une valeur invalide.
+     */
+    public void appliquer(Properties props) {
+        for (String cle : props.stringPropertyNames()) {
+            if (!CLES.contains(cle)) {
+                throw new IllegalArgumentException("Paramètre inconnu : " + cle + ", choisir parmi " + CLES);
+            }
+            String valeur = props.getProperty(cle).trim();
+            try {
+                switch (cle) {
+                    case NB_LIGNES: nbLignes = Integer.parseInt(valeur); break;
+                    case NB_COLONNES: nbColonnes = Integer.parseInt(valeur); break;
+                    case DENSITE_MURS: densiteMurs = Double.parseDouble(valeur); break;
+                    case DENSITE_SOINS: densiteSoins = Double.parseDouble(valeur); break;
+                    case DENSITE_MUNITIONS: densiteMunitions = Double.parseDouble(valeur); break;
+                    case NB_CHAMBRES: nbChambres = Integer.parseInt(valeur); break;
+                    case TAILLE_CHAMBRE: tailleChambre = Integer.parseInt(valeur); break;
+                    case GENERATEUR: generateur = valeur.toLowerCase(Locale.ROOT); break;
+                    case NB_JOUEURS: nbJoueurs = Integer.parseInt(valeur); break;
+                    case MINUTERIE_BOMBE: minuterieBombe = Integer.parseInt(valeur); break;
+                    case RAYON_EXPLOSION: rayonExplosion = Integer.parseInt(valeur); break;
+                    case FORME_EXPLOSION: formeExplosion = valeur.toLowerCase(Locale.ROOT); break;
+                    case PORTEE_VISION: porteeVision = Integer.parseInt(valeur); break;
+                    case GRAINE: graine = valeur.equalsIgnoreCase("aleatoire") ? null : Long.valueOf(valeur); break;
+                    case STOCKAGE_COMPACT:
+                        stockageCompact = valeur.equalsIgnoreCase("auto") ? null : Boolean.valueOf(valeur);
+                        break;
+                    case JOURNAL: journal = valeur.equalsIgnoreCase("auto") ? null : valeur.toLowerCase(Locale.ROOT); break;
+                    case NIVEAU_JOURNAL: niveauJournal = valeur.toLowerCase(Locale.ROOT); break;
+                    case TERMINAL: terminal = valeur.equalsIgnoreCase("auto") ? null : Boolean.valueOf(valeur); break;
+                    case ENREGISTREMENT: enregistrement = valeur.isEmpty() ? null : valeur; break;
+                    case CACHE_ARENES: cacheArenes = valeur.isEmpty() ? null : valeur; break;
+                    case ARENES: arenes = valeur.equalsIgnoreCase("auto") ? null : Integer.valueOf(valeur); break;
+                    case GRAINE_ARENES: graineArenes = valeur.equalsIgnoreCase("auto") ? null : Long.valueOf(valeur); break;
+                    default:
+                        break;
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Valeur invalide pour " + cle + " : " + valeur, e);
+            }
+        }
+        valider();
+    }
+
+    /**
+     * Vérifie la cohérence de la configuration.
+     *
+     * @throws IllegalArgumentException si un paramètre est hors limites.
+     */
+    public void valider() {
+        if (nbLignes < 3 || nbColonnes < 3) {
+            throw new IllegalArgumentException("La grille doit compter au moins 3 lignes et 3 colonnes.");
+        }
+        if (tailleChambre < 0 || tailleChambre > Math.min(nbLignes, nbColonnes) - 2) {
+            throw new IllegalArgumentException("Taille de chambre invalide pour une grille "
+                    + nbLignes + "x" + nbColonnes + " : " + tailleChambre);
+        }
+        if (!GENERATEURS.contains(generateur)) {
+            throw new IllegalArgumentException("Générateur d'arène inconnu : " + generateur + ", choisir parmi " + GENERATEURS);
+        }
+        if (porteeVision < 0) {
+            throw new IllegalArgumentException("La portée de vision ne peut pas être négative.");
+        }
+        if (nbChambres < 0 || nbJoueurs < 0 || minuterieBombe < 1) {
+            throw new IllegalArgumentException("Le nombre de chambres et de joueurs ne peut pas être négatif, la minuterie des bombes doit valoir au moins 1.");
+        }
+        if (arenes != null && arenes < 0) {
+            throw new IllegalArgumentException("Le nombre d'arènes ne peut pas être négatif.");
+        }
+        if (rayonExplosion < 0) {
+            throw new IllegalArgumentException("Le rayon d'explosion ne peut pas être négatif.");
+        }
+        if (!FORMES_EXPLOSION.contains(formeExplosion)) {
+            throw new IllegalArgumentException("Forme d'explosion inconnue : " + formeExplosion + ", choisir parmi " + FORMES_EXPLOSION);
+        }
+        if (densiteMurs < 0 || densiteSoins < 0 || densiteMunitions < 0 || densiteSoins + densiteMunitions > 1) {
+            throw new IllegalArgumentException("Densités invalides.");
+        }
+        if (journal != null && !SORTIES_JOURNAL.contains(journal)) {
+            throw new IllegalArgumentException("Sortie de journal inconnue : " + journal + ", choisir parmi " + SORTIES_JOURNAL);
+        }
+        if (!NIVEAUX_JOURNAL.contains(niveauJournal)) {
+            throw new IllegalArgumentException("Niveau de journal inconnu : " + niveauJournal + ", choisir parmi " + NIVEAUX_JOURNAL);
+        }
+    }
+
+    /**
+     * Retourne le nombre de lignes de la grille.
+     * @return Le nombre de lignes.
+     */
+    public int getNbLignes() {
+        return nbLignes;
+    }
+
+    /**
+     * Définit le nombre de lignes de la grille.
+     * @param nbLignes Le nombre de lignes.
+     */
+    public void setNbLignes(int nbLignes) {
+        this.nbLignes = nbLignes;
+    }
+
+    /**
+     * Retourne le nombre de colonnes de la grille.
+     * @return Le nombre de colonnes.
+     */
+    public int getNbColonnes() {
+        return nbColonnes;
+    }
+
+    /**
+     * Définit le nombre de colonnes de la grille.
+     * @param nbColonnes Le nombre de colonnes.
+     */
+    public void setNbColonnes(int nbColonnes) {
+        this.nbColonnes = nbColonnes;
+    }
+
+    /**
+     * Retourne la densité des murs aléatoires.
+     * @return La densité des murs.
+     */
+    public double getDensiteMurs() {
+        return densiteMurs;
+    }
+
+    /**
+     * Définit la densité des murs aléatoires.
+     * @param densiteMurs La densité des murs.
+     */
+    public void setDensiteMurs(double densiteMurs) {
+        this.densiteMurs = densiteMurs;
+    }
+
+    /**
+     * Retourne la densité des pastilles d'énergie.
+     * @return La densité des soins.
+     */
+    public double getDensiteSoins() {
+        return densiteSoins;
+    }
+
+    /**
+     * Définit la densité des pastilles d'énergie.
+     * @param densiteSoins La densité des soins.
+     */
+    public void setDensiteSoins(double densiteSoins) {
+        this.densiteSoins = densiteSoins;
+    }
+
+    /**
+     * Retourne la densité des pastilles de munitions.
+     * @return La densité des munitions.
+     */
+    public double getDensiteMunitions() {
+        return densiteMunitions;
+    }
+
+    /**
+     * Définit la densité des pastilles de munitions.
+     * @param densiteMunitions La densité des munitions.
+     */
+    public void setDensiteMunitions(double densiteMunitions) {
+        this.densiteMunitions = densiteMunitions;
+    }
+
+    /**
+     * Retourne le nombre de chambres.
+     * @return Le nombre de chambres.
+     */
+    public int getNbChambres() {
+        return nbChambres;
+    }
+
+    /**
+     * Définit le nombre de chambres.
+     * @param nbChambres Le nombre de chambres.
+     */
+    public void setNbChambres(int nbChambres) {
+        this.nbChambres = nbChambres;
+    }
+
+    /**
+     * Retourne la taille (côté) des chambres.
+     * @return La taille des chambres.
+     */
+    public int getTailleChambre() {
+        return tailleChambre;
+    }
+
+    /**
+     * Définit la taille (côté) des chambres.
+     * @param tailleChambre La taille des chambres.
+     */
+    public void setTailleChambre(int tailleChambre) {
+        this.tailleChambre = tailleChambre;
+    }
+
+    /**
+     * Retourne le générateur d'arène.
+     * @return {@code classique}, {@code arbre}, {@code eller} ou {@code cavernes}.
+     */
+    public String getGenerateur() {
+        return generateur;
+    }
+
+    /**
+     * Définit le générateur d'arène.
+     * @param generateur {@code classique} (backtracking, l'arène historique), {@code arbre} (arbre binaire),
+     * {@code eller} (ligne par ligne) ou {@code cavernes} (automate cellulaire).
+     */
+    public void setGenerateur(String generateur) {
+        this.generateur = generateur;
+    }
+
+    /**
+     * Retourne le nombre de joueurs.
+     * @return Le nombre de joueurs.
+     */
+    public int getNbJoueurs() {
+        return nbJoueurs;
+    }
+
+    /**
+     * Définit le nombre de joueurs.
+     * @param nbJoueurs Le nombre de joueurs.
+     */
+    public void setNbJoueurs(int nbJoueurs) {
+        this.nbJoueurs = nbJoueurs;
+    }
+
+    /**
+     * Retourne le nombre de tours avant l'explosion d'une grenade.
+     * @return La minuterie des bombes.
+     */
+    public int getMinuterieBombe() {
+        return minuterieBombe;
+    }
+
+    /**
+     * Définit le nombre de tours avant l'explosion d'une grenade.
+     * @param minuterieBombe La minuterie des bombes.
+     */
+    public void setMinuterieBombe(int minuterieBombe) {
+        this.minuterieBombe = minuterieBombe;
+    }
+
+    /**
+     * Retourne le rayon de l'explosion des bombes.
+     * @return Le rayon, en cases (0 : seule la case de la bombe).
+     */
+    public int getRayonExplosion() {
+        return rayonExplosion;
+    }
+
+    /**
+     * Définit le rayon de l'explosion des bombes.
+     * @param rayonExplosion Le rayon, en cases.
+     */
+    public void setRayonExplosion(int rayonExplosion) {
+        this.rayonExplosion = rayonExplosion;
+    }
+
+    /**
+     * Retourne la forme de l'explosion des bombes.
+     * @return {@code carre}, {@code losange} ou {@code croix}.
+     */
+    public String getFormeExplosion() {
+        return formeExplosion;
+    }
+
+    /**
+     * Définit la forme de l'explosion des bombes.
+     * @param formeExplosion {@code carre}, {@code losange} (distance de Manhattan) ou {@code croix} (arrêtée par les murs).
+     */
+    public void setFormeExplosion(String formeExplosion) {
+        this.formeExplosion = formeExplosion;
+    }
+
+    /**
+     * Retourne la portée de la ligne de vue des joueurs.
+     * @return La portée de vision, 0 si la grille est entièrement visible.
+     */
+    public int getPorteeVision() {
+        return porteeVision;
+    }
+
+    /**
+     * Définit la portée de la ligne de vue des joueurs.
+     * @param porteeVision La portée de vision, 0 pour désactiver le brouillard de guerre.
+     */
+    public void setPorteeVision(int porteeVision) {
+        this.porteeVision = porteeVision;
+    }
+
+    /**
+     * Retourne la graine imposée du générateur aléatoire.
+     * @return La graine, ou {@code null} si chaque partie tire la sienne au hasard.
+     */
+    public Long getGraine() {
+        return graine;
+    }
+
+    /**
+     * Impose la graine du générateur aléatoire, pour rejouer une partie à l'identique.
+     * @param graine La graine, ou {@code null} pour une graine aléatoire.
+     */
+    public void setGraine(Long graine) {
+        this.graine = graine;
+    }
+
+    /**
+     * Indique si la grille doit utiliser le stockage compact.
+     * En mode automatique, le stockage compact est choisi à partir de {@link Constants#SEUIL_GRILLE_COMPACTE} cases.
+     * @return {@code true} si le stockage compact doit être utilisé.
+     */
+    public boolean isStockageCompact() {
+        if (stockageCompact == null) {
+            return (long) nbLignes * nbColonnes >= Constants.SEUIL_GRILLE_COMPACTE;
+        }
+        return stockageCompact;
+    }
+
+    /**
+     * Impose ou non le stockage compact de la grille.
+     * @param stockageCompact {@code true} ou {@code false} pour l'imposer, {@code null} pour le choisir selon la taille.
+     */
+    public void setStockageCompact(Boolean stockageCompact) {
+        this.stockageCompact = stockageCompact;
+    }
+
+    /**
+     * Retourne la sortie imposée du journal des parties.
+     * @return {@code aucun}, {@code console} ou {@code asynchrone}, ou {@code null} si le mode de lancement la choisit.
+     */
+    public String getJournal() {
+        return journal;
+    }
+
+    /**
+     * Impose la sortie du journal des parties.
+     * @param journal {@code aucun}, {@code console} ou {@code asynchrone}, ou {@code null} pour la laisser au mode de lancement.
+     */
+    public void setJournal(String journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Retourne le niveau le moins grave écrit dans le journal.
+     * @return {@code debug}, {@code info}, {@code alerte} ou {@code erreur}.
+     */
+    public String getNiveauJournal() {
+        return niveauJournal;
+    }
+
+    /**
+     * Définit le niveau le moins grave écrit dans le journal.
+     * @param niveauJournal {@code debug}, {@code info}, {@code alerte} ou {@code erreur}.
+     */
+    public void setNiveauJournal(String niveauJournal) {
+        this.niveauJournal = niveauJournal;
+    }
+
+    /**
+     * Retourne l'affichage différentiel imposé en mode console.
+     * @return {@code true} ou {@code false} s'il est imposé, {@code null} pour l'utiliser si la sortie est un terminal.
+     */
+    public Boolean getTerminal() {
+        return terminal;
+    }
+
+    /**
+     * Impose ou non l'affichage différentiel en mode console.
+     * @param terminal {@code true} ou {@code false} pour l'imposer, {@code null} pour l'utiliser si la sortie est un terminal.
+     */
+    public void setTerminal(Boolean terminal) {
+        this.terminal = terminal;
+    }
+
+    /**
+     * Retourne le fichier dans lequel enregistrer la partie.
+     * @return Le chemin du fichier, ou {@code null} si la partie n'est pas enregistrée.
+     */
+    public String getEnregistrement() {
+        return enregistrement;
+    }
+
+    /**
+     * Définit le fichier dans lequel enregistrer la partie.
+     * @param enregistrement Le chemin du fichier, ou {@code null} pour ne pas enregistrer.
+     */
+    public void setEnregistrement(String enregistrement) {
+        this.enregistrement = enregistrement;
+    }
+
+    /**
+     * Retourne le répertoire du cache disque des arènes générées.
+     * @return Le chemin du répertoire, ou {@code null} si les arènes ne sont gardées qu'en mémoire.
+     */
+    public String getCacheArenes() {
+        return cacheArenes;
+    }
+
+    /**
+     * Définit le répertoire du cache disque des arènes générées.
+     * @param cacheArenes Le chemin du répertoire, créé au besoin, ou {@code null} pour ne garder les arènes qu'en mémoire.
+     */
+    public void setCacheArenes(String cacheArenes) {
+        this.cacheArenes = cacheArenes;
+    }
+
+    /**
+     * Retourne le nombre d'arènes entre lesquelles les parties tirent la leur.
+     * @return Le nombre d'arènes, 0 si chaque partie génère la sienne à partir de sa graine,
+     * ou {@code null} si le mode de lancement le choisit (une arène par graine, un ensemble d'arènes en tournoi).
+     */
+    public Integer getArenes() {
+        return arenes;
+    }
+
+    /**
+     * Impose le nombre d'arènes entre lesquelles les parties tirent la leur.
+     * @param arenes Le nombre d'arènes, 0 pour une arène par graine, ou {@code null} pour le laisser au mode de lancement.
+     */
+    public void setArenes(Integer arenes) {
+        this.arenes = arenes;
+    }
+
+    /**
+     * Retourne la graine dont dérivent les arènes de l'ensemble ({@link #getArenes()}).
+     * @return La graine, ou {@code null} si le mode de lancement la choisit (0, ou la graine du tournoi).
+     */
+    public Long getGraineArenes() {
+        return graineArenes;
+    }
+
+    /**
+     * Impose la graine dont dérivent les arènes de l'ensemble.
+     * @param graineArenes La graine, ou {@code null} pour la laisser au mode de lancement.
+     */
+    public void setGraineArenes(Long graineArenes) {
+        this.graineArenes = graineArenes;
+    }
+
+    /**
+     * Retourne les paramètres de la partie sous forme de propriétés, relisibles par {@link #appliquer(Properties)}.
+     * Le stockage de la grille y figure tel qu'il est résolu ; le fichier d'enregistrement et le cache des arènes n'y figurent pas,
+     * pour qu'une partie reconstruite à partir de ces propriétés soit identique sans être enregistrée à nouveau.
+     *
+     * @return Les propriétés de la configuration.
+     */
+    public Properties versProprietes() {
+        Properties props = new Properties();
+        props.setProperty(NB_LIGNES, Integer.toString(nbLignes));
+        props.setProperty(NB_COLONNES, Integer.toString(nbColonnes));
+        props.setProperty(DENSITE_MURS, Double.toString(densiteMurs));
+        props.setProperty(DENSITE_SOINS, Double.toString(densiteSoins));
+        props.setProperty(DENSITE_MUNITIONS, Double.toString(densiteMunitions));
+        props.setProperty(NB_CHAMBRES, Integer.toString(nbChambres));
+        props.setProperty(TAILLE_CHAMBRE, Integer.toString(tailleChambre));
+        props.setProperty(GENERATEUR, generateur);
+        props.setProperty(NB_JOUEURS, Integer.toString(nbJoueurs));
+        props.setProperty(MINUTERIE_BOMBE, Integer.toString(minuterieBombe));
+        props.setProperty(RAYON_EXPLOSION, Integer.toString(rayonExplosion));
+        props.setProperty(FORME_EXPLOSION, formeExplosion);
+        props.setProperty(PORTEE_VISION, Integer.toString(porteeVision));
+        props.setProperty(GRAINE, graine == null ? "aleatoire" : graine.toString());
+        props.setProperty(STOCKAGE_COMPACT, Boolean.toString(isStockageCompact()));
+        props.setProperty(JOURNAL, journal == null ? "auto" : journal);
+        props.setProperty(NIVEAU_JOURNAL, niveauJournal);
+        props.setProperty(TERMINAL, terminal == null ? "auto" : terminal.toString());
+        props.setProperty(ARENES, arenes == null ? "auto" : arenes.toString());
+        props.setProperty(GRAINE_ARENES, graineArenes == null ? "auto" : graineArenes.toString());
+        return props;
+    }
+
+    @Override
+    public String toString() {
+        return NB_LIGNES + "=" + nbLignes + ", " + NB_COLONNES + "=" + nbColonnes
+                + ", " + DENSITE_MURS + "=" + densiteMurs + ", " + DENSITE_SOINS + "=" + densiteSoins
+                + ", " + DENSITE_MUNITIONS + "=" + densiteMunitions + ", " + NB_CHAMBRES + "=" + nbChambres
+                + ", " + TAILLE_CHAMBRE + "=" + tailleChambre + ", " + GENERATEUR + "=" + generateur
+                + ", " + NB_JOUEURS + "=" + nbJoueurs
+                + ", " + MINUTERIE_BOMBE + "=" + minuterieBombe + ", " + RAYON_EXPLOSION + "=" + rayonExplosion
+                + ", " + FORME_EXPLOSION + "=" + formeExplosion + ", " + PORTEE_VISION + "=" + porteeVision
+                + ", " + GRAINE + "=" + (graine == null ? "aleatoire" : graine)
+                + ", " + STOCKAGE_COMPACT + "=" + isStockageCompact()
+                + ", " + JOURNAL + "=" + (journal == null ? "auto" : journal) + ", " + NIVEAU_JOURNAL + "=" + niveauJournal
+                + ", " + TERMINAL + "=" + (terminal == null ? "auto" : terminal)
+                + ", " + ARENES + "=" + (arenes == null ? "auto" : arenes)
+                + ", " + GRAINE_ARENES + "=" + (graineArenes == null ? "auto" : graineArenes)
+                + (enregistrement == null ? "" : ", " + ENREGISTREMENT + "=" + enregistrement)
+                + (cacheArenes == null ? "" : ", " + CACHE_ARENES + "=" + cacheArenes);
+    }
+}
@@ -0,0 +1,217 @@
+package controller;
+
+import java.util.concurrent.*;
+import modele.events.LotEvenements;
+
+/**
+ * Abonnement d'un écouteur à un modèle, avec sa politique de livraison.
+ * Pour les livraisons asynchrones, l'abonnement possède son propre thread de livraison,
+ * si bien qu'un écouteur lent ne ralentit que lui-même.
+ */
+class Abonnement {
+
+    /**
+     * Nombre maximal de notifications en attente pour une livraison {@link Livraison#CHAQUE_EVENEMENT}.
+     */
+    static final int CAPACITE = 1024;
+
+    /**
+     * Notification sans événements ({@link AbstractModeleEcoutable#fireChangement()}) dans la file.
+     */
+    private static final Object CHANGEMENT = new Object();
+
+    private final Ecouteur ecouteur;
+    private final Livraison livraison;
+    private final Object source;
+
+    /**
+     * File des notifications, pour {@link Livraison#CHAQUE_EVENEMENT}.
+     */
+    private final BlockingQueue<Object> file;
+
+    /**
+     * Notification en attente, pour {@link Livraison#DERNIER_ETAT} : un lot (fusion des lots reçus),
+     * {@link #CHANGEMENT}, ou null. Protégée par le moniteur de l'abonnement.
+     */
+    private Object enAttente;
+
+    /**
+     * Nombres de notifications déposées et livrées, protégés par le moniteur de l'abonnement.
+     */
+    private long deposees;
+    private long livrees;
+
+    private final Thread livreur;
+
+    /**
+     * Vrai une fois l'abonnement fermé : les notifications suivantes sont abandonnées.
+     */
+    private volatile boolean ferme;
+
+    /**
+     * Délai entre deux tentatives de dépôt dans une file pleine, pour remarquer la fermeture de l'abonnement.
+     */
+    private static final long ATTENTE_FILE_MS = 50;
+
+    /**
+     * Crée l'abonnement et, pour une livraison asynchrone, démarre son thread de livraison.
+     *
+     * @param source Le modèle écouté.
+     * @param ecouteur L'écouteur.
+     * @param livraison La politique de livraison.
+     */
+    Abonnement(Object source, Ecouteur ecouteur, Livraison livraison) {
+        this.source = source;
+        this.ecouteur = ecouteur;
+        this.livraison = livraison;
+        this.file = livraison == Livraison.CHAQUE_EVENEMENT ? new ArrayBlockingQueue<>(CAPACITE) : null;
+        if (livraison == Livraison.SYNCHRONE) {
+            this.livreur = null;
+        } else {
+            this.livreur = new Thread(this::livrer, "ecouteur-" + ecouteur.getClass().getSimpleName());
+            this.livreur.setDaemon(true);
+            this.livreur.start();
+        }
+    }
+
+    /**
+     * @return L'écouteur abonné.
+     */
+    Ecouteur getEcouteur() {
+        return ecouteur;
+    }
+
+    /**
+     * Transmet une notification à l'écouteur, selon la politique de livraison.
+     *
+     * @param lot Les événements du tour, ou null pour un simple changement.
+     */
+    void notifier(LotEvenements lot) {
+        switch (livraison) {
+            case SYNCHRONE:
+                remettre(lot == null ? CHANGEMENT : lot);
+                break;
+            case DERNIER_ETAT:
+                synchronized (this) {
+                    enAttente = fusionner(enAttente, lot);
+                    deposees++;
+                    notifyAll();
+                }
+                break;
+            default:
+                Object notification = lot == null ? CHANGEMENT : lot;
+                synchronized (this) {
+                    deposees++;
+                }
+                // File pleine : la partie attend l'écouteur, mais pas au-delà de la fermeture de l'abonnement.
+                boolean deposee = false;
+                try {
+                    while (!ferme && !(deposee = file.offer(notification, ATTENTE_FILE_MS, TimeUnit.MILLISECONDS))) {
+                        // Nouvelle tentative.
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (!deposee) {
+                    synchronized (this) {
+                        deposees--;
+                        notifyAll();
+                    }
+                }
+                break;
+        }
+    }
+
+    /**
+     * Fusionne une notification avec celle qui attend déjà d'être livrée.
+     */
+    private static Object fusionner(Object enAttente, LotEvenements lot) {
+        if (lot == null) {
+            return enAttente != null ? enAttente : CHANGEMENT;
+        }
+        if (enAttente instanceof LotEvenements) {
+            return ((LotEvenements) enAttente).fusionner(lot);
+        }
+        return lot;
+    }
+
+    /**
+     * Attend que les notifications déjà déposées aient été livrées.
+     *
+     * @throws InterruptedException si le thread appelant est interrompu.
+     */
+    synchronized void attendre() throws InterruptedException {
+        long attendues = deposees;
+        while (livrees < attendues && !ferme && livreur != null && livreur.isAlive()) {
+            wait();
+        }
+    }
+
+    /**
+     * Arrête le thread de livraison ; les notifications en attente sont abandonnées, celles qui arrivent ensuite
+     * ignorées. Une partie bloquée sur la file pleine de l'abonnement reprend, de même que {@link #attendre()}.
+     */
+    void fermer() {
+        ferme = true;
+        if (file != null) {
+            file.clear();
+        }
+        synchronized (this) {
+            notifyAll();
+        }
+        if (livreur != null) {
+            livreur.interrupt();
+        }
+    }
+
+    /**
+     * Boucle du thread de livraison.
+     */
+    private void livrer() {
+        while (true) {
+            Object notification;
+            long nombre;
+            try {
+                if (livraison == Livraison.DERNIER_ETAT) {
+                    synchronized (this) {
+                        while (enAttente == null) {
+                            wait();
+                        }
+                        notification = enAttente;
+                        enAttente = null;
+                        nombre = deposees - livrees;
+                    }
+                } else {
+                    notification = file.take();
+                    nombre = 1;
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+            remettre(notification);
+            synchronized (this) {
+                livrees += nombre;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Appelle l'écouteur. Une exception levée par l'écouteur n'interrompt pas les livraisons suivantes.
+     */
+    private void remettre(Object notification) {
+        try {
+            if (notification == CHANGEMENT) {
+                ecouteur.modeleMisAJour(source);
+            } else {
+                ecouteur.evenementsRecus(source, (LotEvenements) notification);
+            }
+        } catch (RuntimeException e) {
+            if (livraison == Livraison.SYNCHRONE) {
+                throw e;
+            }
+            Thread courant = Thread.currentThread();
+            courant.getUncaughtExceptionHandler().uncaughtException(courant, e);
+        }
+    }
+}
@@ -1,52 +1,113 @@
 package controller;
 
-import java.util.ArrayList;
+import java.util.concurrent.CopyOnWriteArrayList;
+import modele.events.LotEvenements;
 
 /**
  * Classe abstraite implémentant l'interface {@link ModeleEcoutable}.
  * Cette classe fournit une structure de base pour un modèle qui peut notifier
  * ses changements à un ensemble d'écouteurs.
+ * <p>
+ * Chaque écouteur choisit sa {@link Livraison} : par défaut, il est prévenu sur son propre thread
+ * et ne reçoit que l'état le plus récent, de sorte qu'un écouteur lent ne ralentit pas le modèle.
+ * Les écouteurs peuvent être ajoutés ou retirés depuis n'importe quel thread, y compris pendant une notification.
  */
 public class AbstractModeleEcoutable implements ModeleEcoutable {
 
     /**
-     * Liste des écouteurs abonnés aux changements du modèle.
+     * Abonnements des écouteurs aux changements du modèle.
      */
-    private ArrayList<Ecouteur> ecouteurs;
+    private final CopyOnWriteArrayList<Abonnement> abonnements;
 
     /**
      * Constructeur protégé pour initialiser la liste des écouteurs.
      * Les sous-classes peuvent l'utiliser pour gérer les notifications.
      */
     protected AbstractModeleEcoutable() {
-        this.ecouteurs = new ArrayList<>();
+        this.abonnements = new CopyOnWriteArrayList<>();
     }
 
     /**
-     * Ajoute un écouteur à la liste des écouteurs.
+     * Ajoute un écouteur, prévenu de façon asynchrone de l'état le plus récent ({@link Livraison#DERNIER_ETAT}).
      * 
      * @param e L'écouteur à ajouter.
      */
     public void ajoutEcouteur(Ecouteur e) {
-        this.ecouteurs.add(e);
+        ajoutEcouteur(e, Livraison.DERNIER_ETAT);
+    }
+
+    /**
+     * Ajoute un écouteur avec une politique de livraison donnée.
+     * 
+     * @param e L'écouteur à ajouter.
+     * @param livraison La manière dont les notifications lui sont livrées.
+     */
+    public void ajoutEcouteur(Ecouteur e, Livraison livraison) {
+        this.abonnements.add(new Abonnement(this, e, livraison));
+        ecouteursModifies();
     }
 
     /**
      * Retire un écouteur de la liste des écouteurs.
+     * Les notifications qui ne lui ont pas encore été livrées sont abandonnées.
      * 
      * @param e L'écouteur à retirer.
      */
     public void retraitEcouteur(Ecouteur e) {
-        this.ecouteurs.remove(e);
+        for (Abonnement abonnement : this.abonnements) {
+            if (abonnement.getEcouteur() == e && this.abonnements.remove(abonnement)) {
+                abonnement.fermer();
+            }
+        }
+        ecouteursModifies();
     }
 
     /**
      * Notifie tous les écouteurs d'un changement dans le modèle.
-     * Cette méthode appelle la méthode {@code modeleMisAJour} sur chaque écouteur.
+     * Chaque écouteur voit sa méthode {@code modeleMisAJour} appelée selon sa politique de livraison.
      */
     public void fireChangement() {
-        for (Ecouteur ecouteur : this.ecouteurs) {
-            ecouteur.modeleMisAJour(this);
+        for (Abonnement abonnement : this.abonnements) {
+            abonnement.notifier(null);
+        }
+    }
+
+    /**
+     * Transmet à tous les écouteurs les événements d'un tour.
+     * Chaque écouteur voit sa méthode {@code evenementsRecus} appelée selon sa politique de livraison.
+     * 
+     * @param lot Les événements du tour.
+     */
+    public void fireEvenements(LotEvenements lot) {
+        for (Abonnement abonnement : this.abonnements) {
+            abonnement.notifier(lot);
+        }
+    }
+
+    /**
+     * Attend que les notifications déjà émises aient été livrées à tous les écouteurs,
+     * par exemple avant de fermer un enregistreur à la fin d'une partie.
+     * 
+     * @throws InterruptedException si le thread appelant est interrompu.
+     */
+    public void attendreEcouteurs() throws InterruptedException {
+        for (Abonnement abonnement : this.abonnements) {
+            abonnement.attendre();
         }
     }
+
+    /**
+     * Indique si au moins un écouteur est abonné au modèle.
+     * 
+     * @return {@code true} si le modèle a des écouteurs.
+     */
+    protected boolean aDesEcouteurs() {
+        return !this.abonnements.isEmpty();
+    }
+
+    /**
+     * Appelé après chaque ajout ou retrait d'écouteur. Ne fait rien par défaut.
+     */
+    protected void ecouteursModifies() {
+    }
 }
@@ -1,4 +1,6 @@
 package controller;
+
+import modele.events.LotEvenements;
 /**
  * Interface représentant un écouteur dans le modèle MVC.
  * 
@@ -15,4 +17,16 @@ public interface Ecouteur {
      * @param e Une référence au modèle qui a été mis à jour.
      */
     public void modeleMisAJour(Object e);
+
+    /**
+     * Méthode appelée à la fin d'un tour avec les événements de ce tour.
+     * Par défaut, l'écouteur est simplement prévenu que le modèle a changé ;
+     * un écouteur qui la redéfinit peut ne mettre à jour que ce qui a changé.
+     * 
+     * @param source Le modèle qui a été mis à jour.
+     * @param lot Les événements du tour.
+     */
+    public default void evenementsRecus(Object source, LotEvenements lot) {
+        modeleMisAJour(source);
+    }
 }
@@ -0,0 +1,208 @@
+package controller;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import modele.Game;
+
+/**
+ * Horloge de jeu : fait avancer une partie à cadence fixe sur son propre thread,
+ * pour regarder jouer les joueurs artificiels sans que l'interface ne fixe le rythme.
+ * <p>
+ * Les tours sont joués sous un verrou équitable ; les vues lisent l'état du jeu entre deux tours
+ * par {@link #entreDeuxTours(Runnable)}, ce qui leur garantit un état cohérent même à vitesse maximale.
+ * Un retard (machine chargée, tours coûteux) n'est rattrapé que dans la limite de {@link #RATTRAPAGE_MAX} tours.
+ */
+public class GameClock {
+
+    /**
+     * Nombre maximal de tours joués d'affilée pour rattraper un retard.
+     */
+    static final int RATTRAPAGE_MAX = 10;
+
+    /**
+     * Durée pendant laquelle le verrou est gardé à vitesse maximale avant d'être rendu aux vues (en nanosecondes).
+     */
+    private static final long TRANCHE_MAXIMALE = 2_000_000L;
+
+    private final Game game;
+    private final ReentrantLock verrou;
+    private volatile Vitesse vitesse;
+
+    /**
+     * Thread qui fait avancer la partie, ou null si l'horloge est arrêtée.
+     */
+    private volatile Thread moteur;
+
+    /**
+     * Crée une horloge arrêtée, à un tour par seconde.
+     *
+     * @param game La partie à faire avancer.
+     */
+    public GameClock(Game game) {
+        this.game = game;
+        this.verrou = new ReentrantLock(true);
+        this.vitesse = Vitesse.X1;
+        this.moteur = null;
+    }
+
+    /**
+     * @return La vitesse de lecture.
+     */
+    public Vitesse getVitesse() {
+        return vitesse;
+    }
+
+    /**
+     * Change la vitesse de lecture ; la nouvelle cadence s'applique immédiatement.
+     *
+     * @param vitesse La nouvelle vitesse.
+     */
+    public void setVitesse(Vitesse vitesse) {
+        this.vitesse = vitesse;
+        Thread courant = moteur;
+        if (courant != null) {
+            LockSupport.unpark(courant);
+        }
+    }
+
+    /**
+     * @return true si la partie avance automatiquement.
+     */
+    public boolean isEnMarche() {
+        return moteur != null;
+    }
+
+    /**
+     * Lance la lecture automatique. Sans effet si elle est déjà lancée ou si la partie est terminée.
+     */
+    public synchronized void demarrer() {
+        if (moteur != null || game.estTerminee()) {
+            return;
+        }
+        Thread thread = new Thread(this::jouer, "horloge-jeu");
+        thread.setDaemon(true);
+        moteur = thread;
+        thread.start();
+    }
+
+    /**
+     * Met la lecture automatique en pause ; le tour en cours s'achève normalement.
+     */
+    public synchronized void arreter() {
+        Thread courant = moteur;
+        moteur = null;
+        if (courant != null) {
+            LockSupport.unpark(courant);
+        }
+    }
+
+    /**
+     * Joue un seul tour, depuis le thread appelant.
+     */
+    public void avancer() {
+        verrou.lock();
+        try {
+            game.advanceTurn();
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    /**
+     * Exécute une lecture de l'état du jeu entre deux tours : aucun tour n'est joué pendant son exécution.
+     * La lecture doit être brève, et ne pas attendre un écouteur ni un autre thread qui joue des tours.
+     *
+     * @param lecture La lecture à exécuter.
+     */
+    public void entreDeuxTours(Runnable lecture) {
+        verrou.lock();
+        try {
+            lecture.run();
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    /**
+     * Boucle du thread de l'horloge : joue les tours à leur échéance jusqu'à l'arrêt ou la fin de la partie.
+     */
+    private void jouer() {
+        Thread courant = Thread.currentThread();
+        Vitesse cadence = null;
+        long echeance = 0;
+
+        while (moteur == courant) {
+            Vitesse v = vitesse;
+            if (v.estMaximale()) {
+                cadence = v;
+                if (!jouerTranche()) {
+                    break;
+                }
+                continue;
+            }
+            if (v != cadence) { // Nouvelle vitesse : le premier tour est joué tout de suite
+                cadence = v;
+                echeance = System.nanoTime();
+            }
+            long attente = echeance - System.nanoTime();
+            if (attente > 0) {
+                LockSupport.parkNanos(this, attente);
+                continue;
+            }
+            if (!jouerTour()) {
+                break;
+            }
+            echeance += v.getPeriode();
+            long retard = System.nanoTime() - echeance;
+            if (retard > RATTRAPAGE_MAX * v.getPeriode()) {
+                echeance = System.nanoTime(); // Retard trop important : il est abandonné plutôt que rattrapé
+            }
+        }
+
+        synchronized (this) {
+            if (moteur == courant) {
+                moteur = null;
+            }
+        }
+    }
+
+    /**
+     * Joue un tour sous le verrou.
+     *
+     * @return false si la partie est terminée.
+     */
+    private boolean jouerTour() {
+        verrou.lock();
+        try {
+            if (game.estTerminee()) {
+                return false;
+            }
+            game.advanceTurn();
+            return !game.estTerminee();
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    /**
+     * Joue des tours sous le verrou pendant au plus {@link #TRANCHE_MAXIMALE}, puis le rend aux vues.
+     *
+     * @return false si la partie est terminée.
+     */
+    private boolean jouerTranche() {
+        Thread courant = Thread.currentThread();
+        verrou.lock();
+        try {
+            long fin = System.nanoTime() + TRANCHE_MAXIMALE;
+            do {
+                if (game.estTerminee()) {
+                    return false;
+                }
+                game.advanceTurn();
+            } while (moteur == courant && vitesse.estMaximale() && System.nanoTime() < fin);
+            return !game.estTerminee();
+        } finally {
+            verrou.unlock();
+        }
+    }
+}
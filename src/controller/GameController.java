@@ -15,6 +15,11 @@ public class GameController {
      */
     private final Game game;
 
+    /**
+     * Horloge qui fait avancer la partie, tour par tour ou en lecture automatique.
+     */
+    private final GameClock horloge;
+
     /**
      * Constructeur du contrôleur.
      * 
@@ -22,6 +27,14 @@ public class GameController {
      */
     public GameController(Game game) {
         this.game = game;
+        this.horloge = new GameClock(game);
+    }
+
+    /**
+     * @return L'horloge de la partie, entre les tours de laquelle les vues lisent le modèle.
+     */
+    public GameClock getHorloge() {
+        return horloge;
     }
 
     /**
@@ -29,8 +42,34 @@ public class GameController {
      * 
      * Cette méthode invoque la méthode {@code advanceTurn} du modèle pour
      * effectuer les opérations nécessaires à l'avancement du tour.
+     * Elle est sans effet pendant la lecture automatique.
      */
     public void handleNextTurn() {
-        game.advanceTurn();
+        if (!horloge.isEnMarche()) {
+            horloge.avancer();
+        }
+    }
+
+    /**
+     * Lance la lecture automatique si elle est arrêtée, la met en pause sinon.
+     * 
+     * @return true si la lecture automatique est lancée.
+     */
+    public boolean handleLecture() {
+        if (horloge.isEnMarche()) {
+            horloge.arreter();
+        } else {
+            horloge.demarrer();
+        }
+        return horloge.isEnMarche();
+    }
+
+    /**
+     * Change la vitesse de la lecture automatique.
+     * 
+     * @param vitesse La nouvelle vitesse.
+     */
+    public void handleVitesse(Vitesse vitesse) {
+        horloge.setVitesse(vitesse);
     }
 }
@@ -0,0 +1,26 @@
+package controller;
+
+/**
+ * Manière dont un modèle écoutable livre ses notifications à un écouteur.
+ */
+public enum Livraison {
+
+    /**
+     * Livraison immédiate, sur le thread du modèle : un écouteur lent ralentit la partie.
+     */
+    SYNCHRONE,
+
+    /**
+     * Livraison sur un thread propre à l'écouteur, en ne gardant que l'état le plus récent :
+     * les lots arrivés pendant que l'écouteur travaille sont fusionnés en un seul.
+     * Convient aux affichages, qui n'ont besoin que de la dernière image.
+     */
+    DERNIER_ETAT,
+
+    /**
+     * Livraison sur un thread propre à l'écouteur, de chaque notification dans l'ordre,
+     * par une file bornée. Convient aux enregistreurs ; si la file est pleine,
+     * le modèle attend que l'écouteur la libère plutôt que de perdre des événements.
+     */
+    CHAQUE_EVENEMENT
+}
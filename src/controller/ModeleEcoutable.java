@@ -15,6 +15,14 @@ public interface ModeleEcoutable {
      */
     public void ajoutEcouteur(Ecouteur e);
 
+    /**
+     * Ajoute un écouteur en choisissant la manière dont les notifications lui sont livrées.
+     * 
+     * @param e L'écouteur à ajouter.
+     * @param livraison La politique de livraison.
+     */
+    public void ajoutEcouteur(Ecouteur e, Livraison livraison);
+
     /**
      * Retire un écouteur de la liste des abonnés au modèle.
      * 
@@ -0,0 +1,53 @@
+package controller;
+
+/**
+ * Vitesse de lecture automatique d'une partie par une {@link GameClock}.
+ */
+public enum Vitesse {
+
+    /** Un tour par seconde. */
+    X1(1, "1×"),
+
+    /** Dix tours par seconde. */
+    X10(10, "10×"),
+
+    /** Cent tours par seconde. */
+    X100(100, "100×"),
+
+    /** Autant de tours que possible. */
+    MAXIMALE(0, "max");
+
+    private final int toursParSeconde;
+    private final String libelle;
+
+    Vitesse(int toursParSeconde, String libelle) {
+        this.toursParSeconde = toursParSeconde;
+        this.libelle = libelle;
+    }
+
+    /**
+     * @return Le nombre de tours joués par seconde, 0 pour la vitesse maximale.
+     */
+    public int getToursParSeconde() {
+        return toursParSeconde;
+    }
+
+    /**
+     * @return true si les tours s'enchaînent sans attente.
+     */
+    public boolean estMaximale() {
+        return toursParSeconde == 0;
+    }
+
+    /**
+     * @return La durée d'un tour en nanosecondes, 0 pour la vitesse maximale.
+     */
+    long getPeriode() {
+        return estMaximale() ? 0 : 1_000_000_000L / toursParSeconde;
+    }
+
+    @Override
+    public String toString() {
+        return libelle;
+    }
+}
@@ -1,46 +1,93 @@
 package modele;
 
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.function.Consumer;
 import modele.components.*;
 import modele.util.*;
 import config.Constants;
 import modele.actions.*;
+import modele.armes.Weapon;
+import modele.events.*;
+import modele.journal.*;
 import controller.*;
 
 /**
  * Classe représentant un jeu avec un labyrinthe.
- * Implémentation du patron de conception Singleton.
+ * Chaque partie appartient à un {@link MatchContext} ; l'accesseur {@link #getInstance()}
+ * conserve le comportement Singleton en s'appuyant sur le contexte par défaut.
  */
 public class Game extends AbstractModeleEcoutable {
     
-    private static Game instance = null;
+    private final MatchContext context;
     private Grid grid;
     private ProxyGrid gridProxy;
     private PlayerManager playerManager;
     private WeaponManager weaponManager;
-    private Action currentAction;
+    /**
+     * Code de la dernière action décidée (voir {@link CodeAction}) et joueur qui l'a décidée.
+     * L'objet {@link Action} correspondant n'est construit qu'à la demande.
+     */
+    private int currentCode;
+    private Player currentActeur;
+    private int tour;
+
+    /**
+     * Compteur incrémenté à chaque tour et à chaque restauration : il date l'état de la partie
+     * pour les calculs mis en cache d'un tour ({@link Navigation}).
+     */
+    private int generation;
+
+    /**
+     * Service de recherche de chemins sur la grille, créé à la première demande.
+     */
+    private Navigation navigation;
+    private boolean affichage;
+    private final Journal journal;
+    private final Evenements evenements;
+
+    /**
+     * Affichage dédié de la partie, à la place du journal, ou null.
+     */
+    private Consumer<Player> affichageTerminal;
+
+    /**
+     * En-tête des instantanés de la partie ({@link #sauvegarder()}).
+     */
+    private static final int MAGIQUE_INSTANTANE = 0x45544154;
+    private static final short VERSION_INSTANTANE = 1;
+
+    /**
+     * Tampon réutilisé pour écrire les instantanés, agrandi si nécessaire.
+     */
+    private ByteBuffer tamponInstantane;
 
     /**
-     * Retourne l'instance unique de la classe Game.
-     * @return L'instance unique de Game.
+     * Retourne l'instance de Game du contexte par défaut.
+     * @return L'instance par défaut de Game.
      */
     public static Game getInstance() {
-        if (instance == null) {
-            instance = new Game();
-        }
-        return instance;
+        return MatchContext.getDefault().getGame();
     }
 
     /**
-     * Constructeur privé pour initialiser le jeu et ses composants.
+     * Constructeur pour initialiser le jeu et ses composants à partir de son contexte.
      * Configure la grille, les joueurs, et les gestionnaires.
+     * @param context Le contexte de la partie, qui fournit la configuration, la grille, les identifiants et l'aléatoire.
      */
-    private Game() {
-        this.grid = Grid.getInstance();
+    Game(MatchContext context) {
+        this.context = context;
+        this.grid = context.getGrid();
+        this.journal = context.getJournal();
+        this.evenements = context.getEvenements();
         this.playerManager = new PlayerManager(this);
         this.weaponManager = new WeaponManager(this);
-        this.gridProxy = new ProxyGrid(grid);
-        playerManager.addPlayers(Constants.NB_JOUEURS);
+        this.gridProxy = new ProxyGrid(grid, playerManager);
+        this.tour = 0;
+        this.affichage = true;
+        playerManager.addPlayers(context.getConfig().getNbJoueurs());
     }
 
     /**
@@ -63,6 +110,31 @@ public class Game extends AbstractModeleEcoutable {
         return grid.getCase(ligne, col);
     }
 
+    /**
+     * Retourne le contexte de la partie.
+     * @return Le contexte de la partie.
+     */
+    public MatchContext getContext() {
+        return this.context;
+    }
+
+    /**
+     * Retourne le journal des événements de la partie.
+     * @return Le journal de la partie.
+     */
+    public Journal getJournal() {
+        return this.journal;
+    }
+
+    /**
+     * La partie ne collecte ses événements que lorsqu'au moins un écouteur les attend.
+     * Le changement est appliqué par le thread de la partie, au début du tour suivant.
+     */
+    @Override
+    protected void ecouteursModifies() {
+        evenements.setActif(aDesEcouteurs());
+    }
+
     /**
      * Retourne la grille actuelle.
      * @return La grille du jeu.
@@ -76,13 +148,26 @@ public class Game extends AbstractModeleEcoutable {
      * @return L'action actuelle.
      */
     public Action getCurrentAction() {
-        return this.currentAction;
+        if (currentActeur == null) {
+            return null;
+        }
+        return CodeAction.decoder(currentCode, currentActeur);
+    }
+
+    /**
+     * Retourne la vue de la grille du joueur courant, qui lit les cases sans les copier.
+     * @return La vue du joueur courant.
+     */
+    public ProxyGrid getVue() {
+        return this.gridProxy;
     }
 
     /**
      * Retourne la grille actuelle sous une forme personnalisée pour le joueur.
      * @return La grille actuelle personnalisée.
+     * @deprecated Copie toute la grille à chaque appel ; utiliser {@link #getVue()}.
      */
+    @Deprecated
     public Case[][] getCurrentGrid() {
         return gridProxy.getCurrentGrid();
     }
@@ -103,13 +188,66 @@ public class Game extends AbstractModeleEcoutable {
         return this.weaponManager;
     }
 
+    /**
+     * Retourne le nombre de tours joués depuis le début de la partie.
+     * @return Le numéro du tour courant.
+     */
+    public int getTour() {
+        return this.tour;
+    }
+
+    /**
+     * Retourne la génération de l'état de la partie, qui change à chaque tour et à chaque restauration.
+     * @return La génération courante.
+     */
+    public int getGeneration() {
+        return this.generation;
+    }
+
+    /**
+     * Retourne le service de recherche de chemins de la partie, utilisé par les stratégies.
+     * @return La navigation sur la grille de la partie.
+     */
+    public Navigation getNavigation() {
+        if (navigation == null) {
+            navigation = new Navigation(this);
+        }
+        return this.navigation;
+    }
+
+    /**
+     * Indique si la partie affiche son état dans la console à chaque tour.
+     * @return true si l'affichage est actif, false sinon.
+     */
+    public boolean isAffichage() {
+        return this.affichage;
+    }
+
+    /**
+     * Active ou désactive l'affichage console de la partie.
+     * Une partie sans affichage ne construit ni n'imprime la grille à chaque tour.
+     * @param affichage true pour afficher l'état du jeu, false pour jouer en silence.
+     */
+    public void setAffichage(boolean affichage) {
+        this.affichage = affichage;
+    }
+
+    /**
+     * Indique si la partie est terminée (il reste au plus un joueur).
+     * @return true si la partie est terminée, false sinon.
+     */
+    public boolean estTerminee() {
+        return playerManager.nbPlayers() <= 1;
+    }
+
     /**
      * Démarre le jeu en boucle jusqu'à ce qu'il ne reste qu'un joueur.
      */
     public void commencer() {
         Scanner scanner = new Scanner(System.in);
         while (playerManager.nbPlayers() > 1) {
-            System.out.println("Appuyez sur Entrée pour continuer...");
+            journal.info("Appuyez sur Entrée pour continuer...");
+            journal.vider(); // Les messages tamponnés doivent être affichés avant d'attendre l'utilisateur
             scanner.nextLine(); // Attend une entrée de l'utilisateur
             advanceTurn(); // Avance d'un tour
         }
@@ -119,74 +257,191 @@ public class Game extends AbstractModeleEcoutable {
      * Avance le jeu d'un tour en exécutant les actions du joueur et en mettant à jour les bombes.
      */
     public void advanceTurn() {
-        if (playerManager.nbPlayers() <= 1) {
-            System.out.println("Le jeu est terminé. Le gagnant est : " + playerManager.getPlayers());
+        if (estTerminee()) {
+            if (affichage && journal.estActif(Niveau.INFO)) {
+                journal.info("Le jeu est terminé. Le gagnant est : " + playerManager.getPlayers());
+            }
             return;
         }
 
+        tour++;
+        generation++;
         Player currentPlayer = playerManager.getPlayer();
         gridProxy.setPlayer(currentPlayer);
+        currentPlayer.incrementerTours();
+
+        if (affichage) {
+            afficheGame(currentPlayer);
+        }
+        jouer(currentPlayer);
+    }
 
-        afficheGame(currentPlayer);
+    /**
+     * Termine le tour en cours à partir de la décision de son joueur. Sert aux parties restaurées depuis
+     * un instantané pris pendant cette décision, comme celles que simulent les stratégies de recherche.
+     */
+    public void poursuivreTour() {
+        Player currentPlayer = playerManager.getCurrentPlayer();
+        if (currentPlayer != null && !estTerminee()) {
+            jouer(currentPlayer);
+        }
+    }
 
+    /**
+     * Joue le tour d'un joueur déjà retiré de la file : décision et action, retour dans la file,
+     * retrait des morts, décompte des bombes et livraison des événements du tour.
+     * @param currentPlayer Le joueur dont c'est le tour.
+     */
+    private void jouer(Player currentPlayer) {
+        // Les écouteurs inscrits ou retirés depuis un autre thread ne prennent effet qu'ici, entre deux tours.
+        evenements.appliquer();
+
+        // Le nombre de tentatives est borné : un joueur bloqué (entouré de murs, sans munitions...)
+        // passe son tour au lieu de bloquer la partie indéfiniment.
         boolean actionEffectuée = false;
-        while (!actionEffectuée) {
-            currentAction = currentPlayer.getAction();
-            actionEffectuée = effectuerMouvement(currentAction, currentPlayer);
+        for (int tentative = 0; !actionEffectuée && tentative < Constants.MAX_TENTATIVES; tentative++) {
+            currentCode = currentPlayer.decider(this);
+            currentActeur = currentPlayer;
+            actionEffectuée = effectuerAction(currentCode, currentPlayer);
+            if (evenements.isActif()) {
+                evenements.publier(new ActionJouee(currentPlayer, currentCode, actionEffectuée));
+            }
         }
 
         if (currentPlayer.isAlive()) {
             playerManager.enfilerPlayer(currentPlayer);
-        } else {
-            System.out.println("Player " + currentPlayer.getID() + " est mort.");
+        } else if (affichage && journal.estActif(Niveau.INFO)) {
+            journal.info("Player " + currentPlayer.getID() + " est mort.");
         }
 
         playerManager.removeDeadPlayers();
         weaponManager.checkBombs();
 
-        if (playerManager.nbPlayers() <= 1) {
-            System.out.println("Le jeu est terminé. Le gagnant est : " + playerManager.getPlayers());
+        // Les événements du tour (cases modifiées, déplacements, dégâts, bombes...) sont livrés d'un bloc.
+        if (evenements.isActif()) {
+            gridProxy.actualiser();
+            fireEvenements(evenements.extraire(tour));
+        }
+
+        if (affichage && estTerminee() && journal.estActif(Niveau.INFO)) {
+            journal.info("Le jeu est terminé. Le gagnant est : " + playerManager.getPlayers());
         }
     }
 
     /**
-     * Exécute une action spécifique pour le joueur.
-     * @param mouvement L'action à exécuter.
+     * Exécute une action codée (voir {@link CodeAction}) pour le joueur.
+     * @param code Le code de l'action à exécuter.
      * @param player Le joueur qui effectue l'action.
      * @return true si l'action a été effectuée avec succès, false sinon.
      */
-    private boolean effectuerMouvement(Action mouvement, Player player) {
-        String typeMouvement = mouvement.getActionType();
+    private boolean effectuerAction(int code, Player player) {
         boolean ok = false;
 
         try {
-            System.out.println(mouvement);
-            switch (typeMouvement) {
-                case "m":
-                    MoveAction a = (MoveAction) mouvement;
-                    ok = playerManager.deplacerPlayer(player, a.getDirection());
+            if (affichage && journal.estActif(Niveau.INFO)) {
+                journal.info(CodeAction.decoder(code, player).toString());
+            }
+            switch (CodeAction.operation(code)) {
+                case CodeAction.DEPLACER:
+                    ok = playerManager.deplacerPlayer(player, CodeAction.direction(code));
                     break;
-                case "s":
+                case CodeAction.BOUCLIER:
                     playerManager.activateShield(player);
                     ok = true;
                     break;
-                case "t":
-                    ShootAction b = (ShootAction) mouvement;
-                    ok = weaponManager.shoot(player, b.getDirection(), b.getWeapon());
+                case CodeAction.TIRER:
+                    List<Weapon> weapons = player.getWeapons();
+                    int arme = CodeAction.arme(code);
+                    // Un indice hors limites (code d'une autre partie) fait échouer le tir.
+                    if (arme < weapons.size()) {
+                        ok = weaponManager.shoot(player, CodeAction.direction(code), weapons.get(arme));
+                    }
+                    break;
+                case CodeAction.TIRER_SANS_ARME:
+                    journal.debug("Tir impossible : aucune arme choisie.");
                     break;
-                case "r":
+                case CodeAction.RIEN:
                     ok = true;
                     break;
                 default:
-                    System.out.println("\n --- !!!  Mouvement non valide. Utilisez 'h' pour haut, 'b' pour bas, 'g' pour gauche, 'd' pour droite. !!! --- \n");
+                    journal.debug("\n --- !!!  Mouvement non valide. Utilisez 'h' pour haut, 'b' pour bas, 'g' pour gauche, 'd' pour droite. !!! --- \n");
             }
-            fireChangement();
+            gridProxy.actualiser();
         } catch (Exception e) {
-            System.out.println("Mouvement non valide: " + e.getMessage());
+            if (journal.estActif(Niveau.ERREUR)) {
+                journal.erreur("Mouvement non valide: " + e.getMessage());
+            }
         }
         return ok;
     }
 
+    /**
+     * Écrit l'état complet de la partie dans un instantané compact : tour, dernière action,
+     * grille (murs en bitset, occupants en entiers), joueurs et armes, bombes posées.
+     * <p>
+     * Les générateurs aléatoires ne font pas partie de l'instantané (l'état d'un {@link SplittableRandom}
+     * ne peut pas être lu) ; après la mise en place de la partie, seules les stratégies les utilisent.
+     * La configuration et la graine non plus : un instantané se restaure dans la même partie,
+     * ou dans une partie créée avec la même configuration et la même graine.
+     * @return L'instantané, quelques centaines d'octets pour une grille de 20x40.
+     */
+    public byte[] sauvegarder() {
+        if (tamponInstantane == null) {
+            tamponInstantane = ByteBuffer.allocate(1024 + grid.getNbLines() * grid.getNbColonnes() / 4);
+        }
+        while (true) {
+            ByteBuffer etat = tamponInstantane;
+            etat.clear();
+            try {
+                etat.putInt(MAGIQUE_INSTANTANE).putShort(VERSION_INSTANTANE)
+                    .putInt(tour).putInt(currentCode).putInt(currentActeur == null ? 0 : currentActeur.getID());
+                grid.sauvegarder(etat);
+                playerManager.sauvegarder(etat);
+                weaponManager.sauvegarder(etat);
+                return Arrays.copyOf(etat.array(), etat.position());
+            } catch (BufferOverflowException e) {
+                tamponInstantane = ByteBuffer.allocate(etat.capacity() * 2);
+            }
+        }
+    }
+
+    /**
+     * Ramène la partie à l'état d'un instantané écrit par {@link #sauvegarder()}.
+     * Les joueurs, armes et cases restent les mêmes objets ; seules les cases modifiées sont signalées
+     * aux observateurs de la grille.
+     * @param instantane L'instantané.
+     * @throws IllegalArgumentException si l'instantané n'en est pas un ou décrit une autre partie
+     * (l'état de la partie est alors indéterminé).
+     */
+    public void restaurer(byte[] instantane) {
+        ByteBuffer etat = ByteBuffer.wrap(instantane);
+        if (instantane.length < 18 || etat.getInt() != MAGIQUE_INSTANTANE) {
+            throw new IllegalArgumentException("Ces données ne sont pas un instantané de partie.");
+        }
+        short version = etat.getShort();
+        if (version != VERSION_INSTANTANE) {
+            throw new IllegalArgumentException("Version d'instantané non prise en charge : " + version);
+        }
+        boolean mursModifies;
+        try {
+            tour = etat.getInt();
+            currentCode = etat.getInt();
+            int acteur = etat.getInt();
+            mursModifies = grid.restaurer(etat, playerManager::getJoueurInscrit, playerManager::getBombe);
+            playerManager.restaurer(etat);
+            weaponManager.restaurer(etat);
+            currentActeur = playerManager.getJoueurInscrit(acteur);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Instantané tronqué.", e);
+        }
+
+        generation++;
+        if (mursModifies) {
+            gridProxy.invaliderChamps();
+        }
+        gridProxy.setPlayer(playerManager.getCurrentPlayer());
+    }
+
     /**
      * Retourne la représentation actuelle du jeu sous forme de chaîne.
      * @return La représentation actuelle du jeu.
@@ -194,9 +449,9 @@ public class Game extends AbstractModeleEcoutable {
     @Override
     public String toString() {
         StringBuilder GameRepresentation = new StringBuilder();
-        for (int i = 0; i < Constants.NB_LIGNES; i++) {
-            for (int j = 0; j < Constants.NB_COLS; j++) {
-                GameRepresentation.append(this.grid.getCases()[i][j].toString());
+        for (int i = 0; i < grid.getNbLines(); i++) {
+            for (int j = 0; j < grid.getNbColonnes(); j++) {
+                GameRepresentation.append(this.grid.getCase(i, j).toString());
             }
             GameRepresentation.append("\n");
         }
@@ -215,15 +470,34 @@ public class Game extends AbstractModeleEcoutable {
     }
 
     /**
-     * Affiche l'état actuel du jeu pour le joueur en cours.
+     * Remplace l'affichage de la partie dans le journal par un affichage dédié, par exemple
+     * un {@code vue.TerminalRenderer} qui ne réécrit que ce qui a changé.
+     * @param affichageTerminal L'affichage appelé au début de chaque tour avec le joueur courant,
+     * ou null pour afficher la partie dans le journal.
+     */
+    public void setAffichageTerminal(Consumer<Player> affichageTerminal) {
+        this.affichageTerminal = affichageTerminal;
+    }
+
+    /**
+     * Affiche l'état actuel du jeu pour le joueur en cours, dans le journal de la partie
+     * ou dans l'affichage dédié s'il y en a un.
      * @param currentPlayer Le joueur en cours.
      */
     public void afficheGame(Player currentPlayer) {
         gridProxy.setPlayer(currentPlayer);
-        String GameRepresentation = gridProxy.AfficheGrid();
-        GameRepresentation += playerManager;
-        GameRepresentation += "\nC'est le tour de " + currentPlayer;
-        GameRepresentation += playerManager.showWeapons(currentPlayer);
-        System.out.println(GameRepresentation);
+        if (affichageTerminal != null) {
+            journal.vider(); // Les messages du tour précédent sont écrits avant l'image
+            affichageTerminal.accept(currentPlayer);
+            return;
+        }
+        if (!journal.estActif(Niveau.INFO)) {
+            return;
+        }
+        StringBuilder GameRepresentation = new StringBuilder(gridProxy.AfficheGrid());
+        playerManager.ajouterDescription(GameRepresentation);
+        GameRepresentation.append("\nC'est le tour de ").append(currentPlayer);
+        playerManager.ajouterArmes(GameRepresentation, currentPlayer);
+        journal.info(GameRepresentation.toString());
     }
 }
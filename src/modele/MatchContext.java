@@ -0,0 +1,197 @@
+package modele;
+
+import java.util.*;
+import config.*;
+import modele.components.*;
+import modele.events.Evenements;
+import modele.generation.CacheArenes;
+import modele.journal.Journal;
+import modele.util.*;
+
+/**
+ * Contexte d'une partie : regroupe tout l'état propre à une partie
+ * (grille, gestionnaires de joueurs et d'armes, distributeurs d'identifiants, générateur aléatoire,
+ * journal et événements).
+ * Deux contextes ne partagent aucun état mutable, ce qui permet d'exécuter plusieurs parties
+ * indépendantes en parallèle dans la même JVM.
+ * Le contexte par défaut sert de support aux accesseurs singleton {@link Game#getInstance()}
+ * et {@link Grid#getInstance()}.
+ */
+public class MatchContext {
+
+    /**
+     * Contexte par défaut, créé à la première demande.
+     */
+    private static MatchContext defaut;
+
+    private final MatchConfig config;
+    private final long seed;
+    private final SplittableRandom random;
+    private final Journal journal;
+    private final Evenements evenements;
+    private final IdAllocator playerIds;
+    private final IdAllocator weaponIds;
+    private final Grid grid;
+    private final Game game;
+
+    /**
+     * Retourne le contexte par défaut, utilisé par les modes console et graphique.
+     *
+     * @return Le contexte par défaut.
+     */
+    public static synchronized MatchContext getDefault() {
+        if (defaut == null) {
+            defaut = new MatchContext();
+        }
+        return defaut;
+    }
+
+    /**
+     * Remplace le contexte par défaut, par exemple pour lancer l'interface sur une configuration
+     * lue en ligne de commande. Doit être appelé avant le premier {@link Game#getInstance()}.
+     *
+     * @param context Le nouveau contexte par défaut.
+     */
+    public static synchronized void setDefault(MatchContext context) {
+        defaut = context;
+    }
+
+    /**
+     * Crée un contexte avec les paramètres par défaut du jeu et une graine aléatoire.
+     */
+    public MatchContext() {
+        this(new MatchConfig());
+    }
+
+    /**
+     * Crée un contexte de partie à partir d'une configuration. La graine est celle de la configuration
+     * si elle en fixe une, une graine aléatoire sinon (elle reste lisible par {@link #getSeed()}).
+     *
+     * @param config La configuration de la partie.
+     */
+    public MatchContext(MatchConfig config) {
+        this(config, config.getGraine() != null ? config.getGraine() : new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Crée un contexte de partie complet : génère la grille puis place les joueurs.
+     *
+     * @param nbLignes   Nombre de lignes de la grille.
+     * @param nbColonnes Nombre de colonnes de la grille.
+     * @param nbJoueurs  Nombre de joueurs.
+     * @param seed       Graine du générateur aléatoire de la partie.
+     */
+    public MatchContext(int nbLignes, int nbColonnes, int nbJoueurs, long seed) {
+        this(configuration(nbLignes, nbColonnes, nbJoueurs), seed);
+    }
+
+    /**
+     * Crée un contexte de partie complet à partir d'une configuration : génère la grille (ou la reprend du
+     * {@link CacheArenes cache des arènes} si cette arène et ces paramètres ont déjà servi) puis place les joueurs.
+     * L'arène est celle de la graine, ou, avec l'option {@code arenes}, l'une des arènes de l'ensemble, tirée de la graine.
+     *
+     * @param config La configuration de la partie.
+     * @param seed   Graine du générateur aléatoire de la partie.
+     */
+    public MatchContext(MatchConfig config, long seed) {
+        config.valider();
+        this.config = new MatchConfig(config);
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+        this.journal = Journal.creer(this.config);
+        this.playerIds = new IdAllocator();
+        this.weaponIds = new IdAllocator();
+        this.grid = new Grid(this.config, CacheArenes.commun().obtenir(this.config, seed, random.split()));
+        this.evenements = new Evenements(grid.getNbLines(), grid.getNbColonnes());
+        this.grid.setObservateur(evenements);
+        this.game = new Game(this);
+    }
+
+    /**
+     * Construit une configuration par défaut aux dimensions et au nombre de joueurs donnés.
+     */
+    private static MatchConfig configuration(int nbLignes, int nbColonnes, int nbJoueurs) {
+        MatchConfig config = new MatchConfig();
+        config.setNbLignes(nbLignes);
+        config.setNbColonnes(nbColonnes);
+        config.setNbJoueurs(nbJoueurs);
+        return config;
+    }
+
+    /**
+     * @return La configuration de la partie (copie propre au contexte).
+     */
+    public MatchConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * @return La graine du générateur aléatoire de la partie.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return Le générateur aléatoire de la partie, dont dérivent ceux de la grille, des fabriques et des joueurs.
+     */
+    public SplittableRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * @return Le journal des événements de la partie.
+     */
+    public Journal getJournal() {
+        return journal;
+    }
+
+    /**
+     * @return La collecte des événements de la partie, livrés aux écouteurs à la fin de chaque tour.
+     */
+    public Evenements getEvenements() {
+        return evenements;
+    }
+
+    /**
+     * @return Le distributeur d'identifiants de joueurs de la partie.
+     */
+    public IdAllocator getPlayerIds() {
+        return playerIds;
+    }
+
+    /**
+     * @return Le distributeur d'identifiants d'armes de la partie.
+     */
+    public IdAllocator getWeaponIds() {
+        return weaponIds;
+    }
+
+    /**
+     * @return La grille de la partie.
+     */
+    public Grid getGrid() {
+        return grid;
+    }
+
+    /**
+     * @return La partie associée à ce contexte.
+     */
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * @return Le gestionnaire de joueurs de la partie.
+     */
+    public PlayerManager getPlayerManager() {
+        return game.getPlayerManager();
+    }
+
+    /**
+     * @return Le gestionnaire d'armes de la partie.
+     */
+    public WeaponManager getWeaponManager() {
+        return game.getWeaponManager();
+    }
+}
@@ -0,0 +1,244 @@
+package modele.actions;
+
+import java.util.List;
+import config.Constants;
+import modele.armes.Weapon;
+import modele.components.Player;
+
+/**
+ * Codage compact des actions sous forme d'entiers, pour que les stratégies décident
+ * et que le jeu exécute une action sans créer d'objet ni comparer de chaînes.
+ * <p>
+ * Un code regroupe l'opération (bits 0 à 3), la direction (bits 4 à 7) et l'indice de l'arme
+ * dans la liste du joueur (bits 8 et suivants). Les objets {@link Action} ne sont construits
+ * qu'à la demande, pour l'affichage ({@link #decoder(int, Player)}).
+ */
+public final class CodeAction {
+
+    /** Opération : ne rien faire. */
+    public static final int RIEN = 0;
+
+    /** Opération : se déplacer. */
+    public static final int DEPLACER = 1;
+
+    /** Opération : activer le bouclier. */
+    public static final int BOUCLIER = 2;
+
+    /** Opération : tirer ou poser une bombe. */
+    public static final int TIRER = 3;
+
+    /** Opération : tir demandé sans arme, toujours refusé. */
+    public static final int TIRER_SANS_ARME = 4;
+
+    /** Direction absente ou invalide. */
+    public static final int AUCUNE = -1;
+
+    /** Direction vers le haut. */
+    public static final int HAUT = 0;
+
+    /** Direction vers le bas. */
+    public static final int BAS = 1;
+
+    /** Direction vers la gauche. */
+    public static final int GAUCHE = 2;
+
+    /** Direction vers la droite. */
+    public static final int DROITE = 3;
+
+    /** Nombre de directions. */
+    public static final int NB_DIRECTIONS = 4;
+
+    /** Décalage en ligne de chaque direction. */
+    private static final int[] DL = {-1, 1, 0, 0};
+
+    /** Décalage en colonne de chaque direction. */
+    private static final int[] DC = {0, 0, -1, 1};
+
+    /** Nom de chaque direction, tel qu'utilisé par les actions textuelles. */
+    private static final String[] NOMS = {Constants.HAUT, Constants.BAS, Constants.GAUCHE, Constants.DROITE};
+
+    private static final int MASQUE = 0xF;
+    private static final int DECALAGE_DIRECTION = 4;
+    private static final int DECALAGE_ARME = 8;
+
+    private CodeAction() {
+    }
+
+    /**
+     * Construit le code d'une action.
+     *
+     * @param operation L'opération ({@link #RIEN}, {@link #DEPLACER}, {@link #BOUCLIER}, {@link #TIRER}
+     * ou {@link #TIRER_SANS_ARME}).
+     * @param direction La direction, ou {@link #AUCUNE}.
+     * @param arme L'indice de l'arme dans la liste du joueur, ou 0.
+     * @return Le code de l'action.
+     */
+    public static int encoder(int operation, int direction, int arme) {
+        return operation | ((direction + 1) << DECALAGE_DIRECTION) | (arme << DECALAGE_ARME);
+    }
+
+    /**
+     * @return Le code de l'action « ne rien faire ».
+     */
+    public static int rien() {
+        return RIEN;
+    }
+
+    /**
+     * @return Le code de l'activation du bouclier.
+     */
+    public static int bouclier() {
+        return encoder(BOUCLIER, AUCUNE, 0);
+    }
+
+    /**
+     * @param direction La direction du déplacement.
+     * @return Le code du déplacement.
+     */
+    public static int deplacer(int direction) {
+        return encoder(DEPLACER, direction, 0);
+    }
+
+    /**
+     * @param arme L'indice de l'arme dans la liste du joueur.
+     * @param direction La direction du tir.
+     * @return Le code du tir.
+     */
+    public static int tirer(int arme, int direction) {
+        return encoder(TIRER, direction, arme);
+    }
+
+    /**
+     * @param direction La direction du tir.
+     * @return Le code d'un tir demandé sans arme, que le jeu refuse.
+     */
+    public static int tirerSansArme(int direction) {
+        return encoder(TIRER_SANS_ARME, direction, 0);
+    }
+
+    /**
+     * @param code Le code d'une action.
+     * @return L'opération de l'action.
+     */
+    public static int operation(int code) {
+        return code & MASQUE;
+    }
+
+    /**
+     * @param code Le code d'une action.
+     * @return La direction de l'action, ou {@link #AUCUNE}.
+     */
+    public static int direction(int code) {
+        return ((code >>> DECALAGE_DIRECTION) & MASQUE) - 1;
+    }
+
+    /**
+     * @param code Le code d'une action.
+     * @return L'indice de l'arme utilisée.
+     */
+    public static int arme(int code) {
+        return code >>> DECALAGE_ARME;
+    }
+
+    /**
+     * Indique si une direction est l'une des quatre directions du jeu.
+     *
+     * @param direction La direction.
+     * @return true si la direction est valide.
+     */
+    public static boolean estDirection(int direction) {
+        return direction >= 0 && direction < NB_DIRECTIONS;
+    }
+
+    /**
+     * @param direction Une direction valide.
+     * @return Le décalage en ligne correspondant.
+     */
+    public static int dl(int direction) {
+        return DL[direction];
+    }
+
+    /**
+     * @param direction Une direction valide.
+     * @return Le décalage en colonne correspondant.
+     */
+    public static int dc(int direction) {
+        return DC[direction];
+    }
+
+    /**
+     * Convertit une direction textuelle ("h", "b", "g", "d") en direction entière.
+     *
+     * @param direction La direction textuelle.
+     * @return La direction entière, ou {@link #AUCUNE} si elle n'est pas reconnue.
+     */
+    public static int direction(String direction) {
+        if (direction == null || direction.length() != 1) {
+            return AUCUNE;
+        }
+        switch (direction.charAt(0)) {
+            case 'h': return HAUT;
+            case 'b': return BAS;
+            case 'g': return GAUCHE;
+            case 'd': return DROITE;
+            default: return AUCUNE;
+        }
+    }
+
+    /**
+     * Convertit une direction entière en direction textuelle.
+     *
+     * @param direction La direction entière.
+     * @return La direction textuelle, ou une chaîne vide si elle est invalide.
+     */
+    public static String nomDirection(int direction) {
+        return estDirection(direction) ? NOMS[direction] : "";
+    }
+
+    /**
+     * Code une action objet, pour les stratégies qui construisent encore des {@link Action}.
+     *
+     * @param action L'action.
+     * @param player Le joueur qui l'effectue (pour retrouver l'indice de l'arme).
+     * @return Le code de l'action.
+     */
+    public static int encoder(Action action, Player player) {
+        switch (action.getActionType()) {
+            case "m":
+                return deplacer(direction(((MoveAction) action).getDirection()));
+            case "s":
+                return bouclier();
+            case "t":
+                ShootAction tir = (ShootAction) action;
+                int arme = tir.getWeapon() == null ? -1 : player.getWeapons().indexOf(tir.getWeapon());
+                return arme < 0 ? tirerSansArme(direction(tir.getDirection())) : tirer(arme, direction(tir.getDirection()));
+            default:
+                return rien();
+        }
+    }
+
+    /**
+     * Construit l'objet {@link Action} correspondant à un code, pour l'affichage.
+     *
+     * @param code Le code de l'action.
+     * @param player Le joueur qui effectue l'action.
+     * @return L'action correspondante.
+     */
+    public static Action decoder(int code, Player player) {
+        switch (operation(code)) {
+            case DEPLACER:
+                return new MoveAction(nomDirection(direction(code)), player);
+            case BOUCLIER:
+                return new ShieldAction(player);
+            case TIRER:
+                List<Weapon> weapons = player.getWeapons();
+                int arme = arme(code);
+                Weapon weapon = arme < weapons.size() ? weapons.get(arme) : null;
+                return new ShootAction(weapon, nomDirection(direction(code)), player);
+            case TIRER_SANS_ARME:
+                return new ShootAction(null, nomDirection(direction(code)), player);
+            default:
+                return new RienAction("r", player);
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package modele.armes;
 
+import java.nio.ByteBuffer;
+import java.util.function.LongSupplier;
 import modele.strategy.weaponStrategy.*;
 import modele.components.Component;
 import modele.components.Player;
+import modele.journal.Niveau;
 
 /**
  * Classe représentant une bombe dans le jeu.
@@ -12,10 +15,25 @@ import modele.components.Player;
 public class Bomb extends Weapon implements Component {
 
     /**
-     * Temps restant avant l'explosion de la bombe.
+     * Temps restant avant l'explosion de la bombe, tant qu'elle n'est pas posée.
      */
     private int timer;
 
+    /**
+     * Minuterie d'origine, rétablie par {@link #reset()}.
+     */
+    private int minuterie;
+
+    /**
+     * Horloge de la partie (en tours) une fois la bombe posée, null sinon.
+     */
+    private LongSupplier horloge;
+
+    /**
+     * Tour de l'horloge auquel la bombe posée explose.
+     */
+    private long tourExplosion;
+
     /**
      * Indique si la bombe est une mine (active en cas de contact).
      */
@@ -26,6 +44,47 @@ public class Bomb extends Weapon implements Component {
      */
     private int owner;
 
+    /**
+     * Zone touchée par l'explosion (forme et rayon), fixée avec la stratégie de la bombe.
+     */
+    private ZoneExplosion zone;
+
+    /**
+     * Constructeur d'une bombe identifiée par la partie.
+     *
+     * @param iD Identifiant de l'arme, attribué par la partie.
+     * @param name  Le nom de la bombe.
+     * @param damage Les dégâts causés par l'explosion.
+     * @param range La portée de l'explosion.
+     * @param timer Le temps restant avant l'explosion.
+     * @param isMine Indique si la bombe est une mine.
+     * @param owner L'identifiant du joueur qui possède ou a placé la bombe.
+     */
+    public Bomb(int iD, String name, int damage, int range, int timer, boolean isMine, int owner) {
+        super(iD, name, damage, range, 1);
+        this.timer = timer;
+        this.minuterie = timer;
+        this.mine = isMine;
+        this.owner = owner;
+    }
+
+    /**
+     * Constructeur d'une bombe identifiée par la partie, à la forme d'explosion donnée.
+     *
+     * @param iD Identifiant de l'arme, attribué par la partie.
+     * @param name  Le nom de la bombe.
+     * @param damage Les dégâts causés par l'explosion.
+     * @param range Le rayon de l'explosion.
+     * @param timer Le temps restant avant l'explosion.
+     * @param isMine Indique si la bombe est une mine.
+     * @param owner L'identifiant du joueur qui possède ou a placé la bombe.
+     * @param forme La forme de la zone touchée par l'explosion.
+     */
+    public Bomb(int iD, String name, int damage, int range, int timer, boolean isMine, int owner, FormeExplosion forme) {
+        this(iD, name, damage, range, timer, isMine, owner);
+        definirZone(new ZoneExplosion(forme, range));
+    }
+
     /**
      * Constructeur de la classe Bomb.
      *
@@ -39,6 +98,7 @@ public class Bomb extends Weapon implements Component {
     public Bomb(String name, int damage, int range, int timer, boolean isMine, int owner) {
         super(name, damage, range, 1);
         this.timer = timer;
+        this.minuterie = timer;
         this.mine = isMine;
         this.owner = owner;
     }
@@ -61,7 +121,25 @@ public class Bomb extends Weapon implements Component {
      */
     @Override
     protected void initializeStrategy() {
-        this.strategy = new ExplosionBehavior(getDamage());
+        definirZone(new ZoneExplosion(FormeExplosion.CARRE, getRange()));
+    }
+
+    /**
+     * Fixe la zone de l'explosion et la stratégie correspondante.
+     */
+    private void definirZone(ZoneExplosion zone) {
+        this.zone = zone;
+        this.strategy = new ExplosionBehavior(getDamage(), zone);
+    }
+
+    /**
+     * Retourne la zone touchée par l'explosion de la bombe, qui sert aussi à trouver les bombes
+     * qu'elle fait exploser à leur tour.
+     *
+     * @return La zone de l'explosion.
+     */
+    public ZoneExplosion getZone() {
+        return this.zone;
     }
 
     /**
@@ -85,22 +163,81 @@ public class Bomb extends Weapon implements Component {
 
     /**
      * Retourne le temps restant avant l'explosion de la bombe.
+     * Une fois la bombe posée, il est déduit de l'horloge de la partie.
      *
      * @return Le temps restant (en tours).
      */
     public int getTimer() {
+        if (horloge != null) {
+            return (int) (tourExplosion - horloge.getAsLong());
+        }
         return this.timer;
     }
 
     /**
-     * Réinitialise le temps de la bombe si ce n'est pas une mine.
+     * Arme la bombe lorsqu'elle est posée : son explosion est fixée au tour
+     * {@code horloge + minuterie restante} et le compte à rebours suit ensuite l'horloge,
+     * sans qu'il faille décrémenter la bombe à chaque tour.
+     *
+     * @param horloge L'horloge de la partie, en tours.
+     * @return Le tour auquel la bombe explose.
+     */
+    public long armer(LongSupplier horloge) {
+        this.tourExplosion = horloge.getAsLong() + timer;
+        this.horloge = horloge;
+        return this.tourExplosion;
+    }
+
+    /**
+     * Arme la bombe pour qu'elle explose à un tour donné de l'horloge, lors de la restauration d'un instantané.
+     *
+     * @param horloge L'horloge de la partie, en tours.
+     * @param tourExplosion Le tour auquel la bombe explose.
+     */
+    public void rearmer(LongSupplier horloge, long tourExplosion) {
+        this.tourExplosion = tourExplosion;
+        this.horloge = horloge;
+    }
+
+    /**
+     * Indique si la bombe est posée et armée.
+     *
+     * @return true si la bombe a été armée et n'a pas encore été réinitialisée.
+     */
+    public boolean isArmee() {
+        return this.horloge != null;
+    }
+
+    /**
+     * Désarme la bombe et rétablit sa minuterie d'origine si ce n'est pas une mine.
      */
     public void reset() {
+        this.horloge = null;
         if (!mine) {
-            this.timer = 4;
+            this.timer = minuterie;
         }
     }
 
+    /**
+     * Ajoute la minuterie de la bombe à l'état écrit par {@link Weapon#sauvegarder(ByteBuffer)}.
+     * Une bombe posée est réarmée par le gestionnaire des armes, qui connaît son échéance.
+     */
+    @Override
+    public void sauvegarder(ByteBuffer etat) {
+        super.sauvegarder(etat);
+        etat.putInt(timer);
+    }
+
+    /**
+     * Rétablit l'état de la bombe, désarmée.
+     */
+    @Override
+    public void restaurer(ByteBuffer etat) {
+        super.restaurer(etat);
+        this.timer = etat.getInt();
+        this.horloge = null;
+    }
+
     /**
      * Vérifie si la bombe est une mine.
      *
@@ -112,9 +249,12 @@ public class Bomb extends Weapon implements Component {
 
     /**
      * Réduit le temps restant avant l'explosion de la bombe.
+     * Sans effet sur une bombe armée, dont le compte à rebours suit l'horloge de la partie.
      */
     public void decrease() {
-        this.timer--;
+        if (horloge == null) {
+            this.timer--;
+        }
     }
 
     /**
@@ -124,6 +264,8 @@ public class Bomb extends Weapon implements Component {
      */
     @Override
     public void interact(Player p) {
-        System.out.println("Boom " + p);
+        if (p.getJournal().estActif(Niveau.INFO)) {
+            p.getJournal().info("Boom " + p);
+        }
     }
 }
@@ -8,6 +8,19 @@ import modele.strategy.weaponStrategy.*;
  */
 public class Gun extends Weapon {
 
+    /**
+     * Constructeur pour initialiser un fusil identifié par la partie.
+     *
+     * @param iD        Identifiant de l'arme, attribué par la partie.
+     * @param name      Le nom du fusil.
+     * @param munitions Le nombre initial de munitions.
+     * @param range     La portée du tir.
+     * @param damage    Les dégâts infligés par le fusil.
+     */
+    public Gun(int iD, String name, int munitions, int range, int damage) {
+        super(iD, name, damage, range, munitions);
+    }
+
     /**
      * Constructeur pour initialiser un fusil avec un nom, un nombre de munitions, une portée, et des dégâts.
      *
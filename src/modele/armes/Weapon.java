@@ -1,8 +1,12 @@
 package modele.armes;
 
 import modele.strategy.weaponStrategy.*;
-import modele.components.Case;
+import modele.actions.CodeAction;
+import modele.components.Grid;
 import modele.util.*;
+import modele.journal.Niveau;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Classe abstraite représentant une arme dans le jeu.
@@ -27,27 +31,42 @@ public abstract class Weapon {
     /** Stratégie définissant le comportement de l'arme */
     protected WeaponBehavior strategy;
 
+    /** Compteur utilisé pour les armes créées hors d'une partie */
+    private static final AtomicInteger dernierID = new AtomicInteger();
+
     /** ID unique pour chaque arme */
-    private static int dernierID = 0;
     private int iD;
 
     /**
      * Constructeur principal pour initialiser une arme avec des paramètres personnalisés.
      *
+     * @param iD        Identifiant de l'arme, attribué par la partie.
      * @param name      Nom de l'arme.
      * @param damage    Dégâts infligés par l'arme.
      * @param range     Portée maximale de l'arme.
      * @param munitions Nombre initial de munitions.
      */
-    public Weapon(String name, int damage, int range, int munitions) {
+    public Weapon(int iD, String name, int damage, int range, int munitions) {
         this.name = name;
         this.damage = damage;
         this.range = range;
         this.munitions = munitions;
-        this.iD = ++dernierID;
+        this.iD = iD;
         initializeStrategy(); // Configure la stratégie dans la sous-classe
     }
 
+    /**
+     * Constructeur d'une arme créée hors d'une partie, avec un identifiant global.
+     *
+     * @param name      Nom de l'arme.
+     * @param damage    Dégâts infligés par l'arme.
+     * @param range     Portée maximale de l'arme.
+     * @param munitions Nombre initial de munitions.
+     */
+    public Weapon(String name, int damage, int range, int munitions) {
+        this(dernierID.incrementAndGet(), name, damage, range, munitions);
+    }
+
     /**
      * Constructeur simplifié pour une arme avec un nombre de munitions par défaut.
      *
@@ -160,16 +179,58 @@ public abstract class Weapon {
      * @param x             Coordonnée x de départ.
      * @param y             Coordonnée y de départ.
      * @param direction     Direction du tir.
-     * @param cases         Grille du jeu.
+     * @param grid          Grille du jeu.
      * @param playerManager Gestionnaire des joueurs.
+     * @return Les dégâts infligés par l'utilisation de l'arme.
      */
-    public final void use(int x, int y, String direction, Case[][] cases, PlayerManager playerManager) {
+    public final int use(int x, int y, String direction, Grid grid, PlayerManager playerManager) {
+        return use(x, y, CodeAction.direction(direction), grid, playerManager);
+    }
+
+    /**
+     * Utilise l'arme dans une direction codée en entier (voir {@link CodeAction}).
+     *
+     * @param x             Coordonnée x de départ.
+     * @param y             Coordonnée y de départ.
+     * @param direction     Direction du tir, ou {@link CodeAction#AUCUNE}.
+     * @param grid          Grille du jeu.
+     * @param playerManager Gestionnaire des joueurs.
+     * @return Les dégâts infligés par l'utilisation de l'arme.
+     */
+    public final int use(int x, int y, int direction, Grid grid, PlayerManager playerManager) {
+        int infliges = 0;
         if (munitions > 0) {
-            strategy.execute(x, y, direction, cases, playerManager);
+            infliges = strategy.execute(x, y, direction, grid, playerManager);
             diminuerMuntitions();
         } else {
-            System.out.println("No munitions left for " + name + ".");
+            if (playerManager.getJournal().estActif(Niveau.DEBUG)) {
+                playerManager.getJournal().debug("No munitions left for " + name + ".");
+            }
+        }
+        return infliges;
+    }
+
+    /**
+     * Écrit l'état de l'arme qui évolue pendant la partie (ses munitions) dans un instantané.
+     *
+     * @param etat Le tampon de l'instantané.
+     */
+    public void sauvegarder(ByteBuffer etat) {
+        etat.putInt(iD).putInt(munitions);
+    }
+
+    /**
+     * Rétablit l'état de l'arme écrit par {@link #sauvegarder(ByteBuffer)}.
+     *
+     * @param etat Le tampon de l'instantané.
+     * @throws IllegalArgumentException si l'instantané décrit une autre arme.
+     */
+    public void restaurer(ByteBuffer etat) {
+        int id = etat.getInt();
+        if (id != iD) {
+            throw new IllegalArgumentException("Instantané incompatible : arme " + id + " au lieu de " + iD + ".");
         }
+        this.munitions = etat.getInt();
     }
 
     /**
@@ -21,7 +21,7 @@ public class Ammo implements Component {
     @Override
     public void interact(Player player) {
         player.addAmmo(ammoAmount);
-        System.out.println("ammo case activated!");
+        player.getJournal().info("ammo case activated!");
     }
 
     /**
@@ -0,0 +1,73 @@
+package modele.components;
+
+import modele.events.ObservateurCases;
+
+/**
+ * Stockage classique d'une grille : un objet {@link Case} par cellule.
+ * Adapté aux grilles de taille courante, où chaque case garde son identité.
+ */
+class ArrayGridStorage implements GridStorage {
+
+    /**
+     * Tableau de cases de la grille.
+     */
+    private final Case[][] cases;
+
+    /**
+     * Crée un stockage dont toutes les cases sont des murs.
+     *
+     * @param nbLignes Nombre de lignes.
+     * @param nbColonnes Nombre de colonnes.
+     */
+    ArrayGridStorage(int nbLignes, int nbColonnes) {
+        this.cases = new Case[nbLignes][nbColonnes];
+        for (int i = 0; i < nbLignes; i++) {
+            for (int j = 0; j < nbColonnes; j++) {
+                cases[i][j] = new Case(i, j, true);
+            }
+        }
+    }
+
+    /**
+     * Retourne le tableau de cases sous-jacent.
+     *
+     * @return Le tableau de cases.
+     */
+    Case[][] getCases() {
+        return cases;
+    }
+
+    @Override
+    public boolean isWall(int line, int col) {
+        return cases[line][col].isWall();
+    }
+
+    @Override
+    public void setWall(int line, int col, boolean wall) {
+        cases[line][col].setWall(wall);
+    }
+
+    @Override
+    public Component getVal(int line, int col) {
+        return cases[line][col].getVal();
+    }
+
+    @Override
+    public void setVal(int line, int col, Component val) {
+        cases[line][col].setVal(val);
+    }
+
+    @Override
+    public Case getCase(int line, int col) {
+        return cases[line][col];
+    }
+
+    @Override
+    public void setObservateur(ObservateurCases observateur) {
+        for (Case[] ligne : cases) {
+            for (Case c : ligne) {
+                c.setObservateur(observateur);
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package modele.components;
 
 import modele.armes.Bomb;
+import modele.events.ObservateurCases;
 
 /**
  * Représente une case de la grille du jeu.
@@ -34,6 +35,12 @@ public class Case {
      */
     private int col;
 
+    /**
+     * Observateur prévenu de chaque modification du contenu de la case, ou null.
+     * Renseigné par la grille pour les cases qu'elle contient.
+     */
+    private ObservateurCases observateur;
+
     /**
      * Constructeur principal d'une case.
      * 
@@ -87,7 +94,7 @@ public class Case {
      * @return {@code true} si la case est vide, sinon {@code false}.
      */
     public boolean isEmpty() {
-        return this.val == null;
+        return getVal() == null;
     }
 
     /**
@@ -105,7 +112,7 @@ public class Case {
      * @return {@code true} si un joueur est présent, sinon {@code false}.
      */
     public boolean containsPlayer() {
-        return this.val instanceof Player;
+        return getVal() instanceof Player;
     }
 
     /**
@@ -124,8 +131,18 @@ public class Case {
      */
     public void setVal(Component val) {
         this.val = val;
-        System.out.println("========= j'ai changé !!");
-        // TODO : Ajouter un mécanisme pour notifier les changements.
+        if (observateur != null) {
+            observateur.caseModifiee(line, col);
+        }
+    }
+
+    /**
+     * Définit l'observateur prévenu des modifications du contenu de la case.
+     *
+     * @param observateur L'observateur, ou null.
+     */
+    void setObservateur(ObservateurCases observateur) {
+        this.observateur = observateur;
     }
 
     /**
@@ -219,13 +236,14 @@ public class Case {
      * @param player Le joueur qui interagit avec la case.
      */
     public void interact(Player player) {
+        Component val = getVal();
         if (val != null) {
             val.interact(player);
         }
         if (!containsPlayer()) {
             setVal(player);
         } else {
-            System.out.println("Case contains Player");
+            player.getJournal().debug("Case contains Player");
         }
     }
 
@@ -237,7 +255,19 @@ public class Case {
      */
     @Override
     public String toString() {
-        if (isWall()) {
+        return representer(isWall(), getVal());
+    }
+
+    /**
+     * Retourne la représentation textuelle d'une case à partir de son contenu,
+     * sans avoir besoin d'un objet {@code Case}.
+     * 
+     * @param wall Indique si la case est un mur.
+     * @param val Le composant présent sur la case, ou {@code null}.
+     * @return Une chaîne de caractères représentant la case.
+     */
+    public static String representer(boolean wall, Component val) {
+        if (wall) {
             return "##";
         } else if (val != null) {
             if (val instanceof Bomb) {
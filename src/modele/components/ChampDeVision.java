@@ -0,0 +1,136 @@
+package modele.components;
+
+import java.util.Arrays;
+
+/**
+ * Champ de vision d'un joueur : ensemble des cases en ligne de vue directe depuis sa position,
+ * dans un rayon donné. Un mur arrête la vue mais reste lui-même visible.
+ * Le champ n'est recalculé que lorsque le joueur change de case ; il est stocké dans un bitset
+ * couvrant la fenêtre carrée centrée sur le joueur, réutilisé d'un calcul à l'autre.
+ */
+class ChampDeVision {
+
+    private final Grid grid;
+    private final int portee;
+
+    /**
+     * Côté de la fenêtre carrée couverte par le champ (2 * portee + 1).
+     */
+    private final int cote;
+
+    /**
+     * Bitset des cases visibles de la fenêtre, indexées par (ligne - origineLigne + portee) * cote + (col - origineCol + portee).
+     */
+    private final long[] visibles;
+
+    private int origineLigne;
+    private int origineCol;
+
+    /**
+     * Indique si le champ correspond à une position calculée.
+     */
+    private boolean calcule;
+
+    /**
+     * Constructeur du champ de vision.
+     *
+     * @param grid La grille de jeu.
+     * @param portee Le rayon de vision, en cases.
+     */
+    ChampDeVision(Grid grid, int portee) {
+        this.grid = grid;
+        this.portee = portee;
+        this.cote = 2 * portee + 1;
+        this.visibles = new long[(cote * cote + 63) >>> 6];
+        this.calcule = false;
+    }
+
+    /**
+     * Met à jour le champ pour une position du joueur. Ne fait rien si le joueur n'a pas bougé.
+     *
+     * @param ligne La ligne du joueur.
+     * @param col La colonne du joueur.
+     */
+    void deplacer(int ligne, int col) {
+        if (calcule && ligne == origineLigne && col == origineCol) {
+            return;
+        }
+        origineLigne = ligne;
+        origineCol = col;
+        calcule = true;
+        Arrays.fill(visibles, 0L);
+
+        int carrePortee = portee * portee;
+        for (int dl = -portee; dl <= portee; dl++) {
+            for (int dc = -portee; dc <= portee; dc++) {
+                int l = ligne + dl;
+                int c = col + dc;
+                if (dl * dl + dc * dc <= carrePortee && grid.validCoordinates(l, c) && ligneDeVue(ligne, col, l, c)) {
+                    int index = (dl + portee) * cote + (dc + portee);
+                    visibles[index >>> 6] |= 1L << index;
+                }
+            }
+        }
+    }
+
+    /**
+     * Oublie la position calculée (par exemple lorsque le joueur quitte la grille).
+     */
+    void invalider() {
+        calcule = false;
+    }
+
+    /**
+     * Indique si une case est dans le champ de vision.
+     *
+     * @param ligne La ligne de la case.
+     * @param col La colonne de la case.
+     * @return true si la case est visible depuis la dernière position calculée.
+     */
+    boolean estVisible(int ligne, int col) {
+        if (!calcule) {
+            return false;
+        }
+        int dl = ligne - origineLigne + portee;
+        int dc = col - origineCol + portee;
+        if (dl < 0 || dc < 0 || dl >= cote || dc >= cote) {
+            return false;
+        }
+        int index = dl * cote + dc;
+        return (visibles[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Suit le segment de Bresenham entre deux cases et vérifie qu'aucun mur ne se trouve entre elles.
+     */
+    private boolean ligneDeVue(int l0, int c0, int l1, int c1) {
+        if (l0 == l1 && c0 == c1) {
+            return true;
+        }
+        int dl = Math.abs(l1 - l0);
+        int dc = Math.abs(c1 - c0);
+        int pasL = l0 < l1 ? 1 : -1;
+        int pasC = c0 < c1 ? 1 : -1;
+        int erreur = dc - dl;
+        int l = l0;
+        int c = c0;
+
+        while (true) {
+            int e2 = 2 * erreur;
+            if (e2 > -dl) {
+                erreur -= dl;
+                c += pasC;
+            }
+            if (e2 < dc) {
+                erreur += dc;
+                l += pasL;
+            }
+            if (l == l1 && c == c1) {
+                return true;
+            }
+            if (grid.isWall(l, c)) {
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package modele.components;
+
+import java.util.Arrays;
+import modele.events.ObservateurCases;
+
+/**
+ * Stockage compact d'une grille, pour les très grandes arènes.
+ * Les murs sont rangés dans un bitset ({@code long[]}), les occupants dans un {@code int[]}
+ * qui indexe une table de composants ; les objets {@link Case} ne sont créés qu'à la demande,
+ * sous forme de vues sur ce stockage.
+ */
+class CompactGridStorage implements GridStorage {
+
+    private final int nbColonnes;
+
+    /**
+     * Bitset des murs, une cellule par bit (indice {@code ligne * nbColonnes + colonne}).
+     */
+    private final long[] walls;
+
+    /**
+     * Indice de l'occupant de chaque cellule dans {@link #composants}, 0 si la cellule est vide.
+     */
+    private final int[] occupants;
+
+    /**
+     * Table des composants présents sur la grille ; l'indice 0 est réservé aux cellules vides.
+     */
+    private Component[] composants;
+
+    /**
+     * Nombre d'entrées utilisées dans la table des composants (indice 0 compris).
+     */
+    private int nbComposants;
+
+    /**
+     * Pile des indices libérés dans la table des composants.
+     */
+    private int[] libres;
+    private int nbLibres;
+
+    /**
+     * Observateur prévenu de chaque modification d'occupant, ou null.
+     */
+    private ObservateurCases observateur;
+
+    /**
+     * Crée un stockage dont toutes les cases sont des murs.
+     *
+     * @param nbLignes Nombre de lignes.
+     * @param nbColonnes Nombre de colonnes.
+     */
+    CompactGridStorage(int nbLignes, int nbColonnes) {
+        int nbCellules = nbLignes * nbColonnes;
+        this.nbColonnes = nbColonnes;
+        this.walls = new long[(nbCellules + 63) >>> 6];
+        Arrays.fill(walls, -1L);
+        this.occupants = new int[nbCellules];
+        this.composants = new Component[16];
+        this.nbComposants = 1;
+        this.libres = new int[16];
+        this.nbLibres = 0;
+    }
+
+    private int index(int line, int col) {
+        return line * nbColonnes + col;
+    }
+
+    @Override
+    public boolean isWall(int line, int col) {
+        int i = index(line, col);
+        return (walls[i >>> 6] & (1L << i)) != 0;
+    }
+
+    @Override
+    public void setWall(int line, int col, boolean wall) {
+        int i = index(line, col);
+        if (wall) {
+            walls[i >>> 6] |= 1L << i;
+        } else {
+            walls[i >>> 6] &= ~(1L << i);
+        }
+    }
+
+    @Override
+    public Component getVal(int line, int col) {
+        return composants[occupants[index(line, col)]];
+    }
+
+    @Override
+    public void setVal(int line, int col, Component val) {
+        int i = index(line, col);
+        int slot = occupants[i];
+        if (val == null) {
+            if (slot != 0) {
+                composants[slot] = null;
+                liberer(slot);
+                occupants[i] = 0;
+            }
+        } else if (slot != 0) {
+            composants[slot] = val;
+        } else {
+            slot = allouer();
+            composants[slot] = val;
+            occupants[i] = slot;
+        }
+        if (observateur != null) {
+            observateur.caseModifiee(line, col);
+        }
+    }
+
+    @Override
+    public Case getCase(int line, int col) {
+        return new CompactCase(this, line, col);
+    }
+
+    @Override
+    public void setObservateur(ObservateurCases observateur) {
+        this.observateur = observateur;
+    }
+
+    /**
+     * Réserve une entrée dans la table des composants.
+     *
+     * @return L'indice de l'entrée réservée.
+     */
+    private int allouer() {
+        if (nbLibres > 0) {
+            return libres[--nbLibres];
+        }
+        if (nbComposants == composants.length) {
+            composants = Arrays.copyOf(composants, nbComposants * 2);
+        }
+        return nbComposants++;
+    }
+
+    /**
+     * Rend une entrée de la table des composants.
+     *
+     * @param slot L'indice de l'entrée à libérer.
+     */
+    private void liberer(int slot) {
+        if (nbLibres == libres.length) {
+            libres = Arrays.copyOf(libres, nbLibres * 2);
+        }
+        libres[nbLibres++] = slot;
+    }
+
+    /**
+     * Case matérialisée à la demande : vue sur une cellule du stockage compact.
+     * Deux vues sur la même cellule sont égales.
+     */
+    private static final class CompactCase extends Case {
+
+        private final CompactGridStorage storage;
+
+        CompactCase(CompactGridStorage storage, int line, int col) {
+            super(line, col, null, false);
+            this.storage = storage;
+        }
+
+        @Override
+        public boolean isWall() {
+            return storage.isWall(getLine(), getCol());
+        }
+
+        @Override
+        public void setWall(boolean wall) {
+            storage.setWall(getLine(), getCol(), wall);
+        }
+
+        @Override
+        public Component getVal() {
+            return storage.getVal(getLine(), getCol());
+        }
+
+        @Override
+        public void setVal(Component val) {
+            storage.setVal(getLine(), getCol(), val);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof CompactCase)) {
+                return false;
+            }
+            CompactCase other = (CompactCase) o;
+            return other.storage == storage && other.getLine() == getLine() && other.getCol() == getCol();
+        }
+
+        @Override
+        public int hashCode() {
+            return storage.index(getLine(), getCol());
+        }
+    }
+}
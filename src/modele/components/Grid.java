@@ -1,22 +1,27 @@
 package modele.components;
 
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.function.IntFunction;
 import config.*;
+import modele.MatchContext;
+import modele.actions.CodeAction;
+import modele.armes.Bomb;
+import modele.events.ObservateurCases;
+import modele.generation.Arene;
+import modele.generation.TypeGenerateur;
 
 
 /**
  * Classe représentant la grille principale du jeu.
  * Cette classe est responsable de l'initialisation, de la gestion et de la manipulation des cases de la grille.
- * Elle suit un modèle singleton pour garantir une seule instance globale.
+ * Chaque partie possède sa propre grille ; {@link #getInstance()} renvoie celle du contexte par défaut.
  */
 public class Grid implements Affichage {
 
-    /**
-     * Instance unique de la grille (singleton).
-     */
-    private static Grid instance;
      /**
      * Tableau de cases représentant la grille du jeu.
+     * Vaut {@code null} lorsque la grille utilise le stockage compact.
      */
     public Case[][] cases;
 
@@ -31,26 +36,36 @@ public class Grid implements Affichage {
     private int nbColonnes;
 
     /**
-     * Directions utilisées pour naviguer dans la grille (droite, bas, gauche, haut).
+     * Stockage des murs et des composants de la grille.
+     */
+    private final GridStorage storage;
+
+    /**
+     * Paramètres de génération de la grille (chambres, densités).
+     */
+    private final MatchConfig config;
+
+    /**
+     * Nombre de modifications de murs faites par la grille (génération, restauration d'un instantané),
+     * pour que les calculs qui ne dépendent que des murs sachent quand se refaire.
+     */
+    private int versionMurs;
+
+    /**
+     * Distances aux murs : pour chaque direction ({@link CodeAction}) et chaque case (ligne * nbColonnes + colonne),
+     * nombre de cases que l'on peut franchir avant le prochain mur ou le bord de la grille, plafonné à
+     * {@link Character#MAX_VALUE}. Calculées après la génération, puis tenues à jour à chaque mur posé ou retiré ;
+     * null pendant la génération.
      */
-    private static final int[][] DIRECTIONS = {
-        {0, 1},   // droite
-        {1, 0},   // bas
-        {0, -1},  // gauche
-        {-1, 0}   // haut 
-    };
+    private char[][] distancesMurs;
 
     /**
-     * Retourne l'instance unique de la grille.
-     * Si aucune instance n'existe, elle est créée.
+     * Retourne la grille du contexte de partie par défaut.
      * 
-     * @return L'instance unique de la grille.
+     * @return La grille par défaut.
      */
     public static Grid getInstance(){
-        if(instance == null){
-            instance = new Grid(Constants.NB_LIGNES,Constants.NB_COLS,Constants.WALL_DENSITY);
-        }
-        return instance;
+        return MatchContext.getDefault().getGrid();
     }
 
     /**
@@ -62,11 +77,95 @@ public class Grid implements Affichage {
      */
 
     public Grid(int nbLignes, int nbColonnes,double wallDensity) {
-        this.nbLignes = nbLignes;
-        this.nbColonnes = nbColonnes;
-        this.cases = new Case[nbLignes][nbColonnes];
-        initializeGrid();
-        generateInterestingMaze(wallDensity);
+        this(nbLignes, nbColonnes, wallDensity, false);
+    }
+
+    /**
+     * Constructeur de la grille à partir d'une configuration de partie :
+     * dimensions, densités, chambres et mode de stockage sont lus dans la configuration.
+     * 
+     * @param config La configuration de la partie.
+     */
+    public Grid(MatchConfig config) {
+        this(config, new SplittableRandom());
+    }
+
+    /**
+     * Constructeur de la grille à partir de la configuration d'une partie et de son générateur aléatoire :
+     * l'arène est produite par le générateur de la configuration, et une même graine produit toujours la même arène.
+     * 
+     * @param config La configuration de la partie.
+     * @param rand Le générateur aléatoire utilisé pour la génération.
+     */
+    public Grid(MatchConfig config, SplittableRandom rand) {
+        this(config, TypeGenerateur.depuis(config.getGenerateur()).creer().generer(config, rand));
+    }
+
+    /**
+     * Constructeur de la grille à partir d'une arène déjà générée (par exemple tirée de {@link modele.generation.CacheArenes}).
+     * Le plan est recopié : il peut servir à plusieurs grilles.
+     * 
+     * @param config La configuration de la partie.
+     * @param arene Le plan de l'arène, aux dimensions de la configuration.
+     */
+    public Grid(MatchConfig config, Arene arene) {
+        this.config = config;
+        this.nbLignes = config.getNbLignes();
+        this.nbColonnes = config.getNbColonnes();
+        if (config.isStockageCompact()) {
+            this.storage = new CompactGridStorage(nbLignes, nbColonnes);
+            this.cases = null;
+        } else {
+            ArrayGridStorage tableau = new ArrayGridStorage(nbLignes, nbColonnes);
+            this.storage = tableau;
+            this.cases = tableau.getCases();
+        }
+        charger(arene);
+        calculerDistancesMurs();
+    }
+
+    /**
+     * Constructeur de la grille avec choix du mode de stockage.
+     * Le stockage compact range les murs dans un bitset et les occupants dans un tableau d'indices,
+     * et ne crée les objets {@link Case} qu'à la demande : il est destiné aux très grandes arènes.
+     * 
+     * @param nbLignes Nombre de lignes de la grille.
+     * @param nbColonnes Nombre de colonnes de la grille.
+     * @param wallDensity Densité des murs dans la grille.
+     * @param compact {@code true} pour utiliser le stockage compact.
+     */
+    public Grid(int nbLignes, int nbColonnes, double wallDensity, boolean compact) {
+        this(configuration(nbLignes, nbColonnes, wallDensity, compact));
+    }
+
+    /**
+     * Construit la configuration correspondant aux paramètres des constructeurs historiques.
+     */
+    private static MatchConfig configuration(int nbLignes, int nbColonnes, double wallDensity, boolean compact) {
+        MatchConfig config = new MatchConfig();
+        config.setNbLignes(nbLignes);
+        config.setNbColonnes(nbColonnes);
+        config.setDensiteMurs(wallDensity);
+        config.setStockageCompact(compact);
+        return config;
+    }
+
+    /**
+     * Retourne la configuration utilisée pour générer la grille.
+     * 
+     * @return La configuration de la grille.
+     */
+    public MatchConfig getConfig() {
+        return this.config;
+    }
+
+    /**
+     * Indique si la grille utilise le stockage compact.
+     * 
+     * @return {@code true} si le stockage est compact.
+     */
+    public boolean isCompact() {
+        return this.cases == null;
     }
 
     /**
@@ -87,13 +186,114 @@ public class Grid implements Affichage {
         return this.nbColonnes;
     }
 
+    /**
+     * Retourne le nombre de modifications de murs faites par la grille depuis sa création.
+     * Tant qu'il ne change pas, les murs sont les mêmes.
+     * 
+     * @return La version des murs.
+     */
+    public int getVersionMurs() {
+        return this.versionMurs;
+    }
+
+    /**
+     * Retourne le nombre de cases que l'on peut franchir depuis une case dans une direction
+     * avant de rencontrer un mur ou le bord de la grille (0 si la case voisine est un mur).
+     * 
+     * @param line Ligne de la case de départ.
+     * @param col Colonne de la case de départ.
+     * @param direction La direction ({@link CodeAction#HAUT}, {@link CodeAction#BAS}, {@link CodeAction#GAUCHE}, {@link CodeAction#DROITE}).
+     * @return La distance au prochain mur, plafonnée à {@link Character#MAX_VALUE}.
+     */
+    public int distanceMur(int line, int col, int direction) {
+        return distancesMurs[direction][line * nbColonnes + col];
+    }
+
+    /**
+     * Pose ou retire un mur, en changeant la version des murs et en tenant à jour les distances aux murs.
+     */
+    private void poserMur(int line, int col, boolean wall) {
+        storage.setWall(line, col, wall);
+        versionMurs++;
+        if (distancesMurs != null) {
+            for (int d = 0; d < CodeAction.NB_DIRECTIONS; d++) {
+                propagerDistance(d, line, col, false);
+            }
+        }
+    }
+
+    /**
+     * Calcule les distances aux murs de toutes les cases, en remontant chaque ligne et chaque colonne
+     * depuis le bord vers lequel regarde chaque direction.
+     */
+    private void calculerDistancesMurs() {
+        distancesMurs = new char[CodeAction.NB_DIRECTIONS][nbLignes * nbColonnes];
+        for (int d = 0; d < CodeAction.NB_DIRECTIONS; d++) {
+            int dl = CodeAction.dl(d);
+            int dc = CodeAction.dc(d);
+            for (int i = 0; i < nbLignes; i++) {
+                for (int j = 0; j < nbColonnes; j++) {
+                    int l = i + dl;
+                    int c = j + dc;
+                    if (l < 0 || l >= nbLignes || c < 0 || c >= nbColonnes) {
+                        propagerDistance(d, l, c, true);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Recalcule, dans une direction, la distance aux murs des cases situées derrière une case donnée
+     * (celles dont le chemin dans cette direction passe par elle). Hors calcul complet, le parcours s'arrête
+     * à la première case dont la distance ne change pas : les suivantes en dépendent seules.
+     * 
+     * @param line Ligne de la case, éventuellement juste hors de la grille pour remonter depuis le bord.
+     * @param col Colonne de la case, éventuellement juste hors de la grille.
+     * @param complet true pour recalculer toute la ligne ou la colonne jusqu'au bord opposé.
+     */
+    private void propagerDistance(int direction, int line, int col, boolean complet) {
+        char[] distances = distancesMurs[direction];
+        int dl = CodeAction.dl(direction);
+        int dc = CodeAction.dc(direction);
+        int suivante = line < 0 || line >= nbLignes || col < 0 || col >= nbColonnes || storage.isWall(line, col)
+                ? 0 : Math.min(distances[line * nbColonnes + col] + 1, Character.MAX_VALUE);
+        for (int l = line - dl, c = col - dc; l >= 0 && l < nbLignes && c >= 0 && c < nbColonnes; l -= dl, c -= dc) {
+            int i = l * nbColonnes + c;
+            if (!complet && distances[i] == suivante) {
+                break;
+            }
+            distances[i] = (char) suivante;
+            suivante = storage.isWall(l, c) ? 0 : Math.min(suivante + 1, Character.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Définit l'observateur prévenu de chaque modification du contenu d'une case de la grille.
+     * 
+     * @param observateur L'observateur, ou {@code null}.
+     */
+    public void setObservateur(ObservateurCases observateur) {
+        storage.setObservateur(observateur);
+    }
+
     /**
      * Retourne toutes les cases de la grille.
+     * En stockage compact, le tableau est construit à chaque appel : préférer {@link #getCase(int, int)}.
      * 
      * @return Tableau de cases.
      */
     public Case[][] getCases(){
-        return this.cases;
+        if (cases != null) {
+            return this.cases;
+        }
+        Case[][] vues = new Case[nbLignes][nbColonnes];
+        for (int i = 0; i < nbLignes; i++) {
+            for (int j = 0; j < nbColonnes; j++) {
+                vues[i][j] = storage.getCase(i, j);
+            }
+        }
+        return vues;
     }
 
     /**
@@ -104,7 +304,29 @@ public class Grid implements Affichage {
      * @return La case à la position donnée.
      */
     public Case getCase(int ligne,int col){
-        return cases[ligne][col];
+        return storage.getCase(ligne, col);
+    }
+
+    /**
+     * Vérifie si une cellule est un mur, sans passer par un objet {@link Case}.
+     * 
+     * @param ligne Ligne de la cellule.
+     * @param col Colonne de la cellule.
+     * @return {@code true} si la cellule est un mur.
+     */
+    public boolean isWall(int ligne, int col) {
+        return storage.isWall(ligne, col);
+    }
+
+    /**
+     * Retourne le composant présent sur une cellule, sans passer par un objet {@link Case}.
+     * 
+     * @param ligne Ligne de la cellule.
+     * @param col Colonne de la cellule.
+     * @return Le composant, ou {@code null} si la cellule est vide.
+     */
+    public Component getVal(int ligne, int col) {
+        return storage.getVal(ligne, col);
     }
 
     /**
@@ -115,7 +337,7 @@ public class Grid implements Affichage {
      * @return {@code true} si la cellule est vide, sinon {@code false}.
      */
     public boolean emptyCell(int x, int y) {
-        return cases[x][y].getVal() == null;
+        return storage.getVal(x, y) == null;
     }
 
     /**
@@ -126,151 +348,164 @@ public class Grid implements Affichage {
      * @return {@code true} si les coordonnées sont valides, sinon {@code false}.
      */
     public boolean validCoordinates(int line,int col){
-        return line >= 0 && line < nbLignes && col >= 0 && col < nbColonnes && !cases[line][col].isWall();
+        return line >= 0 && line < nbLignes && col >= 0 && col < nbColonnes && !storage.isWall(line, col);
     }
 
     /**
-     * Initialise toutes les cases de la grille en tant que murs.
+     * Recopie le plan d'une arène dans le stockage de la grille : murs, pastilles d'énergie et de munitions.
+     * 
+     * @param arene Le plan, aux dimensions de la grille.
      */
-    public void initializeGrid() {
+    private void charger(Arene arene) {
+        if (arene.getNbLignes() != nbLignes || arene.getNbColonnes() != nbColonnes) {
+            throw new IllegalArgumentException("Arène " + arene.getNbLignes() + "x" + arene.getNbColonnes()
+                    + " incompatible avec une grille " + nbLignes + "x" + nbColonnes + ".");
+        }
         for (int i = 0; i < nbLignes; i++) {
             for (int j = 0; j < nbColonnes; j++) {
-                // Crée toutes les cases comme des murs
-                cases[i][j] = new Case(i, j, true);
+                storage.setWall(i, j, arene.estMur(i, j));
+                if (arene.estSoin(i, j)) {
+                    storage.setVal(i, j, new Health());
+                } else if (arene.estMunitions(i, j)) {
+                    storage.setVal(i, j, new Ammo());
+                }
             }
         }
+        versionMurs++;
     }
 
     /**
-     * Génère un labyrinthe intéressant en ajoutant des couloirs, des chambres, des murs aléatoires, etc.
-     * 
-     * @param wallDensity Densité des murs aléatoires.
-     */
-    public void generateInterestingMaze(double wallDensity) {
-        generateMaze(1, 1);              // Étape 1 : Génération de couloirs
-        addRooms(Constants.NB_ROOMS, Constants.ROOM_SIZE);                 // Étape 2 : Ajout de chambres
-        addPillars();                    // Étape 3 : Ajout de piliers
-        addRandomWalls(wallDensity);     // Étape 4 : Ajouter des murs aléatoires
-        addRandomComponents(Constants.HEALTH_DENSITY, Constants.AMMO_DENSITY); 
-        reinforceBorders();              // Étape 5 : Restaurer les murs aux contours
-    }
-    
+     * Sortes d'occupants dans un instantané, rangées dans les deux bits de poids faible de chaque entier
+     * (les autres bits portent l'indice de la cellule).
+     */
+    private static final int OCCUPANT_SOIN = 0;
+    private static final int OCCUPANT_MUNITIONS = 1;
+    private static final int OCCUPANT_JOUEUR = 2;
+    private static final int OCCUPANT_BOMBE = 3;
+
     /**
-     * Génère un labyrinthe de base en utilisant une méthode de backtracking.
+     * Écrit le contenu de la grille dans un instantané : ses dimensions, les murs sous forme de bitset
+     * (une cellule par bit, par mots de 64), puis le nombre d'occupants et, pour chacun dans l'ordre
+     * des cellules, un entier {@code indice << 2 | sorte} suivi de l'ID du joueur ou de la bombe.
      * 
-     * @param startX Coordonnée x de départ.
-     * @param startY Coordonnée y de départ.
+     * @param etat Le tampon de l'instantané.
+     * @throws IllegalStateException si un occupant n'est ni un bonus, ni un joueur, ni une bombe.
      */
-    public void generateMaze(int startX, int startY) {
-        List<int[]> stack = new ArrayList<>();
-        stack.add(new int[]{startX, startY});
-
-        while (!stack.isEmpty()) {
-            int[] current = stack.remove(stack.size() - 1);
-            int x = current[0];
-            int y = current[1];
-
-            if (!isValidCell(x, y)) continue;
-
-            cases[x][y].setVisited(true);
-            cases[x][y].setWall(false);
-
-            List<int[]> neighbors = new ArrayList<>();
-            for (int[] dir : DIRECTIONS) {
-                int newX = x + dir[0] * 2;
-                int newY = y + dir[1] * 2;
-                if (isValidCell(newX, newY)) {
-                    neighbors.add(new int[]{newX, newY});
+    public void sauvegarder(ByteBuffer etat) {
+        etat.putInt(nbLignes).putInt(nbColonnes);
+        long mot = 0;
+        int i = 0;
+        for (int line = 0; line < nbLignes; line++) {
+            for (int col = 0; col < nbColonnes; col++, i++) {
+                if (storage.isWall(line, col)) {
+                    mot |= 1L << i;
+                }
+                if ((i & 63) == 63) {
+                    etat.putLong(mot);
+                    mot = 0;
                 }
             }
+        }
+        if ((i & 63) != 0) {
+            etat.putLong(mot);
+        }
 
-            Collections.shuffle(neighbors);
-            for (int[] neighbor : neighbors) {
-                int nx = neighbor[0];
-                int ny = neighbor[1];
-                if (isValidCell(nx, ny)) {
-                    removeWall(x, y, nx, ny);
-                    stack.add(neighbor);
+        int debut = etat.position();
+        etat.putInt(0);
+        int nbOccupants = 0;
+        i = 0;
+        for (int line = 0; line < nbLignes; line++) {
+            for (int col = 0; col < nbColonnes; col++, i++) {
+                Component val = storage.getVal(line, col);
+                if (val == null) {
+                    continue;
+                }
+                nbOccupants++;
+                if (val instanceof Player) {
+                    etat.putInt(i << 2 | OCCUPANT_JOUEUR).putInt(((Player) val).getID());
+                } else if (val instanceof Bomb) {
+                    etat.putInt(i << 2 | OCCUPANT_BOMBE).putInt(((Bomb) val).getID());
+                } else if (val instanceof Health) {
+                    etat.putInt(i << 2 | OCCUPANT_SOIN);
+                } else if (val instanceof Ammo) {
+                    etat.putInt(i << 2 | OCCUPANT_MUNITIONS);
+                } else {
+                    throw new IllegalStateException("Occupant impossible à sauvegarder : " + val.getClass().getName());
                 }
             }
         }
+        etat.putInt(debut, nbOccupants);
     }
 
     /**
-     * Retire un mur entre deux cases adjacentes.
+     * Rétablit le contenu de la grille écrit par {@link #sauvegarder(ByteBuffer)}.
+     * Seules les cellules qui diffèrent de l'instantané sont modifiées (et signalées à l'observateur) ;
+     * les bonus déjà en place sont conservés, les autres sont recréés.
      * 
-     * @param x1 Ligne de la première case.
-     * @param y1 Colonne de la première case.
-     * @param x2 Ligne de la deuxième case.
-     * @param y2 Colonne de la deuxième case.
-     */
-    public void removeWall(int x1, int y1, int x2, int y2) {
-        int wallX = (x1 + x2) / 2;
-        int wallY = (y1 + y2) / 2;
-        cases[wallX][wallY].setWall(false);
-    }
-
-    public boolean isValidCell(int x, int y) {
-        return x > 0 && x < nbLignes - 1 && y > 0 && y < nbColonnes - 1 && cases[x][y].isWall();
-    }
-
-    public void addRooms(int numRooms, int roomSize) {
-        Random random = new Random();
-        for (int i = 0; i < numRooms; i++) {
-            int startX = random.nextInt(nbLignes - roomSize - 1) + 1;
-            int startY = random.nextInt(nbColonnes - roomSize - 1) + 1;
-            for (int x = startX; x < startX + roomSize; x++) {
-                for (int y = startY; y < startY + roomSize; y++) {
-                    cases[x][y].setWall(false); // Zone ouverte
-                }
-            }
+     * @param etat Le tampon de l'instantané.
+     * @param joueurs Retrouve un joueur par son ID.
+     * @param bombes Retrouve une bombe par son ID.
+     * @return true si des murs ont changé.
+     * @throws IllegalArgumentException si l'instantané décrit une grille d'autres dimensions
+     * ou un joueur ou une bombe inconnus.
+     */
+    public boolean restaurer(ByteBuffer etat, IntFunction<Player> joueurs, IntFunction<Bomb> bombes) {
+        int lignes = etat.getInt();
+        int colonnes = etat.getInt();
+        if (lignes != nbLignes || colonnes != nbColonnes) {
+            throw new IllegalArgumentException("Instantané incompatible : grille " + lignes + "x" + colonnes
+                    + " au lieu de " + nbLignes + "x" + nbColonnes + ".");
         }
-    }
-
-    public void addPillars() {
-        for (int i = 2; i < nbLignes - 1; i += 4) {
-            for (int j = 2; j < nbColonnes - 1; j += 4) {
-                cases[i][j].setWall(true); // Ajout de piliers
+        boolean mursModifies = false;
+        long mot = 0;
+        int i = 0;
+        for (int line = 0; line < nbLignes; line++) {
+            for (int col = 0; col < nbColonnes; col++, i++) {
+                if ((i & 63) == 0) {
+                    mot = etat.getLong();
+                }
+                boolean wall = (mot & (1L << i)) != 0;
+                if (storage.isWall(line, col) != wall) {
+                    poserMur(line, col, wall);
+                    mursModifies = true;
+                }
             }
         }
-    }
 
-    public void addRandomWalls(double wallDensity) {
-        Random random = new Random();
-        for (int i = 1; i < nbLignes - 1; i++) {
-            for (int j = 1; j < nbColonnes - 1; j++) {
-                if (!cases[i][j].isWall() && random.nextDouble() < wallDensity) {
-                    cases[i][j].setWall(true); // Ajout d'un mur aléatoire
+        int restants = etat.getInt();
+        int prochain = restants > 0 ? etat.getInt() : -1;
+        i = 0;
+        for (int line = 0; line < nbLignes; line++) {
+            for (int col = 0; col < nbColonnes; col++, i++) {
+                Component actuel = storage.getVal(line, col);
+                Component val = null;
+                if (restants > 0 && prochain >>> 2 == i) {
+                    switch (prochain & 3) {
+                        case OCCUPANT_JOUEUR: val = trouver(joueurs, etat.getInt(), "joueur"); break;
+                        case OCCUPANT_BOMBE: val = trouver(bombes, etat.getInt(), "bombe"); break;
+                        case OCCUPANT_SOIN: val = actuel instanceof Health ? actuel : new Health(); break;
+                        default: val = actuel instanceof Ammo ? actuel : new Ammo(); break;
+                    }
+                    restants--;
+                    prochain = restants > 0 ? etat.getInt() : -1;
+                }
+                if (val != actuel) {
+                    storage.setVal(line, col, val);
                 }
             }
         }
+        if (restants > 0) {
+            throw new IllegalArgumentException("Instantané incompatible : occupants hors de la grille ou mal ordonnés.");
+        }
+        return mursModifies;
     }
 
-    public void reinforceBorders() {
-        for (int i = 0; i < nbLignes; i++) {
-            cases[i][0].setWall(true);                 // Mur gauche
-            cases[i][nbColonnes - 1].setWall(true);    // Mur droit
-        }
-        for (int j = 0; j < nbColonnes; j++) {
-            cases[0][j].setWall(true);                 // Mur haut
-            cases[nbLignes - 1][j].setWall(true);      // Mur bas
-        }
-    }    
-
-    public void addRandomComponents(double healthDensity, double ammoDensity) {
-        Random random = new Random();
-        for (int i = 1; i < nbLignes - 1; i++) {
-            for (int j = 1; j < nbColonnes - 1; j++) {
-                if (!cases[i][j].isWall() && cases[i][j].isEmpty()) {
-                    double chance = random.nextDouble();
-                    if (chance < healthDensity) {
-                        cases[i][j].setVal(new Health()); // Ajouter un soin
-                    } else if (chance < healthDensity + ammoDensity) {
-                        cases[i][j].setVal(new Ammo()); // Ajouter des munitions
-                    }
-                }
-            }
+    private static <T> T trouver(IntFunction<T> index, int id, String sorte) {
+        T trouve = index.apply(id);
+        if (trouve == null) {
+            throw new IllegalArgumentException("Instantané incompatible : " + sorte + " " + id + " introuvable.");
         }
+        return trouve;
     }
 
      /**
@@ -288,7 +523,7 @@ public class Grid implements Affichage {
         StringBuilder builder = new StringBuilder();
         for (int i = 0; i < nbLignes; i++) {
             for (int j = 0; j < nbColonnes; j++) {
-                builder.append(cases[i][j].isWall() ? "#" : " ");
+                builder.append(storage.isWall(i, j) ? "#" : " ");
             }
             builder.append("\n");
         }
@@ -0,0 +1,64 @@
+package modele.components;
+
+import modele.events.ObservateurCases;
+
+/**
+ * Stockage des cases d'une grille.
+ * La grille délègue à son stockage la lecture et l'écriture des murs et des composants,
+ * ce qui permet de choisir entre un tableau de {@link Case} ({@link ArrayGridStorage})
+ * et une représentation compacte pour les très grandes grilles ({@link CompactGridStorage}).
+ */
+interface GridStorage {
+
+    /**
+     * Vérifie si une cellule est un mur.
+     *
+     * @param line Ligne de la cellule.
+     * @param col Colonne de la cellule.
+     * @return {@code true} si la cellule est un mur.
+     */
+    boolean isWall(int line, int col);
+
+    /**
+     * Définit si une cellule est un mur.
+     *
+     * @param line Ligne de la cellule.
+     * @param col Colonne de la cellule.
+     * @param wall {@code true} pour en faire un mur.
+     */
+    void setWall(int line, int col, boolean wall);
+
+    /**
+     * Retourne le composant présent sur une cellule.
+     *
+     * @param line Ligne de la cellule.
+     * @param col Colonne de la cellule.
+     * @return Le composant, ou {@code null} si la cellule est vide.
+     */
+    Component getVal(int line, int col);
+
+    /**
+     * Définit le composant présent sur une cellule.
+     *
+     * @param line Ligne de la cellule.
+     * @param col Colonne de la cellule.
+     * @param val Le composant, ou {@code null} pour vider la cellule.
+     */
+    void setVal(int line, int col, Component val);
+
+    /**
+     * Retourne la case correspondant à une cellule.
+     *
+     * @param line Ligne de la cellule.
+     * @param col Colonne de la cellule.
+     * @return La case.
+     */
+    Case getCase(int line, int col);
+
+    /**
+     * Définit l'observateur prévenu de chaque modification du contenu d'une cellule.
+     *
+     * @param observateur L'observateur, ou {@code null}.
+     */
+    void setObservateur(ObservateurCases observateur);
+}
@@ -19,7 +19,7 @@ public class Health implements Component {
     @Override
     public void interact(Player player) {
         player.heal(healingAmount);
-        System.out.println("Healing case activated!");
+        player.getJournal().info("Healing case activated!");
     }
 
     /**
@@ -1,10 +1,15 @@
 package modele.components;
 
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import modele.Game;
 import modele.armes.Weapon;
 import modele.strategy.playerStrategy.*;
 import config.Constants;
 import modele.actions.*;
+import modele.events.*;
+import modele.journal.*;
 import java.awt.Color;
 
 
@@ -40,10 +45,15 @@ public class Player implements Component {
      */
     private boolean isShieldActive;
 
+    /**
+     * Compteur utilisé par les constructeurs sans identifiant explicite,
+     * pour les joueurs créés hors d'une partie.
+     */
+    private static final AtomicInteger dernierID = new AtomicInteger();
+
     /**
      * ID unique pour chaque joueur.
      */
-    private static int dernierID = 0; 
     private int iD;
 
     /**
@@ -51,21 +61,82 @@ public class Player implements Component {
      */
     private PlayerStrategy strategy;
 
+    /**
+     * Total des dégâts infligés par le joueur aux autres joueurs.
+     */
+    private int degatsInfliges;
+
+    /**
+     * Total des dégâts subis par le joueur.
+     */
+    private int degatsSubis;
+
+    /**
+     * Nombre de tirs effectués (armes et bombes).
+     */
+    private int nbTirs;
+
+    /**
+     * Nombre de tours joués par le joueur.
+     */
+    private int toursJoues;
+
+    /**
+     * Générateur aléatoire propre au joueur (choix d'arme, décisions de sa stratégie).
+     * Dans une partie, il est dérivé du générateur de la partie pour que les parties soient reproductibles.
+     */
+    private SplittableRandom rand;
+
+    /**
+     * Journal dans lequel le joueur rapporte ce qui lui arrive (bouclier, dégâts, mort).
+     * Dans une partie, c'est le journal de la partie.
+     */
+    private Journal journal;
+
+    /**
+     * Événements de la partie, dans lesquels le joueur signale les dégâts subis et sa mort (null hors d'une partie).
+     */
+    private Evenements evenements;
+
     /**
      * Constructeur principal du joueur.
      * 
+     * @param iD Identifiant du joueur, attribué par la partie.
      * @param Name Nom du joueur.
      * @param weapons Liste des armes du joueur.
      * @param strat Stratégie utilisée par le joueur.
      */
-    public Player(String Name, List<Weapon> weapons, PlayerStrategy strat) {
+    public Player(int iD, String Name, List<Weapon> weapons, PlayerStrategy strat) {
         this.weapons = weapons;
         this.energy = Constants.INITIAL_ENERGY;
         this.alive = true;
-        this.iD = ++dernierID;
+        this.iD = iD;
         this.Name = Name + iD;
         this.isShieldActive = false;
         this.strategy = strat;
+        this.rand = new SplittableRandom();
+        this.journal = Journal.CONSOLE_INFO;
+    }
+
+    /**
+     * Constructeur d'un joueur identifié par la partie, sans armes et avec une stratégie par défaut.
+     * 
+     * @param iD Identifiant du joueur, attribué par la partie.
+     * @param Name Nom du joueur.
+     */
+    public Player(int iD, String Name) {
+        this(iD, Name, new ArrayList<>(), new RandomBehaviour());
+    }
+
+    /**
+     * Constructeur d'un joueur créé hors d'une partie, avec un identifiant global.
+     * 
+     * @param Name Nom du joueur.
+     * @param weapons Liste des armes du joueur.
+     * @param strat Stratégie utilisée par le joueur.
+     */
+    public Player(String Name, List<Weapon> weapons, PlayerStrategy strat) {
+        this(dernierID.incrementAndGet(), Name, weapons, strat);
     }
 
     /**
@@ -173,10 +244,10 @@ public class Player implements Component {
      */
     public void activateShield() {
         if (!isShieldActive) {
-            System.out.println("Shield activated for one turn!");
+            journal.info("Shield activated for one turn!");
             isShieldActive = true;
         } else {
-            System.out.println("Shield is already active!");
+            journal.debug("Shield is already active!");
         }
     }
 
@@ -184,20 +255,34 @@ public class Player implements Component {
      * Applique des dégâts au joueur. Si le bouclier est actif, aucun dégât n'est pris.
      * 
      * @param damage Quantité de dégâts à appliquer.
+     * @return Les dégâts réellement subis (0 si le bouclier les a absorbés).
      */
-    public void damage(int damage) {
+    public int damage(int damage) {
+        int subis = 0;
+        boolean etaitVivant = alive;
         if (isShieldActive) {
-            System.out.println("Shield is active! No damage taken.");
+            journal.info("Shield is active! No damage taken.");
             isShieldActive = false; // Le bouclier est désactivé après usage
         } else {
             if (damage > 0 && damage < 100) {
                 this.energy -= damage;
+                subis = damage;
+                this.degatsSubis += damage;
             }
             if (energy <= 0) {
                 this.alive = false;
-                System.out.println("=========== Player " + Name + iD + " killed in action");
+                if (journal.estActif(Niveau.INFO)) {
+                    journal.info("=========== Player " + Name + iD + " killed in action");
+                }
+            }
+        }
+        if (evenements != null && evenements.isActif()) {
+            evenements.publier(new JoueurTouche(this, subis));
+            if (etaitVivant && !alive) {
+                evenements.publier(new JoueurMort(this));
             }
         }
+        return subis;
     }
 
     /**
@@ -225,12 +310,70 @@ public class Player implements Component {
      */
     public Weapon getRandomWeapon() {
         if (weapons == null || weapons.isEmpty()) {
-            System.out.println("Le joueur " + Name + " n'a aucune arme.");
+            if (journal.estActif(Niveau.DEBUG)) {
+                journal.debug("Le joueur " + Name + " n'a aucune arme.");
+            }
             return null;
         }
 
-        Random random = new Random();
-        return weapons.get(random.nextInt(weapons.size()));
+        return weapons.get(rand.nextInt(weapons.size()));
+    }
+
+    /**
+     * Obtient le générateur aléatoire du joueur.
+     * 
+     * @return Générateur aléatoire du joueur.
+     */
+    public SplittableRandom getRandom() {
+        return rand;
+    }
+
+    /**
+     * Définit le générateur aléatoire du joueur.
+     * 
+     * @param rand Nouveau générateur, en général dérivé de celui de la partie.
+     */
+    public void setRandom(SplittableRandom rand) {
+        this.rand = rand;
+    }
+
+    /**
+     * Obtient le journal du joueur.
+     * 
+     * @return Journal du joueur.
+     */
+    public Journal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Définit le journal du joueur.
+     * 
+     * @param journal Nouveau journal, en général celui de la partie.
+     */
+    public void setJournal(Journal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Définit les événements de la partie dans lesquels le joueur signale ce qui lui arrive.
+     * 
+     * @param evenements Les événements de la partie, ou null hors d'une partie.
+     */
+    public void setEvenements(Evenements evenements) {
+        this.evenements = evenements;
+    }
+
+    /**
+     * Tire au hasard l'indice d'une arme de l'inventaire du joueur.
+     * 
+     * @return Indice de l'arme dans {@link #getWeapons()}, ou -1 si le joueur n'a aucune arme.
+     */
+    public int getRandomWeaponIndex() {
+        if (weapons == null || weapons.isEmpty()) {
+            return -1;
+        }
+        return rand.nextInt(weapons.size());
     }
 
     /**
@@ -257,8 +400,8 @@ public class Player implements Component {
      * @param ammo Quantité de munitions à ajouter.
      */
     public void addAmmo(int ammo) {
-        for (Weapon w : weapons) {
-            w.ajouterMunitions(ammo);
+        for (int i = 0; i < weapons.size(); i++) {
+            weapons.get(i).ajouterMunitions(ammo);
         }
     }
 
@@ -275,9 +418,125 @@ public class Player implements Component {
         }
     }
 
+    /**
+     * Détermine le code de l'action du joueur en fonction de sa stratégie, sans créer d'objet.
+     * 
+     * @param game La partie en cours.
+     * @return Code de l'action à effectuer (voir {@link CodeAction}).
+     */
+    public int decider(Game game) {
+        if (strategy != null) {
+            return strategy.decider(this, game);
+        } else {
+            throw new IllegalStateException("Player strategy is not set.");
+        }
+    }
+
+    /**
+     * Comptabilise des dégâts infligés par le joueur à d'autres joueurs.
+     * 
+     * @param degats Dégâts infligés.
+     */
+    public void addDegatsInfliges(int degats) {
+        this.degatsInfliges += degats;
+    }
+
+    /**
+     * Obtient le total des dégâts infligés par le joueur.
+     * 
+     * @return Dégâts infligés.
+     */
+    public int getDegatsInfliges() {
+        return this.degatsInfliges;
+    }
+
+    /**
+     * Obtient le total des dégâts subis par le joueur.
+     * 
+     * @return Dégâts subis.
+     */
+    public int getDegatsSubis() {
+        return this.degatsSubis;
+    }
+
+    /**
+     * Comptabilise un tir (ou la pose d'une bombe) effectué par le joueur.
+     */
+    public void incrementerTirs() {
+        this.nbTirs++;
+    }
+
+    /**
+     * Obtient le nombre de tirs effectués par le joueur.
+     * 
+     * @return Nombre de tirs.
+     */
+    public int getNbTirs() {
+        return this.nbTirs;
+    }
+
+    /**
+     * Comptabilise un tour joué par le joueur.
+     */
+    public void incrementerTours() {
+        this.toursJoues++;
+    }
+
+    /**
+     * Obtient le nombre de tours joués par le joueur.
+     * 
+     * @return Nombre de tours joués.
+     */
+    public int getToursJoues() {
+        return this.toursJoues;
+    }
+
+    /**
+     * Écrit l'état du joueur qui évolue pendant la partie (énergie, vie, bouclier, statistiques
+     * et armes) dans un instantané. Le nom, la stratégie et le générateur aléatoire n'en font pas partie.
+     * 
+     * @param etat Le tampon de l'instantané.
+     */
+    public void sauvegarder(ByteBuffer etat) {
+        etat.putInt(energy)
+            .put((byte) ((alive ? 1 : 0) | (isShieldActive ? 2 : 0)))
+            .putInt(degatsInfliges).putInt(degatsSubis).putInt(nbTirs).putInt(toursJoues)
+            .putShort((short) weapons.size());
+        for (Weapon w : weapons) {
+            w.sauvegarder(etat);
+        }
+    }
+
+    /**
+     * Rétablit l'état du joueur écrit par {@link #sauvegarder(ByteBuffer)}.
+     * 
+     * @param etat Le tampon de l'instantané.
+     * @throws IllegalArgumentException si l'instantané ne décrit pas les mêmes armes.
+     */
+    public void restaurer(ByteBuffer etat) {
+        this.energy = etat.getInt();
+        int drapeaux = etat.get();
+        this.alive = (drapeaux & 1) != 0;
+        this.isShieldActive = (drapeaux & 2) != 0;
+        this.degatsInfliges = etat.getInt();
+        this.degatsSubis = etat.getInt();
+        this.nbTirs = etat.getInt();
+        this.toursJoues = etat.getInt();
+        int nbArmes = etat.getShort();
+        if (nbArmes != weapons.size()) {
+            throw new IllegalArgumentException("Instantané incompatible : " + nbArmes + " arme(s) pour le joueur " + iD
+                    + " au lieu de " + weapons.size() + ".");
+        }
+        for (Weapon w : weapons) {
+            w.restaurer(etat);
+        }
+    }
+
     @Override
     public void interact(Player p) {
-        System.out.println("Salut " + p);
+        if (journal.estActif(Niveau.DEBUG)) {
+            journal.debug("Salut " + p);
+        }
     }
 
     @Override
@@ -1,11 +1,16 @@
 package modele.components;
 
-import config.Constants;
+import java.util.*;
 import modele.armes.Bomb;
+import modele.util.PlayerManager;
 
 /**
  * Classe ProxyGrid permettant d'afficher une vue personnalisée de la grille pour un joueur spécifique.
  * Elle masque certaines informations (comme les bombes d'autres joueurs) pour maintenir une logique de visibilité limitée.
+ * La vue ne copie jamais la grille : chaque case est lue à la demande dans la grille principale
+ * ({@link #isWall(int, int)}, {@link #getVal(int, int)}, {@link #estVisible(int, int)}).
+ * Si la configuration définit une portée de vision, seules les cases en ligne de vue du joueur
+ * laissent voir leur contenu (brouillard de guerre) ; les murs restent connus.
  */
 public class ProxyGrid implements Affichage {
 
@@ -20,48 +25,185 @@ public class ProxyGrid implements Affichage {
     private Grid grid;
 
     /**
-     * Constructeur de ProxyGrid.
-     * 
+     * Gestionnaire des joueurs, pour connaître la position du joueur courant (peut être null sans brouillard).
+     */
+    private PlayerManager playerManager;
+
+    /**
+     * Portée de la ligne de vue, 0 si la grille est entièrement visible.
+     */
+    private final int portee;
+
+    /**
+     * Champ de vision de chaque joueur, conservé d'un tour à l'autre pour n'être recalculé qu'après un déplacement.
+     */
+    private final Map<Player, ChampDeVision> champs;
+
+    /**
+     * Champ de vision du joueur courant, ou null sans brouillard de guerre.
+     */
+    private ChampDeVision champCourant;
+
+    /**
+     * Constructeur de ProxyGrid, sans brouillard de guerre.
+     *
      * @param grid Grille principale du jeu.
      */
     public ProxyGrid(Grid grid) {
+        this(grid, null);
+    }
+
+    /**
+     * Constructeur de ProxyGrid. Le brouillard de guerre est actif si la configuration
+     * de la grille définit une portée de vision.
+     *
+     * @param grid Grille principale du jeu.
+     * @param playerManager Gestionnaire des joueurs, qui fournit la position du joueur courant.
+     */
+    public ProxyGrid(Grid grid, PlayerManager playerManager) {
         this.subjectPlayer = null;
         this.grid = grid;
+        this.playerManager = playerManager;
+        this.portee = playerManager == null ? 0 : grid.getConfig().getPorteeVision();
+        this.champs = new HashMap<>();
+        this.champCourant = null;
     }
 
     /**
      * Définit le joueur pour lequel la grille sera affichée.
-     * 
+     *
      * @param player Joueur courant.
      */
     public void setPlayer(Player player) {
         this.subjectPlayer = player;
+        if (portee > 0 && player != null) {
+            this.champCourant = champs.computeIfAbsent(player, p -> new ChampDeVision(grid, portee));
+        } else {
+            this.champCourant = null;
+        }
+        actualiser();
+    }
+
+    /**
+     * Retourne le joueur pour lequel la vue est générée.
+     *
+     * @return Le joueur courant, ou null.
+     */
+    public Player getPlayer() {
+        return this.subjectPlayer;
+    }
+
+    /**
+     * Met à jour le champ de vision du joueur courant après un déplacement.
+     * Le calcul n'est refait que si le joueur a changé de case.
+     */
+    public void actualiser() {
+        if (champCourant == null) {
+            return;
+        }
+        Case location = playerManager.getPlayerLocation(subjectPlayer);
+        if (location == null) {
+            champCourant.invalider();
+        } else {
+            champCourant.deplacer(location.getLine(), location.getCol());
+        }
+    }
+
+    /**
+     * Oublie les champs de vision calculés, qui seront refaits à la prochaine lecture :
+     * nécessaire lorsque les murs de la grille ont changé (restauration d'un instantané).
+     */
+    public void invaliderChamps() {
+        for (ChampDeVision champ : champs.values()) {
+            champ.invalider();
+        }
+    }
+
+    /**
+     * Indique si le brouillard de guerre est actif.
+     *
+     * @return true si une portée de vision limite ce que voit le joueur.
+     */
+    public boolean isBrouillard() {
+        return portee > 0;
+    }
+
+    /**
+     * Indique si le joueur courant voit le contenu d'une case.
+     *
+     * @param ligne La ligne de la case.
+     * @param col La colonne de la case.
+     * @return true si la case est en ligne de vue, ou si le brouillard de guerre est désactivé.
+     */
+    public boolean estVisible(int ligne, int col) {
+        return champCourant == null || champCourant.estVisible(ligne, col);
+    }
+
+    /**
+     * Indique si une case est un mur. Les murs sont connus de tous les joueurs.
+     *
+     * @param ligne La ligne de la case.
+     * @param col La colonne de la case.
+     * @return true si la case est un mur.
+     */
+    public boolean isWall(int ligne, int col) {
+        return grid.isWall(ligne, col);
+    }
+
+    /**
+     * Retourne le composant que le joueur courant voit sur une case.
+     * Les bombes des autres joueurs et le contenu des cases hors de vue apparaissent vides.
+     *
+     * @param ligne La ligne de la case.
+     * @param col La colonne de la case.
+     * @return Le composant visible, ou null.
+     */
+    public Component getVal(int ligne, int col) {
+        if (!estVisible(ligne, col)) {
+            return null;
+        }
+        Component val = grid.getVal(ligne, col);
+        if (val instanceof Bomb && subjectPlayer != null && !((Bomb) val).isOwner(subjectPlayer.getID())) {
+            return null;
+        }
+        return val;
+    }
+
+    /**
+     * Retourne le nombre de lignes de la grille.
+     *
+     * @return Le nombre de lignes.
+     */
+    public int getNbLines() {
+        return grid.getNbLines();
+    }
+
+    /**
+     * Retourne le nombre de colonnes de la grille.
+     *
+     * @return Le nombre de colonnes.
+     */
+    public int getNbColonnes() {
+        return grid.getNbColonnes();
     }
 
     /**
      * Génère une représentation en chaîne de caractères de la grille.
-     * Les bombes appartenant à d'autres joueurs ne sont pas affichées.
-     * 
+     * Les bombes appartenant à d'autres joueurs ne sont pas affichées, les cases hors de vue sont grisées ("..").
+     *
      * @return Représentation en chaîne de la grille.
      */
     @Override
     public String AfficheGrid() {
-        int currentPlayerID = subjectPlayer.getID();
         StringBuilder representation = new StringBuilder();
 
-        for (int i = 0; i < Constants.NB_LIGNES; i++) {
-            for (int j = 0; j < Constants.NB_COLS; j++) {
-
-                Case currentCase = this.grid.getCases()[i][j];
-                // Si la case contient une bombe, afficher uniquement si le joueur courant est le propriétaire
-                if (currentCase.getVal() instanceof Bomb) {
-                    if (((Bomb) currentCase.getVal()).isOwner(currentPlayerID)) {
-                        representation.append(this.grid.getCase(i, j).toString());
-                    } else {
-                        representation.append("  "); // Masquer la bombe
-                    }
+        for (int i = 0; i < grid.getNbLines(); i++) {
+            for (int j = 0; j < grid.getNbColonnes(); j++) {
+                boolean wall = isWall(i, j);
+                if (!wall && !estVisible(i, j)) {
+                    representation.append("..");
                 } else {
-                    representation.append(this.grid.getCase(i, j).toString());
+                    representation.append(Case.representer(wall, getVal(i, j)));
                 }
             }
             representation.append("\n");
@@ -71,28 +213,27 @@ public class ProxyGrid implements Affichage {
 
     /**
      * Retourne une grille personnalisée sous forme de tableau de cases.
-     * Les bombes appartenant à d'autres joueurs sont remplacées par des cases vides.
-     * 
+     * Les bombes appartenant à d'autres joueurs et les cases hors de vue sont remplacées par des cases vides.
+     *
      * @return Tableau de cases personnalisé pour le joueur courant.
+     * @deprecated Copie toute la grille à chaque appel ; lire les cases avec
+     * {@link #isWall(int, int)} et {@link #getVal(int, int)}.
      */
+    @Deprecated
     public Case[][] getCurrentGrid() {
         if (subjectPlayer == null) {
             return this.grid.getCases(); // Si aucun joueur n'est défini, retourner la grille originale
         }
 
-        int currentPlayerID = subjectPlayer.getID();
-        Case[][] originalGrid = grid.getCases();
-        Case[][] customizedGrid = new Case[Constants.NB_LIGNES][Constants.NB_COLS];
-
-        for (int i = 0; i < Constants.NB_LIGNES; i++) {
-            for (int j = 0; j < Constants.NB_COLS; j++) {
-                Case currentCase = originalGrid[i][j];
+        Case[][] customizedGrid = new Case[grid.getNbLines()][grid.getNbColonnes()];
 
-                // Remplacer les bombes appartenant à d'autres joueurs par des cases vides
-                if (currentCase.getVal() instanceof Bomb && !((Bomb) currentCase.getVal()).isOwner(currentPlayerID)) {
-                    customizedGrid[i][j] = new Case(i, j, currentCase.isWall()); // Case vide
+        for (int i = 0; i < grid.getNbLines(); i++) {
+            for (int j = 0; j < grid.getNbColonnes(); j++) {
+                Component visible = getVal(i, j);
+                if (visible != grid.getVal(i, j)) {
+                    customizedGrid[i][j] = new Case(i, j, isWall(i, j)); // Case vide
                 } else {
-                    customizedGrid[i][j] = currentCase; // Conserver la case originale
+                    customizedGrid[i][j] = grid.getCase(i, j); // Conserver la case originale
                 }
             }
         }
@@ -0,0 +1,52 @@
+package modele.events;
+
+import modele.actions.CodeAction;
+import modele.components.Player;
+
+/**
+ * Un joueur a tenté une action, réussie ou non. Chaque tentative d'un tour est publiée,
+ * dans l'ordre, ce qui suffit à rejouer la partie à partir de sa graine.
+ */
+public final class ActionJouee extends Evenement {
+
+    private final Player joueur;
+    private final int code;
+    private final boolean reussie;
+
+    /**
+     * @param joueur Le joueur qui a tenté l'action.
+     * @param code Le code de l'action (voir {@link CodeAction}).
+     * @param reussie true si l'action a été effectuée.
+     */
+    public ActionJouee(Player joueur, int code, boolean reussie) {
+        this.joueur = joueur;
+        this.code = code;
+        this.reussie = reussie;
+    }
+
+    /**
+     * @return Le joueur qui a tenté l'action.
+     */
+    public Player getJoueur() {
+        return joueur;
+    }
+
+    /**
+     * @return Le code de l'action (voir {@link CodeAction}).
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * @return true si l'action a été effectuée, false si le joueur a dû en choisir une autre.
+     */
+    public boolean isReussie() {
+        return reussie;
+    }
+
+    @Override
+    public String toString() {
+        return joueur.getName() + " : " + CodeAction.decoder(code, joueur) + (reussie ? "" : " (échec)");
+    }
+}
@@ -0,0 +1,50 @@
+package modele.events;
+
+import modele.armes.Bomb;
+
+/**
+ * Une bombe (grenade ou mine) a été posée sur une case.
+ */
+public final class BombePosee extends Evenement {
+
+    private final Bomb bombe;
+    private final int ligne;
+    private final int col;
+
+    /**
+     * @param bombe La bombe posée.
+     * @param ligne La ligne de la case.
+     * @param col La colonne de la case.
+     */
+    public BombePosee(Bomb bombe, int ligne, int col) {
+        this.bombe = bombe;
+        this.ligne = ligne;
+        this.col = col;
+    }
+
+    /**
+     * @return La bombe posée.
+     */
+    public Bomb getBombe() {
+        return bombe;
+    }
+
+    /**
+     * @return La ligne de la case.
+     */
+    public int getLigne() {
+        return ligne;
+    }
+
+    /**
+     * @return La colonne de la case.
+     */
+    public int getCol() {
+        return col;
+    }
+
+    @Override
+    public String toString() {
+        return (bombe.isMine() ? "Mine" : "Grenade") + " posée en (" + ligne + ", " + col + ")";
+    }
+}
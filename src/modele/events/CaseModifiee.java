@@ -0,0 +1,39 @@
+package modele.events;
+
+/**
+ * Le contenu d'une case a changé (joueur, bombe ou bonus posé ou retiré).
+ * Une case modifiée plusieurs fois pendant un tour n'apparaît qu'une fois dans le lot du tour.
+ */
+public final class CaseModifiee extends Evenement {
+
+    private final int ligne;
+    private final int col;
+
+    /**
+     * @param ligne La ligne de la case.
+     * @param col La colonne de la case.
+     */
+    public CaseModifiee(int ligne, int col) {
+        this.ligne = ligne;
+        this.col = col;
+    }
+
+    /**
+     * @return La ligne de la case.
+     */
+    public int getLigne() {
+        return ligne;
+    }
+
+    /**
+     * @return La colonne de la case.
+     */
+    public int getCol() {
+        return col;
+    }
+
+    @Override
+    public String toString() {
+        return "Case (" + ligne + ", " + col + ") modifiée";
+    }
+}
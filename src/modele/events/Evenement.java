@@ -0,0 +1,14 @@
+package modele.events;
+
+/**
+ * Événement de partie, émis par le modèle au moment où le changement a lieu
+ * puis transmis aux écouteurs regroupé avec les autres événements du tour ({@link LotEvenements}).
+ */
+public abstract class Evenement {
+
+    /**
+     * Constructeur réservé aux sous-classes.
+     */
+    protected Evenement() {
+    }
+}
@@ -0,0 +1,156 @@
+package modele.events;
+
+import java.util.*;
+
+/**
+ * Collecte les événements d'une partie pendant un tour, puis les livre d'un bloc ({@link #extraire(int)}).
+ * <p>
+ * La collecte n'est active que si quelqu'un écoute la partie : inactive, elle ne crée aucun objet,
+ * et les émetteurs qui construisent un événement testent d'abord {@link #isActif()}.
+ * Les cases modifiées sont dédoublonnées dans un bitset : une case touchée plusieurs fois
+ * pendant le tour ne produit qu'un {@link CaseModifiee}.
+ * <p>
+ * Les écouteurs s'inscrivent depuis n'importe quel thread : {@link #setActif(boolean)} ne fait que noter la collecte
+ * demandée, que le thread de la partie applique au début du tour suivant ({@link #appliquer()}). Seul ce thread
+ * touche donc aux événements en attente.
+ */
+public class Evenements implements ObservateurCases {
+
+    private final int nbColonnes;
+
+    /**
+     * Bitset des cases modifiées pendant le tour (indice ligne * nbColonnes + colonne).
+     */
+    private final long[] marquees;
+
+    /**
+     * Indices des cases modifiées, dans l'ordre de leur première modification.
+     */
+    private int[] modifiees;
+    private int nbModifiees;
+
+    private final List<Evenement> enAttente;
+
+    /**
+     * Collecte en cours, changée seulement par le thread de la partie.
+     */
+    private volatile boolean actif;
+
+    /**
+     * Collecte demandée par les inscriptions d'écouteurs, depuis n'importe quel thread.
+     */
+    private volatile boolean demande;
+
+    /**
+     * Constructeur de la collecte, inactive.
+     *
+     * @param nbLignes Le nombre de lignes de la grille.
+     * @param nbColonnes Le nombre de colonnes de la grille.
+     */
+    public Evenements(int nbLignes, int nbColonnes) {
+        this.nbColonnes = nbColonnes;
+        this.marquees = new long[(int) (((long) nbLignes * nbColonnes + 63) >>> 6)];
+        this.modifiees = new int[16];
+        this.nbModifiees = 0;
+        this.enAttente = new ArrayList<>();
+        this.actif = false;
+        this.demande = false;
+    }
+
+    /**
+     * Indique si les événements sont collectés.
+     *
+     * @return true si au moins un écouteur attend les événements.
+     */
+    public boolean isActif() {
+        return actif;
+    }
+
+    /**
+     * Demande d'activer ou de suspendre la collecte, depuis n'importe quel thread.
+     * La demande prend effet au prochain {@link #appliquer()}.
+     *
+     * @param actif true pour collecter les événements.
+     */
+    public void setActif(boolean actif) {
+        this.demande = actif;
+    }
+
+    /**
+     * Applique la dernière collecte demandée. Appelée par le thread de la partie au début de chaque tour ;
+     * suspendre la collecte oublie les événements en attente.
+     */
+    public void appliquer() {
+        boolean voulu = demande;
+        if (voulu != actif) {
+            actif = voulu;
+            if (!voulu) {
+                vider();
+            }
+        }
+    }
+
+    /**
+     * Ajoute un événement au tour en cours.
+     *
+     * @param evenement L'événement.
+     */
+    public void publier(Evenement evenement) {
+        if (actif) {
+            enAttente.add(evenement);
+        }
+    }
+
+    @Override
+    public void caseModifiee(int ligne, int col) {
+        if (!actif) {
+            return;
+        }
+        int index = ligne * nbColonnes + col;
+        long bit = 1L << index;
+        if ((marquees[index >>> 6] & bit) != 0) {
+            return;
+        }
+        marquees[index >>> 6] |= bit;
+        if (nbModifiees == modifiees.length) {
+            modifiees = Arrays.copyOf(modifiees, nbModifiees * 2);
+        }
+        modifiees[nbModifiees++] = index;
+    }
+
+    /**
+     * Indique si des événements attendent d'être livrés.
+     *
+     * @return true si le tour en cours a produit au moins un événement.
+     */
+    public boolean aDesEvenements() {
+        return nbModifiees > 0 || !enAttente.isEmpty();
+    }
+
+    /**
+     * Livre les événements du tour et recommence une collecte vide.
+     *
+     * @param tour Le numéro du tour écoulé.
+     * @return Le lot des événements du tour.
+     */
+    public LotEvenements extraire(int tour) {
+        List<CaseModifiee> cases = new ArrayList<>(nbModifiees);
+        for (int i = 0; i < nbModifiees; i++) {
+            cases.add(new CaseModifiee(modifiees[i] / nbColonnes, modifiees[i] % nbColonnes));
+        }
+        LotEvenements lot = new LotEvenements(tour, cases, new ArrayList<>(enAttente));
+        vider();
+        return lot;
+    }
+
+    /**
+     * Oublie les événements en attente.
+     */
+    private void vider() {
+        for (int i = 0; i < nbModifiees; i++) {
+            marquees[modifiees[i] >>> 6] = 0L;
+        }
+        nbModifiees = 0;
+        enAttente.clear();
+    }
+}
@@ -0,0 +1,71 @@
+package modele.events;
+
+import modele.components.Player;
+
+/**
+ * Un joueur s'est déplacé d'une case à une autre.
+ */
+public final class JoueurDeplace extends Evenement {
+
+    private final Player joueur;
+    private final int ligneDepart;
+    private final int colDepart;
+    private final int ligneArrivee;
+    private final int colArrivee;
+
+    /**
+     * @param joueur Le joueur déplacé.
+     * @param ligneDepart La ligne de départ.
+     * @param colDepart La colonne de départ.
+     * @param ligneArrivee La ligne d'arrivée.
+     * @param colArrivee La colonne d'arrivée.
+     */
+    public JoueurDeplace(Player joueur, int ligneDepart, int colDepart, int ligneArrivee, int colArrivee) {
+        this.joueur = joueur;
+        this.ligneDepart = ligneDepart;
+        this.colDepart = colDepart;
+        this.ligneArrivee = ligneArrivee;
+        this.colArrivee = colArrivee;
+    }
+
+    /**
+     * @return Le joueur déplacé.
+     */
+    public Player getJoueur() {
+        return joueur;
+    }
+
+    /**
+     * @return La ligne de départ.
+     */
+    public int getLigneDepart() {
+        return ligneDepart;
+    }
+
+    /**
+     * @return La colonne de départ.
+     */
+    public int getColDepart() {
+        return colDepart;
+    }
+
+    /**
+     * @return La ligne d'arrivée.
+     */
+    public int getLigneArrivee() {
+        return ligneArrivee;
+    }
+
+    /**
+     * @return La colonne d'arrivée.
+     */
+    public int getColArrivee() {
+        return colArrivee;
+    }
+
+    @Override
+    public String toString() {
+        return joueur.getName() + " se déplace de (" + ligneDepart + ", " + colDepart
+                + ") à (" + ligneArrivee + ", " + colArrivee + ")";
+    }
+}
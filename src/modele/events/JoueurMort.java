@@ -0,0 +1,30 @@
+package modele.events;
+
+import modele.components.Player;
+
+/**
+ * Un joueur n'a plus d'énergie et quitte la partie.
+ */
+public final class JoueurMort extends Evenement {
+
+    private final Player joueur;
+
+    /**
+     * @param joueur Le joueur mort.
+     */
+    public JoueurMort(Player joueur) {
+        this.joueur = joueur;
+    }
+
+    /**
+     * @return Le joueur mort.
+     */
+    public Player getJoueur() {
+        return joueur;
+    }
+
+    @Override
+    public String toString() {
+        return joueur.getName() + " est mort";
+    }
+}
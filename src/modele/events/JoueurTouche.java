@@ -0,0 +1,40 @@
+package modele.events;
+
+import modele.components.Player;
+
+/**
+ * Un joueur a été touché par un tir, une explosion ou une mine.
+ */
+public final class JoueurTouche extends Evenement {
+
+    private final Player joueur;
+    private final int degats;
+
+    /**
+     * @param joueur Le joueur touché.
+     * @param degats Les dégâts subis (0 si le bouclier les a absorbés).
+     */
+    public JoueurTouche(Player joueur, int degats) {
+        this.joueur = joueur;
+        this.degats = degats;
+    }
+
+    /**
+     * @return Le joueur touché.
+     */
+    public Player getJoueur() {
+        return joueur;
+    }
+
+    /**
+     * @return Les dégâts subis, 0 si le bouclier les a absorbés.
+     */
+    public int getDegats() {
+        return degats;
+    }
+
+    @Override
+    public String toString() {
+        return joueur.getName() + " touché (" + degats + " dégâts)";
+    }
+}
@@ -0,0 +1,97 @@
+package modele.events;
+
+import java.util.*;
+
+/**
+ * Événements d'un tour de jeu, livrés ensemble aux écouteurs.
+ * Les écouteurs n'ont ainsi à mettre à jour que les cases et les informations concernées.
+ */
+public final class LotEvenements {
+
+    private final int tour;
+    private final List<CaseModifiee> cases;
+    private final List<Evenement> evenements;
+
+    /**
+     * Constructeur du lot.
+     *
+     * @param tour Le numéro du tour.
+     * @param cases Les cases modifiées pendant le tour, chacune une seule fois.
+     * @param evenements Les autres événements du tour, dans l'ordre où ils ont eu lieu.
+     */
+    public LotEvenements(int tour, List<CaseModifiee> cases, List<Evenement> evenements) {
+        this.tour = tour;
+        this.cases = Collections.unmodifiableList(cases);
+        this.evenements = Collections.unmodifiableList(evenements);
+    }
+
+    /**
+     * @return Le numéro du tour.
+     */
+    public int getTour() {
+        return tour;
+    }
+
+    /**
+     * @return Les cases modifiées pendant le tour, chacune une seule fois.
+     */
+    public List<CaseModifiee> getCasesModifiees() {
+        return cases;
+    }
+
+    /**
+     * @return Les événements du tour autres que les modifications de cases, dans l'ordre où ils ont eu lieu.
+     */
+    public List<Evenement> getEvenements() {
+        return evenements;
+    }
+
+    /**
+     * Retourne les événements d'un type donné (les cases modifiées sont dans {@link #getCasesModifiees()}).
+     *
+     * @param type Le type d'événement recherché.
+     * @param <T> Le type d'événement.
+     * @return Les événements de ce type, dans l'ordre où ils ont eu lieu.
+     */
+    public <T extends Evenement> List<T> filtrer(Class<T> type) {
+        List<T> resultat = new ArrayList<>();
+        for (Evenement evenement : evenements) {
+            if (type.isInstance(evenement)) {
+                resultat.add(type.cast(evenement));
+            }
+        }
+        return resultat;
+    }
+
+    /**
+     * Fusionne ce lot avec un lot plus récent, pour un écouteur qui n'a pas encore reçu celui-ci :
+     * le résultat porte le tour le plus récent, l'union des cases modifiées et les événements des deux lots.
+     *
+     * @param plusRecent Le lot suivant.
+     * @return Le lot fusionné.
+     */
+    public LotEvenements fusionner(LotEvenements plusRecent) {
+        Set<Long> vues = new HashSet<>();
+        List<CaseModifiee> union = new ArrayList<>(cases.size() + plusRecent.cases.size());
+        for (List<CaseModifiee> liste : List.of(cases, plusRecent.cases)) {
+            for (CaseModifiee c : liste) {
+                if (vues.add(((long) c.getLigne() << 32) | c.getCol())) {
+                    union.add(c);
+                }
+            }
+        }
+        List<Evenement> tous = new ArrayList<>(evenements.size() + plusRecent.evenements.size());
+        tous.addAll(evenements);
+        tous.addAll(plusRecent.evenements);
+        return new LotEvenements(plusRecent.tour, union, tous);
+    }
+
+    /**
+     * Indique si le lot est vide.
+     *
+     * @return true si le tour n'a produit aucun événement.
+     */
+    public boolean estVide() {
+        return cases.isEmpty() && evenements.isEmpty();
+    }
+}
@@ -0,0 +1,15 @@
+package modele.events;
+
+/**
+ * Reçoit les modifications du contenu des cases d'une grille, au moment où elles ont lieu.
+ */
+public interface ObservateurCases {
+
+    /**
+     * Appelé après chaque modification du contenu d'une case.
+     *
+     * @param ligne La ligne de la case.
+     * @param col La colonne de la case.
+     */
+    void caseModifiee(int ligne, int col);
+}
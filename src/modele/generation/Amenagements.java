@@ -0,0 +1,90 @@
+package modele.generation;
+
+import java.util.SplittableRandom;
+import config.MatchConfig;
+
+/**
+ * Étapes de génération communes aux générateurs à couloirs : chambres, piliers, murs aléatoires,
+ * pastilles et bordure. Elles tirent leurs valeurs dans le même ordre que la génération historique
+ * de la grille, pour que les arènes {@link TypeGenerateur#CLASSIQUE classiques} restent identiques.
+ */
+final class Amenagements {
+
+    private Amenagements() {
+    }
+
+    /**
+     * Ajoute chambres, piliers, murs aléatoires et pastilles, puis referme la bordure.
+     *
+     * @param arene Le plan, dont les couloirs sont déjà creusés.
+     * @param config La configuration de la partie.
+     * @param rand Le générateur aléatoire de la grille.
+     */
+    static void amenager(Arene arene, MatchConfig config, SplittableRandom rand) {
+        ajouterChambres(arene, config.getNbChambres(), config.getTailleChambre(), rand);
+        ajouterPiliers(arene);
+        ajouterMursAleatoires(arene, config.getDensiteMurs(), rand);
+        ajouterPastilles(arene, config.getDensiteSoins(), config.getDensiteMunitions(), rand);
+        renforcerBords(arene);
+    }
+
+    static void ajouterChambres(Arene arene, int nbChambres, int taille, SplittableRandom rand) {
+        int nbLignes = arene.getNbLignes();
+        int nbColonnes = arene.getNbColonnes();
+        for (int i = 0; i < nbChambres; i++) {
+            int debutLigne = rand.nextInt(nbLignes - taille - 1) + 1;
+            int debutColonne = rand.nextInt(nbColonnes - taille - 1) + 1;
+            for (int x = debutLigne; x < debutLigne + taille; x++) {
+                for (int y = debutColonne; y < debutColonne + taille; y++) {
+                    arene.setMur(x, y, false);
+                }
+            }
+        }
+    }
+
+    static void ajouterPiliers(Arene arene) {
+        for (int i = 2; i < arene.getNbLignes() - 1; i += 4) {
+            for (int j = 2; j < arene.getNbColonnes() - 1; j += 4) {
+                arene.setMur(i, j, true);
+            }
+        }
+    }
+
+    static void ajouterMursAleatoires(Arene arene, double densite, SplittableRandom rand) {
+        for (int i = 1; i < arene.getNbLignes() - 1; i++) {
+            for (int j = 1; j < arene.getNbColonnes() - 1; j++) {
+                if (!arene.estMur(i, j) && rand.nextDouble() < densite) {
+                    arene.setMur(i, j, true);
+                }
+            }
+        }
+    }
+
+    static void ajouterPastilles(Arene arene, double densiteSoins, double densiteMunitions, SplittableRandom rand) {
+        for (int i = 1; i < arene.getNbLignes() - 1; i++) {
+            for (int j = 1; j < arene.getNbColonnes() - 1; j++) {
+                if (!arene.estMur(i, j) && !arene.estOccupee(i, j)) {
+                    double chance = rand.nextDouble();
+                    if (chance < densiteSoins) {
+                        arene.poserSoin(i, j);
+                    } else if (chance < densiteSoins + densiteMunitions) {
+                        arene.poserMunitions(i, j);
+                    }
+                }
+            }
+        }
+    }
+
+    static void renforcerBords(Arene arene) {
+        int nbLignes = arene.getNbLignes();
+        int nbColonnes = arene.getNbColonnes();
+        for (int i = 0; i < nbLignes; i++) {
+            arene.setMur(i, 0, true);
+            arene.setMur(i, nbColonnes - 1, true);
+        }
+        for (int j = 0; j < nbColonnes; j++) {
+            arene.setMur(0, j, true);
+            arene.setMur(nbLignes - 1, j, true);
+        }
+    }
+}
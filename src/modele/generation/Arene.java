@@ -0,0 +1,132 @@
+package modele.generation;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Plan d'une arène produit par un {@link MazeGenerator} : les murs, les pastilles d'énergie et les
+ * pastilles de munitions, chacun rangé dans un bitset (une cellule par bit, indice {@code ligne * nbColonnes + colonne}).
+ * La grille recopie le plan dans son stockage ; un plan mis en cache n'est plus modifié.
+ */
+public class Arene {
+
+    private final int nbLignes;
+    private final int nbColonnes;
+    private final long[] murs;
+    private final long[] soins;
+    private final long[] munitions;
+
+    /**
+     * Crée un plan dont toutes les cases sont des murs, sans pastille.
+     *
+     * @param nbLignes Nombre de lignes.
+     * @param nbColonnes Nombre de colonnes.
+     * @throws IllegalArgumentException si le plan ne tient pas dans un tableau : utiliser alors {@link FichierMurs}.
+     */
+    public Arene(int nbLignes, int nbColonnes) {
+        this.nbLignes = nbLignes;
+        this.nbColonnes = nbColonnes;
+        long mots = ((long) nbLignes * nbColonnes + 63) >>> 6;
+        if (mots > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Arène " + nbLignes + "x" + nbColonnes + " trop grande pour la mémoire.");
+        }
+        this.murs = new long[(int) mots];
+        this.soins = new long[(int) mots];
+        this.munitions = new long[(int) mots];
+        Arrays.fill(murs, -1L);
+    }
+
+    public int getNbLignes() {
+        return nbLignes;
+    }
+
+    public int getNbColonnes() {
+        return nbColonnes;
+    }
+
+    /**
+     * @return Le nombre de cellules du plan.
+     */
+    public long getNbCellules() {
+        return (long) nbLignes * nbColonnes;
+    }
+
+    public boolean estMur(int line, int col) {
+        long i = (long) line * nbColonnes + col;
+        return (murs[(int) (i >>> 6)] & (1L << i)) != 0;
+    }
+
+    public void setMur(int line, int col, boolean mur) {
+        long i = (long) line * nbColonnes + col;
+        if (mur) {
+            murs[(int) (i >>> 6)] |= 1L << i;
+        } else {
+            murs[(int) (i >>> 6)] &= ~(1L << i);
+        }
+    }
+
+    public boolean estSoin(int line, int col) {
+        long i = (long) line * nbColonnes + col;
+        return (soins[(int) (i >>> 6)] & (1L << i)) != 0;
+    }
+
+    public boolean estMunitions(int line, int col) {
+        long i = (long) line * nbColonnes + col;
+        return (munitions[(int) (i >>> 6)] & (1L << i)) != 0;
+    }
+
+    /**
+     * Indique si une cellule porte une pastille.
+     */
+    public boolean estOccupee(int line, int col) {
+        long i = (long) line * nbColonnes + col;
+        return ((soins[(int) (i >>> 6)] | munitions[(int) (i >>> 6)]) & (1L << i)) != 0;
+    }
+
+    public void poserSoin(int line, int col) {
+        long i = (long) line * nbColonnes + col;
+        soins[(int) (i >>> 6)] |= 1L << i;
+    }
+
+    public void poserMunitions(int line, int col) {
+        long i = (long) line * nbColonnes + col;
+        munitions[(int) (i >>> 6)] |= 1L << i;
+    }
+
+    /**
+     * @return La taille en octets du plan écrit par {@link #ecrire(ByteBuffer)}.
+     */
+    int taille() {
+        return 8 + 3 * 8 * murs.length;
+    }
+
+    /**
+     * Écrit le plan : ses dimensions puis les bitsets des murs, des soins et des munitions.
+     *
+     * @param tampon Le tampon.
+     */
+    void ecrire(ByteBuffer tampon) {
+        tampon.putInt(nbLignes).putInt(nbColonnes);
+        for (long[] bits : new long[][] {murs, soins, munitions}) {
+            for (long mot : bits) {
+                tampon.putLong(mot);
+            }
+        }
+    }
+
+    /**
+     * Relit un plan écrit par {@link #ecrire(ByteBuffer)}.
+     *
+     * @param tampon Le tampon.
+     * @return Le plan.
+     */
+    static Arene lire(ByteBuffer tampon) {
+        Arene arene = new Arene(tampon.getInt(), tampon.getInt());
+        for (long[] bits : new long[][] {arene.murs, arene.soins, arene.munitions}) {
+            for (int i = 0; i < bits.length; i++) {
+                bits[i] = tampon.getLong();
+            }
+        }
+        return arene;
+    }
+}
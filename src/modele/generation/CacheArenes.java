@@ -0,0 +1,238 @@
+package modele.generation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.SplittableRandom;
+import java.util.zip.CRC32;
+import config.MatchConfig;
+
+/**
+ * Cache des arènes générées, en mémoire et, si la configuration désigne un répertoire ({@code cache.arenes}),
+ * sur le disque. Une arène ne dépend que de sa graine et des paramètres de génération
+ * (générateur, dimensions, densités, chambres).
+ * <p>
+ * Par défaut, la graine de l'arène est celle de la partie : seules les parties rejouées, reprises ou simulées
+ * à nouveau avec la même graine (copies de la recherche Monte-Carlo) la retrouvent. Avec l'option {@code arenes}
+ * (N &gt; 0, le défaut des tournois), la partie tire de sa graine le numéro d'une arène parmi N ; la graine de
+ * l'arène mêle ce numéro à celle de l'ensemble ({@code graine.arenes}, par défaut la graine du tournoi).
+ * N arènes seulement sont générées par ensemble, puis toutes les parties les reprennent du cache.
+ * <p>
+ * En mémoire, les arènes les moins récemment utilisées sont oubliées au-delà de {@link #CELLULES_MAX} cellules.
+ * Sur le disque, chaque arène est un fichier {@code arene-<graine de l'arène>-<empreinte>.bin} : {@code int} {@link #MAGIQUE},
+ * {@code short} {@link #VERSION}, {@code int} longueur puis texte UTF-8 de la clé, le plan ({@link Arene}),
+ * puis le {@code int} CRC32 de tout ce qui précède. Un fichier illisible, abîmé ou d'une autre clé est ignoré
+ * et remplacé ; une erreur d'écriture ne fait que priver la partie suivante du cache.
+ */
+public final class CacheArenes {
+
+    static final int MAGIQUE = 0x4152454E;
+    static final short VERSION = 1;
+
+    /** Nombre total de cellules des arènes gardées en mémoire. */
+    static final long CELLULES_MAX = 1L << 24;
+
+    private static final CacheArenes COMMUN = new CacheArenes(CELLULES_MAX);
+
+    private final long cellulesMax;
+    private long cellules;
+
+    /** Arènes en mémoire, de la moins à la plus récemment utilisée. */
+    private final LinkedHashMap<String, Arene> arenes = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long succes;
+    private long generations;
+
+    /**
+     * Crée un cache vide.
+     *
+     * @param cellulesMax Nombre total de cellules des arènes gardées en mémoire.
+     */
+    public CacheArenes(long cellulesMax) {
+        this.cellulesMax = cellulesMax;
+    }
+
+    /**
+     * Retourne le cache partagé par toutes les parties du processus.
+     *
+     * @return Le cache commun.
+     */
+    public static CacheArenes commun() {
+        return COMMUN;
+    }
+
+    /**
+     * Retourne l'arène d'une partie : depuis la mémoire, sinon depuis le répertoire du cache, sinon en la générant
+     * avec le générateur de la configuration (puis en la gardant en mémoire et sur le disque).
+     *
+     * @param config La configuration de la partie.
+     * @param graine La graine de la partie.
+     * @param rand Le générateur aléatoire de la grille, dérivé de la graine ; il n'est utilisé que si l'arène est générée
+     * à partir de la graine de la partie (sans ensemble d'arènes).
+     * @return Le plan de l'arène, à ne pas modifier.
+     */
+    public Arene obtenir(MatchConfig config, long graine, SplittableRandom rand) {
+        int nbArenes = config.getArenes() == null ? 0 : config.getArenes();
+        if (nbArenes > 0) {
+            // Le numéro est tiré d'un générateur distinct de celui de la partie, qui reste intact.
+            int numero = new SplittableRandom(graine).split().nextInt(nbArenes);
+            long graineArene = graineArene(config.getGraineArenes() == null ? 0L : config.getGraineArenes(), numero);
+            return obtenir(config, cle(config, "arene " + graineArene), graineArene, new SplittableRandom(graineArene));
+        }
+        return obtenir(config, cle(config, Long.toString(graine)), graine, rand);
+    }
+
+    /**
+     * Calcule la graine d'une arène d'un ensemble à partir de la graine de l'ensemble et du numéro de l'arène.
+     */
+    static long graineArene(long graineEnsemble, int numero) {
+        return new SplittableRandom(graineEnsemble ^ (numero * 0x9E3779B97F4A7C15L)).nextLong();
+    }
+
+    /**
+     * Retourne une arène depuis la mémoire ou le disque, ou la génère.
+     */
+    private Arene obtenir(MatchConfig config, String cle, long graine, SplittableRandom rand) {
+        synchronized (this) {
+            Arene arene = arenes.get(cle);
+            if (arene != null) {
+                succes++;
+                return arene;
+            }
+        }
+        Path fichier = config.getCacheArenes() == null ? null
+                : Paths.get(config.getCacheArenes(), "arene-" + Long.toHexString(graine) + "-"
+                        + Integer.toHexString(cle.hashCode()) + ".bin");
+        Arene arene = fichier == null ? null : lire(fichier, cle);
+        synchronized (this) {
+            if (arene != null) {
+                succes++;
+            } else {
+                generations++;
+            }
+        }
+        if (arene == null) {
+            arene = TypeGenerateur.depuis(config.getGenerateur()).creer().generer(config, rand);
+            if (fichier != null) {
+                try {
+                    ecrire(fichier, cle, arene);
+                } catch (IOException e) {
+                    // Le cache disque n'est qu'une accélération : la partie continue avec l'arène générée.
+                }
+            }
+        }
+        garder(cle, arene);
+        return arene;
+    }
+
+    /**
+     * @return Le nombre d'arènes trouvées en mémoire ou sur le disque.
+     */
+    public synchronized long getSucces() {
+        return succes;
+    }
+
+    /**
+     * @return Le nombre d'arènes générées faute de les avoir trouvées.
+     */
+    public synchronized long getGenerations() {
+        return generations;
+    }
+
+    /**
+     * Oublie les arènes gardées en mémoire.
+     */
+    public synchronized void vider() {
+        arenes.clear();
+        cellules = 0;
+    }
+
+    private synchronized void garder(String cle, Arene arene) {
+        if (arene.getNbCellules() > cellulesMax || arenes.containsKey(cle)) {
+            return;
+        }
+        arenes.put(cle, arene);
+        cellules += arene.getNbCellules();
+        Iterator<Arene> anciennes = arenes.values().iterator();
+        while (cellules > cellulesMax) {
+            cellules -= anciennes.next().getNbCellules();
+            anciennes.remove();
+        }
+    }
+
+    /**
+     * Construit la clé d'une arène : tous les paramètres dont dépend sa génération, puis sa graine
+     * (celle de la partie, ou {@code arene <graine de l'arène>} dans un ensemble d'arènes).
+     */
+    static String cle(MatchConfig config, String graine) {
+        return config.getGenerateur() + ";" + config.getNbLignes() + "x" + config.getNbColonnes()
+                + ";" + config.getDensiteMurs() + ";" + config.getDensiteSoins() + ";" + config.getDensiteMunitions()
+                + ";" + config.getNbChambres() + "x" + config.getTailleChambre() + ";" + graine;
+    }
+
+    /**
+     * Relit une arène du cache disque, ou null si le fichier est absent, illisible ou ne correspond pas à la clé.
+     */
+    private static Arene lire(Path fichier, String cle) {
+        ByteBuffer contenu;
+        try {
+            contenu = ByteBuffer.wrap(Files.readAllBytes(fichier));
+        } catch (IOException e) {
+            return null;
+        }
+        if (contenu.limit() < 14 || contenu.getInt(0) != MAGIQUE || contenu.getShort(4) != VERSION) {
+            return null;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(contenu.array(), 0, contenu.limit() - 4);
+        if ((int) crc.getValue() != contenu.getInt(contenu.limit() - 4)) {
+            return null;
+        }
+        contenu.position(6);
+        byte[] texte = new byte[contenu.getInt()];
+        contenu.get(texte);
+        if (!cle.equals(new String(texte, StandardCharsets.UTF_8))) {
+            return null;
+        }
+        return Arene.lire(contenu);
+    }
+
+    /**
+     * Écrit une arène dans le cache disque : à côté de sa destination, puis renommée.
+     */
+    private static void ecrire(Path fichier, String cle, Arene arene) throws IOException {
+        byte[] texte = cle.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer contenu = ByteBuffer.allocate(14 + texte.length + arene.taille());
+        contenu.putInt(MAGIQUE).putShort(VERSION).putInt(texte.length).put(texte);
+        arene.ecrire(contenu);
+        CRC32 crc = new CRC32();
+        crc.update(contenu.array(), 0, contenu.position());
+        contenu.putInt((int) crc.getValue()).flip();
+
+        Files.createDirectories(fichier.getParent());
+        Path temporaire = Files.createTempFile(fichier.getParent(), fichier.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel canal = FileChannel.open(temporaire, StandardOpenOption.WRITE)) {
+                while (contenu.hasRemaining()) {
+                    canal.write(contenu);
+                }
+            }
+            try {
+                Files.move(temporaire, fichier, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaire, fichier, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaire);
+        }
+    }
+}
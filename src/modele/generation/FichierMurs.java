@@ -0,0 +1,197 @@
+package modele.generation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+import config.MatchConfig;
+
+/**
+ * Murs d'une arène dans un fichier projeté en mémoire, pour les arènes trop grandes pour le tas
+ * (100 000 x 100 000 cases tiennent en 1,25 Go de fichier).
+ * <p>
+ * Format (entiers gros-boutistes) : {@code int} {@link #MAGIQUE}, {@code short} {@link #VERSION}, {@code short} 0,
+ * {@code int} nombre de lignes, {@code int} nombre de colonnes, puis chaque ligne en {@code (nbColonnes + 63) / 64}
+ * mots {@code long}, bit {@code j % 64} du mot {@code j / 64} à 1 si la colonne {@code j} est un mur.
+ * <p>
+ * Le fichier n'est projeté que par fenêtres de {@link #FENETRE} octets, déplacées au fil des lignes :
+ * l'écriture par {@link LabyrintheEnFlux} et la lecture séquentielle ne gardent qu'une fenêtre à la fois.
+ */
+public final class FichierMurs implements SortieLignes, AutoCloseable {
+
+    static final int MAGIQUE = 0x4D555253;
+    static final short VERSION = 1;
+    static final int ENTETE = 16;
+
+    /** Taille maximale d'une fenêtre projetée. */
+    static final long FENETRE = 64L << 20;
+
+    private final FileChannel canal;
+    private final FileChannel.MapMode mode;
+    private final int nbLignes;
+    private final int nbColonnes;
+    private final int octetsLigne;
+    private final int lignesParFenetre;
+
+    /** Fenêtre projetée et numéro de sa première ligne, -1 avant la première projection. */
+    private MappedByteBuffer fenetre;
+    private int premiereLigne = -1;
+
+    private FichierMurs(FileChannel canal, FileChannel.MapMode mode, int nbLignes, int nbColonnes) {
+        this.canal = canal;
+        this.mode = mode;
+        this.nbLignes = nbLignes;
+        this.nbColonnes = nbColonnes;
+        this.octetsLigne = ((nbColonnes + 63) >>> 6) * 8;
+        this.lignesParFenetre = (int) Math.max(1, Math.min(nbLignes, FENETRE / octetsLigne));
+    }
+
+    /**
+     * Génère une arène ligne par ligne ({@link LabyrintheEnFlux}) directement dans un fichier. Le fichier est d'abord
+     * écrit à côté de sa destination, forcé sur le disque, puis renommé : une génération interrompue ne laisse
+     * pas de fichier incomplet.
+     *
+     * @param config La configuration de l'arène (dimensions, chambres, densité des murs).
+     * @param rand Le générateur aléatoire.
+     * @param fichier Le fichier, remplacé s'il existe.
+     * @throws IOException si le fichier ne peut pas être écrit.
+     */
+    public static void generer(MatchConfig config, SplittableRandom rand, Path fichier) throws IOException {
+        Path temporaire = fichier.resolveSibling(fichier.getFileName() + ".tmp");
+        try {
+            try (FichierMurs sortie = creer(temporaire, config.getNbLignes(), config.getNbColonnes())) {
+                LabyrintheEnFlux.generer(config, rand, sortie);
+            }
+            try {
+                Files.move(temporaire, fichier, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaire, fichier, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaire);
+        }
+    }
+
+    /**
+     * Crée un fichier de murs vide, prêt à recevoir les lignes de {@link LabyrintheEnFlux}.
+     *
+     * @param fichier Le fichier, remplacé s'il existe.
+     * @param nbLignes Nombre de lignes.
+     * @param nbColonnes Nombre de colonnes.
+     * @return Le fichier ouvert en écriture.
+     * @throws IOException si le fichier ne peut pas être créé.
+     */
+    public static FichierMurs creer(Path fichier, int nbLignes, int nbColonnes) throws IOException {
+        FileChannel canal = FileChannel.open(fichier, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer entete = ByteBuffer.allocate(ENTETE);
+        entete.putInt(MAGIQUE).putShort(VERSION).putShort((short) 0).putInt(nbLignes).putInt(nbColonnes).flip();
+        while (entete.hasRemaining()) {
+            canal.write(entete);
+        }
+        return new FichierMurs(canal, FileChannel.MapMode.READ_WRITE, nbLignes, nbColonnes);
+    }
+
+    /**
+     * Ouvre en lecture un fichier de murs.
+     *
+     * @param fichier Le fichier écrit par {@link #generer(MatchConfig, SplittableRandom, Path)}.
+     * @return Le fichier ouvert en lecture.
+     * @throws IOException si le fichier ne peut pas être lu.
+     * @throws IllegalArgumentException si le fichier n'est pas un fichier de murs ou est tronqué.
+     */
+    public static FichierMurs ouvrir(Path fichier) throws IOException {
+        FileChannel canal = FileChannel.open(fichier, StandardOpenOption.READ);
+        try {
+            ByteBuffer entete = ByteBuffer.allocate(ENTETE);
+            while (entete.hasRemaining() && canal.read(entete) >= 0) {
+                // Lecture de l'en-tête complet.
+            }
+            entete.flip();
+            if (entete.limit() < ENTETE || entete.getInt(0) != MAGIQUE) {
+                throw new IllegalArgumentException("Ce fichier n'est pas un fichier de murs : " + fichier);
+            }
+            if (entete.getShort(4) != VERSION) {
+                throw new IllegalArgumentException("Version de fichier de murs non prise en charge : " + entete.getShort(4));
+            }
+            FichierMurs murs = new FichierMurs(canal, FileChannel.MapMode.READ_ONLY, entete.getInt(8), entete.getInt(12));
+            if (canal.size() < ENTETE + (long) murs.nbLignes * murs.octetsLigne) {
+                throw new IllegalArgumentException("Fichier de murs tronqué : " + fichier);
+            }
+            return murs;
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    public int getNbLignes() {
+        return nbLignes;
+    }
+
+    public int getNbColonnes() {
+        return nbColonnes;
+    }
+
+    /**
+     * Indique si une case est un mur. Les lectures proches d'une ligne à l'autre restent dans la même fenêtre.
+     *
+     * @param line Ligne de la case.
+     * @param col Colonne de la case.
+     * @return true si la case est un mur.
+     * @throws IOException si la fenêtre ne peut pas être projetée.
+     */
+    public boolean estMur(int line, int col) throws IOException {
+        int debut = projeter(line);
+        return (fenetre.getLong(debut + (col >>> 6) * 8) & (1L << col)) != 0;
+    }
+
+    @Override
+    public void ligne(int numero, long[] murs) throws IOException {
+        int debut = projeter(numero);
+        for (int i = 0; i < octetsLigne / 8; i++) {
+            fenetre.putLong(debut + i * 8, murs[i]);
+        }
+    }
+
+    /**
+     * Projette la fenêtre qui contient une ligne, si ce n'est pas déjà la fenêtre courante.
+     *
+     * @return La position de la ligne dans la fenêtre.
+     */
+    private int projeter(int ligne) throws IOException {
+        if (premiereLigne < 0 || ligne < premiereLigne || ligne >= premiereLigne + lignesParFenetre) {
+            if (fenetre != null && mode == FileChannel.MapMode.READ_WRITE) {
+                fenetre.force();
+            }
+            premiereLigne = ligne - ligne % lignesParFenetre;
+            int lignes = Math.min(lignesParFenetre, nbLignes - premiereLigne);
+            fenetre = canal.map(mode, ENTETE + (long) premiereLigne * octetsLigne, (long) lignes * octetsLigne);
+        }
+        return (ligne - premiereLigne) * octetsLigne;
+    }
+
+    /**
+     * Ferme le fichier, après l'avoir forcé sur le disque s'il était ouvert en écriture.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (mode == FileChannel.MapMode.READ_WRITE) {
+                if (fenetre != null) {
+                    fenetre.force();
+                }
+                canal.force(true);
+            }
+        } finally {
+            fenetre = null;
+            canal.close();
+        }
+    }
+}
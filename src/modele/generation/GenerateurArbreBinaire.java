@@ -0,0 +1,37 @@
+package modele.generation;
+
+import java.util.SplittableRandom;
+import config.MatchConfig;
+
+/**
+ * Générateur par arbre binaire : chaque case de coordonnées impaires est creusée puis reliée à sa voisine
+ * du nord ou de l'ouest, tirée au hasard. Un seul parcours de la grille, sans pile ni mémoire de travail ;
+ * les couloirs longent le bord nord et le bord ouest. Les {@link Amenagements aménagements} classiques suivent.
+ */
+public class GenerateurArbreBinaire implements MazeGenerator {
+
+    @Override
+    public Arene generer(MatchConfig config, SplittableRandom rand) {
+        Arene arene = new Arene(config.getNbLignes(), config.getNbColonnes());
+        for (int i = 1; i < arene.getNbLignes() - 1; i += 2) {
+            for (int j = 1; j < arene.getNbColonnes() - 1; j += 2) {
+                arene.setMur(i, j, false);
+                boolean nord = i > 1;
+                boolean ouest = j > 1;
+                if (nord && ouest) {
+                    if (rand.nextBoolean()) {
+                        arene.setMur(i - 1, j, false);
+                    } else {
+                        arene.setMur(i, j - 1, false);
+                    }
+                } else if (nord) {
+                    arene.setMur(i - 1, j, false);
+                } else if (ouest) {
+                    arene.setMur(i, j - 1, false);
+                }
+            }
+        }
+        Amenagements.amenager(arene, config, rand);
+        return arene;
+    }
+}
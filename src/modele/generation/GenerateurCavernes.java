@@ -0,0 +1,113 @@
+package modele.generation;
+
+import java.util.SplittableRandom;
+import config.MatchConfig;
+
+/**
+ * Générateur de cavernes par automate cellulaire : l'intérieur est d'abord rempli de murs au hasard,
+ * puis lissé plusieurs fois (une case devient un mur si au moins cinq cases de son voisinage 3x3, elle comprise,
+ * en sont). Seule la plus grande région ouverte est gardée, pour que tous les joueurs puissent se rejoindre ;
+ * les pastilles sont ensuite réparties comme dans l'arène classique. Le travail se fait sur deux tableaux
+ * d'octets et une file d'entiers, sans objet par case.
+ */
+public class GenerateurCavernes implements MazeGenerator {
+
+    /** Proportion de murs du remplissage initial. */
+    private static final double REMPLISSAGE = 0.45;
+
+    /** Nombre de passes de lissage. */
+    private static final int PASSES = 5;
+
+    /** Nombre de murs du voisinage 3x3 à partir duquel une case devient un mur. */
+    private static final int SEUIL = 5;
+
+    @Override
+    public Arene generer(MatchConfig config, SplittableRandom rand) {
+        int nbLignes = config.getNbLignes();
+        int nbColonnes = config.getNbColonnes();
+        byte[] murs = new byte[nbLignes * nbColonnes];
+        byte[] suivants = new byte[murs.length];
+        for (int i = 0; i < nbLignes; i++) {
+            for (int j = 0; j < nbColonnes; j++) {
+                boolean bord = i == 0 || j == 0 || i == nbLignes - 1 || j == nbColonnes - 1;
+                murs[i * nbColonnes + j] = (byte) (bord || rand.nextDouble() < REMPLISSAGE ? 1 : 0);
+            }
+        }
+        for (int passe = 0; passe < PASSES; passe++) {
+            System.arraycopy(murs, 0, suivants, 0, murs.length);
+            for (int i = 1; i < nbLignes - 1; i++) {
+                for (int j = 1; j < nbColonnes - 1; j++) {
+                    int haut = (i - 1) * nbColonnes + j;
+                    int milieu = haut + nbColonnes;
+                    int bas = milieu + nbColonnes;
+                    int voisins = murs[haut - 1] + murs[haut] + murs[haut + 1]
+                            + murs[milieu - 1] + murs[milieu] + murs[milieu + 1]
+                            + murs[bas - 1] + murs[bas] + murs[bas + 1];
+                    suivants[milieu] = (byte) (voisins >= SEUIL ? 1 : 0);
+                }
+            }
+            byte[] echange = murs;
+            murs = suivants;
+            suivants = echange;
+        }
+
+        garderPlusGrandeRegion(murs, nbLignes, nbColonnes);
+        Arene arene = new Arene(nbLignes, nbColonnes);
+        for (int i = 1; i < nbLignes - 1; i++) {
+            for (int j = 1; j < nbColonnes - 1; j++) {
+                if (murs[i * nbColonnes + j] == 0) {
+                    arene.setMur(i, j, false);
+                }
+            }
+        }
+        Amenagements.ajouterPastilles(arene, config.getDensiteSoins(), config.getDensiteMunitions(), rand);
+        return arene;
+    }
+
+    /**
+     * Comble toutes les régions ouvertes sauf la plus grande (parcours en largeur sur une file d'indices).
+     * Si rien n'est ouvert, ouvre la case (1, 1) pour que l'arène compte au moins une case libre.
+     * Dans {@code murs}, 0 est une case ouverte et 1 un mur.
+     */
+    private static void garderPlusGrandeRegion(byte[] murs, int nbLignes, int nbColonnes) {
+        int[] regions = new int[murs.length];
+        int[] file = new int[murs.length];
+        int[] decalages = {-nbColonnes, nbColonnes, -1, 1};
+        int meilleure = 0;
+        int tailleMeilleure = 0;
+        int region = 0;
+        for (int depart = 0; depart < murs.length; depart++) {
+            if (murs[depart] != 0 || regions[depart] != 0) {
+                continue;
+            }
+            region++;
+            int debut = 0;
+            int fin = 0;
+            file[fin++] = depart;
+            regions[depart] = region;
+            while (debut < fin) {
+                int cellule = file[debut++];
+                for (int decalage : decalages) {
+                    // Les cases ouvertes ne touchent jamais le bord : les voisins restent dans la grille.
+                    int v = cellule + decalage;
+                    if (murs[v] == 0 && regions[v] == 0) {
+                        regions[v] = region;
+                        file[fin++] = v;
+                    }
+                }
+            }
+            if (fin > tailleMeilleure) {
+                tailleMeilleure = fin;
+                meilleure = region;
+            }
+        }
+        for (int i = 0; i < murs.length; i++) {
+            if (murs[i] == 0 && regions[i] != meilleure) {
+                murs[i] = 1;
+            }
+        }
+        if (meilleure == 0) {
+            murs[nbColonnes + 1] = 0;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package modele.generation;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import config.MatchConfig;
+
+/**
+ * Générateur historique : couloirs creusés par backtracking depuis la case (1, 1) sur les cases
+ * de coordonnées impaires, puis les {@link Amenagements aménagements} classiques.
+ * La pile et les voisins sont des entiers (indices de cellules) plutôt que des {@code int[]} alloués
+ * à chaque étape ; l'ordre des tirages est celui de la génération d'origine.
+ */
+public class GenerateurClassique implements MazeGenerator {
+
+    @Override
+    public Arene generer(MatchConfig config, SplittableRandom rand) {
+        Arene arene = new Arene(config.getNbLignes(), config.getNbColonnes());
+        creuser(arene, 1, 1, rand);
+        Amenagements.amenager(arene, config, rand);
+        return arene;
+    }
+
+    /**
+     * Creuse les couloirs par backtracking. Une case empilée n'est creusée que si elle est encore un mur
+     * quand elle est dépilée ; ses voisins à deux cases, mélangés, sont reliés à elle puis empilés.
+     */
+    private static void creuser(Arene arene, int ligneDepart, int colonneDepart, SplittableRandom rand) {
+        int nbColonnes = arene.getNbColonnes();
+        int[] pile = new int[64];
+        int taille = 0;
+        pile[taille++] = ligneDepart * nbColonnes + colonneDepart;
+        int[] voisins = new int[4];
+
+        while (taille > 0) {
+            int cellule = pile[--taille];
+            int x = cellule / nbColonnes;
+            int y = cellule % nbColonnes;
+            if (!aCreuser(arene, x, y)) {
+                continue;
+            }
+            arene.setMur(x, y, false);
+
+            // Droite, bas, gauche, haut.
+            int nbVoisins = 0;
+            if (aCreuser(arene, x, y + 2)) voisins[nbVoisins++] = cellule + 2;
+            if (aCreuser(arene, x + 2, y)) voisins[nbVoisins++] = cellule + 2 * nbColonnes;
+            if (aCreuser(arene, x, y - 2)) voisins[nbVoisins++] = cellule - 2;
+            if (aCreuser(arene, x - 2, y)) voisins[nbVoisins++] = cellule - 2 * nbColonnes;
+
+            for (int i = nbVoisins - 1; i > 0; i--) {
+                int j = rand.nextInt(i + 1);
+                int echange = voisins[i];
+                voisins[i] = voisins[j];
+                voisins[j] = echange;
+            }
+            for (int k = 0; k < nbVoisins; k++) {
+                int nx = voisins[k] / nbColonnes;
+                int ny = voisins[k] % nbColonnes;
+                if (aCreuser(arene, nx, ny)) {
+                    arene.setMur((x + nx) / 2, (y + ny) / 2, false);
+                    if (taille == pile.length) {
+                        pile = Arrays.copyOf(pile, taille * 2);
+                    }
+                    pile[taille++] = voisins[k];
+                }
+            }
+        }
+    }
+
+    /**
+     * Indique si une case est à l'intérieur de la bordure et encore un mur.
+     */
+    private static boolean aCreuser(Arene arene, int x, int y) {
+        return x > 0 && x < arene.getNbLignes() - 1 && y > 0 && y < arene.getNbColonnes() - 1 && arene.estMur(x, y);
+    }
+}
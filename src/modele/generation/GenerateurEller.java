@@ -0,0 +1,169 @@
+package modele.generation;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import config.MatchConfig;
+
+/**
+ * Générateur par l'algorithme d'Eller : le labyrinthe parfait est tracé une rangée de cases impaires à la fois,
+ * en ne gardant que l'ensemble (les cases déjà reliées entre elles) de chaque case de la rangée courante.
+ * Dans chaque rangée, des cases voisines d'ensembles différents sont reliées au hasard, puis chaque ensemble
+ * descend au moins une fois vers la rangée suivante ; la dernière rangée relie tous les ensembles restants.
+ * La mémoire de travail ne dépend que de la largeur. Les {@link Amenagements aménagements} classiques suivent.
+ */
+public class GenerateurEller implements MazeGenerator {
+
+    @Override
+    public Arene generer(MatchConfig config, SplittableRandom rand) {
+        Arene arene = new Arene(config.getNbLignes(), config.getNbColonnes());
+        int nbRangees = (arene.getNbLignes() - 1) / 2;
+        int largeur = (arene.getNbColonnes() - 1) / 2;
+        if (nbRangees > 0 && largeur > 0) {
+            Rangees rangees = new Rangees(largeur, rand);
+            int mots = (arene.getNbColonnes() + 63) >>> 6;
+            long[] cases = new long[mots];
+            long[] passages = new long[mots];
+            for (int r = 0; r < nbRangees; r++) {
+                Arrays.fill(cases, -1L);
+                Arrays.fill(passages, -1L);
+                rangees.tracer(cases, passages, r == nbRangees - 1);
+                copier(cases, arene, 2 * r + 1);
+                copier(passages, arene, 2 * r + 2);
+            }
+        }
+        Amenagements.amenager(arene, config, rand);
+        return arene;
+    }
+
+    /**
+     * Ouvre dans le plan les cases ouvertes d'une ligne tracée.
+     */
+    private static void copier(long[] ligne, Arene arene, int numero) {
+        for (int j = 0; j < arene.getNbColonnes(); j++) {
+            if ((ligne[j >>> 6] & (1L << j)) == 0) {
+                arene.setMur(numero, j, false);
+            }
+        }
+    }
+
+    /**
+     * État de l'algorithme entre deux rangées : l'ensemble de chaque case, sous forme d'étiquette
+     * dans {@code [0, largeur)}, et une union-find sur ces étiquettes, remise à zéro à chaque rangée.
+     * Les rangées sont tracées dans des lignes de bitset (bit {@code j} du mot {@code j >>> 6} pour la colonne {@code j}),
+     * ce qui permet aussi de les émettre une à une ({@link LabyrintheEnFlux}).
+     */
+    static final class Rangees {
+
+        private final int largeur;
+        private final SplittableRandom rand;
+
+        /** Étiquette de l'ensemble de chaque case de la rangée, -1 pour une case qui n'est pas reliée par le haut. */
+        private final int[] ensembles;
+
+        /** Union-find sur les étiquettes de la rangée courante. */
+        private final int[] parents;
+
+        /** Dernière case vue de chaque ensemble, et si l'ensemble descend déjà. */
+        private final int[] dernieres;
+        private final boolean[] descend;
+
+        /** Cases de la rangée qui descendent vers la suivante. */
+        private final boolean[] descentes;
+
+        /** Étiquettes portées par les cases reliées par le haut. */
+        private final boolean[] utilisees;
+
+        Rangees(int largeur, SplittableRandom rand) {
+            this.largeur = largeur;
+            this.rand = rand;
+            this.ensembles = new int[largeur];
+            this.parents = new int[largeur];
+            this.dernieres = new int[largeur];
+            this.descend = new boolean[largeur];
+            this.descentes = new boolean[largeur];
+            this.utilisees = new boolean[largeur];
+            Arrays.fill(ensembles, -1);
+        }
+
+        /**
+         * Trace une rangée : ouvre ses cases et les passages entre elles dans {@code cases} et, sauf pour la dernière,
+         * les passages vers la rangée suivante dans {@code passages}. Les deux lignes doivent être remplies de murs.
+         *
+         * @param cases La ligne (impaire) de la rangée.
+         * @param passages La ligne (paire) qui la suit.
+         * @param derniere true pour la dernière rangée, qui relie tous ses ensembles.
+         */
+        void tracer(long[] cases, long[] passages, boolean derniere) {
+            etiqueter();
+            for (int x = 0; x < largeur; x++) {
+                ouvrir(cases, 2 * x + 1);
+            }
+            for (int x = 0; x + 1 < largeur; x++) {
+                int a = trouver(ensembles[x]);
+                int b = trouver(ensembles[x + 1]);
+                if (a != b && (derniere || rand.nextBoolean())) {
+                    parents[a] = b;
+                    ouvrir(cases, 2 * x + 2);
+                }
+            }
+            if (derniere) {
+                return;
+            }
+            for (int x = 0; x < largeur; x++) {
+                int e = trouver(ensembles[x]);
+                ensembles[x] = e;
+                dernieres[e] = x;
+                descentes[x] = rand.nextBoolean();
+                descend[e] |= descentes[x];
+            }
+            for (int x = 0; x < largeur; x++) {
+                int e = ensembles[x];
+                if (!descend[e] && dernieres[e] == x) {
+                    descentes[x] = true;
+                }
+                if (descentes[x]) {
+                    ouvrir(passages, 2 * x + 1);
+                } else {
+                    ensembles[x] = -1;
+                }
+            }
+        }
+
+        /**
+         * Donne une étiquette libre aux cases qui ne sont pas reliées par le haut et remet l'union-find à zéro.
+         */
+        private void etiqueter() {
+            Arrays.fill(utilisees, false);
+            for (int x = 0; x < largeur; x++) {
+                if (ensembles[x] >= 0) {
+                    utilisees[ensembles[x]] = true;
+                }
+            }
+            int libre = 0;
+            for (int x = 0; x < largeur; x++) {
+                if (ensembles[x] < 0) {
+                    while (utilisees[libre]) {
+                        libre++;
+                    }
+                    ensembles[x] = libre++;
+                }
+            }
+            Arrays.fill(descend, false);
+            for (int e = 0; e < largeur; e++) {
+                parents[e] = e;
+            }
+        }
+
+        private static void ouvrir(long[] ligne, int colonne) {
+            ligne[colonne >>> 6] &= ~(1L << colonne);
+        }
+
+        private int trouver(int e) {
+            while (parents[e] != e) {
+                parents[e] = parents[parents[e]];
+                e = parents[e];
+            }
+            return e;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package modele.generation;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import config.MatchConfig;
+
+/**
+ * Génération en flux des très grandes arènes : le labyrinthe d'Eller ({@link GenerateurEller.Rangees}) est émis
+ * une ligne à la fois vers une {@link SortieLignes} (bitset en mémoire {@link MursEnMemoire} ou fichier projeté
+ * {@link FichierMurs}), sans jamais représenter l'arène entière. La mémoire de travail ne dépend que de la largeur
+ * et du nombre de chambres : quelques tableaux d'entiers et deux lignes de bitset.
+ * <p>
+ * Chaque ligne reçoit, avant d'être émise, les aménagements qui ne dépendent que d'elle, dans l'ordre de l'arène
+ * classique : chambres (tirées à l'avance), piliers, murs aléatoires et bordure. Seuls les murs sont produits :
+ * les pastilles restent à placer par qui charge l'arène. Les tirages ne suivent pas l'ordre de
+ * {@link GenerateurEller}, qui aménage l'arène entière après ses couloirs : à graine égale, les deux arènes diffèrent.
+ */
+public final class LabyrintheEnFlux {
+
+    private LabyrintheEnFlux() {
+    }
+
+    /**
+     * Génère une arène et en émet les lignes, de la première à la dernière.
+     *
+     * @param config La configuration de l'arène (dimensions, nombre et taille des chambres, densité des murs).
+     * @param rand Le générateur aléatoire.
+     * @param sortie La destination des lignes.
+     * @throws IOException si la sortie ne peut pas écrire une ligne.
+     */
+    public static void generer(MatchConfig config, SplittableRandom rand, SortieLignes sortie) throws IOException {
+        int nbLignes = config.getNbLignes();
+        int nbColonnes = config.getNbColonnes();
+        int taille = config.getTailleChambre();
+        int[] chambres = new int[2 * config.getNbChambres()];
+        for (int i = 0; i < chambres.length; i += 2) {
+            chambres[i] = rand.nextInt(nbLignes - taille - 1) + 1;
+            chambres[i + 1] = rand.nextInt(nbColonnes - taille - 1) + 1;
+        }
+
+        int mots = (nbColonnes + 63) >>> 6;
+        long[] cases = new long[mots];
+        long[] passages = new long[mots];
+        int nbRangees = (nbLignes - 1) / 2;
+        int largeur = (nbColonnes - 1) / 2;
+        GenerateurEller.Rangees rangees = largeur > 0 ? new GenerateurEller.Rangees(largeur, rand) : null;
+
+        Arrays.fill(cases, -1L);
+        sortie.ligne(0, cases);
+        for (int ligne = 1; ligne < nbLignes - 1; ligne++) {
+            long[] courante;
+            if ((ligne & 1) == 1) {
+                Arrays.fill(cases, -1L);
+                Arrays.fill(passages, -1L);
+                if (rangees != null) {
+                    rangees.tracer(cases, passages, (ligne - 1) / 2 == nbRangees - 1);
+                }
+                courante = cases;
+            } else {
+                courante = passages;
+            }
+            amenager(courante, ligne, nbColonnes, chambres, taille, config.getDensiteMurs(), rand);
+            sortie.ligne(ligne, courante);
+        }
+        if (nbLignes > 1) {
+            Arrays.fill(cases, -1L);
+            sortie.ligne(nbLignes - 1, cases);
+        }
+    }
+
+    /**
+     * Ouvre dans une ligne les chambres qui la traversent, puis y ajoute piliers, murs aléatoires et bordure.
+     */
+    private static void amenager(long[] murs, int ligne, int nbColonnes, int[] chambres, int taille,
+                                 double densite, SplittableRandom rand) {
+        for (int i = 0; i < chambres.length; i += 2) {
+            if (ligne >= chambres[i] && ligne < chambres[i] + taille) {
+                for (int j = chambres[i + 1]; j < chambres[i + 1] + taille; j++) {
+                    murs[j >>> 6] &= ~(1L << j);
+                }
+            }
+        }
+        if (ligne % 4 == 2) {
+            for (int j = 2; j < nbColonnes - 1; j += 4) {
+                murs[j >>> 6] |= 1L << j;
+            }
+        }
+        if (densite > 0) {
+            for (int j = 1; j < nbColonnes - 1; j++) {
+                if ((murs[j >>> 6] & (1L << j)) == 0 && rand.nextDouble() < densite) {
+                    murs[j >>> 6] |= 1L << j;
+                }
+            }
+        }
+        murs[0] |= 1L;
+        murs[(nbColonnes - 1) >>> 6] |= 1L << (nbColonnes - 1);
+    }
+}
@@ -0,0 +1,22 @@
+package modele.generation;
+
+import java.util.SplittableRandom;
+import config.MatchConfig;
+
+/**
+ * Générateur d'arènes. Chaque générateur produit un {@link Arene plan} à partir des paramètres de la
+ * configuration (dimensions, densités, chambres) et ne tire ses valeurs que de son générateur aléatoire :
+ * une même graine et les mêmes paramètres donnent toujours la même arène, ce qui permet de la garder
+ * en cache ({@link CacheArenes}).
+ */
+public interface MazeGenerator {
+
+    /**
+     * Génère une arène entourée de murs.
+     *
+     * @param config La configuration de la partie.
+     * @param rand Le générateur aléatoire de la grille.
+     * @return Le plan de l'arène.
+     */
+    Arene generer(MatchConfig config, SplittableRandom rand);
+}
@@ -0,0 +1,49 @@
+package modele.generation;
+
+/**
+ * Murs d'une arène rangés en mémoire dans un bitset compact, une ligne de {@code (nbColonnes + 63) / 64} mots
+ * après l'autre : un bit par case, soit 12,5 Mo pour une arène de 10 000 x 10 000.
+ * Reçoit les lignes de {@link LabyrintheEnFlux}.
+ */
+public final class MursEnMemoire implements SortieLignes {
+
+    private final int nbLignes;
+    private final int nbColonnes;
+    private final int motsLigne;
+    private final long[] murs;
+
+    /**
+     * Crée un bitset vide.
+     *
+     * @param nbLignes Nombre de lignes.
+     * @param nbColonnes Nombre de colonnes.
+     * @throws IllegalArgumentException si l'arène ne tient pas dans un tableau : utiliser alors {@link FichierMurs}.
+     */
+    public MursEnMemoire(int nbLignes, int nbColonnes) {
+        this.nbLignes = nbLignes;
+        this.nbColonnes = nbColonnes;
+        this.motsLigne = (nbColonnes + 63) >>> 6;
+        long mots = (long) nbLignes * motsLigne;
+        if (mots > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Arène " + nbLignes + "x" + nbColonnes + " trop grande pour la mémoire.");
+        }
+        this.murs = new long[(int) mots];
+    }
+
+    public int getNbLignes() {
+        return nbLignes;
+    }
+
+    public int getNbColonnes() {
+        return nbColonnes;
+    }
+
+    public boolean estMur(int line, int col) {
+        return (murs[line * motsLigne + (col >>> 6)] & (1L << col)) != 0;
+    }
+
+    @Override
+    public void ligne(int numero, long[] ligne) {
+        System.arraycopy(ligne, 0, murs, numero * motsLigne, motsLigne);
+    }
+}
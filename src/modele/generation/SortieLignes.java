@@ -0,0 +1,21 @@
+package modele.generation;
+
+import java.io.IOException;
+
+/**
+ * Destination des lignes de murs émises une à une par {@link LabyrintheEnFlux}.
+ * Chaque ligne est un bitset (bit {@code j} du mot {@code j >>> 6} à 1 si la colonne {@code j} est un mur) ;
+ * les bits au-delà de la dernière colonne sont sans signification.
+ */
+public interface SortieLignes {
+
+    /**
+     * Reçoit une ligne de l'arène. Les lignes arrivent dans l'ordre, de 0 à {@code nbLignes - 1}.
+     * Le tableau est réutilisé pour la ligne suivante : il doit être recopié, pas gardé.
+     *
+     * @param numero Le numéro de la ligne.
+     * @param murs Les murs de la ligne.
+     * @throws IOException si la ligne ne peut pas être écrite.
+     */
+    void ligne(int numero, long[] murs) throws IOException;
+}
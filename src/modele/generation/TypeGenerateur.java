@@ -0,0 +1,46 @@
+package modele.generation;
+
+import java.util.Locale;
+
+/**
+ * Générateurs d'arènes proposés par la configuration ({@code generateur}).
+ */
+public enum TypeGenerateur {
+
+    /** Couloirs creusés par backtracking, puis chambres, piliers et murs aléatoires : l'arène historique. */
+    CLASSIQUE,
+
+    /** Couloirs d'un arbre binaire (chaque case s'ouvre au nord ou à l'ouest), puis les aménagements classiques. */
+    ARBRE,
+
+    /** Couloirs tracés ligne par ligne par l'algorithme d'Eller, puis les aménagements classiques. */
+    ELLER,
+
+    /** Cavernes obtenues par un automate cellulaire, réduites à leur plus grande région. */
+    CAVERNES;
+
+    /**
+     * Crée un générateur de ce type.
+     *
+     * @return Le générateur.
+     */
+    public MazeGenerator creer() {
+        switch (this) {
+            case ARBRE: return new GenerateurArbreBinaire();
+            case ELLER: return new GenerateurEller();
+            case CAVERNES: return new GenerateurCavernes();
+            default: return new GenerateurClassique();
+        }
+    }
+
+    /**
+     * Retrouve un type par son nom de configuration ({@code classique}, {@code arbre}, {@code eller} ou {@code cavernes}).
+     *
+     * @param nom Le nom du générateur, sans tenir compte de la casse.
+     * @return Le type correspondant.
+     * @throws IllegalArgumentException si le nom ne correspond à aucun générateur.
+     */
+    public static TypeGenerateur depuis(String nom) {
+        return valueOf(nom.toUpperCase(Locale.ROOT));
+    }
+}
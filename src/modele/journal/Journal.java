@@ -0,0 +1,134 @@
+package modele.journal;
+
+import config.*;
+
+/**
+ * Journal des événements d'une partie : filtre les messages par niveau et les transmet à une {@link Sortie}.
+ * <p>
+ * Un message dont le niveau n'est pas actif ne coûte qu'une comparaison. Les appelants qui construisent
+ * leur message par concaténation testent d'abord {@link #estActif(Niveau)}, pour qu'une partie
+ * sans journal ne fabrique aucune chaîne :
+ * <pre>
+ * if (journal.estActif(Niveau.INFO)) {
+ *     journal.info("Player " + id + " est mort.");
+ * }
+ * </pre>
+ */
+public final class Journal {
+
+    /** Valeur de configuration : aucun message. */
+    public static final String AUCUN = "aucun";
+
+    /** Valeur de configuration : écriture synchrone sur la console. */
+    public static final String CONSOLE = "console";
+
+    /** Valeur de configuration : écriture tamponnée sur la console, par un thread dédié. */
+    public static final String ASYNCHRONE = "asynchrone";
+
+    /**
+     * Journal qui n'écrit rien.
+     */
+    public static final Journal SILENCIEUX = new Journal(SortieNulle.INSTANCE, Niveau.ERREUR);
+
+    /**
+     * Journal console synchrone, utilisé par les composants créés hors d'une partie.
+     */
+    public static final Journal CONSOLE_INFO = new Journal(SortieConsole.INSTANCE, Niveau.INFO);
+
+    private final Sortie sortie;
+
+    /**
+     * Rang du niveau le moins grave transmis à la sortie ; au-delà de tous les niveaux pour une sortie nulle.
+     */
+    private final int seuil;
+
+    /**
+     * Constructeur du journal.
+     *
+     * @param sortie La sortie des messages.
+     * @param niveau Le niveau le moins grave transmis à la sortie.
+     */
+    public Journal(Sortie sortie, Niveau niveau) {
+        this.sortie = sortie;
+        this.seuil = sortie == SortieNulle.INSTANCE ? Niveau.values().length : niveau.ordinal();
+    }
+
+    /**
+     * Crée le journal décrit par une configuration ({@link MatchConfig#getJournal()} et
+     * {@link MatchConfig#getNiveauJournal()}). Sans sortie imposée, la console asynchrone est utilisée.
+     *
+     * @param config La configuration de la partie.
+     * @return Le journal correspondant.
+     */
+    public static Journal creer(MatchConfig config) {
+        String type = config.getJournal() != null ? config.getJournal() : ASYNCHRONE;
+        Niveau niveau = Niveau.depuis(config.getNiveauJournal());
+        switch (type) {
+            case AUCUN:
+                return SILENCIEUX;
+            case CONSOLE:
+                return new Journal(SortieConsole.INSTANCE, niveau);
+            case ASYNCHRONE:
+                return new Journal(SortieAsynchrone.console(), niveau);
+            default:
+                throw new IllegalArgumentException("Sortie de journal inconnue : " + type);
+        }
+    }
+
+    /**
+     * Indique si les messages d'un niveau sont transmis à la sortie.
+     *
+     * @param niveau Le niveau.
+     * @return true si les messages de ce niveau sont écrits.
+     */
+    public boolean estActif(Niveau niveau) {
+        return niveau.ordinal() >= seuil;
+    }
+
+    /**
+     * Écrit un message s'il atteint le niveau du journal.
+     *
+     * @param niveau Le niveau du message.
+     * @param message Le message.
+     */
+    public void ecrire(Niveau niveau, String message) {
+        if (estActif(niveau)) {
+            sortie.ecrire(niveau, message);
+        }
+    }
+
+    /**
+     * @param message Le message de niveau {@link Niveau#DEBUG}.
+     */
+    public void debug(String message) {
+        ecrire(Niveau.DEBUG, message);
+    }
+
+    /**
+     * @param message Le message de niveau {@link Niveau#INFO}.
+     */
+    public void info(String message) {
+        ecrire(Niveau.INFO, message);
+    }
+
+    /**
+     * @param message Le message de niveau {@link Niveau#ALERTE}.
+     */
+    public void alerte(String message) {
+        ecrire(Niveau.ALERTE, message);
+    }
+
+    /**
+     * @param message Le message de niveau {@link Niveau#ERREUR}.
+     */
+    public void erreur(String message) {
+        ecrire(Niveau.ERREUR, message);
+    }
+
+    /**
+     * Attend que les messages déjà écrits soient affichés, par exemple avant de lire l'entrée standard.
+     */
+    public void vider() {
+        sortie.vider();
+    }
+}
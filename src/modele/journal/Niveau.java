@@ -0,0 +1,35 @@
+package modele.journal;
+
+/**
+ * Niveaux de gravité des messages du journal, du plus bavard au plus grave.
+ */
+public enum Niveau {
+
+    /** Détails de fonctionnement : tentatives refusées, déplacements impossibles... */
+    DEBUG,
+
+    /** Déroulement de la partie : actions, tirs, explosions, morts. */
+    INFO,
+
+    /** Situation anormale mais sans conséquence sur la partie. */
+    ALERTE,
+
+    /** Erreur pendant l'exécution d'une action. */
+    ERREUR;
+
+    /**
+     * Retrouve un niveau à partir de son nom, sans tenir compte de la casse.
+     *
+     * @param nom Le nom du niveau ({@code debug}, {@code info}, {@code alerte} ou {@code erreur}).
+     * @return Le niveau correspondant.
+     * @throws IllegalArgumentException si le nom ne correspond à aucun niveau.
+     */
+    public static Niveau depuis(String nom) {
+        for (Niveau niveau : values()) {
+            if (niveau.name().equalsIgnoreCase(nom)) {
+                return niveau;
+            }
+        }
+        throw new IllegalArgumentException("Niveau de journal inconnu : " + nom);
+    }
+}
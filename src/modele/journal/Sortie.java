@@ -0,0 +1,22 @@
+package modele.journal;
+
+/**
+ * Destination des messages du journal.
+ */
+public interface Sortie {
+
+    /**
+     * Écrit un message.
+     *
+     * @param niveau Le niveau du message.
+     * @param message Le message.
+     */
+    void ecrire(Niveau niveau, String message);
+
+    /**
+     * Attend que les messages déjà écrits soient effectivement parvenus à destination.
+     * Ne fait rien pour une sortie synchrone.
+     */
+    default void vider() {
+    }
+}
@@ -0,0 +1,128 @@
+package modele.journal;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Sortie tamponnée : les messages sont déposés dans une file bornée et écrits par lots
+ * sur une autre sortie par un thread dédié, si bien que la partie n'attend jamais la console.
+ * L'ordre des messages est conservé. Lorsque la file est pleine, l'écrivain ralentit
+ * la partie au lieu de perdre des messages.
+ * <p>
+ * Les messages en attente sont écrits à l'arrêt de la JVM ; {@link #vider()} permet
+ * de les attendre avant de lire l'entrée standard.
+ */
+public final class SortieAsynchrone implements Sortie {
+
+    /**
+     * Nombre maximal de messages en attente d'écriture.
+     */
+    private static final int CAPACITE = 4096;
+
+    /**
+     * Sortie console partagée par toutes les parties, créée à la première utilisation.
+     */
+    private static final class Console {
+        static final SortieAsynchrone INSTANCE = new SortieAsynchrone(SortieConsole.INSTANCE);
+    }
+
+    /**
+     * Message en attente avec son niveau.
+     */
+    private static final class Ligne {
+        final Niveau niveau;
+        final String message;
+
+        Ligne(Niveau niveau, String message) {
+            this.niveau = niveau;
+            this.message = message;
+        }
+    }
+
+    private final Sortie cible;
+    private final BlockingQueue<Ligne> file;
+
+    /**
+     * Nombres de messages déposés et écrits, protégés par le moniteur de l'instance.
+     */
+    private long deposes;
+    private long ecrits;
+
+    /**
+     * Crée une sortie asynchrone et démarre son thread d'écriture.
+     *
+     * @param cible La sortie sur laquelle les messages sont finalement écrits.
+     */
+    public SortieAsynchrone(Sortie cible) {
+        this.cible = cible;
+        this.file = new ArrayBlockingQueue<>(CAPACITE);
+        Thread ecrivain = new Thread(this::ecrire, "journal-" + cible.getClass().getSimpleName());
+        ecrivain.setDaemon(true);
+        ecrivain.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::vider));
+    }
+
+    /**
+     * Retourne la sortie console asynchrone partagée.
+     *
+     * @return La sortie console asynchrone.
+     */
+    public static SortieAsynchrone console() {
+        return Console.INSTANCE;
+    }
+
+    @Override
+    public void ecrire(Niveau niveau, String message) {
+        synchronized (this) {
+            deposes++;
+        }
+        try {
+            file.put(new Ligne(niveau, message));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            synchronized (this) {
+                deposes--;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void vider() {
+        long attendus = deposes;
+        try {
+            while (ecrits < attendus) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        cible.vider();
+    }
+
+    /**
+     * Boucle du thread d'écriture : attend un message puis écrit tous ceux qui sont en file.
+     */
+    private void ecrire() {
+        List<Ligne> lot = new ArrayList<>();
+        while (true) {
+            try {
+                lot.add(file.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            file.drainTo(lot);
+            for (Ligne ligne : lot) {
+                try {
+                    cible.ecrire(ligne.niveau, ligne.message);
+                } catch (RuntimeException e) {
+                    // Un message illisible ne doit pas arrêter l'écrivain, qui bloquerait vider().
+                }
+            }
+            synchronized (this) {
+                ecrits += lot.size();
+                notifyAll();
+            }
+            lot.clear();
+        }
+    }
+}
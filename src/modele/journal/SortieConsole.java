@@ -0,0 +1,20 @@
+package modele.journal;
+
+/**
+ * Sortie synchrone sur la sortie standard : chaque message est imprimé immédiatement,
+ * sur le thread qui l'écrit.
+ */
+public final class SortieConsole implements Sortie {
+
+    /** L'unique instance. */
+    public static final SortieConsole INSTANCE = new SortieConsole();
+
+    private SortieConsole() {
+    }
+
+    @Override
+    public void ecrire(Niveau niveau, String message) {
+        // System.out est relu à chaque message, pour suivre une éventuelle redirection.
+        System.out.println(message);
+    }
+}
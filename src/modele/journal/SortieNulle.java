@@ -0,0 +1,19 @@
+package modele.journal;
+
+/**
+ * Sortie qui ignore tous les messages, pour les simulations et les benchmarks.
+ * Un {@link Journal} branché sur cette sortie n'active aucun niveau : les messages
+ * ne sont même pas construits par les appelants qui testent {@link Journal#estActif(Niveau)}.
+ */
+public final class SortieNulle implements Sortie {
+
+    /** L'unique instance. */
+    public static final SortieNulle INSTANCE = new SortieNulle();
+
+    private SortieNulle() {
+    }
+
+    @Override
+    public void ecrire(Niveau niveau, String message) {
+    }
+}
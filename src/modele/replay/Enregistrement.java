@@ -0,0 +1,168 @@
+package modele.replay;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Properties;
+import config.MatchConfig;
+
+/**
+ * Enregistrement d'une partie, lu depuis le fichier écrit par un {@link EnregistreurPartie}.
+ * <p>
+ * Format (entiers gros-boutistes) : un en-tête {@code int} {@link #MAGIQUE}, {@code short} {@link #VERSION},
+ * {@code long} graine, {@code int} longueur puis texte UTF-8 des propriétés de la configuration ;
+ * puis un bloc par tour joué : {@code short} ID du joueur, {@code byte} nombre de tentatives,
+ * et un {@code int} par tentative, le code de l'action (voir {@link modele.actions.CodeAction}).
+ * <p>
+ * Le fichier est projeté en mémoire. À l'ouverture, un index garde la position d'un tour sur
+ * {@link #INTERVALLE_INDEX}, pour atteindre n'importe quel tour sans relire tous les blocs précédents.
+ * Un fichier tronqué (partie interrompue) est lu jusqu'à son dernier bloc complet.
+ */
+public final class Enregistrement {
+
+    /** Signature des fichiers d'enregistrement ("RPLY"). */
+    static final int MAGIQUE = 0x52504C59;
+
+    /** Version du format. */
+    static final short VERSION = 1;
+
+    /** Nombre de tours entre deux entrées de l'index. */
+    static final int INTERVALLE_INDEX = 1024;
+
+    /** Taille de l'en-tête d'un bloc : ID du joueur et nombre de tentatives. */
+    static final int TAILLE_ENTETE_BLOC = 3;
+
+    private final ByteBuffer donnees;
+    private final long seed;
+    private final MatchConfig config;
+    private final int nbTours;
+
+    /**
+     * Position du bloc des tours 1, 1 + INTERVALLE_INDEX, 1 + 2 * INTERVALLE_INDEX...
+     */
+    private final int[] index;
+
+    private Enregistrement(ByteBuffer donnees, long seed, MatchConfig config, int nbTours, int[] index) {
+        this.donnees = donnees;
+        this.seed = seed;
+        this.config = config;
+        this.nbTours = nbTours;
+        this.index = index;
+    }
+
+    /**
+     * Ouvre un enregistrement.
+     *
+     * @param fichier Le fichier écrit par un {@link EnregistreurPartie}.
+     * @return L'enregistrement.
+     * @throws IOException si le fichier ne peut pas être lu.
+     * @throws IllegalArgumentException si le fichier n'est pas un enregistrement de partie.
+     */
+    public static Enregistrement lire(Path fichier) throws IOException {
+        ByteBuffer donnees;
+        try (FileChannel canal = FileChannel.open(fichier, StandardOpenOption.READ)) {
+            if (canal.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Enregistrement trop volumineux : " + fichier);
+            }
+            donnees = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+        }
+
+        if (donnees.limit() < 18 || donnees.getInt(0) != MAGIQUE) {
+            throw new IllegalArgumentException("Ce fichier n'est pas un enregistrement de partie : " + fichier);
+        }
+        if (donnees.getShort(4) != VERSION) {
+            throw new IllegalArgumentException("Version d'enregistrement non prise en charge : " + donnees.getShort(4));
+        }
+        long seed = donnees.getLong(6);
+        int longueur = donnees.getInt(14);
+        byte[] texte = new byte[longueur];
+        donnees.get(18, texte);
+        MatchConfig config = configuration(texte);
+
+        // Parcourt les blocs pour compter les tours et construire l'index.
+        int position = 18 + longueur;
+        int nbTours = 0;
+        int[] index = new int[16];
+        int nbEntrees = 0;
+        while (position + TAILLE_ENTETE_BLOC <= donnees.limit()) {
+            int taille = TAILLE_ENTETE_BLOC + 4 * (donnees.get(position + 2) & 0xFF);
+            if (position + taille > donnees.limit()) {
+                break; // Dernier bloc incomplet
+            }
+            if (nbTours % INTERVALLE_INDEX == 0) {
+                if (nbEntrees == index.length) {
+                    index = Arrays.copyOf(index, nbEntrees * 2);
+                }
+                index[nbEntrees++] = position;
+            }
+            nbTours++;
+            position += taille;
+        }
+        if (nbTours % INTERVALLE_INDEX == 0) { // Position du tour suivant le dernier, pour s'y placer
+            index = Arrays.copyOf(index, nbEntrees + 1);
+            index[nbEntrees++] = position;
+        }
+        return new Enregistrement(donnees, seed, config, nbTours, Arrays.copyOf(index, nbEntrees));
+    }
+
+    /**
+     * Relit une configuration écrite par {@link EnregistreurPartie#texte(Properties)}.
+     */
+    static MatchConfig configuration(byte[] texte) throws IOException {
+        Properties props = new Properties();
+        props.load(new StringReader(new String(texte, StandardCharsets.UTF_8)));
+        MatchConfig config = new MatchConfig();
+        config.appliquer(props);
+        return config;
+    }
+
+    /**
+     * @return La graine de la partie enregistrée.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return Une copie de la configuration de la partie enregistrée.
+     */
+    public MatchConfig getConfig() {
+        return new MatchConfig(config);
+    }
+
+    /**
+     * @return Le nombre de tours enregistrés.
+     */
+    public int getNbTours() {
+        return nbTours;
+    }
+
+    /**
+     * Retourne la position du bloc d'un tour, en partant de l'entrée d'index la plus proche.
+     *
+     * @param tour Le numéro du tour, de 1 à {@link #getNbTours()} + 1 (fin de l'enregistrement).
+     * @return La position du bloc dans les données.
+     */
+    int position(int tour) {
+        if (tour < 1 || tour > nbTours + 1) {
+            throw new IllegalArgumentException("Tour hors de l'enregistrement : " + tour + " (1 à " + (nbTours + 1) + ")");
+        }
+        int position = index[(tour - 1) / INTERVALLE_INDEX];
+        for (int t = (tour - 1) / INTERVALLE_INDEX * INTERVALLE_INDEX + 1; t < tour; t++) {
+            position += TAILLE_ENTETE_BLOC + 4 * (donnees.get(position + 2) & 0xFF);
+        }
+        return position;
+    }
+
+    /**
+     * @return Les données du fichier, en lecture seule (lues par position absolue).
+     */
+    ByteBuffer getDonnees() {
+        return donnees;
+    }
+}
@@ -0,0 +1,191 @@
+package modele.replay;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Properties;
+import java.util.TreeSet;
+import controller.Ecouteur;
+import controller.Livraison;
+import modele.Game;
+import modele.events.ActionJouee;
+import modele.events.LotEvenements;
+
+/**
+ * Enregistre une partie dans un fichier binaire compact, pour la rejouer à l'identique avec un {@link Rejoueur}.
+ * <p>
+ * Seules la graine, la configuration et les actions tentées à chaque tour sont écrites (format décrit dans
+ * {@link Enregistrement}) : le reste de la partie s'en déduit. L'enregistreur écoute la partie
+ * avec une livraison {@link Livraison#CHAQUE_EVENEMENT}, si bien que l'écriture a lieu sur son propre thread ;
+ * les blocs sont accumulés dans un tampon direct et écrits par paquets dans un {@link FileChannel}.
+ * Le tampon est aussi vidé à l'arrêt de la machine virtuelle, pour garder les parties interrompues.
+ */
+public class EnregistreurPartie implements Ecouteur {
+
+    private static final int TAILLE_TAMPON = 1 << 16;
+
+    private final Game game;
+    private final FileChannel canal;
+    private final ByteBuffer tampon;
+    private final Thread arret;
+
+    /**
+     * Dernier tour enregistré, première erreur d'écriture et état de fermeture, protégés par le moniteur de l'enregistreur.
+     */
+    private int dernierTour;
+    private IOException erreur;
+    private boolean ferme;
+
+    /**
+     * Commence l'enregistrement d'une partie, qui ne doit pas encore avoir joué de tour.
+     *
+     * @param game La partie à enregistrer.
+     * @param fichier Le fichier d'enregistrement, remplacé s'il existe.
+     * @throws IOException si le fichier ne peut pas être créé.
+     * @throws IllegalStateException si la partie a déjà commencé.
+     */
+    public EnregistreurPartie(Game game, Path fichier) throws IOException {
+        if (game.getTour() != 0) {
+            throw new IllegalStateException("Une partie s'enregistre depuis son premier tour (tour actuel : " + game.getTour() + ").");
+        }
+        this.game = game;
+        this.canal = FileChannel.open(fichier, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        this.tampon = ByteBuffer.allocateDirect(TAILLE_TAMPON);
+        this.dernierTour = 0;
+        this.ferme = false;
+
+        byte[] proprietes = texte(game.getContext().getConfig().versProprietes());
+        ByteBuffer entete = ByteBuffer.allocate(18 + proprietes.length);
+        entete.putInt(Enregistrement.MAGIQUE).putShort(Enregistrement.VERSION)
+              .putLong(game.getContext().getSeed()).putInt(proprietes.length).put(proprietes).flip();
+        while (entete.hasRemaining()) {
+            canal.write(entete);
+        }
+
+        this.arret = new Thread(this::terminer, "enregistreur-arret");
+        Runtime.getRuntime().addShutdownHook(arret);
+        game.ajoutEcouteur(this, Livraison.CHAQUE_EVENEMENT);
+    }
+
+    /**
+     * Commence l'enregistrement d'une partie si sa configuration le demande ({@link config.MatchConfig#ENREGISTREMENT}).
+     *
+     * @param game La partie.
+     * @return L'enregistreur, ou null si la partie n'est pas enregistrée.
+     * @throws IOException si le fichier ne peut pas être créé.
+     */
+    public static EnregistreurPartie demarrer(Game game) throws IOException {
+        String fichier = game.getContext().getConfig().getEnregistrement();
+        return fichier == null ? null : new EnregistreurPartie(game, Paths.get(fichier));
+    }
+
+    /**
+     * Écrit les propriétés une par ligne, triées, au format {@code cle=valeur}.
+     */
+    static byte[] texte(Properties props) {
+        StringBuilder texte = new StringBuilder();
+        for (String cle : new TreeSet<>(props.stringPropertyNames())) {
+            texte.append(cle).append('=').append(props.getProperty(cle)).append('\n');
+        }
+        return texte.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void modeleMisAJour(Object e) {
+        // Rien à enregistrer : seules les actions des tours comptent.
+    }
+
+    @Override
+    public synchronized void evenementsRecus(Object source, LotEvenements lot) {
+        if (ferme || erreur != null) {
+            return;
+        }
+        if (lot.getTour() != dernierTour + 1) {
+            erreur = new IOException("Tour " + (dernierTour + 1) + " manquant dans l'enregistrement (reçu : " + lot.getTour() + ").");
+            return;
+        }
+        List<ActionJouee> actions = lot.filtrer(ActionJouee.class);
+        try {
+            if (tampon.remaining() < Enregistrement.TAILLE_ENTETE_BLOC + 4 * actions.size()) {
+                vider();
+            }
+            tampon.putShort((short) (actions.isEmpty() ? 0 : actions.get(0).getJoueur().getID()));
+            tampon.put((byte) actions.size());
+            for (ActionJouee action : actions) {
+                tampon.putInt(action.getCode());
+            }
+            dernierTour = lot.getTour();
+        } catch (IOException e) {
+            erreur = e;
+        }
+    }
+
+    /**
+     * @return Le nombre de tours enregistrés jusqu'ici.
+     */
+    public synchronized int getNbTours() {
+        return dernierTour;
+    }
+
+    /**
+     * Termine l'enregistrement : attend que les tours déjà joués soient écrits, puis ferme le fichier.
+     *
+     * @throws IOException si une écriture a échoué pendant la partie ou à la fermeture.
+     */
+    public void fermer() throws IOException {
+        terminer();
+        try {
+            Runtime.getRuntime().removeShutdownHook(arret);
+        } catch (IllegalStateException e) {
+            // Arrêt de la machine virtuelle en cours : le fichier est déjà fermé.
+        }
+        synchronized (this) {
+            if (erreur != null) {
+                throw erreur;
+            }
+        }
+    }
+
+    /**
+     * Attend la livraison des tours joués, se désabonne, vide le tampon et ferme le fichier.
+     */
+    private void terminer() {
+        try {
+            game.attendreEcouteurs();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        game.retraitEcouteur(this);
+        synchronized (this) {
+            if (ferme) {
+                return;
+            }
+            ferme = true;
+            try {
+                vider();
+                canal.close();
+            } catch (IOException e) {
+                if (erreur == null) {
+                    erreur = e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Écrit le contenu du tampon dans le fichier.
+     */
+    private void vider() throws IOException {
+        tampon.flip();
+        while (tampon.hasRemaining()) {
+            canal.write(tampon);
+        }
+        tampon.clear();
+    }
+}
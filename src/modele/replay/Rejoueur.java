@@ -0,0 +1,157 @@
+package modele.replay;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import config.MatchConfig;
+import modele.Game;
+import modele.MatchContext;
+import modele.components.Player;
+import modele.journal.Journal;
+
+/**
+ * Rejoue une partie enregistrée : la partie est reconstruite à partir de sa graine et de sa configuration,
+ * puis chaque tour est joué par {@link Game#advanceTurn()} avec les actions enregistrées à la place
+ * des décisions des stratégies. La partie obtenue est identique, tour pour tour, à l'originale.
+ * <p>
+ * Le rejeu est silencieux (journal désactivé) ; les écouteurs ajoutés à {@link #getGame()} suivent la partie
+ * comme une partie ordinaire. Un instantané de la partie ({@link Game#sauvegarder()}) est gardé tous les
+ * {@link #INTERVALLE_INSTANTANES} tours atteints : pour aller à un tour ({@link #allerAuTour(int)}), la partie
+ * est restaurée depuis l'instantané le plus proche avant lui, puis seuls les tours restants sont rejoués.
+ */
+public class Rejoueur {
+
+    /**
+     * Nombre de tours entre deux instantanés.
+     */
+    static final int INTERVALLE_INSTANTANES = 256;
+
+    private final Enregistrement enregistrement;
+    private final ByteBuffer donnees;
+    private final Game game;
+
+    /**
+     * Instantanés de la partie aux tours 0, INTERVALLE_INSTANTANES, 2 * INTERVALLE_INSTANTANES...
+     * déjà atteints.
+     */
+    private final List<byte[]> instantanes;
+
+    /**
+     * Position du prochain code d'action à lire.
+     */
+    private int position;
+
+    /**
+     * Joueur du tour en cours et nombre de ses tentatives enregistrées qui n'ont pas encore été rejouées.
+     */
+    private int idJoueur;
+    private int restantes;
+
+    /**
+     * Prépare le rejeu d'un enregistrement, au tour 0.
+     *
+     * @param enregistrement L'enregistrement à rejouer.
+     */
+    public Rejoueur(Enregistrement enregistrement) {
+        this.enregistrement = enregistrement;
+        this.donnees = enregistrement.getDonnees();
+        MatchConfig config = enregistrement.getConfig();
+        config.setJournal(Journal.AUCUN);
+        this.game = new MatchContext(config, enregistrement.getSeed()).getGame();
+        game.setAffichage(false);
+        StrategieRejouee strategie = new StrategieRejouee(this);
+        for (Player player : game.getPlayerManager().getPlayers()) {
+            player.setStrategy(strategie);
+        }
+        this.instantanes = new ArrayList<>();
+        instantanes.add(game.sauvegarder());
+        this.position = enregistrement.position(1);
+        this.restantes = 0;
+    }
+
+    /**
+     * @return La partie rejouée.
+     */
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * @return Le dernier tour rejoué.
+     */
+    public int getTour() {
+        return game.getTour();
+    }
+
+    /**
+     * @return L'enregistrement rejoué.
+     */
+    public Enregistrement getEnregistrement() {
+        return enregistrement;
+    }
+
+    /**
+     * Rejoue le tour suivant.
+     *
+     * @return false si l'enregistrement ou la partie est terminé.
+     * @throws IllegalStateException si la partie ne se déroule plus comme l'enregistrement.
+     */
+    public boolean avancer() {
+        if (game.getTour() >= enregistrement.getNbTours() || game.estTerminee()) {
+            return false;
+        }
+        idJoueur = donnees.getShort(position);
+        restantes = donnees.get(position + 2) & 0xFF;
+        position += Enregistrement.TAILLE_ENTETE_BLOC;
+        game.advanceTurn();
+        if (restantes != 0) {
+            throw desynchronisee(restantes + " action(s) enregistrée(s) non rejouée(s)");
+        }
+        if (game.getTour() == instantanes.size() * INTERVALLE_INSTANTANES) {
+            instantanes.add(game.sauvegarder());
+        }
+        return true;
+    }
+
+    /**
+     * Amène la partie à un tour donné, en partant de l'instantané le plus proche si ce tour est déjà passé
+     * ou si un instantané permet de s'en approcher.
+     *
+     * @param tour Le tour visé ; la partie s'arrête avant s'il dépasse la fin de l'enregistrement.
+     */
+    public void allerAuTour(int tour) {
+        int k = Math.min(Math.max(tour, 0) / INTERVALLE_INSTANTANES, instantanes.size() - 1);
+        int depart = k * INTERVALLE_INSTANTANES;
+        if (tour < game.getTour() || depart > game.getTour()) {
+            game.restaurer(instantanes.get(k));
+            position = enregistrement.position(depart + 1);
+            restantes = 0;
+        }
+        while (game.getTour() < tour && avancer()) {
+            // Chaque tour est rejoué sans affichage
+        }
+    }
+
+    /**
+     * Retourne le code de la prochaine action enregistrée pour le joueur du tour en cours.
+     *
+     * @param player Le joueur qui décide.
+     * @return Le code de l'action enregistrée.
+     */
+    int actionSuivante(Player player) {
+        if (player.getID() != idJoueur) {
+            throw desynchronisee("le joueur " + player.getID() + " joue à la place du joueur " + idJoueur);
+        }
+        if (restantes == 0) {
+            throw desynchronisee("le joueur " + idJoueur + " tente plus d'actions que dans l'enregistrement");
+        }
+        int code = donnees.getInt(position);
+        position += 4;
+        restantes--;
+        return code;
+    }
+
+    private IllegalStateException desynchronisee(String raison) {
+        return new IllegalStateException("Rejeu désynchronisé au tour " + game.getTour() + " : " + raison + ".");
+    }
+}
@@ -0,0 +1,103 @@
+package modele.replay;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import config.MatchConfig;
+import modele.Game;
+import modele.MatchContext;
+
+/**
+ * Sauvegarde d'une partie en cours dans un fichier, pour la reprendre plus tard.
+ * <p>
+ * Format (entiers gros-boutistes) : {@code int} {@link #MAGIQUE}, {@code short} {@link #VERSION},
+ * {@code long} graine, {@code int} longueur puis texte UTF-8 des propriétés de la configuration
+ * (comme dans un {@link Enregistrement}), {@code int} longueur puis instantané de la partie
+ * ({@link Game#sauvegarder()}), et enfin le {@code int} CRC32 de tout ce qui précède.
+ * <p>
+ * Le fichier est d'abord écrit à côté de sa destination, forcé sur le disque, puis renommé : un arrêt
+ * pendant l'écriture laisse la sauvegarde précédente intacte, et une sauvegarde abîmée est refusée à la lecture.
+ */
+public final class Sauvegarde {
+
+    static final int MAGIQUE = 0x53415556;
+    static final short VERSION = 1;
+
+    private Sauvegarde() {
+    }
+
+    /**
+     * Sauvegarde une partie, entre deux tours.
+     *
+     * @param game La partie.
+     * @param fichier Le fichier de sauvegarde, remplacé s'il existe.
+     * @throws IOException si le fichier ne peut pas être écrit.
+     */
+    public static void ecrire(Game game, Path fichier) throws IOException {
+        byte[] proprietes = EnregistreurPartie.texte(game.getContext().getConfig().versProprietes());
+        byte[] instantane = game.sauvegarder();
+        ByteBuffer contenu = ByteBuffer.allocate(26 + proprietes.length + instantane.length);
+        contenu.putInt(MAGIQUE).putShort(VERSION).putLong(game.getContext().getSeed())
+               .putInt(proprietes.length).put(proprietes)
+               .putInt(instantane.length).put(instantane);
+        CRC32 crc = new CRC32();
+        crc.update(contenu.array(), 0, contenu.position());
+        contenu.putInt((int) crc.getValue()).flip();
+
+        Path temporaire = fichier.resolveSibling(fichier.getFileName() + ".tmp");
+        try (FileChannel canal = FileChannel.open(temporaire, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (contenu.hasRemaining()) {
+                canal.write(contenu);
+            }
+            canal.force(true);
+        }
+        try {
+            Files.move(temporaire, fichier, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaire, fichier, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reprend une partie sauvegardée : la partie est recréée à partir de sa graine et de sa configuration,
+     * puis ramenée à l'état sauvegardé. Les stratégies repartent de leur générateur aléatoire initial.
+     *
+     * @param fichier Le fichier écrit par {@link #ecrire(Game, Path)}.
+     * @return La partie, au tour où elle a été sauvegardée.
+     * @throws IOException si le fichier ne peut pas être lu.
+     * @throws IllegalArgumentException si le fichier n'est pas une sauvegarde ou est abîmé.
+     */
+    public static Game charger(Path fichier) throws IOException {
+        ByteBuffer contenu = ByteBuffer.wrap(Files.readAllBytes(fichier));
+        if (contenu.limit() < 26 || contenu.getInt(0) != MAGIQUE) {
+            throw new IllegalArgumentException("Ce fichier n'est pas une sauvegarde de partie : " + fichier);
+        }
+        if (contenu.getShort(4) != VERSION) {
+            throw new IllegalArgumentException("Version de sauvegarde non prise en charge : " + contenu.getShort(4));
+        }
+        CRC32 crc = new CRC32();
+        crc.update(contenu.array(), 0, contenu.limit() - 4);
+        if ((int) crc.getValue() != contenu.getInt(contenu.limit() - 4)) {
+            throw new IllegalArgumentException("Sauvegarde abîmée : " + fichier);
+        }
+
+        long seed = contenu.getLong(6);
+        contenu.position(14);
+        byte[] proprietes = new byte[contenu.getInt()];
+        contenu.get(proprietes);
+        byte[] instantane = new byte[contenu.getInt()];
+        contenu.get(instantane);
+
+        MatchConfig config = Enregistrement.configuration(proprietes);
+        Game game = new MatchContext(config, seed).getGame();
+        game.restaurer(instantane);
+        return game;
+    }
+}
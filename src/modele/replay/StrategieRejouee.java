@@ -0,0 +1,28 @@
+package modele.replay;
+
+import modele.Game;
+import modele.components.Player;
+import modele.strategy.playerStrategy.PlayerStrategy;
+
+/**
+ * Stratégie donnée à chaque joueur d'une partie rejouée : elle renvoie les actions enregistrées,
+ * dans l'ordre, au lieu d'en décider de nouvelles.
+ */
+class StrategieRejouee implements PlayerStrategy {
+
+    private final Rejoueur rejoueur;
+
+    StrategieRejouee(Rejoueur rejoueur) {
+        this.rejoueur = rejoueur;
+    }
+
+    @Override
+    public int decider(Player player, Game game) {
+        return rejoueur.actionSuivante(player);
+    }
+
+    @Override
+    public String toString() {
+        return "Rejeu";
+    }
+}
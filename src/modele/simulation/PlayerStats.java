@@ -0,0 +1,120 @@
+package modele.simulation;
+
+import modele.components.Player;
+
+/**
+ * Statistiques d'un joueur à la fin d'une simulation.
+ * Instantané immuable des compteurs du joueur, indépendant de l'état du jeu.
+ */
+public class PlayerStats {
+
+    private final int id;
+    private final String name;
+    private final String strategy;
+    private final boolean alive;
+    private final int energy;
+    private final int degatsInfliges;
+    private final int degatsSubis;
+    private final int nbTirs;
+    private final int toursJoues;
+    private final int place;
+
+    /**
+     * Construit les statistiques à partir de l'état courant d'un joueur.
+     *
+     * @param player Le joueur dont on relève les statistiques.
+     * @param place La place du joueur dans l'ordre de jeu (0 pour le premier à jouer).
+     */
+    public PlayerStats(Player player, int place) {
+        this.id = player.getID();
+        this.name = player.getName();
+        this.strategy = String.valueOf(player.getStrategy());
+        this.alive = player.isAlive();
+        this.energy = player.getEnergy();
+        this.degatsInfliges = player.getDegatsInfliges();
+        this.degatsSubis = player.getDegatsSubis();
+        this.nbTirs = player.getNbTirs();
+        this.toursJoues = player.getToursJoues();
+        this.place = place;
+    }
+
+    /**
+     * @return L'identifiant du joueur.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * @return Le nom du joueur.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Le nom de la stratégie du joueur.
+     */
+    public String getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * @return true si le joueur était en vie à la fin de la partie.
+     */
+    public boolean isAlive() {
+        return alive;
+    }
+
+    /**
+     * @return L'énergie du joueur à la fin de la partie.
+     */
+    public int getEnergy() {
+        return energy;
+    }
+
+    /**
+     * @return Le total des dégâts infligés par le joueur.
+     */
+    public int getDegatsInfliges() {
+        return degatsInfliges;
+    }
+
+    /**
+     * @return Le total des dégâts subis par le joueur.
+     */
+    public int getDegatsSubis() {
+        return degatsSubis;
+    }
+
+    /**
+     * @return Le nombre de tirs effectués par le joueur.
+     */
+    public int getNbTirs() {
+        return nbTirs;
+    }
+
+    /**
+     * @return Le nombre de tours joués par le joueur.
+     */
+    public int getToursJoues() {
+        return toursJoues;
+    }
+
+    /**
+     * @return La place du joueur dans l'ordre de jeu (0 pour le premier à jouer).
+     */
+    public int getPlace() {
+        return place;
+    }
+
+    @Override
+    public String toString() {
+        return name + " [" + strategy + "] place " + (place + 1) + ", " + (alive ? "vivant" : "mort")
+                + ", energie=" + energy
+                + ", degats infliges=" + degatsInfliges
+                + ", degats subis=" + degatsSubis
+                + ", tirs=" + nbTirs
+                + ", tours=" + toursJoues;
+    }
+}
@@ -0,0 +1,191 @@
+package modele.simulation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.function.Supplier;
+import config.*;
+import modele.*;
+import modele.components.*;
+import modele.journal.Journal;
+import modele.replay.EnregistreurPartie;
+import modele.strategy.playerStrategy.PlayerStrategy;
+
+/**
+ * Moteur de simulation sans affichage.
+ * Joue une partie complète entre joueurs contrôlés par leurs stratégies, sans lire
+ * l'entrée standard ni écrire sur la sortie standard, et renvoie un {@link SimulationResult}.
+ * Sauf si la configuration en impose un, les parties n'ont pas de journal ({@link Journal#AUCUN}).
+ */
+public class Simulation {
+
+    private final MatchConfig config;
+    private final int maxTours;
+    private final List<Supplier<? extends PlayerStrategy>> roster;
+    private final Random seeds;
+
+    /**
+     * Constructeur d'une simulation avec les paramètres par défaut du jeu.
+     */
+    public Simulation() {
+        this(new MatchConfig(), Constants.MAX_TOURS_SIMULATION);
+    }
+
+    /**
+     * Constructeur d'une simulation paramétrée.
+     *
+     * @param config   La configuration des parties (dimensions, densités, nombre de joueurs...).
+     * @param maxTours Nombre maximal de tours avant d'interrompre la partie.
+     */
+    public Simulation(MatchConfig config, int maxTours) {
+        this.config = sansJournal(config);
+        this.maxTours = maxTours;
+        this.roster = null;
+        this.seeds = new Random();
+    }
+
+    /**
+     * Constructeur d'une simulation dont chaque joueur reçoit une stratégie imposée.
+     * La partie compte un joueur par entrée du roster ; chaque partie crée ses propres
+     * instances de stratégies, aucune n'est partagée entre deux parties.
+     *
+     * @param config   La configuration des parties ; le nombre de joueurs est celui du roster.
+     * @param roster   Fabriques des stratégies des joueurs, une par joueur.
+     * @param maxTours Nombre maximal de tours avant d'interrompre la partie.
+     */
+    public Simulation(MatchConfig config, List<Supplier<? extends PlayerStrategy>> roster, int maxTours) {
+        this.config = sansJournal(config);
+        this.config.setNbJoueurs(roster.size());
+        this.maxTours = maxTours;
+        this.roster = List.copyOf(roster);
+        this.seeds = new Random();
+    }
+
+    /**
+     * Copie une simulation en remplaçant sa configuration.
+     */
+    private Simulation(Simulation autre, MatchConfig config) {
+        this.config = config;
+        this.maxTours = autre.maxTours;
+        this.roster = autre.roster;
+        this.seeds = new Random();
+    }
+
+    /**
+     * Retourne une simulation identique dont l'ensemble d'arènes dérive d'une graine donnée,
+     * sauf si la configuration en impose une.
+     *
+     * @param graine La graine de l'ensemble d'arènes.
+     * @return La simulation, ou celle-ci si la graine est imposée.
+     */
+    public Simulation avecGraineArenes(long graine) {
+        if (config.getGraineArenes() != null) {
+            return this;
+        }
+        MatchConfig copie = new MatchConfig(config);
+        copie.setGraineArenes(graine);
+        return new Simulation(this, copie);
+    }
+
+    /**
+     * Copie une configuration en désactivant le journal, sauf s'il est imposé.
+     */
+    private static MatchConfig sansJournal(MatchConfig config) {
+        MatchConfig copie = new MatchConfig(config);
+        if (copie.getJournal() == null) {
+            copie.setJournal(Journal.AUCUN);
+        }
+        return copie;
+    }
+
+    /**
+     * Joue une nouvelle partie avec une graine aléatoire, ou avec la graine de la configuration
+     * si elle en impose une (la même partie est alors rejouée à chaque appel).
+     *
+     * @return Le résultat de la partie.
+     */
+    public SimulationResult executer() {
+        return executer(config.getGraine() != null ? config.getGraine() : seeds.nextLong());
+    }
+
+    /**
+     * Joue une nouvelle partie jusqu'à ce qu'il ne reste qu'un joueur ou que la limite de tours soit atteinte.
+     * Chaque partie est créée dans son propre {@link MatchContext}. Si la configuration le demande,
+     * la partie est enregistrée ({@link EnregistreurPartie}).
+     *
+     * @param seed La graine de la partie.
+     * @return Le résultat de la partie.
+     */
+    public SimulationResult executer(long seed) {
+        Game game = new MatchContext(config, seed).getGame();
+        game.setAffichage(false);
+        if (roster != null) {
+            List<Player> joueurs = game.getPlayerManager().getPlayers();
+            int[] places = places(roster.size(), seed);
+            for (int i = 0; i < joueurs.size(); i++) {
+                joueurs.get(i).setStrategy(roster.get(places[i]).get());
+            }
+        }
+        try {
+            EnregistreurPartie enregistreur = EnregistreurPartie.demarrer(game);
+            SimulationResult resultat = jouer(game);
+            if (enregistreur != null) {
+                enregistreur.fermer();
+            }
+            return resultat;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Tire, à partir de la graine de la partie, l'entrée du roster assise à chaque place (la place 0 joue la première) :
+     * sur un tournoi, chaque stratégie occupe chaque place aussi souvent que les autres, et l'ordre de jeu
+     * ne biaise pas les taux de victoire. Une même graine donne toujours les mêmes places.
+     *
+     * @param nbJoueurs Le nombre de joueurs.
+     * @param seed La graine de la partie.
+     * @return Pour chaque place, l'indice de l'entrée du roster qui l'occupe.
+     */
+    static int[] places(int nbJoueurs, long seed) {
+        // Générateur distinct de celui de la partie, pour ne rien changer à ses tirages.
+        SplittableRandom rand = new SplittableRandom(~seed);
+        int[] places = new int[nbJoueurs];
+        for (int i = 0; i < nbJoueurs; i++) {
+            int j = rand.nextInt(i + 1);
+            places[i] = places[j];
+            places[j] = i;
+        }
+        return places;
+    }
+
+    /**
+     * Fait avancer une partie jusqu'à sa fin et relève les statistiques des joueurs.
+     *
+     * @param game La partie à jouer.
+     * @return Le résultat de la partie.
+     */
+    private SimulationResult jouer(Game game) {
+        List<Player> joueurs = new ArrayList<>(game.getPlayerManager().getPlayers());
+
+        while (!game.estTerminee() && game.getTour() < maxTours) {
+            game.advanceTurn();
+        }
+
+        List<PlayerStats> stats = new ArrayList<>(joueurs.size());
+        PlayerStats winner = null;
+        for (int place = 0; place < joueurs.size(); place++) {
+            stats.add(new PlayerStats(joueurs.get(place), place));
+        }
+        boolean terminee = game.estTerminee();
+        if (terminee && game.getPlayerManager().nbPlayers() == 1) {
+            int idGagnant = game.getPlayerManager().getPlayers().get(0).getID();
+            for (PlayerStats s : stats) {
+                if (s.getId() == idGagnant) {
+                    winner = s;
+                }
+            }
+        }
+        return new SimulationResult(winner, game.getTour(), terminee, stats, game.getContext().getSeed());
+    }
+}
@@ -0,0 +1,81 @@
+package modele.simulation;
+
+import java.util.*;
+
+/**
+ * Résultat compact d'une partie simulée sans affichage :
+ * le gagnant, le nombre de tours joués et les statistiques de chaque joueur.
+ */
+public class SimulationResult {
+
+    private final PlayerStats winner;
+    private final int nbTours;
+    private final boolean terminee;
+    private final List<PlayerStats> stats;
+    private final long graine;
+
+    /**
+     * Constructeur du résultat de simulation.
+     *
+     * @param winner   Les statistiques du gagnant, ou null s'il n'y en a pas.
+     * @param nbTours  Le nombre de tours joués.
+     * @param terminee true si la partie s'est terminée normalement, false si elle a atteint la limite de tours.
+     * @param stats    Les statistiques de tous les joueurs de la partie.
+     * @param graine   La graine de la partie, qui permet de la rejouer à l'identique.
+     */
+    public SimulationResult(PlayerStats winner, int nbTours, boolean terminee, List<PlayerStats> stats, long graine) {
+        this.winner = winner;
+        this.nbTours = nbTours;
+        this.terminee = terminee;
+        this.stats = Collections.unmodifiableList(stats);
+        this.graine = graine;
+    }
+
+    /**
+     * @return Les statistiques du gagnant, ou null en cas de partie nulle.
+     */
+    public PlayerStats getWinner() {
+        return winner;
+    }
+
+    /**
+     * @return Le nombre de tours joués.
+     */
+    public int getNbTours() {
+        return nbTours;
+    }
+
+    /**
+     * @return true si la partie s'est terminée avant la limite de tours.
+     */
+    public boolean isTerminee() {
+        return terminee;
+    }
+
+    /**
+     * @return La graine de la partie (option {@code graine=} pour la rejouer).
+     */
+    public long getGraine() {
+        return graine;
+    }
+
+    /**
+     * @return Les statistiques de tous les joueurs, dans l'ordre de création.
+     */
+    public List<PlayerStats> getStats() {
+        return stats;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder res = new StringBuilder();
+        res.append("Partie ").append(terminee ? "terminée" : "interrompue")
+           .append(" en ").append(nbTours).append(" tours, gagnant : ")
+           .append(winner == null ? "aucun" : winner.getName())
+           .append(" (graine ").append(graine).append(")\n");
+        for (PlayerStats s : stats) {
+            res.append("  ").append(s).append("\n");
+        }
+        return res.toString();
+    }
+}
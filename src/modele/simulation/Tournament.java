@@ -0,0 +1,138 @@
+package modele.simulation;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+import config.*;
+import modele.strategy.playerStrategy.*;
+
+/**
+ * Tournoi entre stratégies de joueurs artificiels.
+ * Les parties sont réparties sur un pool à vol de tâches ({@link ForkJoinPool}) dimensionné
+ * sur le nombre de cœurs ; chacune s'exécute dans son propre contexte et ne partage aucun
+ * état mutable avec les autres. Les résultats sont agrégés au fil de l'eau par le thread appelant.
+ */
+public class Tournament {
+
+    /**
+     * Stratégies disponibles pour composer un roster, indexées par nom.
+     */
+    public static final Map<String, Supplier<? extends PlayerStrategy>> STRATEGIES = Map.of(
+        "aggressive", Aggressive::new,
+        "defensive", Defensive::new,
+        "montecarlo", MonteCarlo::new,
+        "offensive", Offensive::new,
+        "random", RandomBehaviour::new
+    );
+
+    private final Simulation simulation;
+    private final int parallelisme;
+
+    /**
+     * Constructeur d'un tournoi sur la grille par défaut, utilisant tous les cœurs disponibles.
+     *
+     * @param roster Fabriques des stratégies des joueurs, une par joueur de chaque partie.
+     */
+    public Tournament(List<Supplier<? extends PlayerStrategy>> roster) {
+        this(new MatchConfig(), roster);
+    }
+
+    /**
+     * Constructeur d'un tournoi sur une configuration donnée, utilisant tous les cœurs disponibles.
+     *
+     * Les parties ne sont pas enregistrées : elles se joueraient toutes dans le même fichier.
+     *
+     * @param config La configuration des parties (dimensions, densités...).
+     * @param roster Fabriques des stratégies des joueurs, une par joueur de chaque partie.
+     */
+    public Tournament(MatchConfig config, List<Supplier<? extends PlayerStrategy>> roster) {
+        this(new Simulation(sansEnregistrement(config), roster, Constants.MAX_TOURS_SIMULATION),
+             Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Copie une configuration sans son fichier d'enregistrement. Sauf si elle en impose le nombre, les parties
+     * tirent leur arène parmi {@link Constants#ARENES_TOURNOI}, générées une fois puis reprises du cache.
+     */
+    private static MatchConfig sansEnregistrement(MatchConfig config) {
+        MatchConfig copie = new MatchConfig(config);
+        copie.setEnregistrement(null);
+        if (copie.getArenes() == null) {
+            copie.setArenes(Constants.ARENES_TOURNOI);
+        }
+        return copie;
+    }
+
+    /**
+     * Constructeur d'un tournoi paramétré.
+     *
+     * @param simulation   La simulation utilisée pour jouer chaque partie.
+     * @param parallelisme Le nombre de threads du pool.
+     */
+    public Tournament(Simulation simulation, int parallelisme) {
+        this.simulation = simulation;
+        this.parallelisme = parallelisme;
+    }
+
+    /**
+     * Construit un roster à partir de noms de stratégies (voir {@link #STRATEGIES}).
+     *
+     * @param noms Les noms des stratégies, un par joueur.
+     * @return Le roster correspondant.
+     * @throws IllegalArgumentException si un nom ne correspond à aucune stratégie.
+     */
+    public static List<Supplier<? extends PlayerStrategy>> roster(List<String> noms) {
+        List<Supplier<? extends PlayerStrategy>> roster = new ArrayList<>();
+        for (String nom : noms) {
+            Supplier<? extends PlayerStrategy> s = STRATEGIES.get(nom.toLowerCase(Locale.ROOT));
+            if (s == null) {
+                throw new IllegalArgumentException("Stratégie inconnue : " + nom + ", choisir parmi " + STRATEGIES.keySet());
+            }
+            roster.add(s);
+        }
+        return roster;
+    }
+
+    /**
+     * Joue un nombre donné de parties en parallèle et agrège leurs résultats.
+     *
+     * @param nbParties   Le nombre de parties à jouer.
+     * @param seed        La graine dont sont dérivées les graines des parties et, sauf option {@code graine.arenes},
+     *                    celles de l'ensemble d'arènes.
+     * @param intervalle  Le nombre de parties entre deux notifications de progression.
+     * @param progression Appelé sur le thread appelant toutes les {@code intervalle} parties terminées, peut être null.
+     * @return Les statistiques agrégées du tournoi.
+     * @throws InterruptedException si le thread appelant est interrompu pendant le tournoi.
+     * @throws IllegalArgumentException si le nombre de parties est négatif ou l'intervalle nul ou négatif.
+     */
+    public TournamentStats executer(int nbParties, long seed, int intervalle,
+                                    Consumer<TournamentStats> progression) throws InterruptedException {
+        if (nbParties < 0 || intervalle <= 0) {
+            throw new IllegalArgumentException("Nombre de parties (" + nbParties + ") ou intervalle de progression ("
+                    + intervalle + ") invalide.");
+        }
+        TournamentStats stats = new TournamentStats();
+        ForkJoinPool pool = new ForkJoinPool(parallelisme);
+        CompletionService<SimulationResult> termines = new ExecutorCompletionService<>(pool);
+
+        try {
+            Simulation parties = simulation.avecGraineArenes(seed);
+            SplittableRandom seeds = new SplittableRandom(seed);
+            for (int i = 0; i < nbParties; i++) {
+                long seedPartie = seeds.nextLong();
+                termines.submit(() -> parties.executer(seedPartie));
+            }
+            for (int i = 0; i < nbParties; i++) {
+                stats.ajouter(termines.take().get());
+                if (progression != null && (stats.getNbParties() % intervalle == 0 || stats.getNbParties() == nbParties)) {
+                    progression.accept(stats);
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Une partie du tournoi a échoué", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,191 @@
+package modele.simulation;
+
+import java.util.*;
+
+/**
+ * Statistiques agrégées d'un tournoi : taux de victoire et dégâts par stratégie,
+ * durée moyenne des parties.
+ * Les résultats sont agrégés par un seul thread (celui qui collecte les parties terminées),
+ * les parties elles-mêmes ne partagent donc aucun état mutable.
+ */
+public class TournamentStats {
+
+    /**
+     * Compteurs cumulés pour une stratégie.
+     */
+    public static class StrategyStats {
+        private final String strategy;
+        private int participations;
+        private int victoires;
+        private long degatsInfliges;
+        private long degatsSubis;
+        private long toursJoues;
+
+        private StrategyStats(String strategy) {
+            this.strategy = strategy;
+        }
+
+        /**
+         * @return Le nom de la stratégie.
+         */
+        public String getStrategy() {
+            return strategy;
+        }
+
+        /**
+         * @return Le nombre de joueurs ayant joué avec cette stratégie.
+         */
+        public int getParticipations() {
+            return participations;
+        }
+
+        /**
+         * @return Le nombre de victoires de la stratégie.
+         */
+        public int getVictoires() {
+            return victoires;
+        }
+
+        /**
+         * @return La proportion de participations gagnées, entre 0 et 1.
+         */
+        public double getTauxVictoire() {
+            return participations == 0 ? 0 : (double) victoires / participations;
+        }
+
+        /**
+         * @return Les dégâts infligés moyens par participation.
+         */
+        public double getDegatsInfligesMoyens() {
+            return participations == 0 ? 0 : (double) degatsInfliges / participations;
+        }
+
+        /**
+         * @return Les dégâts subis moyens par participation.
+         */
+        public double getDegatsSubisMoyens() {
+            return participations == 0 ? 0 : (double) degatsSubis / participations;
+        }
+
+        /**
+         * @return Le nombre moyen de tours joués par participation.
+         */
+        public double getToursMoyens() {
+            return participations == 0 ? 0 : (double) toursJoues / participations;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-20s victoires=%5.1f%% degats infliges=%6.1f degats subis=%6.1f tours=%7.1f",
+                    strategy, 100 * getTauxVictoire(), getDegatsInfligesMoyens(), getDegatsSubisMoyens(), getToursMoyens());
+        }
+    }
+
+    private final Map<String, StrategyStats> parStrategie;
+
+    /** Participations et victoires par place dans l'ordre de jeu (indice 0 : premier à jouer). */
+    private int[] participationsParPlace = new int[0];
+    private int[] victoiresParPlace = new int[0];
+
+    private int nbParties;
+    private int nbNulles;
+    private long totalTours;
+
+    /**
+     * Constructeur de statistiques vides.
+     */
+    public TournamentStats() {
+        this.parStrategie = new TreeMap<>();
+    }
+
+    /**
+     * Intègre le résultat d'une partie terminée.
+     *
+     * @param resultat Le résultat de la partie.
+     */
+    public void ajouter(SimulationResult resultat) {
+        nbParties++;
+        totalTours += resultat.getNbTours();
+        if (resultat.getWinner() == null) {
+            nbNulles++;
+        }
+        for (PlayerStats p : resultat.getStats()) {
+            StrategyStats s = parStrategie.computeIfAbsent(p.getStrategy(), StrategyStats::new);
+            s.participations++;
+            s.degatsInfliges += p.getDegatsInfliges();
+            s.degatsSubis += p.getDegatsSubis();
+            s.toursJoues += p.getToursJoues();
+            boolean gagnant = resultat.getWinner() != null && resultat.getWinner().getId() == p.getId();
+            if (gagnant) {
+                s.victoires++;
+            }
+            if (p.getPlace() >= 0) {
+                if (p.getPlace() >= participationsParPlace.length) {
+                    participationsParPlace = Arrays.copyOf(participationsParPlace, p.getPlace() + 1);
+                    victoiresParPlace = Arrays.copyOf(victoiresParPlace, p.getPlace() + 1);
+                }
+                participationsParPlace[p.getPlace()]++;
+                if (gagnant) {
+                    victoiresParPlace[p.getPlace()]++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Retourne la proportion de participations gagnées depuis une place de l'ordre de jeu.
+     *
+     * @param place La place (0 pour le premier à jouer).
+     * @return Le taux de victoire, entre 0 et 1.
+     */
+    public double getTauxVictoirePlace(int place) {
+        return place >= participationsParPlace.length || participationsParPlace[place] == 0 ? 0
+                : (double) victoiresParPlace[place] / participationsParPlace[place];
+    }
+
+    /**
+     * @return Le nombre de parties agrégées.
+     */
+    public int getNbParties() {
+        return nbParties;
+    }
+
+    /**
+     * @return Le nombre de parties terminées sans gagnant.
+     */
+    public int getNbNulles() {
+        return nbNulles;
+    }
+
+    /**
+     * @return La durée moyenne d'une partie, en tours.
+     */
+    public double getToursMoyens() {
+        return nbParties == 0 ? 0 : (double) totalTours / nbParties;
+    }
+
+    /**
+     * @return Les statistiques de chaque stratégie, triées par nom.
+     */
+    public Collection<StrategyStats> getParStrategie() {
+        return Collections.unmodifiableCollection(parStrategie.values());
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder res = new StringBuilder();
+        res.append(String.format(Locale.ROOT, "%d parties, %d nulles, %.1f tours en moyenne%n",
+                nbParties, nbNulles, getToursMoyens()));
+        for (StrategyStats s : parStrategie.values()) {
+            res.append("  ").append(s).append(System.lineSeparator());
+        }
+        if (participationsParPlace.length > 0) {
+            res.append("  victoires par place :");
+            for (int place = 0; place < participationsParPlace.length; place++) {
+                res.append(String.format(Locale.ROOT, " %d=%.1f%%", place + 1, 100 * getTauxVictoirePlace(place)));
+            }
+            res.append(System.lineSeparator());
+        }
+        return res.toString();
+    }
+}
@@ -1,13 +1,14 @@
 package modele.strategy.playerStrategy;
 
+import modele.Game;
 import modele.components.*;
-import config.Constants;
 import modele.actions.*;
 
 /**
  * Implémente une stratégie agressive pour un joueur.
  * Cette stratégie favorise les actions offensives en utilisant des armes si elles sont disponibles.
- * Si aucune arme n'est disponible, le joueur se déplacera aléatoirement.
+ * Si aucune arme n'est disponible, le joueur se rapproche de l'adversaire le plus proche
+ * (ou se déplace aléatoirement hors d'une partie).
  */
 public class Aggressive implements PlayerStrategy {
 
@@ -21,12 +22,29 @@ public class Aggressive implements PlayerStrategy {
      */
     @Override
     public Action getAction(Player player) {
+        return CodeAction.decoder(decider(player, null), player);
+    }
+
+    /**
+     * Code de l'action agressive : tir avec une arme aléatoire si possible, pas vers l'adversaire
+     * le plus proche sinon.
+     * 
+     * @param player Le joueur pour lequel cette stratégie est appliquée.
+     * @param game La partie en cours, ou null.
+     * @return Le code de l'action choisie.
+     */
+    @Override
+    public int decider(Player player, Game game) {
         // Si le joueur possède des armes, effectuer une action de tir.
         if (!player.getWeapons().isEmpty()) {
-            return new ShootAction(player.getRandomWeapon(), Constants.getRandomDirection(), player);
+            int arme = player.getRandomWeaponIndex();
+            return CodeAction.tirer(arme, player.getRandom().nextInt(CodeAction.NB_DIRECTIONS));
+        }
+        // Sinon, se rapprocher de l'adversaire le plus proche.
+        if (game != null) {
+            return Deplacements.versJoueur(player, game);
         }
-        // Sinon, déplacer le joueur dans une direction aléatoire.
-        return new MoveAction(Constants.getRandomDirection(), player);
+        return CodeAction.deplacer(player.getRandom().nextInt(CodeAction.NB_DIRECTIONS));
     }
 
     /**
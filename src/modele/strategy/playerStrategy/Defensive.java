@@ -1,14 +1,16 @@
 package modele.strategy.playerStrategy;
 
+import modele.Game;
 import modele.components.*;
-import config.Constants;
 import modele.actions.*;
+import config.Constants;
 
 /**
  * Implémente une stratégie défensive pour le joueur.
  * Cette stratégie priorise la protection du joueur lorsqu'il est en danger.
  * - Si l'énergie du joueur est inférieure à 50, le bouclier est activé.
- * - Sinon, le joueur se déplace dans une direction aléatoire.
+ * - Sinon, le joueur blessé se rapproche du soin le plus proche, et le joueur intact se déplace
+ *   dans une direction libre aléatoire (aléatoire tout court hors d'une partie).
  */
 public class Defensive implements PlayerStrategy {
 
@@ -22,12 +24,29 @@ public class Defensive implements PlayerStrategy {
      */
     @Override
     public Action getAction(Player player) {
+        return CodeAction.decoder(decider(player, null), player);
+    }
+
+    /**
+     * Code de l'action défensive : bouclier si l'énergie est inférieure à 50, pas vers un soin
+     * si le joueur est blessé, déplacement aléatoire sinon.
+     *
+     * @param player Le joueur auquel la stratégie est appliquée.
+     * @param game La partie en cours, ou null.
+     * @return Le code de l'action choisie.
+     */
+    @Override
+    public int decider(Player player, Game game) {
         // Activer le bouclier si l'énergie du joueur est inférieure à 50
         if (player.getEnergy() < 50) {
-            return new ShieldAction(player);
+            return CodeAction.bouclier();
+        }
+        // Sinon, aller se soigner si nécessaire, ou effectuer un mouvement aléatoire
+        if (game != null) {
+            return player.getEnergy() < Constants.INITIAL_ENERGY ? Deplacements.versSoin(player, game)
+                    : Deplacements.auHasard(player, game);
         }
-        // Sinon, effectuer un mouvement aléatoire
-        return new MoveAction(Constants.getRandomDirection(), player);
+        return CodeAction.deplacer(player.getRandom().nextInt(CodeAction.NB_DIRECTIONS));
     }
 
     /**
@@ -0,0 +1,53 @@
+package modele.strategy.playerStrategy;
+
+import modele.Game;
+import modele.actions.CodeAction;
+import modele.components.Player;
+import modele.util.Navigation;
+
+/**
+ * Choix des déplacements des stratégies dans une partie, à l'aide de sa {@link Navigation} :
+ * un pas n'est proposé que vers une case libre, si bien que le jeu n'a pas à redemander
+ * une action après un déplacement refusé contre un mur ou un joueur.
+ */
+final class Deplacements {
+
+    private Deplacements() {
+    }
+
+    /**
+     * Pas vers l'adversaire le plus proche, ou pas au hasard si aucun ne l'en rapproche.
+     *
+     * @param player Le joueur qui se déplace.
+     * @param game La partie en cours.
+     * @return Le code de l'action.
+     */
+    static int versJoueur(Player player, Game game) {
+        int direction = game.getNavigation().directionVersJoueur(player);
+        return direction == CodeAction.AUCUNE ? auHasard(player, game) : CodeAction.deplacer(direction);
+    }
+
+    /**
+     * Pas vers le soin le plus proche, ou pas au hasard si aucun ne l'en rapproche.
+     *
+     * @param player Le joueur qui se déplace.
+     * @param game La partie en cours.
+     * @return Le code de l'action.
+     */
+    static int versSoin(Player player, Game game) {
+        int direction = game.getNavigation().directionVersSoin(player);
+        return direction == CodeAction.AUCUNE ? auHasard(player, game) : CodeAction.deplacer(direction);
+    }
+
+    /**
+     * Pas dans une direction libre tirée au hasard, ou aucune action si le joueur est bloqué.
+     *
+     * @param player Le joueur qui se déplace.
+     * @param game La partie en cours.
+     * @return Le code de l'action.
+     */
+    static int auHasard(Player player, Game game) {
+        int direction = game.getNavigation().directionLibre(player, player.getRandom());
+        return direction == CodeAction.AUCUNE ? CodeAction.rien() : CodeAction.deplacer(direction);
+    }
+}
@@ -0,0 +1,476 @@
+package modele.strategy.playerStrategy;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import config.MatchConfig;
+import modele.Game;
+import modele.MatchContext;
+import modele.actions.CodeAction;
+import modele.armes.Weapon;
+import modele.components.*;
+import modele.journal.Journal;
+
+/**
+ * Stratégie par recherche arborescente de Monte-Carlo (MCTS).
+ * <p>
+ * À chaque décision, la partie est figée dans un instantané ({@link Game#sauvegarder()}) puis rejouée
+ * de nombreuses fois dans des copies : chaque simulation choisit les actions du joueur en descendant
+ * un arbre (formule UCB1), puis laisse la partie se dérouler sur quelques dizaines de tours avec une
+ * stratégie rapide pour tous les joueurs, et note l'état atteint (survie et énergie face aux adversaires).
+ * Les actions candidates sont les déplacements vers une case libre, le bouclier et le tir de chaque arme
+ * chargée dans chaque direction. L'arbre ne mémorise que les actions du joueur (arbre « en boucle ouverte »),
+ * les adversaires et le hasard étant ceux de chaque simulation.
+ * <p>
+ * Les simulations sont réparties sur un {@link ForkJoinPool} par parallélisation à la racine : chaque tâche
+ * développe son propre arbre dans sa propre copie de la partie, sans rien partager, et l'action retenue est
+ * celle que l'ensemble des arbres a le plus visitée. Le budget d'une décision est un nombre de simulations,
+ * une durée, ou les deux (la première limite atteinte l'emporte).
+ * <p>
+ * Les décisions et les simulations sont comptées par stratégie ({@link #getMesures()}) et pour toutes les
+ * stratégies de ce type ({@link #getMesuresGlobales()}).
+ */
+public class MonteCarlo implements PlayerStrategy {
+
+    /** Nombre de simulations par décision par défaut. */
+    public static final int ITERATIONS_PAR_DEFAUT = 256;
+
+    /** Nombre de tours joués par simulation par défaut. */
+    public static final int PROFONDEUR_PAR_DEFAUT = 24;
+
+    /** Constante d'exploration de la formule UCB1. */
+    private static final double EXPLORATION = Math.sqrt(2);
+
+    private static final Mesures GLOBALES = new Mesures();
+
+    private final int iterations;
+    private final long dureeNanos;
+    private final int profondeur;
+    private final int nbTaches;
+    private final ForkJoinPool pool;
+    private final Mesures mesures;
+    private Supplier<? extends PlayerStrategy> politique;
+
+    /**
+     * Partie dont les copies des tâches sont issues, et les tâches elles-mêmes.
+     */
+    private Game source;
+    private List<Recherche> recherches;
+
+    /**
+     * Constructeur d'une stratégie au budget par défaut, sur le pool commun.
+     */
+    public MonteCarlo() {
+        this(ITERATIONS_PAR_DEFAUT, 0);
+    }
+
+    /**
+     * Constructeur d'une stratégie à budget donné, sur le pool commun.
+     *
+     * @param iterations  Le nombre de simulations par décision, ou 0 pour ne limiter que la durée.
+     * @param dureeMillis La durée maximale d'une décision en millisecondes, ou 0 pour ne limiter que le nombre de simulations.
+     */
+    public MonteCarlo(int iterations, long dureeMillis) {
+        this(iterations, dureeMillis, PROFONDEUR_PAR_DEFAUT, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructeur d'une stratégie paramétrée. Une décision lance autant de tâches que le pool a de threads.
+     *
+     * @param iterations  Le nombre de simulations par décision, ou 0 pour ne limiter que la durée.
+     * @param dureeMillis La durée maximale d'une décision en millisecondes, ou 0 pour ne limiter que le nombre de simulations.
+     * @param profondeur  Le nombre de tours de jeu (tous joueurs confondus) joués par simulation.
+     * @param pool        Le pool sur lequel s'exécutent les simulations.
+     * @throws IllegalArgumentException si aucun budget n'est fixé ou si un paramètre est négatif.
+     */
+    public MonteCarlo(int iterations, long dureeMillis, int profondeur, ForkJoinPool pool) {
+        if (iterations < 0 || dureeMillis < 0 || (iterations == 0 && dureeMillis == 0)) {
+            throw new IllegalArgumentException("Budget de décision invalide : " + iterations + " simulations, " + dureeMillis + " ms");
+        }
+        if (profondeur < 1) {
+            throw new IllegalArgumentException("Profondeur de simulation invalide : " + profondeur);
+        }
+        this.iterations = iterations;
+        this.dureeNanos = TimeUnit.MILLISECONDS.toNanos(dureeMillis);
+        this.profondeur = profondeur;
+        this.pool = pool;
+        this.nbTaches = Math.max(1, pool.getParallelism());
+        this.mesures = new Mesures();
+        this.politique = RandomBehaviour::new;
+    }
+
+    /**
+     * Change la stratégie qui joue les tours simulés hors de l'arbre (pour tous les joueurs).
+     * Elle doit être rapide et ne pas dépendre d'un état partagé ; par défaut {@link RandomBehaviour}.
+     *
+     * @param politique La fabrique de la stratégie, appelée une fois par tâche.
+     */
+    public synchronized void setPolitique(Supplier<? extends PlayerStrategy> politique) {
+        this.politique = politique;
+        this.source = null;
+    }
+
+    /**
+     * @return Les mesures des décisions prises par cette stratégie.
+     */
+    public Mesures getMesures() {
+        return mesures;
+    }
+
+    /**
+     * @return Les mesures des décisions prises par toutes les stratégies de Monte-Carlo.
+     */
+    public static Mesures getMesuresGlobales() {
+        return GLOBALES;
+    }
+
+    /**
+     * Choisit l'action la plus visitée par les simulations. Hors partie, l'action est tirée au hasard.
+     * Les décisions d'une même stratégie sont prises l'une après l'autre : ses copies de partie servent à toutes.
+     *
+     * @param player Le joueur qui décide.
+     * @param game La partie en cours, ou null.
+     * @return Le code de l'action choisie.
+     */
+    @Override
+    public synchronized int decider(Player player, Game game) {
+        if (game == null) {
+            return new RandomBehaviour().decider(player, null);
+        }
+        long debut = System.nanoTime();
+        int[] candidats = candidats(player, game);
+        if (candidats.length == 1) {
+            return candidats[0];
+        }
+
+        byte[] instantane = game.sauvegarder();
+        if (source != game) {
+            recherches = new ArrayList<>(nbTaches);
+            for (int i = 0; i < nbTaches; i++) {
+                recherches.add(new Recherche(copier(game), politique.get()));
+            }
+            source = game;
+        }
+        SplittableRandom graines = new SplittableRandom(player.getRandom().nextLong());
+        long echeance = dureeNanos > 0 ? debut + dureeNanos : Long.MAX_VALUE;
+        for (int i = 0; i < nbTaches; i++) {
+            int quota = iterations == 0 ? Integer.MAX_VALUE : iterations / nbTaches + (i < iterations % nbTaches ? 1 : 0);
+            recherches.get(i).preparer(instantane, player.getID(), candidats, quota, echeance, graines.split());
+        }
+
+        int[] visites = new int[candidats.length];
+        double[] gains = new double[candidats.length];
+        long simulations = 0;
+        try {
+            for (Future<Noeud> f : pool.invokeAll(recherches)) {
+                Noeud racine = f.get();
+                for (int i = 0; i < candidats.length; i++) {
+                    visites[i] += racine.visites[i];
+                    gains[i] += racine.gains[i];
+                }
+                simulations += racine.total;
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Une simulation de Monte-Carlo a échoué", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CodeAction.rien();
+        }
+
+        int choix = 0;
+        for (int i = 1; i < candidats.length; i++) {
+            if (visites[i] > visites[choix]
+                    || (visites[i] == visites[choix] && gains[i] > gains[choix])) {
+                choix = i;
+            }
+        }
+        long duree = System.nanoTime() - debut;
+        mesures.ajouter(simulations, duree);
+        GLOBALES.ajouter(simulations, duree);
+        return candidats[choix];
+    }
+
+    /**
+     * Crée une copie silencieuse d'une partie : même configuration et même graine, donc mêmes joueurs,
+     * armes et identifiants, ce qui permet d'y restaurer ses instantanés.
+     */
+    private static Game copier(Game game) {
+        MatchConfig config = new MatchConfig(game.getContext().getConfig());
+        config.setJournal(Journal.AUCUN);
+        config.setEnregistrement(null);
+        Game copie = new MatchContext(config, game.getContext().getSeed()).getGame();
+        copie.setAffichage(false);
+        return copie;
+    }
+
+    /**
+     * Énumère les actions candidates d'un joueur : pas vers chaque case libre, bouclier,
+     * tir de chaque arme chargée dans chaque direction.
+     */
+    private static int[] candidats(Player player, Game game) {
+        List<Weapon> armes = player.getWeapons();
+        int[] codes = new int[CodeAction.NB_DIRECTIONS + 1 + armes.size() * CodeAction.NB_DIRECTIONS];
+        int n = 0;
+        Case c = game.getPlayerManager().getPlayerLocation(player);
+        if (c != null) {
+            int libres = game.getNavigation().directionsLibres(c.getLine(), c.getCol());
+            for (int d = 0; d < CodeAction.NB_DIRECTIONS; d++) {
+                if ((libres & (1 << d)) != 0) {
+                    codes[n++] = CodeAction.deplacer(d);
+                }
+            }
+        }
+        codes[n++] = CodeAction.bouclier();
+        for (int a = 0; a < armes.size(); a++) {
+            if (armes.get(a).getMunitions() > 0) {
+                for (int d = 0; d < CodeAction.NB_DIRECTIONS; d++) {
+                    codes[n++] = CodeAction.tirer(a, d);
+                }
+            }
+        }
+        return Arrays.copyOf(codes, n);
+    }
+
+    /**
+     * Nœud de l'arbre d'une tâche : statistiques des actions du joueur à l'un de ses tours.
+     * Les actions d'un nœud sont énumérées à sa première visite.
+     */
+    private static final class Noeud {
+        int[] codes;
+        Noeud[] enfants;
+        int[] visites;
+        double[] gains;
+        int total;
+
+        Noeud(int[] codes) {
+            if (codes != null) {
+                initialiser(codes);
+            }
+        }
+
+        void initialiser(int[] codes) {
+            this.codes = codes;
+            this.enfants = new Noeud[codes.length];
+            this.visites = new int[codes.length];
+            this.gains = new double[codes.length];
+        }
+
+        /**
+         * Retourne la première action jamais essayée, sinon celle qui maximise UCB1.
+         */
+        int selectionner() {
+            int choix = 0;
+            double meilleur = Double.NEGATIVE_INFINITY;
+            double log = Math.log(total);
+            for (int i = 0; i < codes.length; i++) {
+                if (visites[i] == 0) {
+                    return i;
+                }
+                double ucb = gains[i] / visites[i] + EXPLORATION * Math.sqrt(log / visites[i]);
+                if (ucb > meilleur) {
+                    meilleur = ucb;
+                    choix = i;
+                }
+            }
+            return choix;
+        }
+    }
+
+    /**
+     * Tâche d'une décision : développe un arbre dans sa propre copie de la partie jusqu'à épuisement
+     * de son quota de simulations ou jusqu'à l'échéance. Elle sert de stratégie au joueur dans la copie.
+     */
+    private final class Recherche implements Callable<Noeud>, PlayerStrategy {
+
+        private final Game copie;
+        private final PlayerStrategy politique;
+
+        /** Nœuds traversés par la simulation en cours et indice de l'action choisie dans chacun. */
+        private final List<Noeud> chemin = new ArrayList<>();
+        private int[] choix = new int[16];
+
+        private byte[] instantane;
+        private int id;
+        private Noeud racine;
+        private int quota;
+        private long echeance;
+        private SplittableRandom aleatoire;
+
+        /** Nœud courant de la simulation, null une fois sortie de l'arbre. */
+        private Noeud noeud;
+        private int dernierTour;
+
+        Recherche(Game copie, PlayerStrategy politique) {
+            this.copie = copie;
+            this.politique = politique;
+        }
+
+        void preparer(byte[] instantane, int id, int[] candidats, int quota, long echeance, SplittableRandom aleatoire) {
+            this.instantane = instantane;
+            this.id = id;
+            this.racine = new Noeud(candidats);
+            this.quota = quota;
+            this.echeance = echeance;
+            this.aleatoire = aleatoire;
+        }
+
+        @Override
+        public Noeud call() {
+            copie.restaurer(instantane);
+            Player moi = copie.getPlayerManager().getJoueurInscrit(id);
+            for (Player p : copie.getPlayerManager().getPlayers()) {
+                p.setStrategy(p == moi ? this : politique);
+                p.setRandom(aleatoire);
+            }
+
+            for (int n = 0; n < quota && System.nanoTime() < echeance; n++) {
+                if (n > 0) {
+                    copie.restaurer(instantane);
+                }
+                chemin.clear();
+                noeud = racine;
+                dernierTour = -1;
+                int fin = copie.getTour() + profondeur;
+
+                copie.poursuivreTour();
+                while (moi.isAlive() && !copie.estTerminee() && copie.getTour() < fin) {
+                    copie.advanceTurn();
+                }
+
+                double valeur = evaluer(moi);
+                for (int k = 0; k < chemin.size(); k++) {
+                    Noeud v = chemin.get(k);
+                    v.visites[choix[k]]++;
+                    v.gains[choix[k]] += valeur;
+                    v.total++;
+                }
+            }
+            return racine;
+        }
+
+        /**
+         * Action du joueur dans la copie : descente dans l'arbre jusqu'à la première action jamais essayée,
+         * puis stratégie rapide. Une action refusée est remplacée par celle de la stratégie rapide.
+         */
+        @Override
+        public int decider(Player player, Game game) {
+            if (noeud == null || game.getTour() == dernierTour) {
+                return politique.decider(player, game);
+            }
+            if (noeud.codes == null) {
+                noeud.initialiser(candidats(player, game));
+            }
+            int i = noeud.selectionner();
+            if (chemin.size() == choix.length) {
+                choix = Arrays.copyOf(choix, choix.length * 2);
+            }
+            choix[chemin.size()] = i;
+            chemin.add(noeud);
+            dernierTour = game.getTour();
+
+            int code = noeud.codes[i];
+            if (noeud.visites[i] == 0) {
+                noeud = null; // Action nouvelle : la suite de la simulation sort de l'arbre
+            } else {
+                if (noeud.enfants[i] == null) {
+                    noeud.enfants[i] = new Noeud(null);
+                }
+                noeud = noeud.enfants[i];
+            }
+            return code;
+        }
+
+        /**
+         * Note l'état atteint entre 0 (joueur mort) et 1 (seul survivant) : part de l'énergie du joueur
+         * face à l'énergie moyenne des adversaires encore en vie.
+         */
+        private double evaluer(Player moi) {
+            if (!moi.isAlive()) {
+                return 0;
+            }
+            double adversaires = 0;
+            int n = 0;
+            for (Player p : copie.getPlayerManager().getPlayers()) {
+                if (p != moi) {
+                    adversaires += p.getEnergy();
+                    n++;
+                }
+            }
+            if (n == 0) {
+                return 1;
+            }
+            return moi.getEnergy() / (moi.getEnergy() + adversaires / n);
+        }
+    }
+
+    /**
+     * Mesures cumulées des décisions : nombre de décisions et de simulations, temps passé à décider.
+     * Les compteurs peuvent être mis à jour par plusieurs parties en parallèle.
+     */
+    public static final class Mesures {
+
+        private final LongAdder decisions = new LongAdder();
+        private final LongAdder simulations = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private void ajouter(long nbSimulations, long duree) {
+            decisions.increment();
+            simulations.add(nbSimulations);
+            nanos.add(duree);
+        }
+
+        /**
+         * @return Le nombre de décisions prises.
+         */
+        public long getNbDecisions() {
+            return decisions.sum();
+        }
+
+        /**
+         * @return Le nombre de simulations jouées.
+         */
+        public long getNbSimulations() {
+            return simulations.sum();
+        }
+
+        /**
+         * @return Le temps passé à décider, en nanosecondes.
+         */
+        public long getDureeNanos() {
+            return nanos.sum();
+        }
+
+        /**
+         * @return Le nombre de décisions par seconde de réflexion.
+         */
+        public double getDecisionsParSeconde() {
+            long duree = getDureeNanos();
+            return duree == 0 ? 0 : getNbDecisions() * 1e9 / duree;
+        }
+
+        /**
+         * @return Le nombre de simulations par seconde de réflexion, toutes tâches confondues.
+         */
+        public double getSimulationsParSeconde() {
+            long duree = getDureeNanos();
+            return duree == 0 ? 0 : getNbSimulations() * 1e9 / duree;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%d décisions (%.1f/s), %d simulations (%.0f/s)",
+                    getNbDecisions(), getDecisionsParSeconde(), getNbSimulations(), getSimulationsParSeconde());
+        }
+    }
+
+    /**
+     * Fournit une description textuelle de cette stratégie.
+     *
+     * @return Une chaîne de caractères indiquant "MonteCarloStrategy".
+     */
+    @Override
+    public String toString() {
+        return "MonteCarloStrategy";
+    }
+}
@@ -1,16 +1,15 @@
 package modele.strategy.playerStrategy;
 
+import modele.Game;
 import modele.components.*;
-import java.util.Random;
-import config.Constants;
 import modele.actions.*;
-import modele.armes.Weapon;
 
 /**
  * Implémente une stratégie offensive pour le joueur.
  * Cette stratégie favorise une approche agressive :
  * - Si une arme est disponible, le joueur décide aléatoirement de tirer ou de se déplacer.
- * - Si aucune arme n'est disponible, le joueur se déplace dans une direction aléatoire.
+ * - Si aucune arme n'est disponible, le joueur se rapproche de l'adversaire le plus proche
+ *   (dans une direction aléatoire hors d'une partie).
  */
 public class Offensive implements PlayerStrategy {
 
@@ -24,19 +23,33 @@ public class Offensive implements PlayerStrategy {
      */
     @Override
     public Action getAction(Player player) {
-        Random random = new Random();
-        boolean shouldShoot = random.nextBoolean(); // Décision aléatoire : tirer ou se déplacer
+        return CodeAction.decoder(decider(player, null), player);
+    }
+
+    /**
+     * Code de l'action offensive : tir ou pas vers l'adversaire le plus proche, au hasard.
+     *
+     * @param player Le joueur auquel la stratégie est appliquée.
+     * @param game La partie en cours, ou null.
+     * @return Le code de l'action choisie.
+     */
+    @Override
+    public int decider(Player player, Game game) {
+        boolean shouldShoot = player.getRandom().nextBoolean(); // Décision aléatoire : tirer ou se déplacer
 
         if (shouldShoot) {
             // Tente de tirer si une arme est disponible
-            Weapon weapon = player.getRandomWeapon();
-            if (weapon != null) {
-                return new ShootAction(weapon, Constants.getRandomDirection(), player);
+            int arme = player.getRandomWeaponIndex();
+            if (arme >= 0) {
+                return CodeAction.tirer(arme, player.getRandom().nextInt(CodeAction.NB_DIRECTIONS));
             }
         }
 
-        // Si tirer n'est pas possible ou choisi, effectuer un déplacement aléatoire
-        return new MoveAction(Constants.getRandomDirection(), player);
+        // Si tirer n'est pas possible ou choisi, se rapprocher de l'adversaire le plus proche
+        if (game != null) {
+            return Deplacements.versJoueur(player, game);
+        }
+        return CodeAction.deplacer(player.getRandom().nextInt(CodeAction.NB_DIRECTIONS));
     }
 
     /**
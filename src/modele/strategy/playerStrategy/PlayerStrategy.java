@@ -1,5 +1,6 @@
 package modele.strategy.playerStrategy;
 
+import modele.Game;
 import modele.components.*;
 import modele.actions.*;
 
@@ -7,6 +8,10 @@ import modele.actions.*;
  * Interface représentant une stratégie de jeu pour un joueur.
  * Les stratégies définissent comment un joueur décide de son action
  * en fonction de son état actuel et des règles de jeu.
+ * <p>
+ * Le jeu demande l'action sous forme de code entier ({@link #decider(Player, Game)}, voir {@link CodeAction}),
+ * ce qui évite de créer un objet par décision. Une stratégie n'implémente que {@link #decider(Player, Game)} ;
+ * {@link #getAction(Player)} en décode le résultat pour les appelants qui attendent un objet {@link Action}.
  */
 public interface PlayerStrategy {
 
@@ -23,5 +28,16 @@ public interface PlayerStrategy {
      *   <li>Pas d'action : {@link RienAction} ("r").</li>
      * </ul>
      */
-    Action getAction(Player player);
+    default Action getAction(Player player) {
+        return CodeAction.decoder(decider(player, null), player);
+    }
+
+    /**
+     * Détermine le code de l'action à effectuer pour un joueur donné.
+     *
+     * @param player Le joueur pour lequel l'action est déterminée.
+     * @param game La partie en cours, ou null si la stratégie est interrogée hors partie.
+     * @return Le code de l'action choisie (voir {@link CodeAction}).
+     */
+    int decider(Player player, Game game);
 }
@@ -1,7 +1,6 @@
 package modele.strategy.playerStrategy;
 
-import java.util.*;
-import config.Constants;
+import modele.Game;
 import modele.components.*;
 import modele.actions.*;
 
@@ -12,7 +11,7 @@ import modele.actions.*;
  *   <li>Ne rien faire.</li>
  *   <li>Activer le bouclier.</li>
  *   <li>Tirer avec une arme.</li>
- *   <li>Se déplacer dans une direction aléatoire.</li>
+ *   <li>Se déplacer dans une direction aléatoire (libre, dans une partie).</li>
  * </ul>
  */
 public class RandomBehaviour implements PlayerStrategy {
@@ -32,18 +31,34 @@ public class RandomBehaviour implements PlayerStrategy {
      */
     @Override
     public Action getAction(Player player) {
-        Random random = new Random();
-        int action = random.nextInt(4); // Décide aléatoirement entre 4 actions possibles
-        Action a = new RienAction("r", player); // Action par défaut : ne rien faire
+        return CodeAction.decoder(decider(player, null), player);
+    }
+
+    /**
+     * Code d'une action aléatoire : rien, bouclier, tir ou déplacement.
+     *
+     * @param player Le joueur pour lequel l'action est déterminée.
+     * @param game La partie en cours, ou null.
+     * @return Le code de l'action choisie.
+     */
+    @Override
+    public int decider(Player player, Game game) {
+        int action = player.getRandom().nextInt(4); // Décide aléatoirement entre 4 actions possibles
         switch(action) {
             case 1:
-                return new ShieldAction(player); // Activer le bouclier
+                return CodeAction.bouclier(); // Activer le bouclier
             case 2:
-                return new ShootAction(player.getRandomWeapon(), Constants.getRandomDirection(), player); // Tirer
+                // Tirer ; sans arme, le jeu refuse le tir
+                int arme = player.getRandomWeaponIndex();
+                int direction = player.getRandom().nextInt(CodeAction.NB_DIRECTIONS);
+                return arme < 0 ? CodeAction.tirerSansArme(direction) : CodeAction.tirer(arme, direction);
             case 3:
-                return new MoveAction(Constants.getRandomDirection(), player); // Se déplacer
+                if (game != null) {
+                    return Deplacements.auHasard(player, game); // Se déplacer vers une case libre
+                }
+                return CodeAction.deplacer(player.getRandom().nextInt(CodeAction.NB_DIRECTIONS)); // Se déplacer
         }
-        return a; // Retourne l'action par défaut
+        return CodeAction.rien(); // Action par défaut : ne rien faire
     }
 
     /**
@@ -1,6 +1,8 @@
 package modele.strategy.weaponStrategy;
 
-import modele.components.Case;
+import modele.actions.CodeAction;
+import modele.components.Grid;
+import modele.journal.*;
 import modele.components.Player;
 import modele.util.PlayerManager;
 
@@ -27,54 +29,37 @@ public class DirectionalShootBehavior implements WeaponBehavior {
 
     /**
      * Exécute le tir directionnel à partir d'une position donnée dans une direction spécifiée.
-     * Le tir se propage case par case jusqu'à atteindre un joueur, un mur ou dépasser la portée.
+     * Le tir touche le premier joueur sur sa ligne, s'il se trouve avant le premier mur et à portée.
      *
      * @param x Coordonnée X de départ du tir.
      * @param y Coordonnée Y de départ du tir.
-     * @param direction Direction du tir ("h" pour haut, "b" pour bas, "g" pour gauche, "d" pour droite).
-     * @param cases Grille de jeu représentée par un tableau 2D de cases.
+     * @param direction Direction du tir ({@link CodeAction#HAUT}, {@link CodeAction#BAS}, {@link CodeAction#GAUCHE}, {@link CodeAction#DROITE}).
+     * @param grid Grille de jeu.
      * @param playerManager Gestionnaire des joueurs pour vérifier la présence de joueurs dans les cases.
+     * @return Les dégâts infligés au joueur touché, 0 si aucun joueur n'a été touché.
      */
     @Override
-    public void execute(int x, int y, String direction, Case[][] cases, PlayerManager playerManager) {
-        int dx = 0, dy = 0;
-
-        // Définir les décalages en fonction de la direction
-        switch (direction) {
-            case "h": dx = -1; break; // haut
-            case "b": dx = 1; break;  // bas
-            case "g": dy = -1; break; // gauche
-            case "d": dy = 1; break;  // droite
-            default:
-                System.out.println("Invalid direction.");
-                return;
+    public int execute(int x, int y, int direction, Grid grid, PlayerManager playerManager) {
+        Journal journal = playerManager.getJournal();
+        if (!CodeAction.estDirection(direction)) {
+            journal.debug("Invalid direction.");
+            return 0;
         }
 
-        // Parcourir les cases dans la direction donnée jusqu'à la portée maximale
-        for (int k = 1; k <= range; k++) {
-            x += dx;
-            y += dy;
-
-            // Vérifier si le tir dépasse les limites de la grille
-            if (x < 0 || x >= cases.length || y < 0 || y >= cases[0].length) {
-                System.out.println("Shot out of bounds.");
-                break;
-            }
-
-            Case targetCase = cases[x][y];
-
-            // Vérifier si la case contient un joueur
-            if (!targetCase.isWall() && playerManager.playerExists(targetCase)) {
-                Player target = (Player) targetCase.getVal();
-                if (target != null) {
-                    target.damage(damage); // Infliger des dégâts au joueur
+        // La ligne de tir s'arrête au premier mur (ou au bord) : table des distances aux murs de la grille,
+        // puis premier joueur sur les cases restantes, lu dans les bitsets d'occupation.
+        int portee = Math.min(range, grid.distanceMur(x, y, direction));
+        Player target = playerManager.premierJoueur(x, y, direction, portee);
+        int infliges = 0;
+        if (target != null) {
+            infliges = target.damage(damage); // Infliger des dégâts au joueur
 
-                    if (!target.isShieldActive()) {
-                        System.out.println("Player " + target.getID() + " was hit and took " + damage + " damage!");
-                    }
-                    break; // Arrêter le tir après avoir touché un joueur
-                }
+            if (!target.isShieldActive() && journal.estActif(Niveau.INFO)) {
+                journal.info("Player " + target.getID() + " was hit and took " + damage + " damage!");
             }
+        } else if (portee < range) {
+            journal.debug("Shot stopped by a wall.");
         }
+        return infliges;
     }
 }
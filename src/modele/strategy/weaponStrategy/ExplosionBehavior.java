@@ -1,57 +1,86 @@
 package modele.strategy.weaponStrategy;
 
 import modele.components.*;
+import modele.journal.*;
 import modele.util.*;
 
 /**
  * Comportement pour une arme effectuant une explosion.
- * L'explosion inflige des dégâts à toutes les entités (joueurs) dans une zone 3x3 centrée sur une position donnée.
+ * L'explosion inflige des dégâts à tous les joueurs présents dans sa zone ({@link ZoneExplosion}),
+ * par défaut un carré 3x3 centré sur une position donnée.
  */
 public class ExplosionBehavior implements WeaponBehavior {
 
     private int damage; // Dégâts infligés par l'explosion
+    private final ZoneExplosion zone; // Zone touchée autour du centre de l'explosion
 
     /**
-     * Constructeur pour initialiser les dégâts de l'explosion.
+     * État de l'explosion en cours, lu par {@link #toucher}, créé une seule fois.
+     */
+    private final ZoneExplosion.Visiteur toucher;
+    private PlayerManager joueurs;
+    private int infliges;
+
+    /**
+     * Constructeur pour initialiser les dégâts d'une explosion carrée 3x3.
      *
      * @param damage Dégâts infligés par l'explosion.
      */
     public ExplosionBehavior(int damage) {
+        this(damage, new ZoneExplosion(FormeExplosion.CARRE, 1));
+    }
+
+    /**
+     * Constructeur pour initialiser les dégâts et la zone de l'explosion.
+     *
+     * @param damage Dégâts infligés par l'explosion.
+     * @param zone Zone touchée autour du centre de l'explosion.
+     */
+    public ExplosionBehavior(int damage, ZoneExplosion zone) {
         this.damage = damage;
+        this.zone = zone;
+        this.toucher = this::toucher;
+    }
+
+    /**
+     * @return La zone touchée par l'explosion.
+     */
+    public ZoneExplosion getZone() {
+        return zone;
     }
 
     /**
      * Exécute une explosion à partir d'une position donnée.
-     * L'explosion affecte toutes les cases voisines (dans une zone 3x3) en infligeant des dégâts aux joueurs présents.
+     * Seules les cases de la zone occupées par un joueur sont visitées, d'après l'occupation du gestionnaire des joueurs.
      *
      * @param x Coordonnée X du centre de l'explosion.
      * @param y Coordonnée Y du centre de l'explosion.
      * @param direction Non utilisé dans ce contexte, l'explosion est omnidirectionnelle.
-     * @param cases Grille de jeu représentée par un tableau 2D de cases.
+     * @param grid Grille de jeu.
      * @param playerManager Gestionnaire des joueurs pour vérifier la présence de joueurs dans les cases.
+     * @return Le total des dégâts infligés aux joueurs pris dans l'explosion.
      */
     @Override
-    public void execute(int x, int y, String direction, Case[][] cases, PlayerManager playerManager) {
-
-        // Parcourir une zone 3x3 autour de la position (x, y)
-        for (int i = -1; i <= 1; i++) {
-            for (int j = -1; j <= 1; j++) {
-                int nx = x + i;
-                int ny = y + j;
-
-                // Vérifier si les coordonnées sont valides
-                if (nx >= 0 && nx < cases.length && ny >= 0 && ny < cases[0].length) {
-                    Case targetCase = cases[nx][ny];
-                    Object val = targetCase.getVal();
-
-                    // Infliger des dégâts si un joueur est présent sur la case
-                    if (val instanceof Player) {
-                        Player target = (Player) val;
-                        target.damage(damage);
-                        System.out.println("Player " + target.getID() + " was hit by the explosion and took " + damage + " damage!");
-                    }
-                }
-            }
+    public int execute(int x, int y, int direction, Grid grid, PlayerManager playerManager) {
+        joueurs = playerManager;
+        infliges = 0;
+        zone.parcourir(x, y, grid, playerManager.getOccupation(), toucher);
+        joueurs = null;
+        return infliges;
+    }
+
+    /**
+     * Inflige les dégâts de l'explosion au joueur d'une case de la zone.
+     */
+    private void toucher(int line, int col) {
+        Player target = joueurs.getPlayerAt(line, col);
+        if (target == null) {
+            return;
+        }
+        infliges += target.damage(damage);
+        Journal journal = joueurs.getJournal();
+        if (journal.estActif(Niveau.INFO)) {
+            journal.info("Player " + target.getID() + " was hit by the explosion and took " + damage + " damage!");
         }
     }
 }
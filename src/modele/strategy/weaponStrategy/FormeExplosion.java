@@ -0,0 +1,29 @@
+package modele.strategy.weaponStrategy;
+
+import java.util.Locale;
+
+/**
+ * Forme de la zone touchée par l'explosion d'une bombe, autour de sa case et jusqu'à son rayon.
+ */
+public enum FormeExplosion {
+
+    /** Toutes les cases à au plus {@code rayon} lignes et colonnes de la bombe (3x3 pour un rayon de 1). */
+    CARRE,
+
+    /** Les cases à une distance de Manhattan d'au plus {@code rayon}. */
+    LOSANGE,
+
+    /** La ligne et la colonne de la bombe, chaque branche arrêtée par le premier mur. */
+    CROIX;
+
+    /**
+     * Retrouve une forme par son nom de configuration ({@code carre}, {@code losange} ou {@code croix}).
+     *
+     * @param nom Le nom de la forme, sans tenir compte de la casse.
+     * @return La forme correspondante.
+     * @throws IllegalArgumentException si le nom ne correspond à aucune forme.
+     */
+    public static FormeExplosion depuis(String nom) {
+        return valueOf(nom.toUpperCase(Locale.ROOT));
+    }
+}
@@ -1,6 +1,6 @@
 package modele.strategy.weaponStrategy;
 
-import modele.components.Case;
+import modele.components.Grid;
 import modele.util.PlayerManager;
 
 /**
@@ -14,9 +14,11 @@ public interface WeaponBehavior {
      *
      * @param x Coordonnée X de départ de l'action.
      * @param y Coordonnée Y de départ de l'action.
-     * @param direction Direction dans laquelle l'action est effectuée (exemple : "h" pour haut, "b" pour bas).
-     * @param cases Grille de jeu représentée par un tableau 2D de cases.
+     * @param direction Direction dans laquelle l'action est effectuée ({@link modele.actions.CodeAction#HAUT}...),
+     *                  ou {@link modele.actions.CodeAction#AUCUNE} pour une action sans direction.
+     * @param grid Grille de jeu.
      * @param playerManager Gestionnaire des joueurs, utilisé pour accéder aux informations et interactions avec les joueurs.
+     * @return Le total des dégâts réellement infligés aux joueurs.
      */
-    void execute(int x, int y, String direction, Case[][] cases, PlayerManager playerManager);
+    int execute(int x, int y, int direction, Grid grid, PlayerManager playerManager);
 }
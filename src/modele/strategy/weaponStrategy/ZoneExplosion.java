@@ -0,0 +1,111 @@
+package modele.strategy.weaponStrategy;
+
+import modele.actions.CodeAction;
+import modele.components.Grid;
+import modele.util.Occupation;
+
+/**
+ * Zone touchée par une explosion : une forme et un rayon, dont le masque est calculé une fois pour toutes
+ * (demi-largeur de la zone sur chaque ligne). Une explosion ne visite que les cases occupées de la zone,
+ * trouvées ligne par ligne dans une {@link Occupation} : son coût dépend du nombre de lignes de la zone
+ * et des occupants, pas de sa surface.
+ */
+public final class ZoneExplosion {
+
+    /**
+     * Action appliquée à chaque case occupée de la zone.
+     */
+    @FunctionalInterface
+    public interface Visiteur {
+
+        /**
+         * @param line La ligne de la case.
+         * @param col La colonne de la case.
+         */
+        void visiter(int line, int col);
+    }
+
+    private final FormeExplosion forme;
+    private final int rayon;
+
+    /**
+     * Demi-largeur de la zone sur chaque ligne, de {@code -rayon} à {@code rayon} lignes de la bombe
+     * (formes carrée et en losange ; la croix dépend des murs et n'a pas de masque).
+     */
+    private final int[] demiLargeurs;
+
+    /**
+     * Crée une zone d'explosion.
+     *
+     * @param forme La forme de la zone.
+     * @param rayon Le rayon, en cases (0 : seule la case de la bombe).
+     * @throws IllegalArgumentException si le rayon est négatif.
+     */
+    public ZoneExplosion(FormeExplosion forme, int rayon) {
+        if (rayon < 0) {
+            throw new IllegalArgumentException("Rayon d'explosion négatif : " + rayon);
+        }
+        this.forme = forme;
+        this.rayon = rayon;
+        this.demiLargeurs = new int[2 * rayon + 1];
+        for (int dl = -rayon; dl <= rayon; dl++) {
+            demiLargeurs[dl + rayon] = forme == FormeExplosion.LOSANGE ? rayon - Math.abs(dl) : rayon;
+        }
+    }
+
+    /**
+     * @return La forme de la zone.
+     */
+    public FormeExplosion getForme() {
+        return forme;
+    }
+
+    /**
+     * @return Le rayon de la zone, en cases.
+     */
+    public int getRayon() {
+        return rayon;
+    }
+
+    /**
+     * Visite les cases occupées de la zone centrée sur une case, ligne par ligne puis de gauche à droite
+     * (pour la croix : la ligne de la bombe, puis les branches haute et basse).
+     *
+     * @param line La ligne du centre de l'explosion.
+     * @param col La colonne du centre de l'explosion.
+     * @param grid La grille, pour ses dimensions et ses distances aux murs.
+     * @param occupees Les cases occupées à visiter.
+     * @param visiteur L'action appliquée à chaque case occupée de la zone.
+     */
+    public void parcourir(int line, int col, Grid grid, Occupation occupees, Visiteur visiteur) {
+        if (forme == FormeExplosion.CROIX) {
+            int gauche = col - Math.min(rayon, grid.distanceMur(line, col, CodeAction.GAUCHE));
+            int droite = col + Math.min(rayon, grid.distanceMur(line, col, CodeAction.DROITE));
+            parcourirLigne(line, gauche, droite, occupees, visiteur);
+            int haut = line - Math.min(rayon, grid.distanceMur(line, col, CodeAction.HAUT));
+            for (int l = occupees.suivantSurColonne(col, haut, line - 1); l >= 0; l = occupees.suivantSurColonne(col, l + 1, line - 1)) {
+                visiteur.visiter(l, col);
+            }
+            int bas = line + Math.min(rayon, grid.distanceMur(line, col, CodeAction.BAS));
+            for (int l = occupees.suivantSurColonne(col, line + 1, bas); l >= 0; l = occupees.suivantSurColonne(col, l + 1, bas)) {
+                visiteur.visiter(l, col);
+            }
+            return;
+        }
+        int premiere = Math.max(line - rayon, 0);
+        int derniere = Math.min(line + rayon, grid.getNbLines() - 1);
+        for (int l = premiere; l <= derniere; l++) {
+            int demiLargeur = demiLargeurs[l - line + rayon];
+            parcourirLigne(l, col - demiLargeur, col + demiLargeur, occupees, visiteur);
+        }
+    }
+
+    /**
+     * Visite les cases occupées d'une ligne entre deux colonnes (incluses).
+     */
+    private static void parcourirLigne(int line, int de, int a, Occupation occupees, Visiteur visiteur) {
+        for (int c = occupees.suivantSurLigne(line, de, a); c >= 0; c = occupees.suivantSurLigne(line, c + 1, a)) {
+            visiteur.visiter(line, c);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package modele.util;
+
+/**
+ * Distributeur d'identifiants uniques pour les objets d'une partie (joueurs, armes).
+ * Chaque partie possède ses propres distributeurs : les identifiants commencent à 1
+ * dans chaque partie, indépendamment des autres parties exécutées dans la même JVM.
+ * Un distributeur n'est pas partagé entre threads.
+ */
+public class IdAllocator {
+
+    /**
+     * Dernier identifiant attribué.
+     */
+    private int dernierID;
+
+    /**
+     * Constructeur d'un distributeur commençant à 1.
+     */
+    public IdAllocator() {
+        this.dernierID = 0;
+    }
+
+    /**
+     * Retourne un nouvel identifiant.
+     *
+     * @return L'identifiant suivant.
+     */
+    public int suivant() {
+        return ++dernierID;
+    }
+
+    /**
+     * Retourne le dernier identifiant attribué.
+     *
+     * @return Le dernier identifiant, 0 si aucun n'a été attribué.
+     */
+    public int getDernierID() {
+        return dernierID;
+    }
+}
@@ -0,0 +1,496 @@
+package modele.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import modele.Game;
+import modele.actions.CodeAction;
+import modele.components.*;
+
+/**
+ * Service de recherche de chemins sur la grille d'une partie, pour les stratégies des joueurs artificiels.
+ * <p>
+ * Deux outils sont proposés :
+ * <ul>
+ *   <li>des cartes de distances (parcours en largeur depuis plusieurs sources) vers les joueurs, les soins
+ *   et les munitions ; chaque carte est calculée au plus une fois par tour ({@link Game#getGeneration()})
+ *   et il suffit ensuite de la descendre pour s'approcher de la cible la plus proche ;</li>
+ *   <li>une recherche A* entre deux cases, dont les tableaux (coûts, parents, marques, tas) sont réutilisés
+ *   d'une recherche à l'autre sans être effacés.</li>
+ * </ul>
+ * Les distances ne tiennent compte que des murs, relevés dans un bitset refait seulement quand
+ * la version des murs de la grille change ({@link Grid#getVersionMurs()}). La navigation lit la grille
+ * entière, sans brouillard de guerre ; elle n'est pas partagée entre threads, comme la partie.
+ */
+public class Navigation {
+
+    /**
+     * Distance d'une case d'où aucune cible n'est accessible.
+     */
+    public static final int INACCESSIBLE = Integer.MAX_VALUE;
+
+    private final Game game;
+    private final Grid grid;
+    private final int nbLignes;
+    private final int nbColonnes;
+    private final int nbCellules;
+
+    /**
+     * Bitset des cases sans mur (indice ligne * nbColonnes + colonne), relevé à la version {@link #versionMurs}.
+     */
+    private final long[] libres;
+    private int versionMurs;
+    private boolean releve;
+
+    /**
+     * File du parcours en largeur, réutilisée.
+     */
+    private final int[] file;
+
+    /**
+     * Cartes de distances et génération de la partie à laquelle chacune a été calculée (-1 : jamais).
+     */
+    private final int[] distancesJoueurs;
+    private final int[] distancesSoins;
+    private final int[] distancesMunitions;
+    private int generationJoueurs;
+    private int generationSoins;
+    private int generationMunitions;
+
+    /**
+     * Joueur exclu des sources de la carte des joueurs (celui qui la consulte), par ID.
+     */
+    private int exclu;
+
+    /**
+     * Tableaux de la recherche A*. Une case n'a de coût et de parent valides que si sa marque vaut
+     * le numéro de la recherche en cours ; elle est fermée si sa marque de fermeture le vaut.
+     */
+    private final int[] couts;
+    private final int[] parents;
+    private final int[] marques;
+    private final int[] fermees;
+    private int recherche;
+
+    /**
+     * Tas binaire de la recherche A* : chaque entrée est {@code (coût estimé << 32) | case}.
+     */
+    private long[] tas;
+    private int tailleTas;
+
+    /**
+     * Crée la navigation d'une partie.
+     *
+     * @param game La partie.
+     */
+    public Navigation(Game game) {
+        this.game = game;
+        this.grid = game.getGrid();
+        this.nbLignes = grid.getNbLines();
+        this.nbColonnes = grid.getNbColonnes();
+        this.nbCellules = nbLignes * nbColonnes;
+        this.libres = new long[(nbCellules + 63) >>> 6];
+        this.releve = false;
+        this.file = new int[nbCellules];
+        this.distancesJoueurs = new int[nbCellules];
+        this.distancesSoins = new int[nbCellules];
+        this.distancesMunitions = new int[nbCellules];
+        this.generationJoueurs = -1;
+        this.generationSoins = -1;
+        this.generationMunitions = -1;
+        this.couts = new int[nbCellules];
+        this.parents = new int[nbCellules];
+        this.marques = new int[nbCellules];
+        this.fermees = new int[nbCellules];
+        this.recherche = 0;
+        this.tas = new long[64];
+        this.tailleTas = 0;
+    }
+
+    /**
+     * Retourne la carte des distances de chaque case au joueur le plus proche, sans compter un joueur donné.
+     *
+     * @param sauf Le joueur à ne pas compter (en général celui qui consulte la carte), ou null.
+     * @return Les distances, indexées par ligne * nbColonnes + colonne ({@link #INACCESSIBLE} si aucun joueur
+     * n'est accessible). Le tableau est réutilisé : il ne doit pas être modifié.
+     */
+    public int[] distancesJoueurs(Player sauf) {
+        int id = sauf == null ? 0 : sauf.getID();
+        boolean murs = mursAJour();
+        if (!murs || generationJoueurs != game.getGeneration() || exclu != id) {
+            PlayerManager manager = game.getPlayerManager();
+            int debut = 0;
+            List<Player> players = manager.getPlayers();
+            for (int i = 0; i < players.size(); i++) { // Par indice : pas d'itérateur à chaque carte
+                Player p = players.get(i);
+                Case c = manager.getPlayerLocation(p);
+                if (p.getID() != id && c != null) {
+                    file[debut++] = c.getLine() * nbColonnes + c.getCol();
+                }
+            }
+            parcourir(distancesJoueurs, debut);
+            generationJoueurs = game.getGeneration();
+            exclu = id;
+        }
+        return distancesJoueurs;
+    }
+
+    /**
+     * Retourne la carte des distances de chaque case au soin le plus proche.
+     *
+     * @return Les distances, comme {@link #distancesJoueurs(Player)}.
+     */
+    public int[] distancesSoins() {
+        boolean murs = mursAJour();
+        if (!murs || generationSoins != game.getGeneration()) {
+            parcourir(distancesSoins, sources(Health.class));
+            generationSoins = game.getGeneration();
+        }
+        return distancesSoins;
+    }
+
+    /**
+     * Retourne la carte des distances de chaque case aux munitions les plus proches.
+     *
+     * @return Les distances, comme {@link #distancesJoueurs(Player)}.
+     */
+    public int[] distancesMunitions() {
+        boolean murs = mursAJour();
+        if (!murs || generationMunitions != game.getGeneration()) {
+            parcourir(distancesMunitions, sources(Ammo.class));
+            generationMunitions = game.getGeneration();
+        }
+        return distancesMunitions;
+    }
+
+    /**
+     * Direction d'un pas vers l'adversaire le plus proche.
+     *
+     * @param player Le joueur qui se déplace.
+     * @return La direction (voir {@link CodeAction}), ou {@link CodeAction#AUCUNE} si aucun pas ne l'en rapproche.
+     */
+    public int directionVersJoueur(Player player) {
+        return descendre(distancesJoueurs(player), player);
+    }
+
+    /**
+     * Direction d'un pas vers le soin le plus proche.
+     *
+     * @param player Le joueur qui se déplace.
+     * @return La direction, ou {@link CodeAction#AUCUNE} si aucun pas ne l'en rapproche.
+     */
+    public int directionVersSoin(Player player) {
+        return descendre(distancesSoins(), player);
+    }
+
+    /**
+     * Direction d'un pas vers les munitions les plus proches.
+     *
+     * @param player Le joueur qui se déplace.
+     * @return La direction, ou {@link CodeAction#AUCUNE} si aucun pas ne l'en rapproche.
+     */
+    public int directionVersMunitions(Player player) {
+        return descendre(distancesMunitions(), player);
+    }
+
+    /**
+     * Choisit au hasard une direction dans laquelle le joueur peut se déplacer (ni mur, ni joueur).
+     *
+     * @param player Le joueur qui se déplace.
+     * @param rand Le générateur aléatoire du joueur.
+     * @return La direction, ou {@link CodeAction#AUCUNE} si le joueur est bloqué.
+     */
+    public int directionLibre(Player player, SplittableRandom rand) {
+        Case c = game.getPlayerManager().getPlayerLocation(player);
+        if (c == null) {
+            return CodeAction.AUCUNE;
+        }
+        int possibles = directionsLibres(c.getLine(), c.getCol());
+        int nb = Integer.bitCount(possibles);
+        if (nb == 0) {
+            return CodeAction.AUCUNE;
+        }
+        for (int choix = rand.nextInt(nb); choix > 0; choix--) {
+            possibles &= possibles - 1;
+        }
+        return Integer.numberOfTrailingZeros(possibles);
+    }
+
+    /**
+     * Retourne les directions dans lesquelles un déplacement depuis une case réussirait (ni mur, ni joueur).
+     *
+     * @param line La ligne de départ.
+     * @param col La colonne de départ.
+     * @return Un masque dont le bit {@code d} est levé si la direction {@code d} est libre.
+     */
+    public int directionsLibres(int line, int col) {
+        PlayerManager manager = game.getPlayerManager();
+        int masque = 0;
+        for (int d = 0; d < CodeAction.NB_DIRECTIONS; d++) {
+            int l = line + CodeAction.dl(d);
+            int c = col + CodeAction.dc(d);
+            if (grid.validCoordinates(l, c) && !manager.playerExists(l, c)) {
+                masque |= 1 << d;
+            }
+        }
+        return masque;
+    }
+
+    /**
+     * Calcule par A* la longueur du plus court chemin entre deux cases, en ne contournant que les murs.
+     *
+     * @param line1 La ligne de départ.
+     * @param col1 La colonne de départ.
+     * @param line2 La ligne d'arrivée.
+     * @param col2 La colonne d'arrivée.
+     * @return Le nombre de pas, ou -1 si l'arrivée est inaccessible.
+     */
+    public int distance(int line1, int col1, int line2, int col2) {
+        int arrivee = chercher(line1, col1, line2, col2);
+        return arrivee < 0 ? -1 : couts[arrivee];
+    }
+
+    /**
+     * Calcule par A* la direction du premier pas d'un plus court chemin entre deux cases.
+     *
+     * @param line1 La ligne de départ.
+     * @param col1 La colonne de départ.
+     * @param line2 La ligne d'arrivée.
+     * @param col2 La colonne d'arrivée.
+     * @return La direction, ou {@link CodeAction#AUCUNE} si l'arrivée est inaccessible ou est le départ.
+     */
+    public int premierPas(int line1, int col1, int line2, int col2) {
+        int arrivee = chercher(line1, col1, line2, col2);
+        int depart = line1 * nbColonnes + col1;
+        if (arrivee < 0 || arrivee == depart) {
+            return CodeAction.AUCUNE;
+        }
+        int pas = arrivee;
+        while (parents[pas] != depart) {
+            pas = parents[pas];
+        }
+        return direction(depart, pas);
+    }
+
+    /**
+     * Recherche A* (heuristique de Manhattan, cohérente sur une grille à quatre voisins).
+     *
+     * @return L'indice de l'arrivée si elle est atteinte, -1 sinon.
+     */
+    private int chercher(int line1, int col1, int line2, int col2) {
+        if (!grid.validCoordinates(line1, col1) || !grid.validCoordinates(line2, col2)) {
+            return -1;
+        }
+        mursAJour();
+        if (++recherche == 0) { // Les marques ont fait le tour : elles sont effacées une fois
+            Arrays.fill(marques, 0);
+            Arrays.fill(fermees, 0);
+            recherche = 1;
+        }
+        int depart = line1 * nbColonnes + col1;
+        int arrivee = line2 * nbColonnes + col2;
+        tailleTas = 0;
+        marques[depart] = recherche;
+        couts[depart] = 0;
+        parents[depart] = depart;
+        empiler(Math.abs(line1 - line2) + Math.abs(col1 - col2), depart);
+
+        while (tailleTas > 0) {
+            int courante = (int) depiler();
+            if (fermees[courante] == recherche) {
+                continue; // Entrée périmée : la case a déjà été atteinte par un chemin plus court
+            }
+            if (courante == arrivee) {
+                return arrivee;
+            }
+            fermees[courante] = recherche;
+            int line = courante / nbColonnes;
+            int col = courante - line * nbColonnes;
+            int cout = couts[courante] + 1;
+            for (int d = 0; d < CodeAction.NB_DIRECTIONS; d++) {
+                int l = line + CodeAction.dl(d);
+                int c = col + CodeAction.dc(d);
+                if (l < 0 || l >= nbLignes || c < 0 || c >= nbColonnes) {
+                    continue;
+                }
+                int voisine = l * nbColonnes + c;
+                if (!estLibre(voisine) || fermees[voisine] == recherche
+                        || (marques[voisine] == recherche && couts[voisine] <= cout)) {
+                    continue;
+                }
+                marques[voisine] = recherche;
+                couts[voisine] = cout;
+                parents[voisine] = courante;
+                empiler(cout + Math.abs(l - line2) + Math.abs(c - col2), voisine);
+            }
+        }
+        return -1;
+    }
+
+    private void empiler(long priorite, int cellule) {
+        if (tailleTas == tas.length) {
+            tas = Arrays.copyOf(tas, tailleTas * 2);
+        }
+        long entree = priorite << 32 | cellule;
+        int i = tailleTas++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (tas[parent] <= entree) {
+                break;
+            }
+            tas[i] = tas[parent];
+            i = parent;
+        }
+        tas[i] = entree;
+    }
+
+    /**
+     * Retire l'entrée de plus petite priorité du tas et retourne sa case.
+     */
+    private long depiler() {
+        long sommet = tas[0];
+        long derniere = tas[--tailleTas];
+        int i = 0;
+        while (true) {
+            int enfant = 2 * i + 1;
+            if (enfant >= tailleTas) {
+                break;
+            }
+            if (enfant + 1 < tailleTas && tas[enfant + 1] < tas[enfant]) {
+                enfant++;
+            }
+            if (derniere <= tas[enfant]) {
+                break;
+            }
+            tas[i] = tas[enfant];
+            i = enfant;
+        }
+        if (tailleTas > 0) {
+            tas[i] = derniere;
+        }
+        return sommet & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Parcours en largeur depuis les sources rangées au début de la file.
+     *
+     * @param distances La carte à remplir.
+     * @param nbSources Le nombre de sources dans la file.
+     */
+    private void parcourir(int[] distances, int nbSources) {
+        Arrays.fill(distances, INACCESSIBLE);
+        for (int k = 0; k < nbSources; k++) {
+            distances[file[k]] = 0;
+        }
+        int tete = 0;
+        int queue = nbSources;
+        while (tete < queue) {
+            int courante = file[tete++];
+            int suivante = distances[courante] + 1;
+            int col = courante % nbColonnes;
+            if (courante >= nbColonnes) {
+                queue = visiter(distances, courante - nbColonnes, suivante, queue);
+            }
+            if (courante < nbCellules - nbColonnes) {
+                queue = visiter(distances, courante + nbColonnes, suivante, queue);
+            }
+            if (col > 0) {
+                queue = visiter(distances, courante - 1, suivante, queue);
+            }
+            if (col < nbColonnes - 1) {
+                queue = visiter(distances, courante + 1, suivante, queue);
+            }
+        }
+    }
+
+    private int visiter(int[] distances, int cellule, int distance, int queue) {
+        if (distances[cellule] == INACCESSIBLE && estLibre(cellule)) {
+            distances[cellule] = distance;
+            file[queue++] = cellule;
+        }
+        return queue;
+    }
+
+    /**
+     * Range dans la file les cases sans mur qui contiennent un composant d'une sorte donnée.
+     *
+     * @return Le nombre de cases trouvées.
+     */
+    private int sources(Class<? extends Component> sorte) {
+        int nb = 0;
+        int i = 0;
+        for (int line = 0; line < nbLignes; line++) {
+            for (int col = 0; col < nbColonnes; col++, i++) {
+                if (sorte.isInstance(grid.getVal(line, col)) && !grid.isWall(line, col)) {
+                    file[nb++] = i;
+                }
+            }
+        }
+        return nb;
+    }
+
+    /**
+     * Direction du pas qui fait le plus baisser une carte de distances, vers une case où le joueur peut aller.
+     */
+    private int descendre(int[] distances, Player player) {
+        Case c = game.getPlayerManager().getPlayerLocation(player);
+        if (c == null) {
+            return CodeAction.AUCUNE;
+        }
+        int line = c.getLine();
+        int col = c.getCol();
+        int possibles = directionsLibres(line, col);
+        int meilleure = CodeAction.AUCUNE;
+        int plusCourte = distances[line * nbColonnes + col];
+        for (int d = 0; d < CodeAction.NB_DIRECTIONS; d++) {
+            if ((possibles & (1 << d)) != 0) {
+                int distance = distances[(line + CodeAction.dl(d)) * nbColonnes + col + CodeAction.dc(d)];
+                if (distance < plusCourte) {
+                    plusCourte = distance;
+                    meilleure = d;
+                }
+            }
+        }
+        return meilleure;
+    }
+
+    /**
+     * Direction qui mène d'une case à une case voisine.
+     */
+    private int direction(int depart, int voisine) {
+        int ecart = voisine - depart;
+        if (ecart == -nbColonnes) {
+            return CodeAction.HAUT;
+        } else if (ecart == nbColonnes) {
+            return CodeAction.BAS;
+        }
+        return ecart < 0 ? CodeAction.GAUCHE : CodeAction.DROITE;
+    }
+
+    private boolean estLibre(int cellule) {
+        return (libres[cellule >>> 6] & (1L << cellule)) != 0;
+    }
+
+    /**
+     * Relève les murs si la grille en a changé depuis le dernier relevé.
+     *
+     * @return true si le relevé était déjà à jour.
+     */
+    private boolean mursAJour() {
+        if (releve && versionMurs == grid.getVersionMurs()) {
+            return true;
+        }
+        Arrays.fill(libres, 0L);
+        int i = 0;
+        for (int line = 0; line < nbLignes; line++) {
+            for (int col = 0; col < nbColonnes; col++, i++) {
+                if (!grid.isWall(line, col)) {
+                    libres[i >>> 6] |= 1L << i;
+                }
+            }
+        }
+        versionMurs = grid.getVersionMurs();
+        releve = true;
+        return false;
+    }
+}
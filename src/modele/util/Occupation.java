@@ -0,0 +1,165 @@
+package modele.util;
+
+import java.util.Arrays;
+
+/**
+ * Ensemble de cases d'une grille (joueurs, bombes posées...), rangé en bitsets par ligne et par colonne.
+ * Les recherches le long d'une ligne ou d'une colonne (ligne de tir, zone d'explosion) lisent un mot
+ * de 64 cases à la fois au lieu d'examiner chaque case.
+ */
+public class Occupation {
+
+    private final int nbLignes;
+    private final int nbColonnes;
+    private final int motsLigne;
+    private final int motsColonne;
+
+    /**
+     * Bit c du bloc {@code ligne * motsLigne} de {@link #lignes}, bit l du bloc {@code colonne * motsColonne}
+     * de {@link #colonnes}.
+     */
+    private final long[] lignes;
+    private final long[] colonnes;
+
+    /**
+     * Crée un ensemble vide pour une grille.
+     *
+     * @param nbLignes Le nombre de lignes de la grille.
+     * @param nbColonnes Le nombre de colonnes de la grille.
+     */
+    public Occupation(int nbLignes, int nbColonnes) {
+        this.nbLignes = nbLignes;
+        this.nbColonnes = nbColonnes;
+        this.motsLigne = (nbColonnes + 63) >>> 6;
+        this.motsColonne = (nbLignes + 63) >>> 6;
+        this.lignes = new long[nbLignes * motsLigne];
+        this.colonnes = new long[nbColonnes * motsColonne];
+    }
+
+    /**
+     * Ajoute une case à l'ensemble.
+     *
+     * @param line La ligne de la case.
+     * @param col La colonne de la case.
+     */
+    public void ajouter(int line, int col) {
+        lignes[line * motsLigne + (col >>> 6)] |= 1L << col;
+        colonnes[col * motsColonne + (line >>> 6)] |= 1L << line;
+    }
+
+    /**
+     * Retire une case de l'ensemble.
+     *
+     * @param line La ligne de la case.
+     * @param col La colonne de la case.
+     */
+    public void retirer(int line, int col) {
+        lignes[line * motsLigne + (col >>> 6)] &= ~(1L << col);
+        colonnes[col * motsColonne + (line >>> 6)] &= ~(1L << line);
+    }
+
+    /**
+     * Indique si une case fait partie de l'ensemble.
+     *
+     * @param line La ligne de la case.
+     * @param col La colonne de la case.
+     * @return true si la case est occupée.
+     */
+    public boolean contient(int line, int col) {
+        return (lignes[line * motsLigne + (col >>> 6)] & (1L << col)) != 0;
+    }
+
+    /**
+     * Vide l'ensemble.
+     */
+    public void vider() {
+        Arrays.fill(lignes, 0);
+        Arrays.fill(colonnes, 0);
+    }
+
+    /**
+     * Retourne la première colonne occupée d'une ligne entre deux colonnes (incluses, ramenées dans la grille).
+     *
+     * @param line La ligne.
+     * @param de La première colonne examinée.
+     * @param a La dernière colonne examinée, au moins {@code de}.
+     * @return La colonne trouvée, ou -1.
+     */
+    public int suivantSurLigne(int line, int de, int a) {
+        return suivant(lignes, line * motsLigne, Math.max(de, 0), Math.min(a, nbColonnes - 1));
+    }
+
+    /**
+     * Retourne la dernière colonne occupée d'une ligne entre deux colonnes, en remontant vers la gauche.
+     *
+     * @param line La ligne.
+     * @param de La première colonne examinée.
+     * @param a La dernière colonne examinée, au plus {@code de}.
+     * @return La colonne trouvée, ou -1.
+     */
+    public int precedentSurLigne(int line, int de, int a) {
+        return precedent(lignes, line * motsLigne, Math.min(de, nbColonnes - 1), Math.max(a, 0));
+    }
+
+    /**
+     * Retourne la première ligne occupée d'une colonne entre deux lignes (incluses, ramenées dans la grille).
+     *
+     * @param col La colonne.
+     * @param de La première ligne examinée.
+     * @param a La dernière ligne examinée, au moins {@code de}.
+     * @return La ligne trouvée, ou -1.
+     */
+    public int suivantSurColonne(int col, int de, int a) {
+        return suivant(colonnes, col * motsColonne, Math.max(de, 0), Math.min(a, nbLignes - 1));
+    }
+
+    /**
+     * Retourne la dernière ligne occupée d'une colonne entre deux lignes, en remontant vers le haut.
+     *
+     * @param col La colonne.
+     * @param de La première ligne examinée.
+     * @param a La dernière ligne examinée, au plus {@code de}.
+     * @return La ligne trouvée, ou -1.
+     */
+    public int precedentSurColonne(int col, int de, int a) {
+        return precedent(colonnes, col * motsColonne, Math.min(de, nbLignes - 1), Math.max(a, 0));
+    }
+
+    /**
+     * Retourne le premier bit à 1 entre deux positions croissantes (incluses) d'un bitset, ou -1.
+     */
+    private static int suivant(long[] bits, int base, int de, int a) {
+        if (de > a) {
+            return -1;
+        }
+        int mot = de >>> 6;
+        long valeur = bits[base + mot] & (-1L << de);
+        while (valeur == 0) {
+            if (++mot > a >>> 6) {
+                return -1;
+            }
+            valeur = bits[base + mot];
+        }
+        int trouve = (mot << 6) + Long.numberOfTrailingZeros(valeur);
+        return trouve <= a ? trouve : -1;
+    }
+
+    /**
+     * Retourne le dernier bit à 1 entre deux positions décroissantes (incluses) d'un bitset, ou -1.
+     */
+    private static int precedent(long[] bits, int base, int de, int a) {
+        if (de < a) {
+            return -1;
+        }
+        int mot = de >>> 6;
+        long valeur = bits[base + mot] & (-1L >>> (63 - (de & 63)));
+        while (valeur == 0) {
+            if (--mot < a >>> 6) {
+                return -1;
+            }
+            valeur = bits[base + mot];
+        }
+        int trouve = (mot << 6) + 63 - Long.numberOfLeadingZeros(valeur);
+        return trouve >= a ? trouve : -1;
+    }
+}
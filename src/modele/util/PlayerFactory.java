@@ -12,16 +12,29 @@ import modele.strategy.playerStrategy.*;
  */
 public class PlayerFactory {
 
-    private Random rand;
+    private SplittableRandom rand;
     private WeaponFactory wb;
+    private IdAllocator ids;
 
     /**
      * Constructeur de la fabrique de joueurs.
      * Initialise les objets nécessaires pour générer des joueurs et leurs armes.
      */
     public PlayerFactory() {
-        this.rand = new Random();
-        this.wb = new WeaponFactory();
+        this(new IdAllocator(), new WeaponFactory(), new SplittableRandom());
+    }
+
+    /**
+     * Constructeur d'une fabrique rattachée à une partie.
+     *
+     * @param ids  Le distributeur d'identifiants de joueurs de la partie.
+     * @param wb   La fabrique d'armes de la partie.
+     * @param rand Le générateur aléatoire de la partie.
+     */
+    public PlayerFactory(IdAllocator ids, WeaponFactory wb, SplittableRandom rand) {
+        this.ids = ids;
+        this.wb = wb;
+        this.rand = rand;
     }
 
     /**
@@ -30,7 +43,7 @@ public class PlayerFactory {
      * @return Un joueur avec des armes aléatoires.
      */
     public Player buildRandomPlayer() {
-        Player p = new Player("P");
+        Player p = nouveau("P");
         p.addWeapons(wb.buildWeapons(rand.nextInt(10), p.getID()));
         return p;
     }
@@ -42,7 +55,7 @@ public class PlayerFactory {
      * @return Un joueur avec le nom spécifié.
      */
     public Player buildPlayer(String name) {
-        return new Player(name);
+        return nouveau(name);
     }
 
     /**
@@ -53,7 +66,7 @@ public class PlayerFactory {
      * @return Un joueur avec le nom spécifié et des armes.
      */
     public Player buildPlayer(String name, int nbWeapons) {
-        Player p = new Player(name);
+        Player p = nouveau(name);
         p.addWeapons(wb.buildWeapons(nbWeapons, p.getID()));
         return p;
     }
@@ -66,7 +79,21 @@ public class PlayerFactory {
      * @return Un joueur avec le nom spécifié et les armes fournies.
      */
     public Player buildPlayer(String name, List<Weapon> weapons) {
-        return new Player(name, weapons);
+        Player p = new Player(ids.suivant(), name, weapons, new RandomBehaviour());
+        p.setRandom(rand.split());
+        return p;
+    }
+
+    /**
+     * Crée un joueur sans armes, avec un identifiant de la partie et un générateur dérivé de celui de la fabrique.
+     *
+     * @param name Le nom du joueur.
+     * @return Le nouveau joueur.
+     */
+    private Player nouveau(String name) {
+        Player p = new Player(ids.suivant(), name);
+        p.setRandom(rand.split());
+        return p;
     }
 
     /**
@@ -94,7 +121,7 @@ public class PlayerFactory {
      * @return Un joueur soldat avec des armes prédéfinies.
      */
     public Player soldat() {
-        Player p = new Player("S");
+        Player p = nouveau("S");
 
         Weapon pi = wb.pistol();
         Weapon k = wb.kalashnikov();
@@ -112,7 +139,7 @@ public class PlayerFactory {
      * @return Un joueur sniper avec des armes prédéfinies.
      */
     public Player sniper() {
-        Player p = new Player("S");
+        Player p = nouveau("S");
 
         Weapon pi = wb.pistol();
         Weapon k = wb.kalashnikov();
@@ -1,10 +1,15 @@
 package modele.util;
 
+import java.nio.ByteBuffer;
 import java.util.*;
-import config.Constants;
 import modele.*;
+import modele.actions.CodeAction;
+import modele.armes.Bomb;
 import modele.armes.Weapon;
 import modele.components.*;
+import modele.events.*;
+import modele.journal.*;
+import modele.strategy.weaponStrategy.FormeExplosion;
 
 /**
  * Classe pour gérer les joueurs dans le jeu.
@@ -19,6 +24,37 @@ public class PlayerManager {
     private Queue<Player> playersQueue;
     private PlayerFactory pb;
     private Game g;
+    private SplittableRandom rand;
+    private final Journal journal;
+    private final Evenements evenements;
+
+    /**
+     * Index d'occupation de la grille : pour chaque case (ligne * nbColonnes + colonne),
+     * l'ID du joueur qui s'y trouve, ou 0 si la case est libre de joueur.
+     */
+    private final int[] occupation;
+
+    /**
+     * Cases occupées par des joueurs, en bitsets par ligne et par colonne : premier joueur sur une ligne de tir,
+     * joueurs dans une zone d'explosion, sans parcourir les cases une à une.
+     */
+    private final Occupation occupees;
+
+    /**
+     * Nombre de colonnes de la grille, pour le calcul des indices de {@link #occupation}.
+     */
+    private final int nbColonnes;
+
+    /**
+     * Joueurs en jeu indexés par leur ID (les IDs d'une partie sont attribués de façon contiguë à partir de 1).
+     */
+    private Player[] parId;
+
+    /**
+     * Tous les joueurs ajoutés à la partie, morts compris, indexés par leur ID :
+     * leurs bombes peuvent encore être posées, et un instantané peut les ramener en jeu.
+     */
+    private Player[] inscrits;
 
     /**
      * Constructeur de la classe PlayerManager.
@@ -28,9 +64,22 @@ public class PlayerManager {
     public PlayerManager(Game g) {
         this.players = new ArrayList<>();
         this.playerLocation = new HashMap<>();
-        this.playersQueue = new LinkedList<>();
-        this.pb = new PlayerFactory();
+        this.playersQueue = new ArrayDeque<>();
+        MatchContext context = g.getContext();
+        this.rand = context.getRandom().split();
+        this.journal = context.getJournal();
+        this.evenements = context.getEvenements();
+        this.pb = new PlayerFactory(context.getPlayerIds(),
+                new WeaponFactory(context.getWeaponIds(), context.getRandom().split(), context.getConfig().getMinuterieBombe(),
+                        context.getConfig().getRayonExplosion(), FormeExplosion.depuis(context.getConfig().getFormeExplosion())),
+                context.getRandom().split());
         this.g = g;
+        Grid grid = g.getGrid();
+        this.nbColonnes = grid.getNbColonnes();
+        this.occupation = new int[grid.getNbLines() * nbColonnes];
+        this.occupees = new Occupation(grid.getNbLines(), nbColonnes);
+        this.parId = new Player[16];
+        this.inscrits = new Player[16];
     }
 
     /**
@@ -39,8 +88,11 @@ public class PlayerManager {
      * @param j Le joueur à ajouter.
      */
     public void addPlayer(Player j) { 
+        j.setJournal(journal);
+        j.setEvenements(evenements);
         this.players.add(j); 
         this.playersQueue.add(j);
+        indexer(j);
         placerPlayer(j); 
     }
 
@@ -73,6 +125,15 @@ public class PlayerManager {
         return this.currentPlayer;
     }
 
+    /**
+     * Retourne le journal de la partie, utilisé par les comportements des armes.
+     *
+     * @return Le journal de la partie.
+     */
+    public Journal getJournal() {
+        return this.journal;
+    }
+
     /**
      * Retourne la carte des emplacements de tous les joueurs.
      *
@@ -89,7 +150,72 @@ public class PlayerManager {
      * @return true si un joueur est présent, false sinon.
      */
     public boolean playerExists(Case c) {
-        return playerLocation.containsValue(c);
+        return playerExists(c.getLine(), c.getCol());
+    }
+
+    /**
+     * Vérifie si une case, désignée par ses coordonnées, contient un joueur.
+     *
+     * @param line La ligne de la case.
+     * @param col La colonne de la case.
+     * @return true si un joueur est présent, false sinon.
+     */
+    public boolean playerExists(int line, int col) {
+        return occupation[line * nbColonnes + col] != 0;
+    }
+
+    /**
+     * Retourne le joueur présent sur une case.
+     *
+     * @param line La ligne de la case.
+     * @param col La colonne de la case.
+     * @return Le joueur présent, ou null si la case est libre de joueur.
+     */
+    public Player getPlayerAt(int line, int col) {
+        int id = occupation[line * nbColonnes + col];
+        return id == 0 ? null : parId[id];
+    }
+
+    /**
+     * Retourne les cases occupées par des joueurs, en bitsets par ligne et par colonne (à ne pas modifier).
+     *
+     * @return L'occupation de la grille par les joueurs.
+     */
+    public Occupation getOccupation() {
+        return occupees;
+    }
+
+    /**
+     * Retourne le premier joueur rencontré depuis une case dans une direction, sur une distance donnée,
+     * à l'aide des bitsets d'occupation (quelques mots lus au lieu d'une case par pas).
+     *
+     * @param line La ligne de départ (exclue de la recherche).
+     * @param col La colonne de départ.
+     * @param direction La direction de la recherche.
+     * @param distance Le nombre de cases à examiner au plus ; la recherche s'arrête aussi au bord de la grille.
+     * @return Le joueur le plus proche, ou null si aucun joueur ne se trouve sur ces cases.
+     */
+    public Player premierJoueur(int line, int col, int direction, int distance) {
+        if (distance <= 0) {
+            return null;
+        }
+        int trouve;
+        switch (direction) {
+            case CodeAction.DROITE:
+                trouve = occupees.suivantSurLigne(line, col + 1, col + distance);
+                return trouve < 0 ? null : getPlayerAt(line, trouve);
+            case CodeAction.GAUCHE:
+                trouve = occupees.precedentSurLigne(line, col - 1, col - distance);
+                return trouve < 0 ? null : getPlayerAt(line, trouve);
+            case CodeAction.BAS:
+                trouve = occupees.suivantSurColonne(col, line + 1, line + distance);
+                return trouve < 0 ? null : getPlayerAt(trouve, col);
+            case CodeAction.HAUT:
+                trouve = occupees.precedentSurColonne(col, line - 1, line - distance);
+                return trouve < 0 ? null : getPlayerAt(trouve, col);
+            default:
+                return null;
+        }
     }
 
     /**
@@ -102,35 +228,101 @@ public class PlayerManager {
     }
 
     /**
-     * Met à jour l'emplacement d'un joueur.
+     * Met à jour l'emplacement d'un joueur et l'index d'occupation.
      *
      * @param j Le joueur à mettre à jour.
-     * @param c La nouvelle case du joueur.
+     * @param c La nouvelle case du joueur, ou null s'il quitte la grille.
      */
     private void updateLocation(Player j, Case c) {
-        this.playerLocation.put(j, c); 
+        Case ancienne = this.playerLocation.put(j, c); 
+        if (ancienne != null) {
+            int index = ancienne.getLine() * nbColonnes + ancienne.getCol();
+            if (occupation[index] == j.getID()) {
+                occuper(index, 0);
+            }
+        }
+        if (c != null) {
+            occuper(c.getLine() * nbColonnes + c.getCol(), j.getID());
+        }
+    }
+
+    /**
+     * Place un joueur sur une case de l'index d'occupation et des bitsets, ou l'en retire (ID 0).
+     */
+    private void occuper(int index, int id) {
+        occupation[index] = id;
+        int line = index / nbColonnes;
+        int col = index - line * nbColonnes;
+        if (id != 0) {
+            occupees.ajouter(line, col);
+        } else {
+            occupees.retirer(line, col);
+        }
     }
 
     /**
-     * Place un joueur sur une case aléatoire non murée.
+     * Enregistre un joueur dans l'index par ID, en l'agrandissant si nécessaire.
+     *
+     * @param j Le joueur à enregistrer.
+     */
+    private void indexer(Player j) {
+        int id = j.getID();
+        if (id <= 0) {
+            throw new IllegalArgumentException("ID de joueur invalide : " + id);
+        }
+        if (id >= parId.length) {
+            parId = Arrays.copyOf(parId, Math.max(id + 1, parId.length * 2));
+        }
+        if (id >= inscrits.length) {
+            inscrits = Arrays.copyOf(inscrits, parId.length);
+        }
+        parId[id] = j;
+        inscrits[id] = j;
+    }
+
+    /**
+     * Place un joueur sur une case aléatoire vide : ni mur, ni joueur, ni composant (une pastille serait écrasée,
+     * un autre joueur disparaîtrait de l'occupation). Après autant de tirages infructueux que la grille compte de cases,
+     * la première case vide suivant un dernier tirage est prise.
      *
      * @param j Le joueur à placer.
+     * @throws IllegalStateException si la grille n'a plus aucune case vide.
      */
     private void placerPlayer(Player j) {
-        boolean ok = false;
-        Random rand = new Random();
-        
-        while (!ok) {
-            int x = rand.nextInt(Constants.NB_LIGNES);
-            int y = rand.nextInt(Constants.NB_COLS);
-            Case c = g.getCase(x, y);
-
-            if (!c.isWall()) {
-                c.setVal(j);
-                updateLocation(j, c);
-                ok = true;
+        Grid grid = g.getGrid();
+        int nbLignes = grid.getNbLines();
+        int nbColonnes = grid.getNbColonnes();
+        long nbCases = (long) nbLignes * nbColonnes;
+
+        for (long essai = 0; essai < nbCases; essai++) {
+            int x = rand.nextInt(nbLignes);
+            int y = rand.nextInt(nbColonnes);
+            if (caseVide(grid, x, y)) {
+                poser(j, x, y);
+                return;
+            }
+        }
+        long depart = rand.nextLong(nbCases);
+        for (long k = 0; k < nbCases; k++) {
+            long i = (depart + k) % nbCases;
+            int x = (int) (i / nbColonnes);
+            int y = (int) (i % nbColonnes);
+            if (caseVide(grid, x, y)) {
+                poser(j, x, y);
+                return;
             }
         }
+        throw new IllegalStateException("Aucune case vide pour placer " + j.getName() + ".");
+    }
+
+    private boolean caseVide(Grid grid, int x, int y) {
+        return !grid.isWall(x, y) && !playerExists(x, y) && grid.getVal(x, y) == null;
+    }
+
+    private void poser(Player j, int x, int y) {
+        Case c = g.getCase(x, y);
+        c.setVal(j);
+        updateLocation(j, c);
     }
 
     /**
@@ -158,18 +350,23 @@ public class PlayerManager {
         updateLocation(player, null);  
         playerLocation.remove(player);
         playersQueue.remove(player);
+        if (parId[player.getID()] == player) {
+            parId[player.getID()] = null;
+        }
     }
 
     /**
      * Supprime les joueurs morts de la liste des joueurs actifs.
      */
     public void removeDeadPlayers() {
-        Iterator<Player> iterator = players.iterator();
-        while (iterator.hasNext()) {
-            Player p = iterator.next();
+        // Parcours par indice : un itérateur serait alloué à chaque tour.
+        for (int i = 0; i < players.size(); ) {
+            Player p = players.get(i);
             if (!p.isAlive()) {
-                iterator.remove();  // Retire le joueur de la liste
+                players.remove(i);  // Retire le joueur de la liste
                 removePlayer(p);    // Nettoyage supplémentaire
+            } else {
+                i++;
             }
         }
     }
@@ -181,10 +378,43 @@ public class PlayerManager {
      * @return Le joueur correspondant, ou null s'il n'existe pas.
      */
     public Player getPlayerById(int id) {
-        return players.stream()
-                      .filter(player -> player.getID() == id)
-                      .findFirst()
-                      .orElse(null);
+        if (id <= 0 || id >= parId.length) {
+            return null;
+        }
+        return parId[id];
+    }
+
+    /**
+     * Retourne un joueur ajouté à la partie par son ID, même s'il a été éliminé.
+     *
+     * @param id L'ID du joueur.
+     * @return Le joueur correspondant, ou null s'il n'a jamais été ajouté.
+     */
+    public Player getJoueurInscrit(int id) {
+        if (id <= 0 || id >= inscrits.length) {
+            return null;
+        }
+        return inscrits[id];
+    }
+
+    /**
+     * Retourne une bombe par son ID, parmi les armes de tous les joueurs ajoutés à la partie.
+     *
+     * @param id L'ID de la bombe.
+     * @return La bombe correspondante, ou null si aucun joueur ne la possède.
+     */
+    public Bomb getBombe(int id) {
+        for (Player p : inscrits) {
+            if (p == null) {
+                continue;
+            }
+            for (Weapon w : p.getWeapons()) {
+                if (w.getID() == id && w instanceof Bomb) {
+                    return (Bomb) w;
+                }
+            }
+        }
+        return null;
     }
 
     /**
@@ -224,27 +454,23 @@ public class PlayerManager {
      * @return true si le déplacement a réussi, false sinon.
      */
     public boolean deplacerPlayer(Player player, String direction) {
-        int currentLine = getPlayerLocation(player).getLine();
-        int currentColumn = getPlayerLocation(player).getCol();
-        boolean ok = false;
-        
-        switch (direction) {
-            case "h":
-                ok = deplacerPlayer(player, currentLine - 1, currentColumn);
-                break;
-            case "b":
-                ok = deplacerPlayer(player, currentLine + 1, currentColumn);
-                break;
-            case "g":
-                ok = deplacerPlayer(player, currentLine, currentColumn - 1);
-                break;
-            case "d":
-                ok = deplacerPlayer(player, currentLine, currentColumn + 1);
-                break;
-            default:
-                System.out.println("\n --- !!!  Mouvement non valide. Utilisez 'h' pour haut, 'b' pour bas, 'g' pour gauche, 'd' pour droite. !!! --- \n");
+        return deplacerPlayer(player, CodeAction.direction(direction));
+    }
+
+    /**
+     * Déplace un joueur dans une direction codée en entier (voir {@link CodeAction}).
+     *
+     * @param player Le joueur à déplacer.
+     * @param direction La direction du déplacement.
+     * @return true si le déplacement a réussi, false sinon.
+     */
+    public boolean deplacerPlayer(Player player, int direction) {
+        if (!CodeAction.estDirection(direction)) {
+            journal.debug("\n --- !!!  Mouvement non valide. Utilisez 'h' pour haut, 'b' pour bas, 'g' pour gauche, 'd' pour droite. !!! --- \n");
+            return false;
         }
-        return ok;
+        Case location = getPlayerLocation(player);
+        return deplacerPlayer(player, location.getLine() + CodeAction.dl(direction), location.getCol() + CodeAction.dc(direction));
     }
 
     /**
@@ -267,20 +493,23 @@ public class PlayerManager {
                 Case next = g.getCase(line, col);
                 Case current = g.getCase(x, y);
 
-                if (!next.isWall() && !next.containsPlayer()) {
-                    WeaponManager.checkMineTrigger(j, next, g.getGrid().getCases(), this);
+                if (!next.isWall() && !playerExists(line, col)) {
+                    g.getWeaponManager().checkMineTrigger(j, line, col);
                     next.interact(j);
                     current.setVal(null);
                     updateLocation(j, next);
+                    if (evenements.isActif()) {
+                        evenements.publier(new JoueurDeplace(j, x, y, line, col));
+                    }
                     ok = true;
                 } else {
-                    System.out.println("Case cible est un mur ou contient un autre joueur.");
+                    journal.debug("Case cible est un mur ou contient un autre joueur.");
                 }
             } else {
-                System.out.println("Mouvement impossible, Réessayez.");
+                journal.debug("Mouvement impossible, Réessayez.");
             }
         } else {
-            System.out.println("Player inexistant.");
+            journal.alerte("Player inexistant.");
         }
         return ok;
     }
@@ -294,16 +523,107 @@ public class PlayerManager {
         p.activateShield();
     }
 
+    /**
+     * Écrit l'état des joueurs dans un instantané : pour chaque joueur ajouté à la partie, son ID,
+     * son état ({@link Player#sauvegarder(ByteBuffer)}) et sa case (indice ligne * nbColonnes + colonne, -1 s'il
+     * n'est plus sur la grille) ; puis le joueur courant, les joueurs en jeu et la file, par leurs IDs.
+     *
+     * @param etat Le tampon de l'instantané.
+     */
+    public void sauvegarder(ByteBuffer etat) {
+        int debut = etat.position();
+        etat.putInt(0);
+        int nbInscrits = 0;
+        for (Player p : inscrits) {
+            if (p == null) {
+                continue;
+            }
+            nbInscrits++;
+            etat.putInt(p.getID());
+            p.sauvegarder(etat);
+            Case c = playerLocation.get(p);
+            etat.putInt(c == null ? -1 : c.getLine() * nbColonnes + c.getCol());
+        }
+        etat.putInt(debut, nbInscrits);
+
+        etat.putInt(currentPlayer == null ? 0 : currentPlayer.getID());
+        etat.putInt(players.size());
+        for (Player p : players) {
+            etat.putInt(p.getID());
+        }
+        etat.putInt(playersQueue.size());
+        for (Player p : playersQueue) {
+            etat.putInt(p.getID());
+        }
+    }
+
+    /**
+     * Rétablit l'état des joueurs écrit par {@link #sauvegarder(ByteBuffer)}, après celui de la grille.
+     *
+     * @param etat Le tampon de l'instantané.
+     * @throws IllegalArgumentException si l'instantané décrit un joueur absent de la partie.
+     */
+    public void restaurer(ByteBuffer etat) {
+        for (Case c : playerLocation.values()) {
+            if (c != null) {
+                occuper(c.getLine() * nbColonnes + c.getCol(), 0);
+            }
+        }
+        playerLocation.clear();
+        players.clear();
+        playersQueue.clear();
+        Arrays.fill(parId, null);
+
+        int nbInscrits = etat.getInt();
+        for (int k = 0; k < nbInscrits; k++) {
+            Player p = inscrit(etat.getInt());
+            p.restaurer(etat);
+            int index = etat.getInt();
+            if (index >= 0) {
+                playerLocation.put(p, g.getCase(index / nbColonnes, index % nbColonnes));
+                occuper(index, p.getID());
+            }
+        }
+
+        int courant = etat.getInt();
+        currentPlayer = courant == 0 ? null : inscrit(courant);
+        for (int k = etat.getInt(); k > 0; k--) {
+            Player p = inscrit(etat.getInt());
+            players.add(p);
+            parId[p.getID()] = p;
+        }
+        for (int k = etat.getInt(); k > 0; k--) {
+            playersQueue.add(inscrit(etat.getInt()));
+        }
+    }
+
+    private Player inscrit(int id) {
+        Player p = getJoueurInscrit(id);
+        if (p == null) {
+            throw new IllegalArgumentException("Instantané incompatible : joueur " + id + " introuvable.");
+        }
+        return p;
+    }
+
     @Override
     public String toString(){
-        String res = "";
-        for( Player j : players ){
-            res += "Player " + j;
-            res += ", Energie = " + j.getEnergy();
-            res += ", Strategy = "+j.getStrategy();
-            res += "\n";
+        StringBuilder res = new StringBuilder();
+        ajouterDescription(res);
+        return res.toString();
+    }
+
+    /**
+     * Ajoute la description des joueurs (nom, énergie, stratégie), une ligne par joueur.
+     *
+     * @param res Le texte à compléter.
+     */
+    public void ajouterDescription(StringBuilder res) {
+        for (Player j : players) {
+            res.append("Player ").append(j)
+               .append(", Energie = ").append(j.getEnergy())
+               .append(", Strategy = ").append(j.getStrategy())
+               .append('\n');
         }
-        return res;
     }
 
     /**
@@ -313,12 +633,23 @@ public class PlayerManager {
      * @return Une chaîne contenant la liste des armes.
      */
      public String showWeapons( Player p ){
-        String res = " --> Armes disponibles";
-        for( Weapon w : p.getWeapons()){
-            res+="\n    -"+w;
+        StringBuilder res = new StringBuilder();
+        ajouterArmes(res, p);
+        return res.toString();
+    }
+
+    /**
+     * Ajoute la liste des armes disponibles pour un joueur.
+     *
+     * @param res Le texte à compléter.
+     * @param p Le joueur concerné.
+     */
+    public void ajouterArmes(StringBuilder res, Player p) {
+        res.append(" --> Armes disponibles");
+        for (Weapon w : p.getWeapons()) {
+            res.append("\n    -").append(w);
         }
-        res+="\n";
-        return res;
+        res.append('\n');
     }
     
 }
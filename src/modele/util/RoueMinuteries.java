@@ -0,0 +1,250 @@
+package modele.util;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Roue de minuteries hiérarchique : planifie des éléments à un tour donné et ne rend, à chaque tour,
+ * que ceux dont l'échéance tombe sur ce tour.
+ * Le premier niveau compte 64 emplacements d'un tour, le second 64 emplacements de 64 tours ;
+ * les échéances plus lointaines attendent dans une liste de débordement, redistribuée tous les 4096 tours.
+ * Chaque tour coûte donc O(éléments échus), au lieu d'un parcours de tous les éléments planifiés.
+ *
+ * @param <T> Le type des éléments planifiés.
+ */
+class RoueMinuteries<T> {
+
+    private static final int BITS = 6;
+    private static final int TAILLE = 1 << BITS;
+    private static final int MASQUE = TAILLE - 1;
+
+    /**
+     * Horizon couvert par les deux niveaux de la roue (en tours).
+     */
+    private static final long HORIZON = (long) TAILLE * TAILLE;
+
+    /**
+     * Élément planifié avec son tour d'échéance. Les entrées libérées sont recyclées.
+     */
+    private static final class Entree<T> {
+        long echeance;
+        T element;
+    }
+
+    private final List<List<Entree<T>>> niveau0;
+    private final List<List<Entree<T>>> niveau1;
+    private final List<Entree<T>> debordement;
+
+    /**
+     * Entrées en cours de redistribution, réutilisée d'un tour à l'autre pour ne rien allouer.
+     */
+    private final List<Entree<T>> transit;
+
+    /**
+     * Entrées libérées (échues ou retirées), reprises par {@link #planifier(long, Object)} :
+     * une fois la roue chauffée, planifier n'alloue plus rien.
+     */
+    private final List<Entree<T>> libres;
+
+    /**
+     * Tour courant de la roue.
+     */
+    private long tour;
+
+    /**
+     * Nombre d'éléments planifiés.
+     */
+    private int taille;
+
+    /**
+     * Crée une roue vide, au tour 0.
+     */
+    RoueMinuteries() {
+        this.niveau0 = creerNiveau();
+        this.niveau1 = creerNiveau();
+        this.debordement = new ArrayList<>();
+        this.transit = new ArrayList<>();
+        this.libres = new ArrayList<>();
+        this.tour = 0;
+        this.taille = 0;
+    }
+
+    private static <T> List<List<Entree<T>>> creerNiveau() {
+        List<List<Entree<T>>> niveau = new ArrayList<>(TAILLE);
+        for (int i = 0; i < TAILLE; i++) {
+            niveau.add(new ArrayList<>());
+        }
+        return niveau;
+    }
+
+    /**
+     * Retourne le tour courant de la roue.
+     *
+     * @return Le nombre de tours écoulés.
+     */
+    long getTour() {
+        return tour;
+    }
+
+    /**
+     * Retourne le nombre d'éléments planifiés.
+     *
+     * @return Le nombre d'éléments en attente.
+     */
+    int size() {
+        return taille;
+    }
+
+    /**
+     * Parcourt les éléments planifiés dans l'ordre où la roue les rendra pour une même échéance
+     * (premier niveau, second niveau, puis débordement ; ordre de planification dans chaque emplacement).
+     * Replanifier les éléments dans cet ordre, au même tour, reconstitue une roue équivalente.
+     *
+     * @param action L'action appliquée à chaque élément.
+     */
+    void pourChaque(Consumer<T> action) {
+        for (List<Entree<T>> emplacement : niveau0) {
+            for (Entree<T> entree : emplacement) {
+                action.accept(entree.element);
+            }
+        }
+        for (List<Entree<T>> emplacement : niveau1) {
+            for (Entree<T> entree : emplacement) {
+                action.accept(entree.element);
+            }
+        }
+        for (Entree<T> entree : debordement) {
+            action.accept(entree.element);
+        }
+    }
+
+    /**
+     * Retire tous les éléments planifiés et place la roue à un tour donné.
+     *
+     * @param tour Le nouveau tour courant.
+     */
+    void reinitialiser(long tour) {
+        for (int i = 0; i < TAILLE; i++) {
+            liberer(niveau0.get(i));
+            liberer(niveau1.get(i));
+        }
+        liberer(debordement);
+        this.tour = tour;
+        this.taille = 0;
+    }
+
+    /**
+     * Planifie un élément à un tour donné.
+     *
+     * @param echeance Le tour d'échéance, au moins le tour suivant.
+     * @param element L'élément à planifier.
+     */
+    void planifier(long echeance, T element) {
+        if (echeance <= tour) {
+            throw new IllegalArgumentException("Échéance déjà passée : " + echeance + " (tour " + tour + ")");
+        }
+        Entree<T> entree = libres.isEmpty() ? new Entree<>() : libres.remove(libres.size() - 1);
+        entree.echeance = echeance;
+        entree.element = element;
+        ranger(entree);
+        taille++;
+    }
+
+    /**
+     * Retire un élément planifié avant son échéance. Le retrait parcourt tous les emplacements :
+     * il est réservé aux cas rares (bombe déclenchée par une autre).
+     *
+     * @param element L'élément à retirer (comparé par identité).
+     * @return true si l'élément était planifié.
+     */
+    boolean retirer(T element) {
+        for (int i = 0; i < TAILLE; i++) {
+            if (retirer(niveau0.get(i), element) || retirer(niveau1.get(i), element)) {
+                return true;
+            }
+        }
+        return retirer(debordement, element);
+    }
+
+    /**
+     * Retire la première entrée d'un élément d'une liste d'entrées.
+     */
+    private boolean retirer(List<Entree<T>> entrees, T element) {
+        for (int i = 0; i < entrees.size(); i++) {
+            if (entrees.get(i).element == element) {
+                Entree<T> entree = entrees.remove(i);
+                entree.element = null;
+                libres.add(entree);
+                taille--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Avance la roue d'un tour et retourne les éléments arrivés à échéance.
+     *
+     * @param echus Liste dans laquelle ajouter les éléments échus (vidée au préalable).
+     */
+    void avancer(List<T> echus) {
+        echus.clear();
+        tour++;
+
+        // Redistribue les échéances lointaines, puis descend l'emplacement de second niveau qui commence.
+        if ((tour & (HORIZON - 1)) == 0 && !debordement.isEmpty()) {
+            redistribuer(debordement);
+        }
+        if ((tour & MASQUE) == 0) {
+            List<Entree<T>> emplacement = niveau1.get((int) ((tour >>> BITS) & MASQUE));
+            if (!emplacement.isEmpty()) {
+                redistribuer(emplacement);
+            }
+        }
+
+        List<Entree<T>> emplacement = niveau0.get((int) (tour & MASQUE));
+        for (int i = 0; i < emplacement.size(); i++) {
+            echus.add(emplacement.get(i).element);
+        }
+        taille -= emplacement.size();
+        liberer(emplacement);
+    }
+
+    /**
+     * Vide une liste d'entrées en rendant ses entrées à la réserve.
+     */
+    private void liberer(List<Entree<T>> entrees) {
+        for (int i = 0; i < entrees.size(); i++) {
+            Entree<T> entree = entrees.get(i);
+            entree.element = null;
+            libres.add(entree);
+        }
+        entrees.clear();
+    }
+
+    /**
+     * Vide une liste d'entrées et range à nouveau chacune d'elles (qui peut y revenir).
+     */
+    private void redistribuer(List<Entree<T>> entrees) {
+        transit.addAll(entrees);
+        entrees.clear();
+        for (int i = 0; i < transit.size(); i++) {
+            ranger(transit.get(i));
+        }
+        transit.clear();
+    }
+
+    /**
+     * Range une entrée dans le niveau correspondant à la distance de son échéance.
+     */
+    private void ranger(Entree<T> entree) {
+        long delai = entree.echeance - tour;
+        if (delai < TAILLE) {
+            niveau0.get((int) (entree.echeance & MASQUE)).add(entree);
+        } else if (delai < HORIZON) {
+            niveau1.get((int) ((entree.echeance >>> BITS) & MASQUE)).add(entree);
+        } else {
+            debordement.add(entree);
+        }
+    }
+}
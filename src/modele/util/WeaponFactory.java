@@ -2,6 +2,7 @@ package modele.util;
 
 import java.util.*;
 import modele.armes.*;
+import modele.strategy.weaponStrategy.FormeExplosion;
 import config.Constants;
 
 /**
@@ -10,14 +11,56 @@ import config.Constants;
  */
 public class WeaponFactory {
 
-    private Random rand;
+    private SplittableRandom rand;
+    private IdAllocator ids;
+    private int minuterieBombe;
+    private int rayonExplosion;
+    private FormeExplosion formeExplosion;
 
     /**
      * Constructeur de la classe WeaponFactory.
-     * Initialise un générateur de nombres aléatoires.
+     * Initialise un générateur de nombres aléatoires et un distributeur d'identifiants propres.
      */
     public WeaponFactory() {
-        this.rand = new Random();
+        this(new IdAllocator(), new SplittableRandom());
+    }
+
+    /**
+     * Constructeur d'une fabrique rattachée à une partie.
+     *
+     * @param ids  Le distributeur d'identifiants d'armes de la partie.
+     * @param rand Le générateur aléatoire de la partie.
+     */
+    public WeaponFactory(IdAllocator ids, SplittableRandom rand) {
+        this(ids, rand, Constants.BOMB_TIMER);
+    }
+
+    /**
+     * Constructeur d'une fabrique rattachée à une partie, avec une minuterie de grenade configurée.
+     *
+     * @param ids            Le distributeur d'identifiants d'armes de la partie.
+     * @param rand           Le générateur aléatoire de la partie.
+     * @param minuterieBombe Le nombre de tours avant l'explosion d'une grenade.
+     */
+    public WeaponFactory(IdAllocator ids, SplittableRandom rand, int minuterieBombe) {
+        this(ids, rand, minuterieBombe, Constants.BLAST_RADIUS, FormeExplosion.depuis(Constants.BLAST_SHAPE));
+    }
+
+    /**
+     * Constructeur d'une fabrique rattachée à une partie, avec une minuterie et une explosion de bombe configurées.
+     *
+     * @param ids            Le distributeur d'identifiants d'armes de la partie.
+     * @param rand           Le générateur aléatoire de la partie.
+     * @param minuterieBombe Le nombre de tours avant l'explosion d'une grenade.
+     * @param rayonExplosion Le rayon de l'explosion des grenades et des mines.
+     * @param formeExplosion La forme de l'explosion des grenades et des mines.
+     */
+    public WeaponFactory(IdAllocator ids, SplittableRandom rand, int minuterieBombe, int rayonExplosion, FormeExplosion formeExplosion) {
+        this.ids = ids;
+        this.rand = rand;
+        this.minuterieBombe = minuterieBombe;
+        this.rayonExplosion = rayonExplosion;
+        this.formeExplosion = formeExplosion;
     }
 
     /**
@@ -27,7 +70,7 @@ public class WeaponFactory {
      */
     public Weapon buildRandomWeapon() {
         int val = rand.nextInt(20);
-        return new Gun("Weapon" + val, rand.nextInt(50), rand.nextInt(50));
+        return new Gun(ids.suivant(), "Weapon" + val, 60, rand.nextInt(50), rand.nextInt(50));
     }
 
     /**
@@ -61,7 +104,7 @@ public class WeaponFactory {
      * @return Une instance de {@link Gun} représentant un pistolet.
      */
     public Weapon pistol() {
-        return new Gun("pistol", 5, 5, 10);
+        return new Gun(ids.suivant(), "pistol", 5, 5, 10);
     }
 
     /**
@@ -70,7 +113,7 @@ public class WeaponFactory {
      * @return Une instance de {@link Gun} représentant une Kalachnikov.
      */
     public Weapon kalashnikov() {
-        return new Gun("AK-47", 10, 15);
+        return new Gun(ids.suivant(), "AK-47", 60, 10, 15);
     }
 
     /**
@@ -79,7 +122,7 @@ public class WeaponFactory {
      * @return Une instance de {@link Gun} représentant un fusil de précision.
      */
     public Weapon sniper() {
-        return new Gun("sniper", 20, 20, 20);
+        return new Gun(ids.suivant(), "sniper", 20, 20, 20);
     }
 
     /**
@@ -89,7 +132,7 @@ public class WeaponFactory {
      * @return Une instance de {@link Bomb} représentant une grenade.
      */
     public Bomb grenade(int playerID) {
-        return new Bomb("Grenade", Constants.BOMB_DAMAGE, 1, Constants.BOMB_TIMER, false, playerID);
+        return new Bomb(ids.suivant(), "Grenade", Constants.BOMB_DAMAGE, rayonExplosion, minuterieBombe, false, playerID, formeExplosion);
     }
 
     /**
@@ -99,7 +142,7 @@ public class WeaponFactory {
      * @return Une instance de {@link Bomb} représentant une mine.
      */
     public Bomb mine(int playerID) {
-        return new Bomb("Mine", Constants.MINE_DAMAGE, 1, true, playerID);
+        return new Bomb(ids.suivant(), "Mine", Constants.MINE_DAMAGE, rayonExplosion, Integer.MAX_VALUE, true, playerID, formeExplosion);
     }
 
     /**
@@ -3,7 +3,13 @@ package modele.util;
 import modele.*;
 import modele.armes.*;
 import modele.components.*;
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.function.LongSupplier;
+import modele.actions.CodeAction;
+import modele.events.*;
+import modele.journal.*;
+import modele.strategy.weaponStrategy.ZoneExplosion;
 
 /**
  * Classe responsable de la gestion des armes dans le jeu.
@@ -12,10 +18,42 @@ import java.util.*;
 public class WeaponManager {
 
     /**
-     * Map associant chaque bombe à sa position sur la grille.
+     * Map associant chaque bombe à sa position sur la grille. Table à adressage ouvert : poser une bombe
+     * n'alloue pas de nœud.
      */
     private Map<Bomb, Case> bombLocation;
 
+    /**
+     * Grenades posées, planifiées au tour de leur explosion.
+     */
+    private final RoueMinuteries<Bomb> minuteries;
+
+    /**
+     * Grenades arrivées à échéance pendant le tour, réutilisée d'un tour à l'autre.
+     */
+    private final List<Bomb> echues;
+
+    /**
+     * Cases des bombes posées (grenades et mines), pour trouver celles qu'atteint une explosion.
+     */
+    private final Occupation bombesPosees;
+
+    /**
+     * Bombes qui explosent pendant la résolution en cours, réactions en chaîne comprises ; réutilisée.
+     */
+    private final List<Bomb> explosions;
+
+    /**
+     * Ajoute aux explosions en cours la bombe d'une case atteinte par une explosion, créé une seule fois.
+     */
+    private final ZoneExplosion.Visiteur declencher;
+    private List<Bomb> enCours;
+
+    /**
+     * Horloge transmise aux grenades armées, créée une seule fois.
+     */
+    private final LongSupplier horloge;
+
     /**
      * Référence au jeu principal.
      */
@@ -27,9 +65,19 @@ public class WeaponManager {
     private PlayerManager playerManager;
 
     /**
-     * Grille de jeu sous forme de tableau 2D de cases.
+     * Grille de jeu.
+     */
+    private Grid grid;
+
+    /**
+     * Journal de la partie.
+     */
+    private final Journal journal;
+
+    /**
+     * Événements de la partie (bombes posées et explosées).
      */
-    private Case[][] cases;
+    private final Evenements evenements;
 
     /**
      * Constructeur de la classe WeaponManager.
@@ -38,9 +86,105 @@ public class WeaponManager {
      */
     public WeaponManager(Game g) {
         this.g = g;
-        this.bombLocation = new HashMap<>();
+        this.bombLocation = new IdentityHashMap<>();
+        this.minuteries = new RoueMinuteries<>();
+        this.echues = new ArrayList<>();
+        this.horloge = this::getHorloge;
         this.playerManager = g.getPlayerManager();
-        this.cases = g.getGrid().getCases();
+        this.grid = g.getGrid();
+        this.bombesPosees = new Occupation(grid.getNbLines(), grid.getNbColonnes());
+        this.explosions = new ArrayList<>();
+        this.declencher = this::declencher;
+        this.journal = g.getJournal();
+        this.evenements = g.getContext().getEvenements();
+    }
+
+    /**
+     * Retourne le nombre de décomptes effectués depuis le début de la partie,
+     * qui sert d'horloge aux grenades posées.
+     *
+     * @return Le nombre d'appels à {@link #checkBombs()}.
+     */
+    public long getHorloge() {
+        return minuteries.getTour();
+    }
+
+    /**
+     * Retourne le nombre de bombes (grenades et mines) posées sur la grille.
+     *
+     * @return Le nombre de bombes posées.
+     */
+    public int nbBombesPosees() {
+        return bombLocation.size();
+    }
+
+    /**
+     * Écrit l'état des bombes posées dans un instantané : l'horloge, les grenades (ID, case et tours restants
+     * avant l'explosion) dans l'ordre où elles explosent, puis les mines (ID et case). Les cases sont des indices
+     * ligne * nbColonnes + colonne ; l'état propre de chaque bombe (munitions, minuterie) est écrit
+     * avec les armes de son propriétaire.
+     *
+     * @param etat Le tampon de l'instantané.
+     */
+    public void sauvegarder(ByteBuffer etat) {
+        etat.putLong(getHorloge()).putInt(minuteries.size());
+        minuteries.pourChaque(bomb -> {
+            Case c = bombLocation.get(bomb);
+            etat.putInt(bomb.getID()).putInt(indexCase(c.getLine(), c.getCol())).putInt(bomb.getTimer());
+        });
+        // Les mines sont retrouvées sur les cases des bombes posées, ligne par ligne ; leur nombre est écrit à la fin.
+        int position = etat.position();
+        int nbMines = 0;
+        etat.putInt(0);
+        for (int line = 0; line < grid.getNbLines(); line++) {
+            for (int col = bombesPosees.suivantSurLigne(line, 0, grid.getNbColonnes() - 1); col >= 0;
+                 col = bombesPosees.suivantSurLigne(line, col + 1, grid.getNbColonnes() - 1)) {
+                Component val = grid.getVal(line, col);
+                if (val instanceof Bomb && ((Bomb) val).isMine()) {
+                    etat.putInt(((Bomb) val).getID()).putInt(indexCase(line, col));
+                    nbMines++;
+                }
+            }
+        }
+        etat.putInt(position, nbMines);
+    }
+
+    /**
+     * Rétablit les bombes posées écrites par {@link #sauvegarder(ByteBuffer)}, après la grille et les joueurs :
+     * les grenades sont réarmées et replanifiées dans le même ordre, les mines reposées sur leurs cases.
+     *
+     * @param etat Le tampon de l'instantané.
+     * @throws IllegalArgumentException si l'instantané décrit une bombe qu'aucun joueur ne possède.
+     */
+    public void restaurer(ByteBuffer etat) {
+        long tour = etat.getLong();
+        minuteries.reinitialiser(tour);
+        bombLocation.clear();
+        bombesPosees.vider();
+        for (int k = etat.getInt(); k > 0; k--) {
+            Bomb bomb = poser(etat.getInt(), etat.getInt());
+            long explosion = tour + etat.getInt();
+            bomb.rearmer(horloge, explosion);
+            minuteries.planifier(Math.max(explosion, tour + 1), bomb);
+        }
+        for (int k = etat.getInt(); k > 0; k--) {
+            int id = etat.getInt();
+            int index = etat.getInt();
+            poser(id, index);
+        }
+    }
+
+    /**
+     * Retrouve une bombe de l'instantané et l'enregistre sur sa case.
+     */
+    private Bomb poser(int id, int index) {
+        Bomb bomb = playerManager.getBombe(id);
+        if (bomb == null) {
+            throw new IllegalArgumentException("Instantané incompatible : bombe " + id + " introuvable.");
+        }
+        bombLocation.put(bomb, grid.getCase(index / grid.getNbColonnes(), index % grid.getNbColonnes()));
+        bombesPosees.ajouter(index / grid.getNbColonnes(), index % grid.getNbColonnes());
+        return bomb;
     }
 
     /**
@@ -53,7 +197,7 @@ public class WeaponManager {
         List<Weapon> weapons = player.getWeapons();
 
         if (weapons.isEmpty()) {
-            System.out.println("No weapons available for this player.");
+            journal.info("No weapons available for this player.");
             return null;
         }
 
@@ -62,6 +206,7 @@ public class WeaponManager {
             prompt.append((i + 1)).append(") ").append(weapons.get(i)).append("\n");
         }
 
+        journal.vider(); // Le choix est lu sur l'entrée standard : afficher d'abord les messages en attente
         int weaponIndex = InputValidator.getValidatedInput(prompt.toString(), 1, weapons.size());
         return weapons.get(weaponIndex - 1);
     }
@@ -75,9 +220,21 @@ public class WeaponManager {
      * @return {@code true} si le tir a été effectué avec succès, sinon {@code false}.
      */
     public boolean shoot(Player player, String direction, Weapon chosenWeapon) {
+        return shoot(player, CodeAction.direction(direction), chosenWeapon);
+    }
+
+    /**
+     * Gère l'action de tirer d'un joueur dans une direction codée en entier (voir {@link CodeAction}).
+     *
+     * @param player       Le joueur qui effectue l'action.
+     * @param direction    La direction du tir.
+     * @param chosenWeapon L'arme choisie pour le tir.
+     * @return {@code true} si le tir a été effectué avec succès, sinon {@code false}.
+     */
+    public boolean shoot(Player player, int direction, Weapon chosenWeapon) {
         boolean ok = false;
         if (player == null) {
-            System.out.println("Invalid player.");
+            journal.alerte("Invalid player.");
             return false;
         }
 
@@ -86,12 +243,19 @@ public class WeaponManager {
         int x = playerManager.getPlayerLocation(player).getLine();
         int y = playerManager.getPlayerLocation(player).getCol();
 
+        boolean tire;
         if (chosenWeapon instanceof Bomb) {
             ok = placeBomb(player, (Bomb) chosenWeapon, direction);
+            tire = ok;
         } else {
-            chosenWeapon.use(x, y, direction, cases, playerManager);
+            // Une arme vide ne tire pas : l'action reste jouée, mais elle ne compte pas comme un tir.
+            tire = chosenWeapon.getMunitions() > 0;
+            player.addDegatsInfliges(chosenWeapon.use(x, y, direction, grid, playerManager));
             ok = true;
         }
+        if (tire) {
+            player.incrementerTirs();
+        }
         return ok;
     }
 
@@ -104,93 +268,169 @@ public class WeaponManager {
      * @return {@code true} si la bombe a été placée avec succès, sinon {@code false}.
      */
     public boolean placeBomb(Player player, Bomb bomb, String direction) {
-        int x = playerManager.getPlayerLocation(player).getLine();
-        int y = playerManager.getPlayerLocation(player).getCol();
+        return placeBomb(player, bomb, CodeAction.direction(direction));
+    }
 
-        int targetX = x, targetY = y;
+    /**
+     * Place une bombe à côté du joueur, dans une direction codée en entier (voir {@link CodeAction}).
+     *
+     * @param player   Le joueur qui place la bombe.
+     * @param bomb     La bombe à placer.
+     * @param direction La direction dans laquelle placer la bombe.
+     * @return {@code true} si la bombe a été placée avec succès, sinon {@code false}.
+     */
+    public boolean placeBomb(Player player, Bomb bomb, int direction) {
+        if (!CodeAction.estDirection(direction)) {
+            journal.debug("Invalid direction.");
+            return false;
+        }
 
         // Calcul des coordonnées cibles en fonction de la direction
-        switch (direction) {
-            case "h": targetX = x - 1; break; // haut
-            case "b": targetX = x + 1; break; // bas
-            case "g": targetY = y - 1; break; // gauche
-            case "d": targetY = y + 1; break; // droite
-            default:
-                System.out.println("Invalid direction.");
-                return false;
-        }
+        Case location = playerManager.getPlayerLocation(player);
+        int targetX = location.getLine() + CodeAction.dl(direction);
+        int targetY = location.getCol() + CodeAction.dc(direction);
 
         // Validation des coordonnées cibles
         if (!g.validCoordinates(targetX, targetY)) {
-            System.out.println("Invalid placement for bomb: Out of bounds.");
+            journal.debug("Invalid placement for bomb: Out of bounds.");
             return false;
         }
 
-        Case targetCase = cases[targetX][targetY];
-
         // Vérification si la case cible est libre et non un mur
-        if (targetCase.isWall() || !targetCase.isEmpty()) {
-            System.out.println("Invalid placement for bomb: Case occupied or wall.");
+        if (grid.isWall(targetX, targetY) || grid.getVal(targetX, targetY) != null) {
+            journal.debug("Invalid placement for bomb: Case occupied or wall.");
+            return false;
+        }
+
+        // Une bombe déjà posée ne peut pas l'être une seconde fois avant d'avoir explosé
+        if (bombLocation.containsKey(bomb)) {
+            journal.debug("Bomb already placed.");
             return false;
         }
 
         // Placement de la bombe si des munitions sont disponibles
         if (bomb.getMunitions() > 0) {
+            Case targetCase = grid.getCase(targetX, targetY);
             targetCase.setVal(bomb);
             bombLocation.put(bomb, targetCase);
-            System.out.println("Bomb placed at (" + targetX + ", " + targetY + "). Timer: " + bomb.getTimer() + (bomb.isMine() ? " (mine)" : ""));
+            bombesPosees.ajouter(targetX, targetY);
+            if (evenements.isActif()) {
+                evenements.publier(new BombePosee(bomb, targetX, targetY));
+            }
+            if (!bomb.isMine()) {
+                minuteries.planifier(Math.max(bomb.armer(horloge), getHorloge() + 1), bomb);
+            }
+            if (journal.estActif(Niveau.INFO)) {
+                journal.info("Bomb placed at (" + targetX + ", " + targetY + "). Timer: " + bomb.getTimer() + (bomb.isMine() ? " (mine)" : ""));
+            }
             return true;
         }else{
-            System.out.println("plus de munitions pour la bombe");
+            journal.debug("plus de munitions pour la bombe");
         }
         return false;
     }
 
     /**
-     * Vérifie l'état des bombes placées sur la grille.
-     * Décrémente le timer des bombes et déclenche leur explosion si nécessaire.
+     * Avance l'horloge des bombes d'un tour et fait exploser les grenades dont la minuterie arrive à zéro,
+     * ainsi que les bombes prises dans leurs explosions.
+     * Seules les grenades qui explosent pendant ce tour sont examinées ; les mines n'ont pas de minuterie.
      */
     public void checkBombs() {
-        Iterator<Map.Entry<Bomb, Case>> iterator = bombLocation.entrySet().iterator();
-
-        while (iterator.hasNext()) {
-            Map.Entry<Bomb, Case> entry = iterator.next();
-            Bomb bomb = entry.getKey();
-            Case cell = entry.getValue();
+        minuteries.avancer(echues);
+        exploser(echues);
+    }
 
-            if (!bomb.isMine()) {
-                bomb.decrease();
-                System.out.println("Bomb timer decreased to " + bomb.getTimer());
-
-                if (bomb.getTimer() <= 0) {
-                    bomb.use(cell.getLine(), cell.getCol(), "", cases, playerManager);
-                    cell.setVal(null); // Retire la bombe de la case
-                    bomb.reset();      // Réinitialise le timer pour une éventuelle réutilisation
-                    iterator.remove(); // Retire la bombe de la map
-                }
+    /**
+     * Vérifie si un joueur déclenche une mine en entrant dans une case.
+     * Si une mine est présente, elle explose et inflige des dégâts au joueur (et aux bombes voisines).
+     *
+     * @param player Le joueur entrant dans la case.
+     * @param line   La ligne de la case dans laquelle le joueur entre.
+     * @param col    La colonne de la case dans laquelle le joueur entre.
+     */
+    public void checkMineTrigger(Player player, int line, int col) {
+        // Lecture directe de la case d'abord : la plupart des déplacements ne rencontrent pas de mine.
+        Component val = grid.getVal(line, col);
+        if (!(val instanceof Bomb) || !((Bomb) val).isMine()) {
+            return;
+        }
+        // Une mine sur la grille est une mine posée : la case suffit à la retrouver.
+        Bomb bomb = (Bomb) val;
+        if (bombLocation.containsKey(bomb)) {
+            explosions.clear();
+            explosions.add(bomb);
+            exploser(explosions);
+            if (journal.estActif(Niveau.INFO)) {
+                journal.info("Player " + player.getID() + " stepped on a mine and took " + bomb.getDamage() + " damage!");
             }
         }
     }
 
     /**
-     * Vérifie si un joueur déclenche une mine en entrant dans une case.
-     * Si une mine est présente, elle explose et inflige des dégâts au joueur.
+     * Fait exploser des bombes posées, puis, en une seule passe, celles que leurs explosions atteignent :
+     * chaque bombe atteinte est ajoutée à la fin de la liste et n'explose qu'une fois.
+     * Les bombes sont retrouvées dans l'occupation des bombes posées, sans parcourir les cases de la zone.
      *
-     * @param player Le joueur entrant dans la case.
-     * @param c      La case dans laquelle le joueur entre.
-     * @param cases  La grille de jeu.
-     * @param manager Le gestionnaire des joueurs.
+     * @param bombes Les bombes qui explosent ; la liste reçoit les bombes déclenchées en chaîne.
      */
-    public static void checkMineTrigger(Player player, Case c, Case[][] cases, PlayerManager manager) {
-        Object val = c.getVal();
+    private void exploser(List<Bomb> bombes) {
+        enCours = bombes;
+        for (int k = 0; k < bombes.size(); k++) {
+            Bomb bomb = bombes.get(k);
+            Case cell = bombLocation.remove(bomb);
+            if (cell == null) {
+                continue; // Bombe déjà retirée de la grille
+            }
+            int line = cell.getLine();
+            int col = cell.getCol();
+            bombesPosees.retirer(line, col);
+            if (!bomb.isMine() && bomb.getTimer() > 0) {
+                minuteries.retirer(bomb); // Grenade déclenchée avant son échéance
+            }
+            if (evenements.isActif()) {
+                evenements.publier(new BombeExplosee(bomb, line, col));
+            }
+            int infliges = bomb.use(line, col, CodeAction.AUCUNE, grid, playerManager);
+            crediterProprietaire(bomb, infliges, playerManager);
+            grid.getCase(line, col).setVal(null); // Retire la bombe de la case
+            bomb.reset();      // Réinitialise le timer pour une éventuelle réutilisation
+
+            // Réaction en chaîne : les bombes posées dans la zone de l'explosion sautent à leur tour
+            bomb.getZone().parcourir(line, col, grid, bombesPosees, declencher);
+        }
+        enCours = null;
+    }
 
+    /**
+     * Ajoute aux explosions en cours la bombe posée sur une case atteinte par une explosion.
+     */
+    private void declencher(int line, int col) {
+        Component val = grid.getVal(line, col);
         if (val instanceof Bomb) {
-            Bomb bomb = (Bomb) val;
-            if (bomb.isMine()) {
-                bomb.use(c.getLine(), c.getCol(), "", cases, manager);
-                System.out.println("Player " + player.getID() + " stepped on a mine and took " + bomb.getDamage() + " damage!");
-                c.setVal(null); // Retire la mine de la case
-            }
+            bombesPosees.retirer(line, col); // Elle n'est déclenchée qu'une fois
+            enCours.add((Bomb) val);
+        }
+    }
+
+    /**
+     * Retourne l'indice d'une case (ligne * nbColonnes + colonne), tel qu'écrit dans les instantanés.
+     */
+    private int indexCase(int line, int col) {
+        return line * grid.getNbColonnes() + col;
+    }
+
+    /**
+     * Attribue au propriétaire d'une bombe les dégâts causés par son explosion,
+     * s'il est encore en jeu.
+     *
+     * @param bomb     La bombe qui a explosé.
+     * @param infliges Les dégâts infligés par l'explosion.
+     * @param manager  Le gestionnaire des joueurs.
+     */
+    private static void crediterProprietaire(Bomb bomb, int infliges, PlayerManager manager) {
+        Player owner = manager.getPlayerById(bomb.getOwnerID());
+        if (owner != null) {
+            owner.addDegatsInfliges(infliges);
         }
     }
 }
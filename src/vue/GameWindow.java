@@ -2,24 +2,64 @@ package vue;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.concurrent.locks.LockSupport;
 import javax.swing.border.Border;
+import javax.swing.text.BadLocationException;
 
 import controller.Ecouteur;
+import controller.GameClock;
 import controller.GameController;
+import controller.Livraison;
+import controller.Vitesse;
 import modele.Game;
 import modele.components.Player;
+import modele.events.*;
 
 public class GameWindow extends JFrame implements Ecouteur {
+
+    /**
+     * Nombre de lignes conservées dans le journal d'actions, pour qu'une longue partie en lecture rapide
+     * ne le fasse pas grossir indéfiniment.
+     */
+    private static final int LIGNES_JOURNAL_MAX = 1000;
+
+    /**
+     * Fréquence d'affichage supposée lorsque l'écran ne fournit pas la sienne (en images par seconde).
+     */
+    private static final int FREQUENCE_PAR_DEFAUT = 60;
+
     private Game model;
     private PanelGrid panelGrid;
     private JTextArea actionLog = new JTextArea();
     private JTextArea playersInfo;
     private GameController gameController;
     private JLabel currentPlayerLabel;
+    private JLabel playerNameLabel;
+    private JProgressBar energyBar;
+    private JButton nextTurnButton;
+    private JButton lectureButton;
+
+    /**
+     * Horloge de la partie : l'état du jeu n'est lu qu'entre deux de ses tours.
+     */
+    private final GameClock horloge;
+
+    /**
+     * Durée minimale entre deux images (en nanosecondes) : l'affichage ne dépasse pas la fréquence de l'écran,
+     * les tours joués entre-temps étant fusionnés en une seule image.
+     */
+    private final long dureeImage;
+
+    /**
+     * Joueur dont la vue est actuellement affichée ; tant qu'il ne change pas, seules les cases modifiées sont redessinées.
+     */
+    private Player joueurAffiche;
 
     public GameWindow(Game game) {
         this.model = game;
         this.gameController = new GameController(game);
+        this.horloge = gameController.getHorloge();
+        this.dureeImage = 1_000_000_000L / frequenceEcran();
         setTitle("Jeu - Grille Dynamique");
         setSize(1500, 700);
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -49,9 +89,22 @@ public class GameWindow extends JFrame implements Ecouteur {
         currentPlayerLabel.setOpaque(true);
 
         // Bouton "Tour Suivant"
-        JButton nextTurnButton = createStyledButton("Tour Suivant", new Color(33, 150, 243));
+        nextTurnButton = createStyledButton("Tour Suivant", new Color(33, 150, 243));
         nextTurnButton.addActionListener(e -> gameController.handleNextTurn());
 
+        // Lecture automatique et sa vitesse
+        lectureButton = createStyledButton("Lecture", new Color(76, 175, 80));
+        lectureButton.addActionListener(e -> {
+            boolean enMarche = gameController.handleLecture();
+            lectureButton.setText(enMarche ? "Pause" : "Lecture");
+            nextTurnButton.setEnabled(!enMarche);
+        });
+        JComboBox<Vitesse> vitesseBox = new JComboBox<>(Vitesse.values());
+        vitesseBox.setSelectedItem(horloge.getVitesse());
+        vitesseBox.setFont(new Font("Roboto", Font.BOLD, 16));
+        vitesseBox.setMaximumSize(new Dimension(180, 40));
+        vitesseBox.addActionListener(e -> gameController.handleVitesse((Vitesse) vitesseBox.getSelectedItem()));
+
         // Panneau pour le label et le bouton
         JPanel playerPanel = new JPanel();
         playerPanel.setLayout(new BoxLayout(playerPanel, BoxLayout.Y_AXIS));
@@ -60,6 +113,10 @@ public class GameWindow extends JFrame implements Ecouteur {
         playerPanel.add(currentPlayerLabel);
         playerPanel.add(Box.createRigidArea(new Dimension(0, 20)));
         playerPanel.add(nextTurnButton);
+        playerPanel.add(Box.createRigidArea(new Dimension(0, 10)));
+        playerPanel.add(lectureButton);
+        playerPanel.add(Box.createRigidArea(new Dimension(0, 10)));
+        playerPanel.add(vitesseBox);
 
         actionPanel.add(playerPanel, BorderLayout.NORTH);
 
@@ -79,13 +136,14 @@ public class GameWindow extends JFrame implements Ecouteur {
         playersInfo.setForeground(new Color(135, 206, 250));
         playersInfo.setBorder(createStyledBorder("Infos du Joueur"));
         playersInfo.setPreferredSize(new Dimension(200, 200));
+        creerPlayersInfo();
         actionPanel.add(new JScrollPane(playersInfo), BorderLayout.SOUTH);
 
         mainPanel.add(actionPanel);
         add(mainPanel);
 
         // Abonnement au modèle
-        game.ajoutEcouteur(this);
+        game.ajoutEcouteur(this, Livraison.DERNIER_ETAT);
 
         // Ajouter un effet de transparence globale
         setUndecorated(false);
@@ -128,8 +186,66 @@ public class GameWindow extends JFrame implements Ecouteur {
         return button;
     }
 
+    /**
+     * Retourne la fréquence de rafraîchissement de l'écran, ou {@link #FREQUENCE_PAR_DEFAUT} si elle est inconnue.
+     */
+    private static int frequenceEcran() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return FREQUENCE_PAR_DEFAUT;
+        }
+        int frequence = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                .getDisplayMode().getRefreshRate();
+        return frequence > 0 ? frequence : FREQUENCE_PAR_DEFAUT;
+    }
+
+    /**
+     * Les notifications arrivent sur le thread de livraison de l'écouteur : l'affichage est mis à jour
+     * sur le thread de Swing, entre deux tours, et la livraison suivante attend qu'il soit terminé
+     * puis que la durée d'une image soit écoulée, ce qui laisse les tours joués entre-temps
+     * se fusionner en un seul lot (les images en trop sont sautées).
+     */
+    private void surThreadSwing(Runnable miseAJour) {
+        long debut = System.nanoTime();
+        Runnable lecture = () -> horloge.entreDeuxTours(miseAJour);
+        if (SwingUtilities.isEventDispatchThread()) {
+            lecture.run();
+            return;
+        }
+        try {
+            SwingUtilities.invokeAndWait(lecture);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (java.lang.reflect.InvocationTargetException ex) {
+            throw new IllegalStateException(ex.getCause());
+        }
+        long reste = dureeImage - (System.nanoTime() - debut);
+        if (reste > 0) {
+            LockSupport.parkNanos(reste);
+        }
+    }
+
     @Override
     public void modeleMisAJour(Object e) {
+        surThreadSwing(this::afficherTout);
+    }
+
+    @Override
+    public void evenementsRecus(Object source, LotEvenements lot) {
+        surThreadSwing(() -> afficherEvenements(lot));
+    }
+
+    /**
+     * Remet les boutons dans leur état initial lorsque l'horloge s'est arrêtée d'elle-même (fin de partie).
+     */
+    private void actualiserLecture() {
+        if (!horloge.isEnMarche() && lectureButton.getText().equals("Pause")) {
+            lectureButton.setText("Lecture");
+            nextTurnButton.setEnabled(true);
+        }
+    }
+
+    private void afficherTout() {
         Player currentPlayer = model.getPlayerManager().getCurrentPlayer();
         currentPlayerLabel.setText("Tour de : " + currentPlayer.getName());
 
@@ -137,26 +253,52 @@ public class GameWindow extends JFrame implements Ecouteur {
             addActionLog(model.getCurrentAction().toString());
         }
 
+        joueurAffiche = currentPlayer;
         panelGrid.updateGrid();
         updatePlayersInfo(); // Appeler pour mettre à jour les infos du joueur courant
+        actualiserLecture();
     }
 
-    private void updatePlayersInfo() {
+    private void afficherEvenements(LotEvenements lot) {
         Player currentPlayer = model.getPlayerManager().getCurrentPlayer();
+        currentPlayerLabel.setText("Tour de : " + currentPlayer.getName());
+
+        if (model.getCurrentAction() != null) {
+            addActionLog(model.getCurrentAction().toString());
+        }
+        for (Evenement evenement : lot.getEvenements()) {
+            if (!(evenement instanceof JoueurDeplace || evenement instanceof ActionJouee)) { // Déjà dans l'action
+                addActionLog("  " + evenement);
+            }
+        }
+
+        // La vue dépend du joueur courant (bombes adverses masquées, brouillard) : elle est redessinée
+        // entièrement quand il change, sinon seules les cases modifiées pendant le tour le sont.
+        if (currentPlayer != joueurAffiche || model.getVue().isBrouillard()) {
+            joueurAffiche = currentPlayer;
+            panelGrid.updateGrid();
+        } else {
+            panelGrid.updateCells(lot.getCasesModifiees());
+        }
+        updatePlayersInfo();
+        actualiserLecture();
+    }
 
+    /**
+     * Construit une fois pour toutes le panneau d'informations du joueur, mis à jour ensuite par {@link #updatePlayersInfo()}.
+     */
+    private void creerPlayersInfo() {
         JPanel infoPanel = new JPanel();
         infoPanel.setLayout(new BoxLayout(infoPanel, BoxLayout.Y_AXIS));
         infoPanel.setBackground(new Color(35, 35, 38));
 
-        JLabel playerNameLabel = new JLabel("Joueur : " + currentPlayer.getName());
+        playerNameLabel = new JLabel("Joueur : ");
         playerNameLabel.setFont(new Font("Roboto", Font.BOLD, 16));
         playerNameLabel.setForeground(new Color(135, 206, 250));
         infoPanel.add(playerNameLabel);
 
-        JProgressBar energyBar = new JProgressBar(0, 100);
-        energyBar.setValue(currentPlayer.getEnergy());
+        energyBar = new JProgressBar(0, 100);
         energyBar.setStringPainted(true);
-        energyBar.setString(String.valueOf("Energie :" + currentPlayer.getEnergy()));
         energyBar.setForeground(new Color(76, 175, 80));
         energyBar.setBackground(new Color(45, 45, 48));
         energyBar.setFont(new Font("Roboto Mono", Font.BOLD, 12));
@@ -167,15 +309,27 @@ public class GameWindow extends JFrame implements Ecouteur {
 
         infoPanel.add(Box.createRigidArea(new Dimension(0, 10)));
         infoPanel.add(energyPanel);
-        playersInfo.removeAll();
         playersInfo.setLayout(new BorderLayout());
         playersInfo.add(infoPanel, BorderLayout.CENTER);
+    }
+
+    private void updatePlayersInfo() {
+        Player currentPlayer = model.getPlayerManager().getCurrentPlayer();
 
-        playersInfo.revalidate();
-        playersInfo.repaint();
+        playerNameLabel.setText("Joueur : " + currentPlayer.getName());
+        energyBar.setValue(currentPlayer.getEnergy());
+        energyBar.setString("Energie :" + currentPlayer.getEnergy());
     }
 
     public void addActionLog(String action) {
         actionLog.append(action + "\n");
+        int enTrop = actionLog.getLineCount() - 1 - LIGNES_JOURNAL_MAX;
+        if (enTrop > 0) {
+            try {
+                actionLog.replaceRange("", 0, actionLog.getLineEndOffset(enTrop - 1));
+            } catch (BadLocationException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
     }
 }
@@ -1,122 +1,274 @@
 package vue;
 
-import config.*;
 import modele.*;
 import modele.components.*;
+import modele.components.Component;
 import modele.armes.*;
+import modele.events.CaseModifiee;
+import java.util.List;
+import java.util.Map;
+import java.util.HashMap;
+import java.util.Arrays;
 import javax.swing.*;
 import java.awt.*;
+import java.awt.image.BufferedImage;
 
+/**
+ * Panneau affichant la grille telle que la voit le joueur courant.
+ * Chaque sorte de case (mur, vide, bonus, bombe, hors de vue, joueur) est dessinée une seule fois
+ * dans une image à la taille des cellules, puis recopiée ; seules les cellules dont l'apparence
+ * a changé depuis la dernière image sont redessinées ({@link #updateGrid()}, {@link #updateCells(List)}).
+ * <p>
+ * Le modèle n'est lu que par {@link #updateGrid()} et {@link #updateCells(List)}, que l'appelant exécute
+ * entre deux tours ; le dessin n'utilise que les apparences relevées, si bien qu'il peut avoir lieu
+ * pendant qu'une horloge fait avancer la partie.
+ */
 public class PanelGrid extends JPanel {
 
-    private static final int nbColonnes = Constants.NB_COLS;
-    private static final int nbLignes = Constants.NB_LIGNES;
-    private final Game game; 
+    /** Apparences des cellules, mémorisées pour savoir lesquelles redessiner. */
+    private static final int VIDE = 0;
+    private static final int MUR = 1;
+    private static final int HORS_DE_VUE = 2;
+    private static final int SOIN = 3;
+    private static final int MUNITIONS = 4;
+    private static final int BOMBE = 5;
+
+    /** Les joueurs ont pour apparence JOUEUR + leur ID. */
+    private static final int JOUEUR = 16;
+
+    /** Apparence d'une cellule jamais relevée. */
+    private static final int INCONNUE = -1;
+
+    private static final BasicStroke TRAIT_MUR = new BasicStroke(3);
+
+    private final int nbColonnes;
+    private final int nbLignes;
+    private final Game game;
+
+    /**
+     * Apparence de chaque cellule lors du dernier relevé (indice ligne * nbColonnes + colonne).
+     */
+    private final int[] apparences;
+
+    /**
+     * Couleur de chaque joueur rencontré, par ID, pour dessiner sa case sans relire le modèle.
+     */
+    private final Map<Integer, Color> couleurs;
+
+    /**
+     * Images des cases, à la taille de cellule {@link #largeurTuiles} x {@link #hauteurTuiles}.
+     */
+    private final Map<Integer, BufferedImage> tuiles;
+    private int largeurTuiles;
+    private int hauteurTuiles;
 
     public PanelGrid(Game game) {
         this.game = game;
+        this.nbColonnes = game.getGrid().getNbColonnes();
+        this.nbLignes = game.getGrid().getNbLines();
+        this.apparences = new int[nbLignes * nbColonnes];
+        Arrays.fill(apparences, INCONNUE);
+        this.couleurs = new HashMap<>();
+        this.tuiles = new HashMap<>();
         this.setPreferredSize(new Dimension(nbColonnes * 100, nbLignes * 100)); // Taille des cases
+        updateGrid();
     }
 
+    /**
+     * Relève l'apparence de toutes les cellules et redessine celles qui ont changé.
+     */
     public void updateGrid() {
-        this.repaint(); // rafraîchir la grille
+        ProxyGrid vue = game.getVue();
+        for (int y = 0; y < nbLignes; y++) {
+            for (int x = 0; x < nbColonnes; x++) {
+                rafraichir(vue, y, x);
+            }
+        }
+    }
+
+    /**
+     * Relève l'apparence des cases dont le contenu a changé et redessine celles qui en ont changé.
+     *
+     * @param cases Les cases modifiées.
+     */
+    public void updateCells(List<CaseModifiee> cases) {
+        ProxyGrid vue = game.getVue();
+        for (CaseModifiee c : cases) {
+            rafraichir(vue, c.getLigne(), c.getCol());
+        }
+    }
+
+    /**
+     * Demande le dessin d'une cellule si son apparence n'est plus celle relevée.
+     */
+    private void rafraichir(ProxyGrid vue, int y, int x) {
+        int apparence = apparence(vue, y, x);
+        if (apparence == apparences[y * nbColonnes + x]) {
+            return;
+        }
+        apparences[y * nbColonnes + x] = apparence;
+        if (apparence >= JOUEUR && !couleurs.containsKey(apparence - JOUEUR)) {
+            couleurs.put(apparence - JOUEUR, ((Player) vue.getVal(y, x)).getColor());
+        }
+        int largeur = this.getWidth() / nbColonnes;
+        int hauteur = this.getHeight() / nbLignes;
+        this.repaint(new Rectangle(x * largeur, y * hauteur, largeur, hauteur));
+    }
+
+    /**
+     * Calcule l'apparence d'une cellule, telle que la voit le joueur courant.
+     */
+    private static int apparence(ProxyGrid vue, int y, int x) {
+        if (vue.isWall(y, x)) {
+            return MUR;
+        }
+        if (!vue.estVisible(y, x)) {
+            return HORS_DE_VUE;
+        }
+        Component val = vue.getVal(y, x);
+        if (val instanceof Bomb) {
+            return BOMBE;
+        } else if (val instanceof Player) {
+            return JOUEUR + ((Player) val).getID();
+        } else if (val instanceof Health) {
+            return SOIN;
+        } else if (val instanceof Ammo) {
+            return MUNITIONS;
+        }
+        return VIDE;
     }
 
     @Override
     protected void paintComponent(Graphics g) {
-        Case[][] currentGrid = game.getCurrentGrid();
         super.paintComponent(g);
 
         int largeurCellule = this.getWidth() / nbColonnes;
         int hauteurCellule = this.getHeight() / nbLignes;
+        if (largeurCellule <= 0 || hauteurCellule <= 0) {
+            return;
+        }
+        if (largeurCellule != largeurTuiles || hauteurCellule != hauteurTuiles) {
+            tuiles.clear(); // Les cellules ont changé de taille : les images sont refaites à la demande
+            largeurTuiles = largeurCellule;
+            hauteurTuiles = hauteurCellule;
+        }
 
-        // Parcourir la grille
-        for (int y = 0; y < nbLignes; y++) {
-            for (int x = 0; x < nbColonnes; x++) {
-                Case currentCase = currentGrid[y][x]; // Obtenir la case actuelle
-                drawCell(g, currentCase, x, y, largeurCellule, hauteurCellule); // Dessiner la cellule
+        // Seules les cellules de la zone à redessiner sont parcourues
+        Rectangle zone = g.getClipBounds();
+        if (zone == null) {
+            zone = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        int premiereColonne = Math.max(0, zone.x / largeurCellule);
+        int derniereColonne = Math.min(nbColonnes - 1, (zone.x + zone.width - 1) / largeurCellule);
+        int premiereLigne = Math.max(0, zone.y / hauteurCellule);
+        int derniereLigne = Math.min(nbLignes - 1, (zone.y + zone.height - 1) / hauteurCellule);
+
+        for (int y = premiereLigne; y <= derniereLigne; y++) {
+            for (int x = premiereColonne; x <= derniereColonne; x++) {
+                int apparence = apparences[y * nbColonnes + x];
+                if (apparence != INCONNUE) {
+                    g.drawImage(tuile(apparence), x * largeurCellule, y * hauteurCellule, null);
+                }
             }
         }
     }
 
     /**
-     * Dessine une cellule en fonction de son contenu.
+     * Retourne l'image d'une apparence, dessinée à la première demande.
      */
-    private void drawCell(Graphics g, Case caseType, int x, int y, int largeur, int hauteur) {
-        if (caseType.isWall()) {
-            drawWallCell(g, x, y, largeur, hauteur);
-            return;
-        } else if (caseType.getVal() instanceof Bomb) {
-            g.setColor(Color.BLACK); // Bombe
-        } else if (caseType.getVal() instanceof Player) {
-            Player player = (Player) caseType.getVal();
-            g.setColor(player.getColor()); 
-            
-            drawPlayerCell(g, player, x, y, largeur, hauteur);
-            return;
-        } else if (caseType.getVal() instanceof Health) {
-            g.setColor(Color.GREEN); // Bonus santé
-        } else if (caseType.getVal() instanceof Ammo) {
-            g.setColor(Color.ORANGE); // Bonus munitions
-        } else {
-            g.setColor(Color.WHITE); // Case vide
+    private BufferedImage tuile(int apparence) {
+        BufferedImage image = tuiles.get(apparence);
+        if (image == null) {
+            image = creerImage(apparence >= JOUEUR);
+            Graphics2D g = image.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.setFont(getFont());
+            if (apparence == MUR) {
+                drawWallCell(g, largeurTuiles, hauteurTuiles);
+            } else if (apparence >= JOUEUR) {
+                drawPlayerCell(g, apparence - JOUEUR, couleurs.get(apparence - JOUEUR), largeurTuiles, hauteurTuiles);
+            } else {
+                drawCell(g, apparence, largeurTuiles, hauteurTuiles);
+            }
+            g.dispose();
+            tuiles.put(apparence, image);
         }
+        return image;
+    }
 
-        g.fillRect(x * largeur, y * hauteur, largeur, hauteur);
+    /**
+     * Crée une image compatible avec l'écran, à la taille des cellules.
+     */
+    private BufferedImage creerImage(boolean transparente) {
+        GraphicsConfiguration configuration = getGraphicsConfiguration();
+        if (configuration == null) {
+            return new BufferedImage(largeurTuiles, hauteurTuiles, BufferedImage.TYPE_INT_ARGB);
+        }
+        return configuration.createCompatibleImage(largeurTuiles, hauteurTuiles,
+                transparente ? Transparency.TRANSLUCENT : Transparency.OPAQUE);
+    }
+
+    /**
+     * Dessine une cellule ordinaire (vide, bonus, bombe ou hors de vue).
+     */
+    private void drawCell(Graphics g, int apparence, int largeur, int hauteur) {
+        switch (apparence) {
+            case HORS_DE_VUE: g.setColor(Color.LIGHT_GRAY); break; // Hors de vue
+            case BOMBE: g.setColor(Color.BLACK); break; // Bombe
+            case SOIN: g.setColor(Color.GREEN); break; // Bonus santé
+            case MUNITIONS: g.setColor(Color.ORANGE); break; // Bonus munitions
+            default: g.setColor(Color.WHITE); break; // Case vide
+        }
+
+        g.fillRect(0, 0, largeur, hauteur);
 
         g.setColor(Color.BLACK);
-        g.drawRect(x * largeur, y * hauteur, largeur, hauteur);
+        g.drawRect(0, 0, largeur - 1, hauteur - 1);
 
         // Ajouter du texte pour les éléments spécifiques
-        if (caseType.getVal() instanceof Bomb) {
+        if (apparence == BOMBE) {
             g.setColor(Color.YELLOW);
-            g.drawString("B", x * largeur + largeur / 4, y * hauteur + hauteur / 2);
+            g.drawString("B", largeur / 4, hauteur / 2);
         }
     }
 
     /**
      * Dessine une cellule spéciale pour un joueur avec un design unique.
      */
-    private void drawPlayerCell(Graphics g, Player player, int x, int y, int largeur, int hauteur) {
+    private void drawPlayerCell(Graphics g, int id, Color couleur, int largeur, int hauteur) {
         // Dessiner la cellule avec un fond arrondi et une bordure épaisse
-        g.setColor(player.getColor());
-        g.fillRoundRect(x * largeur, y * hauteur, largeur, hauteur, 20, 20); // Cellule arrondie
+        g.setColor(couleur);
+        g.fillRoundRect(0, 0, largeur - 1, hauteur - 1, 20, 20); // Cellule arrondie
 
         // Ajouter une bordure épaisse pour le joueur
         g.setColor(Color.BLACK);
-        g.drawRoundRect(x * largeur, y * hauteur, largeur, hauteur, 20, 20); // Bordure épaisse
+        g.drawRoundRect(0, 0, largeur - 1, hauteur - 1, 20, 20); // Bordure épaisse
 
         // Ajouter un texte centralisé dans la cellule
         g.setColor(Color.WHITE); // Texte en blanc pour le joueur
-        String playerText = "P" + player.getID();
+        String playerText = "P" + id;
         FontMetrics fm = g.getFontMetrics();
         int textWidth = fm.stringWidth(playerText);
         int textHeight = fm.getHeight();
-        g.drawString(playerText, x * largeur + (largeur - textWidth) / 2, y * hauteur + (hauteur + textHeight) / 2);
+        g.drawString(playerText, (largeur - textWidth) / 2, (hauteur + textHeight) / 2);
     }
 
     /**
      * Dessine une cellule pour un mur avec un motif unique.
      */
-   private void drawWallCell(Graphics g, int x, int y, int largeur, int hauteur) {
-    
-    Graphics2D g2d = (Graphics2D) g;
+    private void drawWallCell(Graphics2D g2d, int largeur, int hauteur) {
+        g2d.setColor(Color.GRAY);
+        g2d.fillRect(0, 0, largeur, hauteur);
 
-    g.setColor(Color.GRAY);
-    g.fillRect(x * largeur, y * hauteur, largeur, hauteur); 
-
-    // Ajouter un motif de hachures (ou lignes diagonales) pour différencier visuellement les murs
-    g.setColor(Color.DARK_GRAY); 
-    for (int i = 0; i < largeur; i += 10) {
-        g.drawLine(x * largeur + i, y * hauteur, x * largeur + i + 10, y * hauteur + hauteur); 
-    }
-
-    // Dessiner la bordure du mur avec une ligne plus épaisse
-    g2d.setColor(Color.BLACK);
-    g2d.setStroke(new BasicStroke(3));
-    g2d.drawRect(x * largeur, y * hauteur, largeur, hauteur); 
-    g2d.setStroke(new BasicStroke(1));
+        // Ajouter un motif de hachures (ou lignes diagonales) pour différencier visuellement les murs
+        g2d.setColor(Color.DARK_GRAY);
+        for (int i = 0; i < largeur; i += 10) {
+            g2d.drawLine(i, 0, i + 10, hauteur);
+        }
 
+        // Dessiner la bordure du mur avec une ligne plus épaisse
+        g2d.setColor(Color.BLACK);
+        g2d.setStroke(TRAIT_MUR);
+        g2d.drawRect(0, 0, largeur - 1, hauteur - 1);
     }
-
 }
@@ -0,0 +1,221 @@
+package vue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import modele.Game;
+import modele.components.Case;
+import modele.components.Player;
+import modele.components.ProxyGrid;
+
+/**
+ * Affichage de la partie dans un terminal ANSI, pour le mode console.
+ * <p>
+ * La première image est dessinée entièrement ; les suivantes ne réécrivent que les cases et les lignes
+ * d'état qui ont changé, chacune précédée d'un déplacement du curseur. Chaque image est construite dans
+ * un tampon réutilisé puis écrite d'un seul bloc, si bien qu'un tour n'envoie au terminal que quelques
+ * dizaines d'octets au lieu de la grille entière (utile en SSH sur de grandes cartes).
+ * <p>
+ * Chaque case occupe deux colonnes du terminal, comme dans {@link ProxyGrid#AfficheGrid()} ;
+ * si une case en occupe un autre nombre, la suite de sa ligne est réécrite.
+ */
+public class TerminalRenderer {
+
+    private static final String ESC = "\u001B[";
+
+    /**
+     * Largeur d'une case à l'écran, en colonnes.
+     */
+    private static final int LARGEUR_CASE = 2;
+
+    private final Game game;
+    private final OutputStream sortie;
+    private final int nbLignes;
+    private final int nbColonnes;
+
+    /**
+     * Représentation de chaque case dans l'image précédente (indice ligne * nbColonnes + colonne), null avant la première.
+     */
+    private final String[] cases;
+
+    /**
+     * Lignes d'état (joueurs, joueur courant, armes) de l'image précédente.
+     */
+    private final List<String> lignesEtat;
+
+    /**
+     * Tampons réutilisés d'une image à l'autre : texte de l'image, texte des lignes d'état, octets écrits.
+     */
+    private final StringBuilder image;
+    private final StringBuilder etat;
+    private byte[] octets;
+
+    private boolean premiere;
+    private long octetsEcrits;
+
+    /**
+     * Crée un affichage pour une partie.
+     *
+     * @param game La partie à afficher.
+     * @param sortie Le flux du terminal.
+     */
+    public TerminalRenderer(Game game, OutputStream sortie) {
+        this.game = game;
+        this.sortie = sortie;
+        this.nbLignes = game.getGrid().getNbLines();
+        this.nbColonnes = game.getGrid().getNbColonnes();
+        this.cases = new String[nbLignes * nbColonnes];
+        this.lignesEtat = new ArrayList<>();
+        this.image = new StringBuilder(1024);
+        this.etat = new StringBuilder(256);
+        this.octets = new byte[1024];
+        this.premiere = true;
+        this.octetsEcrits = 0;
+    }
+
+    /**
+     * Retourne le nombre d'octets envoyés au terminal depuis la création de l'affichage.
+     *
+     * @return Le nombre d'octets écrits.
+     */
+    public long getOctetsEcrits() {
+        return octetsEcrits;
+    }
+
+    /**
+     * Dessine la partie telle que la voit un joueur, en ne réécrivant que ce qui a changé depuis l'image précédente.
+     *
+     * @param courant Le joueur dont c'est le tour (la vue de la partie doit déjà être la sienne).
+     */
+    public void afficher(Player courant) {
+        ProxyGrid vue = game.getVue();
+        image.setLength(0);
+        if (premiere) {
+            image.append(ESC).append("2J");
+        }
+
+        for (int i = 0; i < nbLignes; i++) {
+            boolean decale = false; // Une case plus large ou plus étroite décale le reste de la ligne
+            for (int j = 0; j < nbColonnes; j++) {
+                boolean wall = vue.isWall(i, j);
+                String representation = !wall && !vue.estVisible(i, j) ? ".." : Case.representer(wall, vue.getVal(i, j));
+                int index = i * nbColonnes + j;
+                if (!decale && representation.equals(cases[index])) {
+                    continue;
+                }
+                if (!decale) {
+                    deplacer(i + 1, j * LARGEUR_CASE + 1);
+                }
+                image.append(representation);
+                decale = decale || largeurVisible(representation) != LARGEUR_CASE
+                        || (cases[index] != null && largeurVisible(cases[index]) != LARGEUR_CASE);
+                cases[index] = representation;
+            }
+            if (decale) {
+                image.append(ESC).append('K');
+            }
+        }
+
+        etat.setLength(0);
+        game.getPlayerManager().ajouterDescription(etat);
+        etat.append("\nC'est le tour de ").append(courant);
+        game.getPlayerManager().ajouterArmes(etat, courant);
+
+        int ligne = nbLignes + 1;
+        int debut = 0;
+        int numero = 0;
+        while (debut < etat.length()) {
+            int fin = etat.indexOf("\n", debut);
+            if (fin < 0) {
+                fin = etat.length();
+            }
+            String texte = etat.substring(debut, fin);
+            if (numero >= lignesEtat.size() || !texte.equals(lignesEtat.get(numero))) {
+                deplacer(ligne + numero, 1);
+                image.append(texte).append(ESC).append('K');
+                if (numero < lignesEtat.size()) {
+                    lignesEtat.set(numero, texte);
+                } else {
+                    lignesEtat.add(texte);
+                }
+            }
+            numero++;
+            debut = fin + 1;
+        }
+        while (lignesEtat.size() > numero) {
+            lignesEtat.remove(lignesEtat.size() - 1);
+        }
+
+        // Le curseur est laissé sous l'état, et l'écran effacé au-delà (messages et invite du tour précédent).
+        deplacer(ligne + numero, 1);
+        image.append(ESC).append('J');
+        premiere = false;
+        ecrire();
+    }
+
+    /**
+     * Ajoute à l'image le déplacement du curseur vers une position (lignes et colonnes numérotées à partir de 1).
+     */
+    private void deplacer(int ligne, int colonne) {
+        image.append(ESC).append(ligne).append(';').append(colonne).append('H');
+    }
+
+    /**
+     * Retourne le nombre de colonnes qu'occupe un texte à l'écran, sans ses séquences de couleur.
+     */
+    private static int largeurVisible(String texte) {
+        int largeur = 0;
+        for (int k = 0; k < texte.length(); k++) {
+            char c = texte.charAt(k);
+            if (c == '\u001B') {
+                while (k < texte.length() && !Character.isLetter(texte.charAt(k))) {
+                    k++;
+                }
+            } else if (!Character.isLowSurrogate(c)) {
+                largeur++;
+            }
+        }
+        return largeur;
+    }
+
+    /**
+     * Encode l'image en UTF-8 dans le tampon d'octets et l'écrit d'un seul bloc.
+     */
+    private void ecrire() {
+        int n = 0;
+        for (int k = 0; k < image.length(); k++) {
+            if (octets.length - n < 4) {
+                octets = Arrays.copyOf(octets, octets.length * 2);
+            }
+            int c = image.charAt(k);
+            if (c < 0x80) {
+                octets[n++] = (byte) c;
+                continue;
+            }
+            if (Character.isHighSurrogate((char) c) && k + 1 < image.length()) {
+                c = Character.toCodePoint((char) c, image.charAt(++k));
+            }
+            if (c < 0x800) {
+                octets[n++] = (byte) (0xC0 | (c >> 6));
+            } else if (c < 0x10000) {
+                octets[n++] = (byte) (0xE0 | (c >> 12));
+                octets[n++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            } else {
+                octets[n++] = (byte) (0xF0 | (c >> 18));
+                octets[n++] = (byte) (0x80 | ((c >> 12) & 0x3F));
+                octets[n++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            }
+            octets[n++] = (byte) (0x80 | (c & 0x3F));
+        }
+        try {
+            sortie.write(octets, 0, n);
+            sortie.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        octetsEcrits += n;
+    }
+}